@@ -0,0 +1,139 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc;
+
+import org.opensearch.jdbc.logging.NoOpLogger;
+import org.opensearch.jdbc.protocol.http.JsonQueryResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResultSet getters reading every row of a result, by column index and
+ * by column label. Scores are per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultSetImplBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private List<JsonQueryResponse.SchemaEntry> schema;
+    private List<List<Object>> datarows;
+
+    @Setup
+    public void setup() {
+        schema = Arrays.asList(
+                new JsonQueryResponse.SchemaEntry("int_column", "integer", null),
+                new JsonQueryResponse.SchemaEntry("keyword_column", "keyword", null),
+                new JsonQueryResponse.SchemaEntry("timestamp_column", "timestamp", null),
+                new JsonQueryResponse.SchemaEntry("double_column", "double", null));
+
+        datarows = new ArrayList<>(ROWS);
+        for (int row = 0; row < ROWS; row++) {
+            datarows.add(Arrays.asList(
+                    row, "value-" + (row % 50), String.format("2015-01-01 %02d:%02d:%02d", row / 3600 % 24,
+                            row / 60 % 60, row % 60), row * 0.25));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void getIntByIndex(Blackhole blackhole) throws SQLException {
+        try (ResultSetImpl rs = newResultSet()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getInt(1));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void getIntByLabel(Blackhole blackhole) throws SQLException {
+        try (ResultSetImpl rs = newResultSet()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getInt("int_column"));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void getStringByIndex(Blackhole blackhole) throws SQLException {
+        try (ResultSetImpl rs = newResultSet()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getString(2));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void getStringByLabel(Blackhole blackhole) throws SQLException {
+        try (ResultSetImpl rs = newResultSet()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getString("keyword_column"));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void getTimestampByIndex(Blackhole blackhole) throws SQLException {
+        try (ResultSetImpl rs = newResultSet()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getTimestamp(3));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void getTimestampByLabel(Blackhole blackhole) throws SQLException {
+        try (ResultSetImpl rs = newResultSet()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getTimestamp("timestamp_column"));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void getAllColumnsByIndex(Blackhole blackhole) throws SQLException {
+        try (ResultSetImpl rs = newResultSet()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getInt(1));
+                blackhole.consume(rs.getString(2));
+                blackhole.consume(rs.getTimestamp(3));
+                blackhole.consume(rs.getDouble(4));
+            }
+        }
+    }
+
+    private ResultSetImpl newResultSet() throws SQLException {
+        return new ResultSetImpl(null, schema, datarows, NoOpLogger.INSTANCE);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.benchmark;
+
+import org.opensearch.jdbc.transport.http.HttpParam;
+import org.opensearch.jdbc.transport.http.HttpTransport;
+import org.apache.http.Header;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.message.BasicHttpResponse;
+
+/**
+ * HttpTransport answering every request with a fixed response body held
+ * in memory, so that benchmarks measure the driver rather than the
+ * network.
+ */
+public class InMemoryHttpTransport implements HttpTransport {
+
+    private final byte[] responseBody;
+
+    public InMemoryHttpTransport(byte[] responseBody) {
+        this.responseBody = responseBody;
+    }
+
+    @Override
+    public CloseableHttpResponse doGet(String path, Header[] headers, HttpParam[] params, int timeout) {
+        return response();
+    }
+
+    @Override
+    public CloseableHttpResponse doPost(String path, Header[] headers, HttpParam[] params, String body, int timeout) {
+        return response();
+    }
+
+    @Override
+    public void close() {
+
+    }
+
+    @Override
+    public void setReadTimeout(int timeout) {
+
+    }
+
+    private CloseableHttpResponse response() {
+        InMemoryHttpResponse response = new InMemoryHttpResponse();
+        response.setEntity(new ByteArrayEntity(responseBody, ContentType.APPLICATION_JSON));
+        return response;
+    }
+
+    private static class InMemoryHttpResponse extends BasicHttpResponse implements CloseableHttpResponse {
+        InMemoryHttpResponse() {
+            super(HttpVersion.HTTP_1_1, 200, "OK");
+        }
+
+        @Override
+        public void close() {
+
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.benchmark;
+
+import org.opensearch.jdbc.protocol.http.JsonQueryResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates query results with a mix of column types, in the shape the
+ * SQL plugin returns them for the jdbc format.
+ * <p>
+ * Column types cycle through {@link #COLUMN_TYPES}, so a result of any
+ * width holds all of them once it has as many columns. Values are
+ * deterministic so that benchmark runs are comparable.
+ */
+public class SyntheticResults {
+
+    public static final String[] COLUMN_TYPES = {
+            "integer", "keyword", "double", "timestamp", "long", "text", "boolean"
+    };
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final LocalDateTime BASE_TIMESTAMP = LocalDateTime.of(2015, 1, 1, 0, 34, 42);
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final List<JsonQueryResponse.SchemaEntry> schema;
+    private final List<List<Object>> datarows;
+
+    public SyntheticResults(int rows, int columns) {
+        this.schema = new ArrayList<>(columns);
+        for (int column = 0; column < columns; column++) {
+            schema.add(new JsonQueryResponse.SchemaEntry(
+                    "column_" + column, COLUMN_TYPES[column % COLUMN_TYPES.length], null));
+        }
+
+        this.datarows = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            List<Object> datarow = new ArrayList<>(columns);
+            for (int column = 0; column < columns; column++) {
+                datarow.add(value(COLUMN_TYPES[column % COLUMN_TYPES.length], row, column));
+            }
+            datarows.add(datarow);
+        }
+    }
+
+    public List<JsonQueryResponse.SchemaEntry> getSchema() {
+        return schema;
+    }
+
+    public List<List<Object>> getDatarows() {
+        return datarows;
+    }
+
+    /**
+     * @return the result as the body of a query response
+     */
+    public byte[] toResponseBody() throws IOException {
+        List<Map<String, Object>> schemaEntries = new ArrayList<>(schema.size());
+        for (JsonQueryResponse.SchemaEntry entry : schema) {
+            Map<String, Object> schemaEntry = new LinkedHashMap<>();
+            schemaEntry.put("name", entry.getName());
+            schemaEntry.put("type", entry.getType());
+            schemaEntries.add(schemaEntry);
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("schema", schemaEntries);
+        response.put("total", datarows.size());
+        response.put("datarows", datarows);
+        response.put("size", datarows.size());
+        response.put("status", 200);
+        return mapper.writeValueAsBytes(response);
+    }
+
+    private static Object value(String type, int row, int column) {
+        switch (type) {
+            case "integer":
+                return row * 31 + column;
+            case "keyword":
+                return "value-" + (row % 50);
+            case "double":
+                return row * 0.25 + column;
+            case "timestamp":
+                return BASE_TIMESTAMP.plusSeconds(row * 7L + column).format(TIMESTAMP_FORMAT);
+            case "long":
+                return 5_000_000_000L + row * 1_000L + column;
+            case "text":
+                return "text value " + row + " of column " + column;
+            case "boolean":
+                return row % 2 == 0;
+            default:
+                throw new IllegalArgumentException("Unknown column type: " + type);
+        }
+    }
+}
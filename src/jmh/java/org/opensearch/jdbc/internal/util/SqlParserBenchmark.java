@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.internal.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counting of the parameter markers of SQL statements, done each time a
+ * PreparedStatement is created.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlParserBenchmark {
+
+    @Param({
+            "SELECT * FROM benchmark_index WHERE a = ?",
+            "SELECT a, b, c FROM benchmark_index WHERE a = ? AND b = 'it''s ?' AND c IN (?, ?, ?) " +
+                    "-- trailing ? comment\n AND d = \"quoted ?\" /* block ? comment */ ORDER BY a LIMIT ?",
+            "SELECT trip_type, passenger_count, fare_amount, extra, vendor_id, pickup_datetime, dropoff_datetime, " +
+                    "pickup_longitude, pickup_latitude, dropoff_longitude, dropoff_latitude, payment_type " +
+                    "FROM nyc_taxis WHERE fare_amount > ? AND extra < ? AND vendor_id = ? AND trip_type = ? " +
+                    "AND passenger_count BETWEEN ? AND ? AND pickup_datetime > ? AND dropoff_datetime < ? " +
+                    "GROUP BY trip_type, passenger_count, fare_amount, extra, vendor_id, payment_type " +
+                    "HAVING COUNT(*) > ? ORDER BY fare_amount DESC LIMIT ?"
+    })
+    private String sql;
+
+    @Benchmark
+    public int countParameterMarkers() {
+        return SqlParser.countParameterMarkers(sql);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.logging;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of logging an entry at DEBUG level from several threads, with
+ * entries written on the logging threads or handed over to a writer
+ * thread. Entries are written to a writer discarding them, so that only
+ * formatting, contention and hand-over are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class LoggerBenchmark {
+
+    @Param({"sync", "async_drop", "async_block"})
+    public String logger;
+
+    private Logger log;
+
+    @Setup
+    public void setup() {
+        PrintWriter printWriter = new PrintWriter(new DiscardingWriter(), true);
+
+        switch (logger) {
+            case "sync":
+                log = new PrintWriterLogger(printWriter, LogLevel.DEBUG, StandardLayout.INSTANCE);
+                break;
+            case "async_drop":
+                log = new AsyncPrintWriterLogger(printWriter, LogLevel.DEBUG, StandardLayout.INSTANCE,
+                        8192, LogOverflowPolicy.DROP);
+                break;
+            default:
+                log = new AsyncPrintWriterLogger(printWriter, LogLevel.DEBUG, StandardLayout.INSTANCE,
+                        8192, LogOverflowPolicy.BLOCK);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        log.close();
+    }
+
+    @Benchmark
+    public void logDebug() {
+        log.debug(() -> "executeQuery (SELECT * FROM benchmark_index WHERE a = 1)");
+    }
+
+    private static class DiscardingWriter extends Writer {
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
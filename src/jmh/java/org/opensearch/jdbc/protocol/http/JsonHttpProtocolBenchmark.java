@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.protocol.http;
+
+import org.opensearch.jdbc.benchmark.InMemoryHttpTransport;
+import org.opensearch.jdbc.benchmark.SyntheticResults;
+import org.opensearch.jdbc.protocol.JdbcQueryRequest;
+import org.opensearch.jdbc.protocol.QueryResponse;
+import org.opensearch.jdbc.protocol.exceptions.ResponseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of query responses of several sizes and widths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonHttpProtocolBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int rows;
+
+    @Param({"4", "16"})
+    private int columns;
+
+    private JsonHttpProtocol protocol;
+    private JdbcQueryRequest request;
+
+    @Setup
+    public void setup() throws IOException {
+        protocol = new JsonHttpProtocol(new InMemoryHttpTransport(new SyntheticResults(rows, columns).toResponseBody()));
+
+        request = new JdbcQueryRequest("SELECT * FROM benchmark_index", 1000);
+    }
+
+    /**
+     * Reads all rows of a response as they are decoded off the wire.
+     */
+    @Benchmark
+    public void parseResponseStreaming(Blackhole blackhole) throws ResponseException, IOException {
+        try (QueryResponse response = protocol.execute(request)) {
+            Iterator<List<Object>> datarows = response.getDatarowIterator();
+            while (datarows.hasNext()) {
+                blackhole.consume(datarows.next());
+            }
+        }
+    }
+
+    /**
+     * Reads all rows of a response into a list.
+     */
+    @Benchmark
+    public List<List<Object>> parseResponseBuffered() throws ResponseException, IOException {
+        try (QueryResponse response = protocol.execute(request)) {
+            return response.getDatarows();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.protocol.http;
+
+import org.opensearch.jdbc.benchmark.InMemoryHttpTransport;
+import org.opensearch.jdbc.protocol.JdbcQueryParam;
+import org.opensearch.jdbc.protocol.JdbcQueryRequest;
+import org.opensearch.jdbc.protocol.QueryRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of query requests into request bodies, written as the
+ * transport writes them to the connection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonQueryRequestBenchmark {
+
+    private JsonHttpProtocol protocol;
+    private JdbcQueryRequest request;
+    private JdbcQueryRequest parameterizedRequest;
+    private JdbcCursorQueryRequest cursorRequest;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+    @Setup
+    public void setup() {
+        protocol = new JsonCursorHttpProtocol(new InMemoryHttpTransport(new byte[0]));
+
+        request = new JdbcQueryRequest("SELECT * FROM benchmark_index", 1000);
+
+        parameterizedRequest = new JdbcQueryRequest(
+                "SELECT * FROM benchmark_index WHERE a = ? AND b = ? AND c > ? AND d < ?", 1000);
+        parameterizedRequest.setParameters(Arrays.asList(
+                new JdbcQueryParam("integer", 42),
+                new JdbcQueryParam("keyword", "value-7"),
+                new JdbcQueryParam("double", 0.25),
+                new JdbcQueryParam("timestamp", "2015-01-01 00:34:42")));
+
+        cursorRequest = new JdbcCursorQueryRequest(
+                "d:eyJhIjp7fSwicyI6IkRYRjFaWEo1UVc1a1JtVjBZMmdCQUFBQUFBQUFBQU1XYjJsQlRuSkhkRVZTV0ZwNU1XUlFRVE5xTkU5RFFRPT0i");
+    }
+
+    private int writeBody(QueryRequest queryRequest) throws IOException {
+        buffer.reset();
+        protocol.buildQueryRequestBody(queryRequest).writeTo(buffer);
+        return buffer.size();
+    }
+
+    @Benchmark
+    public int serializeRequest() throws IOException {
+        return writeBody(request);
+    }
+
+    @Benchmark
+    public int serializeParameterizedRequest() throws IOException {
+        return writeBody(parameterizedRequest);
+    }
+
+    @Benchmark
+    public int serializeCursorRequest() throws IOException {
+        return writeBody(cursorRequest);
+    }
+}
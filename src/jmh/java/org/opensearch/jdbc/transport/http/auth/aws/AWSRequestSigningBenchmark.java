@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http.auth.aws;
+
+import com.amazonaws.auth.AWS4Signer;
+import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.EntityTemplate;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpEntityEnclosingRequest;
+import org.apache.http.protocol.HttpCoreContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signing of query requests with AWS Signature Version 4, by the SDK
+ * based interceptor and by the interceptor signing requests in place.
+ * Bodies are either held in memory, or streamed as the query protocol
+ * streams them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AWSRequestSigningBenchmark {
+
+    @Param({"100", "10000"})
+    public int bodySize;
+
+    @Param({"true", "false"})
+    public boolean streamedBody;
+
+    private byte[] body;
+    private HttpCoreContext context;
+    private AWSRequestSigningApacheInterceptor sdkInterceptor;
+    private AWSSigV4RequestInterceptor interceptor;
+
+    @Setup
+    public void setup() {
+        StringBuilder query = new StringBuilder("{\"query\":\"SELECT * FROM benchmark_index WHERE a IN (");
+        while (query.length() < bodySize - 3) {
+            query.append("1,");
+        }
+        body = query.append("1)\"}").toString().getBytes(StandardCharsets.UTF_8);
+
+        context = new HttpCoreContext();
+        context.setTargetHost(HttpHost.create("https://search-benchmark.us-east-1.es.amazonaws.com"));
+
+        AWSCredentialsProvider credentials = new AWSStaticCredentialsProvider(
+                new BasicAWSCredentials("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY"));
+
+        AWS4Signer signer = new AWS4Signer();
+        signer.setServiceName("es");
+        signer.setRegionName("us-east-1");
+        sdkInterceptor = new AWSRequestSigningApacheInterceptor("es", signer, credentials, null);
+
+        interceptor = new AWSSigV4RequestInterceptor("es", "us-east-1", credentials, null, false);
+    }
+
+    @Benchmark
+    public HttpRequest signWithSdkSigner() throws Exception {
+        HttpRequest request = newRequest();
+        sdkInterceptor.process(request, context);
+        return request;
+    }
+
+    @Benchmark
+    public HttpRequest signInPlace() throws IOException {
+        HttpRequest request = newRequest();
+        interceptor.process(request, context);
+        return request;
+    }
+
+    private HttpRequest newRequest() {
+        BasicHttpEntityEnclosingRequest request =
+                new BasicHttpEntityEnclosingRequest("POST", "/_plugins/_sql?format=jdbc");
+        HttpEntity entity;
+        if (streamedBody) {
+            EntityTemplate template = new EntityTemplate((out) -> out.write(body));
+            template.setContentType(ContentType.APPLICATION_JSON.toString());
+            template.setChunked(true);
+            entity = template;
+        } else {
+            entity = new StringEntity(new String(body, StandardCharsets.UTF_8), ContentType.APPLICATION_JSON);
+        }
+        request.setEntity(entity);
+        request.setHeader(entity.getContentType());
+        request.setHeader("User-Agent", "openSearch-jdbc/1.0.0 (Java 11)");
+        return request;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.types;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of timestamp values in the formats the server returns them,
+ * with and without a Calendar.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimestampTypeBenchmark {
+
+    @Param({
+            "2015-01-01 00:34:42",
+            "2015-01-01 00:34:42.123",
+            "2015-01-01T00:34:42.123Z",
+            "2015-01-01T00:34:42.123+05:30",
+            "2015-01-01",
+            "1420072482123"
+    })
+    private String value;
+
+    private Calendar calendar;
+
+    @Setup
+    public void setup() {
+        calendar = Calendar.getInstance(TimeZone.getTimeZone("America/Los_Angeles"));
+    }
+
+    @Benchmark
+    public Timestamp asTimestamp() throws SQLException {
+        return TimestampType.INSTANCE.asTimestamp(value, null);
+    }
+
+    @Benchmark
+    public Timestamp asTimestampWithCalendar() throws SQLException {
+        return TimestampType.INSTANCE.asTimestamp(value, calendar);
+    }
+}
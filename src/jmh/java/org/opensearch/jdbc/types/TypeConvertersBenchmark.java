@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.types;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.JDBCType;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of column values through the TypeConverter of their
+ * column's JDBCType, as done by the ResultSet getters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeConvertersBenchmark {
+
+    private TypeConverter integerConverter;
+    private TypeConverter bigIntConverter;
+    private TypeConverter doubleConverter;
+    private TypeConverter varcharConverter;
+    private TypeConverter timestampConverter;
+
+    // held in fields so that the values are not constant folded
+    private Object intValue = 42;
+    private Object longValue = 5_000_000_000L;
+    private Object doubleValue = 24.5;
+    private Object stringValue = "value-7";
+    private Object timestampValue = "2015-01-01 00:34:42";
+
+    @Setup
+    public void setup() {
+        integerConverter = TypeConverters.getInstance(JDBCType.INTEGER);
+        bigIntConverter = TypeConverters.getInstance(JDBCType.BIGINT);
+        doubleConverter = TypeConverters.getInstance(JDBCType.DOUBLE);
+        varcharConverter = TypeConverters.getInstance(JDBCType.VARCHAR);
+        timestampConverter = TypeConverters.getInstance(JDBCType.TIMESTAMP);
+    }
+
+    @Benchmark
+    public Integer integerToInteger() throws SQLException {
+        return integerConverter.convert(intValue, Integer.class, null);
+    }
+
+    @Benchmark
+    public Long integerToLong() throws SQLException {
+        return integerConverter.convert(intValue, Long.class, null);
+    }
+
+    @Benchmark
+    public String integerToString() throws SQLException {
+        return integerConverter.convert(intValue, String.class, null);
+    }
+
+    @Benchmark
+    public Long bigIntToLong() throws SQLException {
+        return bigIntConverter.convert(longValue, Long.class, null);
+    }
+
+    @Benchmark
+    public Double doubleToDouble() throws SQLException {
+        return doubleConverter.convert(doubleValue, Double.class, null);
+    }
+
+    @Benchmark
+    public Integer doubleToInteger() throws SQLException {
+        return doubleConverter.convert(doubleValue, Integer.class, null);
+    }
+
+    @Benchmark
+    public String varcharToString() throws SQLException {
+        return varcharConverter.convert(stringValue, String.class, null);
+    }
+
+    @Benchmark
+    public Timestamp timestampToTimestamp() throws SQLException {
+        return timestampConverter.convert(timestampValue, Timestamp.class, null);
+    }
+
+    @Benchmark
+    public String timestampToString() throws SQLException {
+        return timestampConverter.convert(timestampValue, String.class, null);
+    }
+}
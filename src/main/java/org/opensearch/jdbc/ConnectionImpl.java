@@ -8,9 +8,14 @@ package org.opensearch.jdbc;
 
 import org.opensearch.jdbc.auth.AuthenticationType;
 import org.opensearch.jdbc.config.ConnectionConfig;
+import org.opensearch.jdbc.internal.cache.ClusterMetadataCache;
+import org.opensearch.jdbc.internal.cache.QueryResultCache;
+import org.opensearch.jdbc.internal.cache.QueryResultCacheRegistry;
 import org.opensearch.jdbc.internal.JdbcWrapper;
 import org.opensearch.jdbc.internal.Version;
 import org.opensearch.jdbc.internal.util.JavaUtil;
+import org.opensearch.jdbc.listener.QueryListener;
+import org.opensearch.jdbc.listener.QueryListenerRegistry;
 import org.opensearch.jdbc.logging.Logger;
 import org.opensearch.jdbc.logging.LoggingSource;
 import org.opensearch.jdbc.protocol.ClusterMetadata;
@@ -19,12 +24,20 @@ import org.opensearch.jdbc.protocol.Protocol;
 import org.opensearch.jdbc.protocol.ProtocolFactory;
 import org.opensearch.jdbc.protocol.exceptions.ResponseException;
 import org.opensearch.jdbc.protocol.http.HttpException;
+import org.opensearch.jdbc.protocol.http.JsonHttpProtocol;
 import org.opensearch.jdbc.protocol.http.JsonHttpProtocolFactory;
+import org.opensearch.jdbc.statistics.Statistics;
+import org.opensearch.jdbc.statistics.StatisticsMBeanRegistry;
+import org.opensearch.jdbc.statistics.StatisticsRecorder;
 import org.opensearch.jdbc.transport.Transport;
 import org.opensearch.jdbc.transport.TransportException;
 import org.opensearch.jdbc.transport.TransportFactory;
+import org.opensearch.jdbc.transport.http.ApacheAsyncHttpTransportFactory;
 import org.opensearch.jdbc.transport.http.ApacheHttpTransportFactory;
+import org.opensearch.jdbc.transport.http.Http2TransportFactory;
+import org.opensearch.jdbc.transport.http.HttpTransport;
 
+import javax.management.ObjectName;
 import java.io.IOException;
 import java.sql.Array;
 import java.sql.Blob;
@@ -43,9 +56,11 @@ import java.sql.SQLXML;
 import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Struct;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 public class ConnectionImpl implements OpenSearchConnection, JdbcWrapper, LoggingSource {
 
@@ -53,52 +68,140 @@ public class ConnectionImpl implements OpenSearchConnection, JdbcWrapper, Loggin
     private String user;
     private Logger log;
     private int fetchSize;
+    private boolean cursorPrefetch;
+    private int cursorPrefetchThreshold;
+    private int cursorPrefetchMaxPages;
+    private QueryResultCache queryResultCache;
+    private boolean rootEndpointAvailable;
+    private long validationCacheTtlNanos;
+    private volatile long lastValidatedNanos;
+    private volatile boolean validated = false;
     private boolean open = false;
     private Transport transport;
     private Protocol protocol;
-    private ClusterMetadata clusterMetadata;
+    private ConnectionConfig connectionConfig;
+    private volatile ClusterMetadata clusterMetadata;
+    private final StatisticsRecorder statistics = new StatisticsRecorder();
+    private ObjectName statisticsMBeanName;
+    private List<QueryListener> queryListeners;
     // https://docs.oracle.com/cd/E15817_01/appdev.111/b31228/appd.htm
     // 28000 is the SQLSTATE for invalid authorization specification
     private final String INCORRECT_CREDENTIALS_SQLSTATE = "28000";
 
     public ConnectionImpl(ConnectionConfig connectionConfig, Logger log) throws SQLException {
-        this(connectionConfig, ApacheHttpTransportFactory.INSTANCE, JsonHttpProtocolFactory.INSTANCE, log);
+        this(connectionConfig, getTransportFactory(connectionConfig), JsonHttpProtocolFactory.INSTANCE, log);
+    }
+
+    private static TransportFactory getTransportFactory(ConnectionConfig connectionConfig) {
+        switch (connectionConfig.getTransportType()) {
+            case HTTP_ASYNC:
+                return ApacheAsyncHttpTransportFactory.INSTANCE;
+            case HTTP2:
+                return Http2TransportFactory.INSTANCE;
+            case HTTP:
+            default:
+                return ApacheHttpTransportFactory.INSTANCE;
+        }
     }
 
     public ConnectionImpl(ConnectionConfig connectionConfig, TransportFactory transportFactory,
                           ProtocolFactory protocolFactory, Logger log) throws SQLException {
         this.log = log;
+        this.connectionConfig = connectionConfig;
         this.url = connectionConfig.getUrl();
         this.user = connectionConfig.getUser();
         this.fetchSize = connectionConfig.getFetchSize();
+        this.cursorPrefetch = connectionConfig.cursorPrefetch();
+        this.cursorPrefetchThreshold = connectionConfig.getCursorPrefetchThreshold();
+        this.cursorPrefetchMaxPages = connectionConfig.getCursorPrefetchMaxPages();
 
-        try {
-            this.transport = transportFactory.getTransport(connectionConfig, log, getUserAgent());
-        } catch (TransportException te) {
-            logAndThrowSQLException(
-                    log, new SQLNonTransientException("Could not initialize transport for the connection: "+te.getMessage(), te)
-            );
-        }
+        // OpenSearch Serverless does not serve the root endpoint used to
+        // connect and to validate the connection
+        this.rootEndpointAvailable = connectionConfig.getAuthenticationType() != AuthenticationType.AWS_SIGV4_SERVERLESS;
+        this.validationCacheTtlNanos = TimeUnit.SECONDS.toNanos(connectionConfig.getValidationCacheTtl());
 
-        this.protocol = protocolFactory.getProtocol(connectionConfig, this.transport);
+        try {
+            this.queryListeners = QueryListenerRegistry.INSTANCE.getListeners(connectionConfig);
 
-        log.debug(() -> logMessage("Initialized Transport: %s, Protocol: %s", transport, protocol));
+            if (connectionConfig.resultCache()) {
+                this.queryResultCache = QueryResultCacheRegistry.INSTANCE.getCache(connectionConfig);
+            }
 
-        if (connectionConfig.getAuthenticationType() != AuthenticationType.AWS_SIGV4_SERVERLESS) {
             try {
-                ConnectionResponse connectionResponse = this.protocol.connect(connectionConfig.getLoginTimeout() * 1000);
-                this.clusterMetadata = connectionResponse.getClusterMetadata();
-                this.open = true;
-            } catch (HttpException ex) {
-                if (ex.getStatusCode() == 401) {
-                    logAndThrowSQLException(log, new SQLException("Connection error " + ex.getMessage(),
-                            INCORRECT_CREDENTIALS_SQLSTATE, ex));
+                this.transport = transportFactory.getTransport(connectionConfig, log, getUserAgent());
+            } catch (TransportException te) {
+                logAndThrowSQLException(
+                        log, new SQLNonTransientException("Could not initialize transport for the connection: "+te.getMessage(), te)
+                );
+            }
+
+            this.protocol = protocolFactory.getProtocol(connectionConfig, this.transport);
+
+            if (transport instanceof HttpTransport) {
+                ((HttpTransport) transport).setStatistics(statistics);
+            }
+            if (protocol instanceof JsonHttpProtocol) {
+                ((JsonHttpProtocol) protocol).setStatistics(statistics);
+            }
+            log.debug(() -> logMessage("Initialized Transport: %s, Protocol: %s", transport, protocol));
+
+            if (rootEndpointAvailable) {
+                if (connectionConfig.lazyConnect()) {
+                    // metadata cached for the endpoint, or requested once
+                    // needed, spares the round trip to the server
+                    this.clusterMetadata = ClusterMetadataCache.INSTANCE.get(connectionConfig);
                 } else {
-                    logAndThrowSQLException(log, new SQLException("Connection error " + ex.getMessage(), ex));
+                    // the cache is keyed on the endpoint alone, so the
+                    // request is made anyway to check the credentials
+                    connect();
                 }
-            } catch (ResponseException | IOException ex) {
+            }
+
+            // registered once opening the connection can no longer fail
+            if (connectionConfig.statisticsMBeans()) {
+                this.statisticsMBeanName = StatisticsMBeanRegistry.INSTANCE.register(statistics);
+            }
+        } catch (SQLException | RuntimeException ex) {
+            closeAfterFailedOpen();
+            throw ex;
+        }
+        this.open = true;
+    }
+
+    /**
+     * Releases what the constructor acquired before it failed, as the
+     * connection is never returned to be closed.
+     */
+    private void closeAfterFailedOpen() {
+        if (transport != null) {
+            try {
+                transport.close();
+            } catch (TransportException te) {
+                log.error(() -> logMessage("Exception closing transport: "+te), te);
+            }
+        }
+        log.close();
+    }
+
+    /**
+     * Requests the cluster metadata from the server.
+     */
+    private void connect() throws SQLException {
+        try {
+            ConnectionResponse connectionResponse = this.protocol.connect(connectionConfig.getLoginTimeout() * 1000);
+            this.clusterMetadata = connectionResponse.getClusterMetadata();
+            ClusterMetadataCache.INSTANCE.put(connectionConfig, clusterMetadata);
+            this.lastValidatedNanos = System.nanoTime();
+            this.validated = true;
+        } catch (HttpException ex) {
+            if (ex.getStatusCode() == 401) {
+                logAndThrowSQLException(log, new SQLException("Connection error " + ex.getMessage(),
+                        INCORRECT_CREDENTIALS_SQLSTATE, ex));
+            } else {
                 logAndThrowSQLException(log, new SQLException("Connection error " + ex.getMessage(), ex));
             }
+        } catch (ResponseException | IOException ex) {
+            logAndThrowSQLException(log, new SQLException("Connection error " + ex.getMessage(), ex));
         }
     }
 
@@ -110,6 +213,46 @@ public class ConnectionImpl implements OpenSearchConnection, JdbcWrapper, Loggin
         return fetchSize;
     }
 
+    public boolean cursorPrefetch() {
+        return cursorPrefetch;
+    }
+
+    public int getCursorPrefetchThreshold() {
+        return cursorPrefetchThreshold;
+    }
+
+    public int getCursorPrefetchMaxPages() {
+        return cursorPrefetchMaxPages;
+    }
+
+    /**
+     * @return the recorder of the statistics of this connection
+     */
+    public StatisticsRecorder getStatisticsRecorder() {
+        return statistics;
+    }
+
+    @Override
+    public Statistics getStatistics() throws SQLException {
+        return statistics.snapshot();
+    }
+
+    /**
+     * @return the listeners of the queries of this connection, empty if
+     *         there are none
+     */
+    public List<QueryListener> getQueryListeners() {
+        return queryListeners;
+    }
+
+    /**
+     * @return the cache of query results shared by this connection, or
+     *         null if result caching is not enabled
+     */
+    public QueryResultCache getQueryResultCache() {
+        return queryResultCache;
+    }
+
     @Override
     public Statement createStatement() throws SQLException {
         log.debug(() -> logEntry("createStatement()"));
@@ -180,6 +323,8 @@ public class ConnectionImpl implements OpenSearchConnection, JdbcWrapper, Loggin
 
     private void closeX() throws SQLException {
         open = false;
+        StatisticsMBeanRegistry.INSTANCE.unregister(statisticsMBeanName);
+        statisticsMBeanName = null;
         try {
             transport.close();
         } catch (TransportException te) {
@@ -409,17 +554,49 @@ public class ConnectionImpl implements OpenSearchConnection, JdbcWrapper, Loggin
         throw new SQLFeatureNotSupportedException("SQLXML is not supported.");
     }
 
+    /**
+     * Probes the server with a request to its root endpoint, bounded by
+     * the timeout. A successful probe is reused for the configured
+     * validation cache TTL, so that connection pools validating the
+     * connection on every borrow do not add a request each time.
+     */
     @Override
     public boolean isValid(int timeout) throws SQLException {
-        // TODO - implement through a HEAD or a GET to "/", or a dummy SQL?
         log.debug(() -> logEntry("isValid (%d)", timeout));
 
-        boolean isValid = true;
+        if (timeout < 0) {
+            logAndThrowSQLException(log, new SQLException("Timeout must be >= 0. Invalid value: " + timeout));
+        }
+
+        boolean isValid;
+
+        if (isClosedX()) {
+            isValid = false;
+        } else if (!rootEndpointAvailable) {
+            isValid = true;
+        } else if (validated && System.nanoTime() - lastValidatedNanos < validationCacheTtlNanos) {
+            isValid = true;
+        } else {
+            isValid = probe(timeout);
+        }
 
         log.debug(() -> logExit("isValid", isValid));
         return isValid;
     }
 
+    private boolean probe(int timeout) {
+        try {
+            protocol.ping(timeout * 1000);
+            lastValidatedNanos = System.nanoTime();
+            validated = true;
+            return true;
+        } catch (ResponseException | IOException ex) {
+            log.debug(() -> logMessage("Connection validation failed: " + ex.getMessage()), ex);
+            validated = false;
+            return false;
+        }
+    }
+
     @Override
     public void setClientInfo(String name, String value) throws SQLClientInfoException {
         throw new SQLClientInfoException("Client info is not supported.", null);
@@ -492,18 +669,27 @@ public class ConnectionImpl implements OpenSearchConnection, JdbcWrapper, Loggin
 
     @Override
     public String getClusterName() throws SQLException {
-        checkOpen();
-        return clusterMetadata.getClusterName();
+        return getClusterMetadata().getClusterName();
     }
 
     @Override
     public String getClusterUUID() throws SQLException {
-        checkOpen();
-        return clusterMetadata.getClusterUUID();
+        return getClusterMetadata().getClusterUUID();
     }
 
+    /**
+     * Returns the cluster metadata, requesting it from the server if the
+     * connection was opened without it.
+     */
     public ClusterMetadata getClusterMetadata() throws SQLException {
         checkOpen();
+        if (clusterMetadata == null && rootEndpointAvailable) {
+            synchronized (this) {
+                if (clusterMetadata == null) {
+                    connect();
+                }
+            }
+        }
         return this.clusterMetadata;
     }
 
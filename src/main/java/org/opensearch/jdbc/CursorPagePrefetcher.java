@@ -0,0 +1,189 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc;
+
+import org.opensearch.jdbc.protocol.QueryResponse;
+import org.opensearch.jdbc.protocol.exceptions.ResponseException;
+import org.opensearch.jdbc.protocol.http.JdbcCursorQueryRequest;
+import org.opensearch.jdbc.protocol.http.JsonCursorHttpProtocol;
+import org.opensearch.jdbc.transport.RequestCanceller;
+import org.opensearch.jdbc.transport.http.AsyncHttpTransport;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Requests the pages of a paginated result ahead of the page being read
+ * by a {@link ResultSetImpl}.
+ * <p>
+ * Pages are requested one at a time, each using the cursor id of the
+ * page before it, until the configured number of pages are held ahead
+ * of the page being read. Prefetched pages are read in full off the
+ * wire so they do not hold on to a connection while they wait to be
+ * taken.
+ */
+class CursorPagePrefetcher implements Closeable {
+
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "opensearch-jdbc-cursor-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final JsonCursorHttpProtocol protocol;
+    private final int maxPages;
+    private final int timeout;
+    private final RequestCanceller canceller;
+    private final Deque<PrefetchedPage> pages = new ArrayDeque<>();
+    private String node;
+    private boolean closed = false;
+
+    /**
+     * @param timeout read timeout of the page requests in milliseconds,
+     *         0 for no timeout
+     * @param canceller canceller of the statement, aborting the page
+     *         request in flight when the statement is cancelled
+     */
+    CursorPagePrefetcher(JsonCursorHttpProtocol protocol, int maxPages, int timeout, RequestCanceller canceller) {
+        this.protocol = protocol;
+        this.maxPages = maxPages;
+        this.timeout = timeout;
+        this.canceller = canceller;
+    }
+
+    /**
+     * Starts prefetching from the page with the specified cursor id,
+     * unless pages are already being prefetched.
+     *
+     * @param node the node that serves the cursor, or null
+     */
+    synchronized void start(String cursorId, String node) {
+        if (!closed && pages.isEmpty()) {
+            this.node = node;
+            prefetch(cursorId);
+        }
+    }
+
+    /**
+     * Takes the prefetched page with the specified cursor id.
+     *
+     * @return future for the page response, or null if the page has not
+     *         been prefetched and must be requested by the caller
+     */
+    synchronized CompletableFuture<QueryResponse> nextPage(String cursorId) {
+        PrefetchedPage page = pages.peekFirst();
+
+        if (page == null || !page.cursorId.equals(cursorId)) {
+            // not a page this ResultSet is going to read
+            discardPages();
+            return null;
+        }
+
+        pages.removeFirst();
+        fill();
+        return page.response;
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        discardPages();
+    }
+
+    private void prefetch(String cursorId) {
+        CompletableFuture<QueryResponse> response = fetch(new JdbcCursorQueryRequest(cursorId, node));
+        PrefetchedPage page = new PrefetchedPage(cursorId, response);
+        pages.addLast(page);
+        response.whenComplete((queryResponse, throwable) -> pageFetched(page, queryResponse));
+    }
+
+    private synchronized void pageFetched(PrefetchedPage page, QueryResponse queryResponse) {
+        if (closed) {
+            closeQuietly(queryResponse);
+        } else if (pages.peekLast() == page) {
+            fill();
+        }
+    }
+
+    /**
+     * Requests the page following the last prefetched page once it has
+     * been received, if fewer than the maximum pages are held.
+     */
+    private void fill() {
+        PrefetchedPage last = pages.peekLast();
+
+        if (closed || last == null || pages.size() >= maxPages
+                || !last.response.isDone() || last.response.isCompletedExceptionally()) {
+            return;
+        }
+
+        QueryResponse queryResponse = last.response.join();
+        if (queryResponse.getError() == null && queryResponse.getCursor() != null) {
+            prefetch(queryResponse.getCursor());
+        }
+    }
+
+    private CompletableFuture<QueryResponse> fetch(JdbcCursorQueryRequest request) {
+        if (protocol.getTransport() instanceof AsyncHttpTransport) {
+            return protocol.executeAsync(request, timeout);
+        }
+
+        CompletableFuture<QueryResponse> future = new CompletableFuture<>();
+        PREFETCH_EXECUTOR.execute(() -> {
+            try {
+                QueryResponse queryResponse = protocol.execute(request, timeout, canceller);
+
+                // read the rows now rather than when the page is taken
+                queryResponse.getDatarows();
+
+                if (!future.complete(queryResponse)) {
+                    closeQuietly(queryResponse);
+                }
+            } catch (UncheckedIOException ex) {
+                future.completeExceptionally(ex.getCause());
+            } catch (ResponseException | IOException | RuntimeException ex) {
+                future.completeExceptionally(ex);
+            }
+        });
+        return future;
+    }
+
+    private void discardPages() {
+        PrefetchedPage page;
+        while ((page = pages.pollFirst()) != null) {
+            if (!page.response.cancel(true) && !page.response.isCompletedExceptionally()) {
+                closeQuietly(page.response.join());
+            }
+        }
+    }
+
+    private static void closeQuietly(QueryResponse queryResponse) {
+        if (queryResponse != null) {
+            try {
+                queryResponse.close();
+            } catch (IOException ex) {
+                // ignore
+            }
+        }
+    }
+
+    private static class PrefetchedPage {
+        private final String cursorId;
+        private final CompletableFuture<QueryResponse> response;
+
+        PrefetchedPage(String cursorId, CompletableFuture<QueryResponse> response) {
+            this.cursorId = cursorId;
+            this.response = response;
+        }
+    }
+}
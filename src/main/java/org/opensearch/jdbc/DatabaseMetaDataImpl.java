@@ -8,6 +8,7 @@ package org.opensearch.jdbc;
 
 import org.opensearch.jdbc.internal.JdbcWrapper;
 import org.opensearch.jdbc.internal.Version;
+import org.opensearch.jdbc.internal.results.ColumnVector;
 import org.opensearch.jdbc.logging.LoggingSource;
 import org.opensearch.jdbc.protocol.ColumnDescriptor;
 import org.opensearch.jdbc.protocol.QueryResponse;
@@ -1257,6 +1258,19 @@ public class DatabaseMetaDataImpl implements DatabaseMetaData, JdbcWrapper, Logg
 
                 return columnData;
             }
+
+            @Override
+            protected ColumnVector getColumnVectorFromCursor(int columnIndex) {
+                switch (columnIndex) {
+                    case 5:
+                    case 6:
+                    case 7:
+                        // values are overridden by getColumnFromCursor
+                        return null;
+                    default:
+                        return super.getColumnVectorFromCursor(columnIndex);
+                }
+            }
         }
 
         @Override
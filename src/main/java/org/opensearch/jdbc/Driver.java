@@ -8,11 +8,15 @@ package org.opensearch.jdbc;
 
 import org.opensearch.jdbc.config.ConnectionConfig;
 import org.opensearch.jdbc.internal.util.UrlParser;
+import org.opensearch.jdbc.logging.LogLevel;
 import org.opensearch.jdbc.logging.LoggingSource;
 import org.opensearch.jdbc.internal.Version;
 import org.opensearch.jdbc.logging.LoggerFactory;
 import org.opensearch.jdbc.logging.NoOpLogger;
+import org.opensearch.jdbc.statistics.Statistics;
+import org.opensearch.jdbc.statistics.StatisticsRecorder;
 
+import java.io.PrintWriter;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.DriverPropertyInfo;
@@ -77,6 +81,14 @@ public class Driver implements java.sql.Driver, LoggingSource {
         throw new SQLFeatureNotSupportedException();
     }
 
+    /**
+     * @return a snapshot of the statistics of the queries executed by all
+     *         connections of the driver since it was loaded
+     */
+    public static Statistics getStatistics() {
+        return StatisticsRecorder.DRIVER.snapshot();
+    }
+
     static org.opensearch.jdbc.logging.Logger initLog(ConnectionConfig connectionConfig) {
         // precedence:
         // 1. explicitly supplied logWriter
@@ -84,15 +96,21 @@ public class Driver implements java.sql.Driver, LoggingSource {
         // 3. DriverManager logWriter
         if (connectionConfig.getLogWriter() != null) {
 
-            return LoggerFactory.getLogger(connectionConfig.getLogWriter(), connectionConfig.getLogLevel());
+            return getLogger(connectionConfig.getLogWriter(), connectionConfig);
 
         } else if (connectionConfig.getLogOutput() != null) {
 
-            return LoggerFactory.getLogger(connectionConfig.getLogOutput(), connectionConfig.getLogLevel());
+            if (isLogAsync(connectionConfig)) {
+                return LoggerFactory.getAsyncLogger(connectionConfig.getLogOutput(), connectionConfig.getLogLevel(),
+                        getLogMaxFileSizeBytes(connectionConfig), connectionConfig.getLogMaxFiles(),
+                        connectionConfig.getLogBufferSize(), connectionConfig.getLogOverflowPolicy());
+            }
+            return LoggerFactory.getLogger(connectionConfig.getLogOutput(), connectionConfig.getLogLevel(),
+                    getLogMaxFileSizeBytes(connectionConfig), connectionConfig.getLogMaxFiles());
 
         } else if (DriverManager.getLogWriter() != null) {
 
-            return LoggerFactory.getLogger(DriverManager.getLogWriter(), connectionConfig.getLogLevel());
+            return getLogger(DriverManager.getLogWriter(), connectionConfig);
 
         } else {
 
@@ -100,4 +118,22 @@ public class Driver implements java.sql.Driver, LoggingSource {
         }
     }
 
+    private static org.opensearch.jdbc.logging.Logger getLogger(PrintWriter printWriter,
+                                                                ConnectionConfig connectionConfig) {
+        if (isLogAsync(connectionConfig)) {
+            return LoggerFactory.getAsyncLogger(printWriter, connectionConfig.getLogLevel(),
+                    connectionConfig.getLogBufferSize(), connectionConfig.getLogOverflowPolicy());
+        }
+        return LoggerFactory.getLogger(printWriter, connectionConfig.getLogLevel());
+    }
+
+    private static boolean isLogAsync(ConnectionConfig connectionConfig) {
+        // no writer thread for a connection that does not log
+        return connectionConfig.logAsync() && connectionConfig.getLogLevel() != LogLevel.OFF;
+    }
+
+    private static long getLogMaxFileSizeBytes(ConnectionConfig connectionConfig) {
+        return connectionConfig.getLogMaxFileSize() * 1024L * 1024L;
+    }
+
 }
@@ -6,6 +6,8 @@
 
 package org.opensearch.jdbc;
 
+import org.opensearch.jdbc.statistics.Statistics;
+
 import java.sql.SQLException;
 
 public interface OpenSearchConnection extends java.sql.Connection {
@@ -14,4 +16,11 @@ public interface OpenSearchConnection extends java.sql.Connection {
 
     String getClusterUUID() throws SQLException;
 
+    /**
+     * @return a snapshot of the statistics of the queries executed by the
+     *         connection since it was opened, available after the
+     *         connection is closed too
+     */
+    Statistics getStatistics() throws SQLException;
+
 }
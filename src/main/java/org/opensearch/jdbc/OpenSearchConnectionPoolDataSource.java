@@ -0,0 +1,155 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc;
+
+import org.opensearch.jdbc.internal.pool.ConnectionPool;
+
+import javax.sql.ConnectionPoolDataSource;
+import javax.sql.PooledConnection;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * OpenSearch {@link ConnectionPoolDataSource} implementation, for
+ * application servers and tools that pool connections themselves.
+ * <p>
+ * It is configured as an {@link OpenSearchDataSource}. In addition,
+ * {@link #getConnection()} can hand out connections from a lightweight
+ * built-in pool, enabled through {@link #setPoolEnabled(boolean)}. The
+ * pool is created with the settings in effect on the first call to
+ * {@link #getConnection()}, and is shut down by {@link #close()}.
+ * Connections for explicit credentials, from
+ * {@link #getConnection(String, String)}, are never pooled.
+ */
+public class OpenSearchConnectionPoolDataSource extends OpenSearchDataSource
+        implements ConnectionPoolDataSource, AutoCloseable {
+
+    private static final int DEFAULT_ACQUIRE_TIMEOUT_SECONDS = 30;
+
+    private boolean poolEnabled = false;
+    private int minIdle = 0;
+    private int maxPoolSize = 10;
+    private int maxLifetime = 1800;
+    private int validationTimeout = 5;
+    private ConnectionPool pool;
+
+    @Override
+    public PooledConnection getPooledConnection() throws SQLException {
+        return new PooledConnectionImpl(openConnection(null));
+    }
+
+    @Override
+    public PooledConnection getPooledConnection(String user, String password) throws SQLException {
+        return new PooledConnectionImpl(openConnection(getCredentialProperties(user, password)));
+    }
+
+    /**
+     * Returns a connection from the built-in pool if it is enabled,
+     * otherwise a new connection.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        return poolEnabled ? getPool().getConnection() : super.getConnection();
+    }
+
+    /**
+     * Closes the idle connections of the built-in pool and stops it from
+     * handing out connections. Connections in use are closed when they
+     * are returned.
+     */
+    @Override
+    public synchronized void close() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    synchronized ConnectionPool getPool() throws SQLException {
+        if (pool == null) {
+            int loginTimeout = getLoginTimeout();
+            int acquireTimeout = loginTimeout > 0 ? loginTimeout : DEFAULT_ACQUIRE_TIMEOUT_SECONDS;
+
+            pool = new ConnectionPool(this, minIdle, maxPoolSize, maxLifetime * 1000L,
+                    validationTimeout, acquireTimeout * 1000L);
+        }
+        return pool;
+    }
+
+    public boolean isPoolEnabled() {
+        return poolEnabled;
+    }
+
+    /**
+     * Sets whether {@link #getConnection()} hands out connections from the
+     * built-in pool. Disabled by default.
+     */
+    public void setPoolEnabled(boolean poolEnabled) {
+        this.poolEnabled = poolEnabled;
+    }
+
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    /**
+     * Sets the number of idle connections the built-in pool keeps ready.
+     * Defaults to 0.
+     */
+    public void setMinIdle(int minIdle) throws SQLException {
+        if (minIdle < 0) {
+            throw new SQLException("Minimum idle connections must be >= 0. Invalid value: " + minIdle);
+        }
+        this.minIdle = minIdle;
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    /**
+     * Sets the maximum number of connections the built-in pool opens.
+     * Defaults to 10.
+     */
+    public void setMaxPoolSize(int maxPoolSize) throws SQLException {
+        if (maxPoolSize < 1) {
+            throw new SQLException("Maximum pool size must be >= 1. Invalid value: " + maxPoolSize);
+        }
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    public int getMaxLifetime() {
+        return maxLifetime;
+    }
+
+    /**
+     * Sets the time in seconds after which a connection of the built-in
+     * pool is closed rather than handed out again. 0 keeps connections
+     * open indefinitely. Defaults to 1800.
+     */
+    public void setMaxLifetime(int maxLifetime) throws SQLException {
+        if (maxLifetime < 0) {
+            throw new SQLException("Maximum lifetime must be >= 0. Invalid value: " + maxLifetime);
+        }
+        this.maxLifetime = maxLifetime;
+    }
+
+    public int getValidationTimeout() {
+        return validationTimeout;
+    }
+
+    /**
+     * Sets the timeout in seconds of the {@link Connection#isValid(int)}
+     * check of an idle connection of the built-in pool before it is
+     * handed out again. Defaults to 5.
+     */
+    public void setValidationTimeout(int validationTimeout) throws SQLException {
+        if (validationTimeout < 0) {
+            throw new SQLException("Validation timeout must be >= 0. Invalid value: " + validationTimeout);
+        }
+        this.validationTimeout = validationTimeout;
+    }
+}
@@ -57,16 +57,19 @@ public class OpenSearchDataSource implements DataSource, JdbcWrapper, LoggingSou
 
     @Override
     public Connection getConnection() throws SQLException {
-        return getConnection(null);
+        return openConnection(null);
     }
 
     @Override
     public Connection getConnection(String username, String password) throws SQLException {
+        return openConnection(getCredentialProperties(username, password));
+    }
+
+    static Map<String, Object> getCredentialProperties(String username, String password) {
         Map<String, Object> overrideProperties = new HashMap<>();
         overrideProperties.put(UserConnectionProperty.KEY, username);
         overrideProperties.put(PasswordConnectionProperty.KEY, password);
-
-        return getConnection(overrideProperties);
+        return overrideProperties;
     }
 
     @Override
@@ -157,7 +160,7 @@ public class OpenSearchDataSource implements DataSource, JdbcWrapper, LoggingSou
         return connectionProperties.getOrDefault(key, defaultValue);
     }
 
-    private Connection getConnection(Map<String, Object> overrideProperties)
+    ConnectionImpl openConnection(Map<String, Object> overrideProperties)
             throws SQLException {
         ConnectionConfig connectionConfig = getConnectionConfig(overrideProperties);
         org.opensearch.jdbc.logging.Logger log = Driver.initLog(connectionConfig);
@@ -0,0 +1,288 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc;
+
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+import javax.sql.PooledConnection;
+import javax.sql.StatementEvent;
+import javax.sql.StatementEventListener;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@link PooledConnection} over a physical {@link ConnectionImpl}.
+ * <p>
+ * The connection handles returned by {@link #getConnection()} forward
+ * calls to the physical connection. Closing a handle closes the
+ * statements created through it, so that the next user of the physical
+ * connection starts without them, and notifies the pool through a
+ * connection closed event instead of closing the physical connection.
+ * Errors that indicate the physical connection is no longer usable are
+ * reported through a connection error event.
+ */
+class PooledConnectionImpl implements PooledConnection {
+
+    private final ConnectionImpl connection;
+    private final List<ConnectionEventListener> connectionEventListeners = new CopyOnWriteArrayList<>();
+    private final List<StatementEventListener> statementEventListeners = new CopyOnWriteArrayList<>();
+    private ConnectionHandle activeHandle;
+    private boolean closed = false;
+
+    PooledConnectionImpl(ConnectionImpl connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Returns a new handle for the physical connection. Any handle
+     * returned before is closed, without a connection closed event.
+     */
+    @Override
+    public synchronized Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLNonTransientConnectionException("Pooled connection is closed.");
+        }
+
+        if (activeHandle != null) {
+            activeHandle.closeHandle();
+        }
+        activeHandle = new ConnectionHandle();
+        return activeHandle.proxy;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            if (activeHandle != null) {
+                activeHandle.closeHandle();
+                activeHandle = null;
+            }
+        }
+        connection.close();
+    }
+
+    @Override
+    public void addConnectionEventListener(ConnectionEventListener listener) {
+        connectionEventListeners.add(listener);
+    }
+
+    @Override
+    public void removeConnectionEventListener(ConnectionEventListener listener) {
+        connectionEventListeners.remove(listener);
+    }
+
+    @Override
+    public void addStatementEventListener(StatementEventListener listener) {
+        statementEventListeners.add(listener);
+    }
+
+    @Override
+    public void removeStatementEventListener(StatementEventListener listener) {
+        statementEventListeners.remove(listener);
+    }
+
+    ConnectionImpl getPhysicalConnection() {
+        return connection;
+    }
+
+    private void fireConnectionClosed() {
+        ConnectionEvent event = new ConnectionEvent(this);
+        for (ConnectionEventListener listener : connectionEventListeners) {
+            listener.connectionClosed(event);
+        }
+    }
+
+    private void fireConnectionError(SQLException ex) {
+        ConnectionEvent event = new ConnectionEvent(this, ex);
+        for (ConnectionEventListener listener : connectionEventListeners) {
+            listener.connectionErrorOccurred(event);
+        }
+    }
+
+    private void fireStatementClosed(PreparedStatement statement) {
+        StatementEvent event = new StatementEvent(this, statement);
+        for (StatementEventListener listener : statementEventListeners) {
+            listener.statementClosed(event);
+        }
+    }
+
+    /**
+     * @return true if the exception indicates the physical connection
+     *         can not be used any more
+     */
+    static boolean isFatal(SQLException ex) {
+        return ex instanceof SQLNonTransientConnectionException
+                || (ex.getSQLState() != null && ex.getSQLState().startsWith("08"));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * A logical connection handed out to one user of the pooled connection.
+     */
+    private class ConnectionHandle implements InvocationHandler {
+        private final Connection proxy;
+        private final List<Statement> statements = new ArrayList<>();
+        private boolean handleClosed = false;
+
+        ConnectionHandle() {
+            this.proxy = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{OpenSearchConnection.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled connection handle for " + connection;
+                case "isClosed":
+                    return isHandleClosed() || connection.isClosed();
+                case "close":
+                    if (closeHandle()) {
+                        fireConnectionClosed();
+                    }
+                    return null;
+                case "isValid":
+                    if (isHandleClosed()) {
+                        return false;
+                    }
+                    break;
+                default:
+                    if (isHandleClosed()) {
+                        throw new SQLNonTransientConnectionException("Connection is closed.");
+                    }
+            }
+
+            try {
+                Object result = PooledConnectionImpl.invoke(connection, method, args);
+                if (result instanceof Statement) {
+                    return trackStatement((Statement) result);
+                }
+                return result;
+            } catch (SQLException ex) {
+                if (isFatal(ex)) {
+                    fireConnectionError(ex);
+                }
+                throw ex;
+            }
+        }
+
+        private Statement trackStatement(Statement statement) {
+            Class<?> statementInterface = statement instanceof PreparedStatement ?
+                    PreparedStatement.class : Statement.class;
+            Statement statementProxy = (Statement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{statementInterface}, new StatementHandle(statement, this));
+
+            synchronized (PooledConnectionImpl.this) {
+                statements.add(statement);
+            }
+            return statementProxy;
+        }
+
+        private boolean isHandleClosed() {
+            synchronized (PooledConnectionImpl.this) {
+                return handleClosed;
+            }
+        }
+
+        /**
+         * Closes the statements created through the handle.
+         *
+         * @return false if the handle was already closed
+         */
+        private boolean closeHandle() {
+            List<Statement> openStatements;
+
+            synchronized (PooledConnectionImpl.this) {
+                if (handleClosed) {
+                    return false;
+                }
+                handleClosed = true;
+                if (activeHandle == this) {
+                    activeHandle = null;
+                }
+                openStatements = new ArrayList<>(statements);
+                statements.clear();
+            }
+
+            for (Statement statement : openStatements) {
+                try {
+                    statement.close();
+                } catch (SQLException ex) {
+                    // ignore
+                }
+            }
+            return true;
+        }
+
+        private void statementClosed(Statement statement) {
+            synchronized (PooledConnectionImpl.this) {
+                statements.remove(statement);
+            }
+        }
+    }
+
+    /**
+     * A statement created through a connection handle, which returns the
+     * handle rather than the physical connection from getConnection().
+     */
+    private class StatementHandle implements InvocationHandler {
+        private final Statement statement;
+        private final ConnectionHandle connectionHandle;
+
+        StatementHandle(Statement statement, ConnectionHandle connectionHandle) {
+            this.statement = statement;
+            this.connectionHandle = connectionHandle;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getConnection":
+                    return connectionHandle.proxy;
+                case "close":
+                    statement.close();
+                    connectionHandle.statementClosed(statement);
+                    if (proxy instanceof PreparedStatement) {
+                        fireStatementClosed((PreparedStatement) proxy);
+                    }
+                    return null;
+                default:
+                    return PooledConnectionImpl.invoke(statement, method, args);
+            }
+        }
+    }
+}
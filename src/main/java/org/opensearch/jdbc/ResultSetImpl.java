@@ -7,13 +7,16 @@
 package org.opensearch.jdbc;
 
 import org.opensearch.jdbc.internal.results.ColumnMetaData;
+import org.opensearch.jdbc.internal.results.ColumnVector;
+import org.opensearch.jdbc.internal.results.ConversionTarget;
 import org.opensearch.jdbc.internal.results.Cursor;
 import org.opensearch.jdbc.internal.exceptions.ObjectClosedException;
-import org.opensearch.jdbc.internal.results.Row;
 import org.opensearch.jdbc.internal.results.Schema;
+import org.opensearch.jdbc.listener.QueryTrace;
 import org.opensearch.jdbc.logging.LoggingSource;
 import org.opensearch.jdbc.logging.Logger;
 import org.opensearch.jdbc.protocol.ColumnDescriptor;
+import org.opensearch.jdbc.protocol.DatarowReader;
 import org.opensearch.jdbc.internal.JdbcWrapper;
 import org.opensearch.jdbc.protocol.QueryResponse;
 import org.opensearch.jdbc.protocol.exceptions.InternalServerErrorException;
@@ -21,15 +24,24 @@ import org.opensearch.jdbc.protocol.exceptions.ResponseException;
 import org.opensearch.jdbc.protocol.http.JdbcCursorQueryRequest;
 import org.opensearch.jdbc.protocol.http.JsonCursorHttpProtocol;
 import org.opensearch.jdbc.protocol.http.JsonCursorHttpProtocolFactory;
+import org.opensearch.jdbc.statistics.StatisticsRecorder;
 import org.opensearch.jdbc.transport.http.HttpTransport;
+import org.opensearch.jdbc.types.BooleanType;
+import org.opensearch.jdbc.types.DoubleType;
+import org.opensearch.jdbc.types.IntegerType;
+import org.opensearch.jdbc.types.LongType;
 import org.opensearch.jdbc.types.TypeConverter;
 import org.opensearch.jdbc.types.TypeConverters;
+import org.opensearch.jdbc.types.TypeHelper;
 import org.opensearch.jdbc.types.UnrecognizedOpenSearchTypeException;
+import org.opensearch.jdbc.types.ValueConverter;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.net.SocketTimeoutException;
 import java.net.URL;
 import java.sql.Array;
 import java.sql.Blob;
@@ -54,6 +66,12 @@ import java.util.Calendar;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 /**
@@ -70,6 +88,18 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
     private StatementImpl statement;
     protected Cursor cursor;
     private String cursorId;
+    private String cursorNode;
+    private QueryResponse pageResponse;
+    private CursorPagePrefetcher prefetcher;
+    private int prefetchThresholdRows = 0;
+    private int pageRowsRead = 0;
+    private StatisticsRecorder statistics;
+    private long rowsRead = 0;
+    private long rowsRecorded = 0;
+    private long valuesRead = 0;
+    private QueryTrace trace;
+    private volatile boolean cancelled = false;
+    private volatile String openCursorId;
     private boolean open = false;
     private boolean wasNull = false;
     private boolean afterLast = false;
@@ -77,7 +107,17 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
     private Logger log;
 
     public ResultSetImpl(StatementImpl statement, QueryResponse queryResponse, Logger log) throws SQLException {
-        this(statement, queryResponse.getColumnDescriptors(), queryResponse.getDatarows(), queryResponse.getCursor(), log);
+        this(statement, queryResponse.getColumnDescriptors(), queryResponse.getDatarowReader(), null, log);
+
+        // rows of the response may still be read off the wire as the
+        // ResultSet advances, and the cursor id for the next page is
+        // only known once they have all been read
+        this.pageResponse = queryResponse;
+        this.openCursorId = queryResponse.getReceivedCursor();
+
+        // the pages of the cursor are requested from the node that
+        // opened it
+        this.cursorNode = queryResponse.getNode();
     }
 
     public ResultSetImpl(StatementImpl statement, List<? extends ColumnDescriptor> columnDescriptors,
@@ -87,6 +127,11 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
 
     public ResultSetImpl(StatementImpl statement, List<? extends ColumnDescriptor> columnDescriptors,
                          List<List<Object>> dataRows, String cursorId, Logger log) throws SQLException {
+        this(statement, columnDescriptors, DatarowReader.of(dataRows.iterator()), cursorId, log);
+    }
+
+    private ResultSetImpl(StatementImpl statement, List<? extends ColumnDescriptor> columnDescriptors,
+                          DatarowReader dataRows, String cursorId, Logger log) throws SQLException {
         this.statement = statement;
         this.log = log;
 
@@ -97,11 +142,14 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
                     .map(ColumnMetaData::new)
                     .collect(Collectors.toList()));
 
-            List<Row> rows = getRowsFromDataRows(dataRows);
-
-            this.cursor = new Cursor(schema, rows);
+            this.cursor = new Cursor(schema, dataRows);
             this.cursorId = cursorId;
+            this.openCursorId = cursorId;
             this.open = true;
+            if (statement != null && statement.getConnection() instanceof ConnectionImpl) {
+                this.statistics = ((ConnectionImpl) statement.getConnection()).getStatisticsRecorder();
+            }
+            initPrefetch();
 
         } catch (UnrecognizedOpenSearchTypeException ex) {
             logAndThrowSQLException(log, new SQLException("Exception creating a ResultSet.", ex));
@@ -113,17 +161,29 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
     public boolean next() throws SQLException {
         log.debug(() -> logEntry("next()"));
         checkOpen();
-        boolean next = cursor.next();
+        checkNotCancelled(null);
+        boolean next = nextRow();
+
+        while (!next) {
+            if (pageResponse != null) {
+                completePage();
+            }
+
+            if (this.cursorId == null) {
+                break;
+            }
 
-        if (!next && this.cursorId != null) {
             log.debug(() -> logEntry("buildNextPageFromCursorId()"));
             buildNextPageFromCursorId();
             log.debug(() -> logExit("buildNextPageFromCursorId()"));
-            next = cursor.next();
+            next = nextRow();
         }
 
         if (next) {
             beforeFirst = false;
+            if (++pageRowsRead == prefetchThresholdRows) {
+                startPrefetch();
+            }
         } else {
             afterLast = true;
         }
@@ -132,6 +192,149 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
         return next;
     }
 
+    /**
+     * @param trace the trace of the query of this result set, notified of
+     *         the pages fetched and read, and of the result set closing
+     */
+    void setQueryTrace(QueryTrace trace) {
+        this.trace = trace;
+    }
+
+    private boolean nextRow() throws SQLException {
+        try {
+            boolean sampled = statistics != null && isSampled(rowsRead);
+            if (!sampled && trace == null) {
+                return countRow(cursor.next());
+            }
+
+            long startNanos = System.nanoTime();
+            boolean next = cursor.next();
+            long nanos = System.nanoTime() - startNanos;
+            if (sampled) {
+                statistics.recordParse(nanos);
+            }
+            if (trace != null) {
+                trace.rowDecoded(nanos);
+            }
+            return countRow(next);
+        } catch (UncheckedIOException ex) {
+            closePageResponse();
+            checkNotCancelled(ex.getCause());
+            logAndThrowSQLException(log, new SQLException("Error reading query response", ex.getCause()));
+        }
+        return false;
+    }
+
+    private boolean countRow(boolean next) {
+        if (next) {
+            rowsRead++;
+        }
+        return next;
+    }
+
+    /**
+     * Adds the rows read since last recorded to the statistics.
+     */
+    private void recordRowsRead() {
+        if (statistics != null && rowsRead > rowsRecorded) {
+            statistics.recordRowsRead(rowsRead - rowsRecorded);
+            rowsRecorded = rowsRead;
+        }
+    }
+
+    /**
+     * @return true if the time of the operation with the given sequence
+     *         number is recorded; only one in
+     *         {@link StatisticsRecorder#SAMPLING_INTERVAL} is, so that
+     *         reading the clock does not add up across rows and values
+     */
+    private static boolean isSampled(long sequence) {
+        return (sequence & (StatisticsRecorder.SAMPLING_INTERVAL - 1)) == 0;
+    }
+
+    /**
+     * Sets up prefetching of the pages following the current page,
+     * if enabled for the connection and the result is paginated.
+     */
+    private void initPrefetch() throws SQLException {
+        if (statement == null || !(statement.getConnection() instanceof ConnectionImpl)) {
+            return;
+        }
+
+        ConnectionImpl connection = (ConnectionImpl) statement.getConnection();
+        int fetchSize = statement.getFetchSize();
+        if (connection.cursorPrefetch() && fetchSize > 0) {
+            prefetchThresholdRows = Math.max(1,
+                    (int) Math.ceil(fetchSize * connection.getCursorPrefetchThreshold() / 100.0));
+            prefetcher = new CursorPagePrefetcher(getCursorProtocol(), connection.getCursorPrefetchMaxPages(),
+                    statement.getQueryTimeoutMillis(), statement.getRequestCanceller());
+        }
+    }
+
+    /**
+     * Requests the next page in the background once the threshold
+     * number of rows of the current page has been read.
+     */
+    private void startPrefetch() throws SQLException {
+        if (prefetcher == null) {
+            return;
+        }
+
+        String nextCursorId = null;
+        try {
+            // the cursor id is normally received ahead of the rows; if
+            // it is not, the rest of the page is read into memory
+            nextCursorId = pageResponse != null ? pageResponse.getCursor() : cursorId;
+        } catch (UncheckedIOException ex) {
+            closePageResponse();
+            logAndThrowSQLException(log, new SQLException("Error reading query response", ex.getCause()));
+        }
+
+        if (nextCursorId != null) {
+            String prefetchCursorId = nextCursorId;
+            log.debug(() -> logMessage("Prefetching page for cursor %s", prefetchCursorId));
+            prefetcher.start(nextCursorId, cursorNode);
+        }
+    }
+
+    /**
+     * Picks up the trailing fields of a page whose rows have all been read.
+     */
+    private void completePage() throws SQLException {
+        QueryResponse queryResponse = pageResponse;
+        recordRowsRead();
+
+        try {
+            cursorId = queryResponse.getCursor();
+        } catch (UncheckedIOException ex) {
+            closePageResponse();
+            logAndThrowSQLException(log, new SQLException("Error reading query response", ex.getCause()));
+        }
+        closePageResponse();
+        openCursorId = cursorId;
+        if (trace != null) {
+            trace.pageRead(rowsRead, queryResponse.getResponseBytes());
+        }
+
+        if (queryResponse.getError() != null) {
+            throw new InternalServerErrorException(
+                    queryResponse.getError().getReason(),
+                    queryResponse.getError().getType(),
+                    queryResponse.getError().getDetails());
+        }
+    }
+
+    private void closePageResponse() {
+        if (pageResponse != null) {
+            try {
+                pageResponse.close();
+            } catch (IOException ex) {
+                log.warn(() -> logMessage("Exception closing query response: " + ex), ex);
+            }
+            pageResponse = null;
+        }
+    }
+
     /**
      * TODO: Refactor as suggested https://github.com/amazon-archives/sql-jdbc/pull/76#discussion_r421571383
      *
@@ -141,34 +344,165 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
      *
      **/
     protected void buildNextPageFromCursorId() throws SQLException {
+        if (trace == null) {
+            fetchNextPage();
+            return;
+        }
+
+        long startNanos = System.nanoTime();
         try {
-            JdbcCursorQueryRequest jdbcCursorQueryRequest = new JdbcCursorQueryRequest(this.cursorId);
-            JsonCursorHttpProtocolFactory protocolFactory = JsonCursorHttpProtocolFactory.INSTANCE;
-            ConnectionImpl connection = (ConnectionImpl) statement.getConnection();
+            fetchNextPage();
+            trace.pageFetched(System.nanoTime() - startNanos, null);
+        } catch (SQLException | RuntimeException ex) {
+            trace.pageFetched(System.nanoTime() - startNanos, ex);
+            throw ex;
+        }
+    }
 
-            JsonCursorHttpProtocol protocol = protocolFactory.getProtocol(null, (HttpTransport) connection.getTransport());
-            QueryResponse queryResponse = protocol.execute(jdbcCursorQueryRequest);
+    private void fetchNextPage() throws SQLException {
+        // the wait for a prefetched page is subject to the timeout too
+        ScheduledFuture<?> queryTimer = statement.startQueryTimer();
+        long startNanos = System.nanoTime();
+        try {
+            QueryResponse queryResponse = prefetcher != null ? takePrefetchedPage() : null;
+
+            if (queryResponse == null) {
+                JdbcCursorQueryRequest jdbcCursorQueryRequest = new JdbcCursorQueryRequest(this.cursorId, cursorNode);
+                queryResponse = getCursorProtocol().execute(jdbcCursorQueryRequest,
+                        statement.getQueryTimeoutMillis(), statement.getRequestCanceller());
+            }
 
             if (queryResponse.getError() != null) {
+                queryResponse.close();
                 throw new InternalServerErrorException(
                         queryResponse.getError().getReason(),
                         queryResponse.getError().getType(),
                         queryResponse.getError().getDetails());
             }
 
-            cursor = new Cursor(cursor.getSchema(), getRowsFromDataRows(queryResponse.getDatarows()));
-            cursorId = queryResponse.getCursor();
+            cursor = new Cursor(cursor.getSchema(), queryResponse.getDatarowReader());
+            cursorId = null;
+            pageResponse = queryResponse;
+            pageRowsRead = 0;
+            if (queryResponse.getReceivedCursor() != null) {
+                openCursorId = queryResponse.getReceivedCursor();
+            }
+            if (statistics != null) {
+                statistics.recordPageFetch(System.nanoTime() - startNanos);
+            }
 
         } catch (ResponseException | IOException ex) {
+            checkNotCancelled(ex);
+            logAndThrowSQLException(log, new SQLException("Error executing cursor query", ex));
+        } finally {
+            statement.stopQueryTimer(queryTimer);
+        }
+    }
+
+    /**
+     * @return the prefetched page for the current cursor id, or null if
+     *         it was not prefetched
+     */
+    private QueryResponse takePrefetchedPage() throws ResponseException, IOException, SQLException {
+        CompletableFuture<QueryResponse> prefetchedPage = prefetcher.nextPage(cursorId);
+        if (prefetchedPage == null) {
+            return null;
+        }
+
+        int timeout = statement.getQueryTimeoutMillis();
+        try {
+            return timeout > 0 ? prefetchedPage.get(timeout, TimeUnit.MILLISECONDS) : prefetchedPage.get();
+        } catch (TimeoutException ex) {
+            // the query timer normally cancels the wait first
+            statement.timeOut();
+            checkNotCancelled(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            logAndThrowSQLException(log, new SQLException("Interrupted waiting for cursor page", ex));
+        } catch (CancellationException ex) {
+            checkNotCancelled(ex);
             logAndThrowSQLException(log, new SQLException("Error executing cursor query", ex));
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (isReadTimeout(cause)) {
+                // the page request was read with the query timeout
+                statement.timeOut();
+                checkNotCancelled(cause);
+            } else if (cause instanceof ResponseException) {
+                throw (ResponseException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            logAndThrowSQLException(log, new SQLException("Error executing cursor query", cause));
         }
+        return null;
     }
 
-    private List<Row> getRowsFromDataRows(List<List<Object>> dataRows) {
-        return dataRows
-                .parallelStream()
-                .map(Row::new)
-                .collect(Collectors.toList());
+    private static boolean isReadTimeout(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SocketTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private JsonCursorHttpProtocol getCursorProtocol() throws SQLException {
+        ConnectionImpl connection = (ConnectionImpl) statement.getConnection();
+        JsonCursorHttpProtocol protocol = JsonCursorHttpProtocolFactory.INSTANCE.getProtocol(null,
+                (HttpTransport) connection.getTransport());
+        protocol.setStatistics(statistics);
+        return protocol;
+    }
+
+    /**
+     * Stops the ResultSet from reading further rows once its statement
+     * is cancelled. Called from a thread other than the one reading the
+     * ResultSet.
+     */
+    void cancel() {
+        cancelled = true;
+        if (prefetcher != null) {
+            prefetcher.close();
+        }
+    }
+
+    /**
+     * Closes the cursor on the server if the result has pages that have
+     * not been requested yet.
+     */
+    void closeServerCursor() {
+        String serverCursorId;
+        synchronized (this) {
+            serverCursorId = openCursorId;
+            openCursorId = null;
+        }
+
+        if (serverCursorId == null) {
+            return;
+        }
+
+        try {
+            log.debug(() -> logMessage("Closing server cursor %s", serverCursorId));
+            getCursorProtocol().closeCursor(serverCursorId, cursorNode, statement.getQueryTimeoutMillis());
+        } catch (ResponseException | IOException | SQLException ex) {
+            log.warn(() -> logMessage("Exception closing server cursor: " + ex), ex);
+        }
+    }
+
+    /**
+     * Throws the exception for a cancelled statement if the statement
+     * has been cancelled, after releasing the server side resources of
+     * the ResultSet.
+     *
+     * @param cause the failure the cancellation caused, if any
+     */
+    private void checkNotCancelled(Throwable cause) throws SQLException {
+        if (cancelled) {
+            closePageResponse();
+            closeServerCursor();
+            logAndThrowSQLException(log, statement.buildCancelledException(cause));
+        }
     }
 
     @Override
@@ -179,6 +513,14 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
     }
 
     protected void closeX(boolean closeStatement) throws SQLException {
+        if (prefetcher != null) {
+            prefetcher.close();
+        }
+        if (trace != null) {
+            trace.resultSetClosed(rowsRead, pageResponse != null ? pageResponse.getResponseBytes() : 0);
+        }
+        closePageResponse();
+        recordRowsRead();
         cursor = null;
         open = false;
         if (statement != null) {
@@ -201,7 +543,7 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
     }
 
     private String getStringX(int columnIndex) throws SQLException {
-        return getObjectX(columnIndex, String.class);
+        return getObjectX(columnIndex, ConversionTarget.STRING, null);
     }
 
     @Override
@@ -214,7 +556,12 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
     }
 
     private boolean getBooleanX(int columnIndex) throws SQLException {
-        return getObjectX(columnIndex, Boolean.class);
+        ColumnVector vector = getPrimitiveColumnVector(columnIndex, ConversionTarget.BOOLEAN, BooleanType.INSTANCE);
+
+        if (vector instanceof ColumnVector.BooleanVector) {
+            return ((ColumnVector.BooleanVector) vector).getBoolean(cursor.getPageRow());
+        }
+        return getObjectX(columnIndex, ConversionTarget.BOOLEAN, null);
     }
 
     @Override
@@ -227,7 +574,7 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
     }
 
     private byte getByteX(int columnIndex) throws SQLException {
-        return getObjectX(columnIndex, Byte.class);
+        return getObjectX(columnIndex, ConversionTarget.BYTE, null);
     }
 
     @Override
@@ -240,7 +587,7 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
     }
 
     private short getShortX(int columnIndex) throws SQLException {
-        return getObjectX(columnIndex, Short.class);
+        return getObjectX(columnIndex, ConversionTarget.SHORT, null);
     }
 
     @Override
@@ -253,7 +600,16 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
     }
 
     private int getIntX(int columnIndex) throws SQLException {
-        return getObjectX(columnIndex, Integer.class);
+        ColumnVector vector = getPrimitiveColumnVector(columnIndex, ConversionTarget.INTEGER, IntegerType.INSTANCE);
+
+        if (vector instanceof ColumnVector.IntVector) {
+            return ((ColumnVector.IntVector) vector).getInt(cursor.getPageRow());
+        } else if (vector instanceof ColumnVector.LongVector) {
+            return IntegerType.INSTANCE.asInt(((ColumnVector.LongVector) vector).getLong(cursor.getPageRow()));
+        } else if (vector instanceof ColumnVector.DoubleVector) {
+            return IntegerType.INSTANCE.asInt(((ColumnVector.DoubleVector) vector).getDouble(cursor.getPageRow()));
+        }
+        return getObjectX(columnIndex, ConversionTarget.INTEGER, null);
     }
 
     @Override
@@ -266,8 +622,16 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
     }
 
     private long getLongX(int columnIndex) throws SQLException {
-        checkCursorOperationPossible();
-        return getObjectX(columnIndex, Long.class);
+        ColumnVector vector = getPrimitiveColumnVector(columnIndex, ConversionTarget.LONG, LongType.INSTANCE);
+
+        if (vector instanceof ColumnVector.LongVector) {
+            return ((ColumnVector.LongVector) vector).getLong(cursor.getPageRow());
+        } else if (vector instanceof ColumnVector.IntVector) {
+            return ((ColumnVector.IntVector) vector).getInt(cursor.getPageRow());
+        } else if (vector instanceof ColumnVector.DoubleVector) {
+            return LongType.INSTANCE.asLong(((ColumnVector.DoubleVector) vector).getDouble(cursor.getPageRow()));
+        }
+        return getObjectX(columnIndex, ConversionTarget.LONG, null);
     }
 
     @Override
@@ -280,7 +644,7 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
     }
 
     private float getFloatX(int columnIndex) throws SQLException {
-        return getObjectX(columnIndex, Float.class);
+        return getObjectX(columnIndex, ConversionTarget.FLOAT, null);
     }
 
     @Override
@@ -293,7 +657,16 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
     }
 
     private double getDoubleX(int columnIndex) throws SQLException {
-        return getObjectX(columnIndex, Double.class);
+        ColumnVector vector = getPrimitiveColumnVector(columnIndex, ConversionTarget.DOUBLE, DoubleType.INSTANCE);
+
+        if (vector instanceof ColumnVector.DoubleVector) {
+            return ((ColumnVector.DoubleVector) vector).getDouble(cursor.getPageRow());
+        } else if (vector instanceof ColumnVector.IntVector) {
+            return ((ColumnVector.IntVector) vector).getInt(cursor.getPageRow());
+        } else if (vector instanceof ColumnVector.LongVector) {
+            return ((ColumnVector.LongVector) vector).getLong(cursor.getPageRow());
+        }
+        return getObjectX(columnIndex, ConversionTarget.DOUBLE, null);
     }
 
     @Override
@@ -323,7 +696,7 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
 
     private byte[] getBytesX(int columnIndex) throws SQLException {
         // TODO - add ByteArrayType support
-        return getObjectX(columnIndex, byte[].class);
+        return getObjectX(columnIndex, ConversionTarget.BYTES, null);
     }
 
     @Override
@@ -341,7 +714,7 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
             conversionParams = new HashMap<>();
             conversionParams.put("calendar", calendar);
         }
-        return getObjectX(columnIndex, Date.class, conversionParams);
+        return getObjectX(columnIndex, ConversionTarget.DATE, conversionParams);
     }
 
     @Override
@@ -359,7 +732,7 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
             conversionParams = new HashMap<>();
             conversionParams.put("calendar", calendar);
         }
-        return getObjectX(columnIndex, Time.class, conversionParams);
+        return getObjectX(columnIndex, ConversionTarget.TIME, conversionParams);
     }
 
     @Override
@@ -377,7 +750,7 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
             conversionParams = new HashMap<>();
             conversionParams.put("calendar", calendar);
         }
-        return getObjectX(columnIndex, Timestamp.class, conversionParams);
+        return getObjectX(columnIndex, ConversionTarget.TIMESTAMP, conversionParams);
     }
 
     @Override
@@ -571,7 +944,7 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
     }
 
     private Object getObjectX(int columnIndex) throws SQLException {
-        return getObjectX(columnIndex, (Class<Object>) null);
+        return getObjectX(columnIndex, ConversionTarget.DEFAULT, null);
     }
 
     protected <T> T getObjectX(int columnIndex, Class<T> javaClass) throws SQLException {
@@ -579,6 +952,12 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
     }
 
     protected <T> T getObjectX(int columnIndex, Class<T> javaClass, Map<String, Object> conversionParams) throws SQLException {
+        final ConversionTarget<T> target = ConversionTarget.of(javaClass);
+
+        if (target != null) {
+            return getObjectX(columnIndex, target, conversionParams);
+        }
+
         final Object value = getColumn(columnIndex);
         // Change made to identify if value is of type array since it isn't an official supported field type
 
@@ -598,7 +977,33 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
             throw new SQLException("Conversion from " + getColumnMetaData(columnIndex).getOpenSearchType() + " not supported.");
         }
 
-        return tc.convert(value, javaClass, conversionParams);
+        if (statistics == null || !isSampled(valuesRead++)) {
+            return tc.convert(value, javaClass, conversionParams);
+        }
+
+        long startNanos = System.nanoTime();
+        T converted = tc.convert(value, javaClass, conversionParams);
+        statistics.recordConvert(System.nanoTime() - startNanos);
+        return converted;
+    }
+
+    /**
+     * Returns the column value converted by the converter the schema has
+     * resolved for the column and conversion target.
+     */
+    protected <T> T getObjectX(int columnIndex, ConversionTarget<T> target, Map<String, Object> conversionParams)
+            throws SQLException {
+        final Object value = getColumn(columnIndex);
+        final ValueConverter<T> converter = cursor.getSchema().getValueConverter(columnIndex - 1, target);
+
+        if (statistics == null || !isSampled(valuesRead++)) {
+            return converter.convert(value, conversionParams);
+        }
+
+        long startNanos = System.nanoTime();
+        T converted = converter.convert(value, conversionParams);
+        statistics.recordConvert(System.nanoTime() - startNanos);
+        return converted;
     }
 
     @Override
@@ -1471,6 +1876,39 @@ public class ResultSetImpl implements ResultSet, JdbcWrapper, LoggingSource {
         return cursor.getColumn(columnIndex - 1);
     }
 
+    /**
+     * Returns the storage for a column of the current page, for reading
+     * the value of the current row without boxing it, or null if values
+     * of the column must be read through {@link #getColumnFromCursor(int)}.
+     */
+    protected ColumnVector getColumnVectorFromCursor(int columnIndex) {
+        return cursor.getColumnVector(columnIndex - 1);
+    }
+
+    /**
+     * Returns the storage for a column of the current page if the value
+     * of the current row is not null and the column's values are
+     * converted to the target by the specified TypeHelper, which the
+     * caller applies to the primitive value in the storage. Returns null
+     * if the value must be read and converted as an Object.
+     */
+    private ColumnVector getPrimitiveColumnVector(int columnIndex, ConversionTarget<?> target,
+                                                  TypeHelper<?> typeHelper) throws SQLException {
+        checkColumnIndex(columnIndex);
+
+        if (cursor.getSchema().getValueConverter(columnIndex - 1, target) != typeHelper) {
+            return null;
+        }
+
+        ColumnVector vector = getColumnVectorFromCursor(columnIndex);
+        if (vector == null || vector.isNull(cursor.getPageRow())) {
+            return null;
+        }
+
+        wasNull = false;
+        return vector;
+    }
+
     private ColumnMetaData getColumnMetaData(int columnIndex) throws SQLException {
         checkColumnIndex(columnIndex);
         return cursor.getSchema().getColumnMetaData(columnIndex - 1);
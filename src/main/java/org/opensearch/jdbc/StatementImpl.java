@@ -6,7 +6,10 @@
 
 package org.opensearch.jdbc;
 
+import org.opensearch.jdbc.internal.cache.QueryResultCache;
 import org.opensearch.jdbc.internal.exceptions.ObjectClosedException;
+import org.opensearch.jdbc.internal.util.QueryTimer;
+import org.opensearch.jdbc.listener.QueryTrace;
 import org.opensearch.jdbc.logging.LoggingSource;
 import org.opensearch.jdbc.logging.Logger;
 import org.opensearch.jdbc.protocol.JdbcQueryRequest;
@@ -14,6 +17,8 @@ import org.opensearch.jdbc.internal.JdbcWrapper;
 import org.opensearch.jdbc.protocol.exceptions.InternalServerErrorException;
 import org.opensearch.jdbc.protocol.QueryResponse;
 import org.opensearch.jdbc.protocol.exceptions.ResponseException;
+import org.opensearch.jdbc.statistics.StatisticsRecorder;
+import org.opensearch.jdbc.transport.RequestCanceller;
 
 import java.io.IOException;
 import java.sql.Connection;
@@ -21,17 +26,26 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLNonTransientException;
+import java.sql.SQLTimeoutException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
+import java.util.concurrent.ScheduledFuture;
 
 public class StatementImpl implements Statement, JdbcWrapper, LoggingSource {
 
     protected ConnectionImpl connection;
     protected boolean open = false;
     protected int fetchSize;
-    protected ResultSetImpl resultSet;
+    protected volatile ResultSetImpl resultSet;
     protected Logger log;
     private boolean closeOnCompletion;
+    private int queryTimeout = 0;
+    private final RequestCanceller requestCanceller = new RequestCanceller();
+    private volatile boolean timedOut = false;
+
+    // https://docs.microsoft.com/en-us/sql/odbc/reference/appendixes/appendix-a-odbc-error-codes
+    // HY008 is the SQLSTATE for an operation cancelled
+    private static final String CANCELLED_SQLSTATE = "HY008";
 
     public StatementImpl(ConnectionImpl connection, Logger log) {
         this.connection = connection;
@@ -59,21 +73,80 @@ public class StatementImpl implements Statement, JdbcWrapper, LoggingSource {
         // object that generated it is closed, re-executed, or used to retrieve the
         // next result from a sequence of multiple results.
         closeResultSet(false);
+        requestCanceller.reset();
+        timedOut = false;
+
+        QueryTrace trace = QueryTrace.start(connection.getQueryListeners(), log, jdbcQueryRequest.getQuery(),
+                jdbcQueryRequest.getFetchSize());
+        if (trace == null) {
+            return executeQueryRequestX(jdbcQueryRequest, null);
+        }
+
+        try {
+            ResultSetImpl tracedResultSet = executeQueryRequestX(jdbcQueryRequest, trace);
+            tracedResultSet.setQueryTrace(trace);
+            trace.queryExecuted(null);
+            return tracedResultSet;
+        } catch (SQLException | RuntimeException ex) {
+            trace.queryExecuted(ex);
+            throw ex;
+        }
+    }
+
+    private ResultSetImpl executeQueryRequestX(JdbcQueryRequest jdbcQueryRequest, QueryTrace trace)
+            throws SQLException {
+        QueryResultCache queryResultCache = connection.getQueryResultCache();
+        QueryResultCache.Key cacheKey = null;
+        if (queryResultCache != null) {
+            cacheKey = QueryResultCache.Key.of(jdbcQueryRequest);
+            QueryResultCache.CachedResult cachedResult = queryResultCache.get(cacheKey);
+
+            if (cachedResult != null) {
+                log.debug(() -> logMessage("Serving query result from the result cache"));
+                if (trace != null) {
+                    trace.servedFromCache();
+                }
+                resultSet = buildResultSet(cachedResult);
+                return resultSet;
+            }
+        }
+
+        StatisticsRecorder statistics = connection.getStatisticsRecorder();
+        long startNanos = System.nanoTime();
+        boolean failed = true;
 
+        ScheduledFuture<?> queryTimer = startQueryTimer();
         try {
-            QueryResponse queryResponse = connection.getProtocol().execute(jdbcQueryRequest);
+            QueryResponse queryResponse = connection.getProtocol().execute(
+                    jdbcQueryRequest, getQueryTimeoutMillis(), requestCanceller);
 
             if (queryResponse.getError() != null) {
+                queryResponse.close();
                 throw new InternalServerErrorException(
                         queryResponse.getError().getReason(),
                         queryResponse.getError().getType(),
                         queryResponse.getError().getDetails());
             }
 
+            // a result with further pages is not cached, as its cursor
+            // is only valid for one reader
+            if (queryResultCache != null && queryResponse.getReceivedCursor() == null) {
+                queryResponse = queryResultCache.recording(cacheKey, queryResponse);
+            }
+
             resultSet = buildResultSet(queryResponse);
+            failed = false;
 
         } catch (ResponseException | IOException ex) {
+            if (requestCanceller.isCancelled()) {
+                logAndThrowSQLException(log, buildCancelledException(ex));
+            }
             logAndThrowSQLException(log, new SQLException("Error executing query", ex));
+        } finally {
+            stopQueryTimer(queryTimer);
+            if (statistics != null) {
+                statistics.recordQuery(System.nanoTime() - startNanos, failed);
+            }
         }
         return resultSet;
     }
@@ -91,6 +164,9 @@ public class StatementImpl implements Statement, JdbcWrapper, LoggingSource {
     @Override
     public void close() throws SQLException {
         log.debug(()->logEntry("close ()"));
+        // JDBC Spec: closing a Statement closes its current ResultSet, which
+        // also releases the response of a ResultSet that has not been read in full
+        closeResultSet(false);
         open = false;
         log.debug(()->logExit("close"));
     }
@@ -126,17 +202,92 @@ public class StatementImpl implements Statement, JdbcWrapper, LoggingSource {
 
     @Override
     public int getQueryTimeout() throws SQLException {
-        return 0;
+        checkOpen();
+        return queryTimeout;
     }
 
     @Override
     public void setQueryTimeout(int seconds) throws SQLException {
-        // no-op
+        log.debug(() -> logEntry("setQueryTimeout (%d)", seconds));
+        checkOpen();
+        if (seconds < 0) {
+            logAndThrowSQLException(log, new SQLNonTransientException("Query timeout must be >= 0. Invalid value: " + seconds));
+        }
+        queryTimeout = seconds;
+        log.debug(() -> logExit("setQueryTimeout"));
     }
 
+    /**
+     * Aborts the request executing the query, or fetching a page of the
+     * query's ResultSet, and closes the ResultSet's cursor on the server.
+     * The method executing the query, or reading the ResultSet, throws
+     * an SQLException once cancelled.
+     */
     @Override
     public void cancel() throws SQLException {
-        throw new SQLFeatureNotSupportedException("cancel not supported");
+        log.debug(() -> logEntry("cancel ()"));
+        checkOpen();
+        cancelX(true);
+        log.debug(() -> logExit("cancel"));
+    }
+
+    private void cancelX(boolean closeCursor) {
+        ResultSetImpl rs = resultSet;
+        if (rs != null) {
+            rs.cancel();
+        }
+
+        requestCanceller.cancel();
+
+        if (rs != null && closeCursor) {
+            rs.closeServerCursor();
+        }
+    }
+
+    /**
+     * Starts the timer cancelling the statement once the query timeout
+     * elapses.
+     *
+     * @return the timer task, or null if no query timeout is set
+     */
+    ScheduledFuture<?> startQueryTimer() {
+        if (queryTimeout == 0) {
+            return null;
+        }
+        return QueryTimer.INSTANCE.schedule(() -> {
+            log.debug(() -> logMessage("Query timeout of %d seconds elapsed. Cancelling statement.", queryTimeout));
+            timeOut();
+        }, getQueryTimeoutMillis());
+    }
+
+    /**
+     * Cancels the statement as timed out. The thread reading the
+     * ResultSet closes the server cursor, keeping requests off the shared
+     * timer thread.
+     */
+    void timeOut() {
+        timedOut = true;
+        cancelX(false);
+    }
+
+    void stopQueryTimer(ScheduledFuture<?> queryTimer) {
+        if (queryTimer != null) {
+            queryTimer.cancel(false);
+        }
+    }
+
+    int getQueryTimeoutMillis() {
+        return (int) Math.min(Integer.MAX_VALUE, queryTimeout * 1000L);
+    }
+
+    RequestCanceller getRequestCanceller() {
+        return requestCanceller;
+    }
+
+    SQLException buildCancelledException(Throwable cause) {
+        return timedOut ?
+                new SQLTimeoutException("Query timed out after " + queryTimeout + " seconds", cause) :
+                new SQLException("Query cancelled", CANCELLED_SQLSTATE, cause);
     }
 
     @Override
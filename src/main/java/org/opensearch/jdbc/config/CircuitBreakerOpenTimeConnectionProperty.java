@@ -0,0 +1,36 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Time in seconds for which requests to an endpoint are failed fast once
+ * the circuit breaker opens, before a trial request is sent.
+ */
+public class CircuitBreakerOpenTimeConnectionProperty extends IntConnectionProperty {
+
+    public static final String KEY = "circuitBreakerOpenTime";
+
+    public CircuitBreakerOpenTimeConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    protected Integer parseValue(Object value) throws ConnectionPropertyException {
+        int intValue = super.parseValue(value);
+
+        if (intValue < 1) {
+            throw new ConnectionPropertyException(getKey(),
+                    String.format("Circuit breaker open time property requires a valid integer >=1. Invalid value: %d", intValue));
+        }
+        return intValue;
+    }
+
+    @Override
+    public Integer getDefault() {
+        return 30;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Number of consecutive failed requests to an endpoint after which
+ * requests to it are failed fast, without being sent, for the circuit
+ * breaker open time. A value of 0 disables the circuit breaker.
+ */
+public class CircuitBreakerThresholdConnectionProperty extends IntConnectionProperty {
+
+    public static final String KEY = "circuitBreakerThreshold";
+
+    public CircuitBreakerThresholdConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    protected Integer parseValue(Object value) throws ConnectionPropertyException {
+        int intValue = super.parseValue(value);
+
+        if (intValue < 0) {
+            throw new ConnectionPropertyException(getKey(),
+                    String.format("Circuit breaker threshold property requires a valid integer >=0. Invalid value: %d", intValue));
+        }
+        return intValue;
+    }
+
+    @Override
+    public Integer getDefault() {
+        return 0;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Time in seconds for which the cluster metadata received by a connection
+ * is reused by new connections to the same endpoint, instead of being
+ * requested again. A value of 0 disables the reuse.
+ * <p>
+ * Only connections opened with {@link LazyConnectConnectionProperty lazy
+ * connect} reuse the metadata. Other connections still request it when
+ * they open, as that request checks their credentials.
+ */
+public class ClusterMetadataCacheTtlConnectionProperty extends IntConnectionProperty {
+
+    public static final String KEY = "clusterMetadataCacheTtl";
+
+    public ClusterMetadataCacheTtlConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    protected Integer parseValue(Object value) throws ConnectionPropertyException {
+        int intValue = super.parseValue(value);
+
+        if (intValue < 0) {
+            throw new ConnectionPropertyException(getKey(),
+                    String.format("Cluster metadata cache TTL property requires a valid integer >=0. Invalid value: %d", intValue));
+        }
+        return intValue;
+    }
+
+    @Override
+    public Integer getDefault() {
+        return 0;
+    }
+}
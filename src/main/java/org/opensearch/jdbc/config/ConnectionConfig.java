@@ -8,14 +8,20 @@ package org.opensearch.jdbc.config;
 
 import org.opensearch.jdbc.auth.AuthenticationType;
 import org.opensearch.jdbc.logging.LogLevel;
+import org.opensearch.jdbc.logging.LogOverflowPolicy;
+import org.opensearch.jdbc.listener.QueryListener;
 import org.opensearch.jdbc.internal.util.AwsHostNameUtil;
 import org.opensearch.jdbc.internal.util.UrlParser;
+import org.opensearch.jdbc.transport.LoadBalancingType;
+import org.opensearch.jdbc.transport.TransportType;
+import org.opensearch.jdbc.transport.http.RetryPolicy;
 import com.amazonaws.auth.AWSCredentialsProvider;
 
 import java.io.PrintWriter;
 import java.net.URISyntaxException;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
@@ -47,6 +53,40 @@ public class ConnectionConfig {
     private boolean trustSelfSigned;
     private boolean hostnameVerification;
     private String tunnelHost;
+    private boolean sharedConnectionPool;
+    private int maxConnectionsPerRoute;
+    private int maxConnectionsTotal;
+    private int idleConnectionTimeout;
+    private int connectionRequestTimeout;
+    private TransportType transportType;
+    private boolean cursorPrefetch;
+    private int cursorPrefetchThreshold;
+    private int cursorPrefetchMaxPages;
+    private boolean resultCache;
+    private int resultCacheTtl;
+    private int resultCacheMaxMemory;
+    private int validationCacheTtl;
+    private boolean lazyConnect;
+    private int clusterMetadataCacheTtl;
+    private int maxRetries;
+    private int retryBaseDelay;
+    private int retryMaxDelay;
+    private RetryPolicy retryPolicy;
+    private int circuitBreakerThreshold;
+    private int circuitBreakerOpenTime;
+    private List<String> hosts;
+    private boolean nodeSniffing;
+    private int nodeSniffInterval;
+    private LoadBalancingType loadBalancing;
+    private int nodeEjectionTime;
+    private boolean requestBodyCompression;
+    private boolean logAsync;
+    private int logBufferSize;
+    private LogOverflowPolicy logOverflowPolicy;
+    private int logMaxFileSize;
+    private int logMaxFiles;
+    private boolean statisticsMBeans;
+    private QueryListener queryListener;
 
     private ConnectionConfig(Builder builder) {
         this.url = builder.getUrl();
@@ -82,6 +122,41 @@ public class ConnectionConfig {
 
         this.hostnameVerification = builder.getHostnameVerificationConnectionProperty().getValue();
         this.tunnelHost = builder.getTunnelHostConnectionProperty().getValue();
+
+        this.sharedConnectionPool = builder.getSharedConnectionPoolConnectionProperty().getValue();
+        this.maxConnectionsPerRoute = builder.getMaxConnectionsPerRouteConnectionProperty().getValue();
+        this.maxConnectionsTotal = builder.getMaxConnectionsTotalConnectionProperty().getValue();
+        this.idleConnectionTimeout = builder.getIdleConnectionTimeoutConnectionProperty().getValue();
+        this.connectionRequestTimeout = builder.getConnectionRequestTimeoutConnectionProperty().getValue();
+        this.transportType = builder.getTransportConnectionProperty().getValue();
+        this.cursorPrefetch = builder.getCursorPrefetchConnectionProperty().getValue();
+        this.cursorPrefetchThreshold = builder.getCursorPrefetchThresholdConnectionProperty().getValue();
+        this.cursorPrefetchMaxPages = builder.getCursorPrefetchMaxPagesConnectionProperty().getValue();
+        this.resultCache = builder.getResultCacheConnectionProperty().getValue();
+        this.resultCacheTtl = builder.getResultCacheTtlConnectionProperty().getValue();
+        this.resultCacheMaxMemory = builder.getResultCacheMaxMemoryConnectionProperty().getValue();
+        this.validationCacheTtl = builder.getValidationCacheTtlConnectionProperty().getValue();
+        this.lazyConnect = builder.getLazyConnectConnectionProperty().getValue();
+        this.clusterMetadataCacheTtl = builder.getClusterMetadataCacheTtlConnectionProperty().getValue();
+        this.maxRetries = builder.getMaxRetriesConnectionProperty().getValue();
+        this.retryBaseDelay = builder.getRetryBaseDelayConnectionProperty().getValue();
+        this.retryMaxDelay = builder.getRetryMaxDelayConnectionProperty().getValue();
+        this.retryPolicy = builder.getRetryPolicyConnectionProperty().getValue();
+        this.circuitBreakerThreshold = builder.getCircuitBreakerThresholdConnectionProperty().getValue();
+        this.circuitBreakerOpenTime = builder.getCircuitBreakerOpenTimeConnectionProperty().getValue();
+        this.hosts = builder.getHostsConnectionProperty().getValue();
+        this.nodeSniffing = builder.getNodeSniffingConnectionProperty().getValue();
+        this.nodeSniffInterval = builder.getNodeSniffIntervalConnectionProperty().getValue();
+        this.loadBalancing = builder.getLoadBalancingConnectionProperty().getValue();
+        this.nodeEjectionTime = builder.getNodeEjectionTimeConnectionProperty().getValue();
+        this.requestBodyCompression = builder.getRequestBodyCompressionConnectionProperty().getValue();
+        this.logAsync = builder.getLogAsyncConnectionProperty().getValue();
+        this.logBufferSize = builder.getLogBufferSizeConnectionProperty().getValue();
+        this.logOverflowPolicy = builder.getLogOverflowPolicyConnectionProperty().getValue();
+        this.logMaxFileSize = builder.getLogMaxFileSizeConnectionProperty().getValue();
+        this.logMaxFiles = builder.getLogMaxFilesConnectionProperty().getValue();
+        this.statisticsMBeans = builder.getStatisticsMBeansConnectionProperty().getValue();
+        this.queryListener = builder.getQueryListenerConnectionProperty().getValue();
     }
 
     public static Builder builder() {
@@ -188,6 +263,142 @@ public class ConnectionConfig {
         return tunnelHost;
     }
 
+    public boolean sharedConnectionPool() {
+        return sharedConnectionPool;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public int getMaxConnectionsTotal() {
+        return maxConnectionsTotal;
+    }
+
+    public int getIdleConnectionTimeout() {
+        return idleConnectionTimeout;
+    }
+
+    public int getConnectionRequestTimeout() {
+        return connectionRequestTimeout;
+    }
+
+    public TransportType getTransportType() {
+        return transportType;
+    }
+
+    public boolean cursorPrefetch() {
+        return cursorPrefetch;
+    }
+
+    public int getCursorPrefetchThreshold() {
+        return cursorPrefetchThreshold;
+    }
+
+    public int getCursorPrefetchMaxPages() {
+        return cursorPrefetchMaxPages;
+    }
+
+    public boolean resultCache() {
+        return resultCache;
+    }
+
+    public int getResultCacheTtl() {
+        return resultCacheTtl;
+    }
+
+    public int getResultCacheMaxMemory() {
+        return resultCacheMaxMemory;
+    }
+
+    public int getValidationCacheTtl() {
+        return validationCacheTtl;
+    }
+
+    public boolean lazyConnect() {
+        return lazyConnect;
+    }
+
+    public int getClusterMetadataCacheTtl() {
+        return clusterMetadataCacheTtl;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public int getRetryBaseDelay() {
+        return retryBaseDelay;
+    }
+
+    public int getRetryMaxDelay() {
+        return retryMaxDelay;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    public int getCircuitBreakerThreshold() {
+        return circuitBreakerThreshold;
+    }
+
+    public int getCircuitBreakerOpenTime() {
+        return circuitBreakerOpenTime;
+    }
+
+    public List<String> getHosts() {
+        return hosts;
+    }
+
+    public boolean nodeSniffing() {
+        return nodeSniffing;
+    }
+
+    public int getNodeSniffInterval() {
+        return nodeSniffInterval;
+    }
+
+    public LoadBalancingType getLoadBalancing() {
+        return loadBalancing;
+    }
+
+    public int getNodeEjectionTime() {
+        return nodeEjectionTime;
+    }
+
+    public boolean requestBodyCompression() {
+        return requestBodyCompression;
+    }
+
+    public boolean logAsync() {
+        return logAsync;
+    }
+
+    public int getLogBufferSize() {
+        return logBufferSize;
+    }
+
+    public LogOverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public int getLogMaxFileSize() {
+        return logMaxFileSize;
+    }
+
+    public int getLogMaxFiles() {
+        return logMaxFiles;
+    }
+
+    public boolean statisticsMBeans() {
+        return statisticsMBeans;
+    }
+
+    public QueryListener getQueryListener() {
+        return queryListener;
+    }
+
     @Override
     public String toString() {
         return "ConnectionConfig{" +
@@ -216,6 +427,40 @@ public class ConnectionConfig {
                 ", trustSelfSigned='" + trustSelfSigned + '\'' +
                 ", hostnameVerification='" + hostnameVerification + '\'' +
                 ", tunnelHost='" + tunnelHost + '\'' +
+                ", sharedConnectionPool=" + sharedConnectionPool +
+                ", maxConnectionsPerRoute=" + maxConnectionsPerRoute +
+                ", maxConnectionsTotal=" + maxConnectionsTotal +
+                ", idleConnectionTimeout=" + idleConnectionTimeout +
+                ", connectionRequestTimeout=" + connectionRequestTimeout +
+                ", transportType=" + transportType +
+                ", cursorPrefetch=" + cursorPrefetch +
+                ", cursorPrefetchThreshold=" + cursorPrefetchThreshold +
+                ", cursorPrefetchMaxPages=" + cursorPrefetchMaxPages +
+                ", resultCache=" + resultCache +
+                ", resultCacheTtl=" + resultCacheTtl +
+                ", resultCacheMaxMemory=" + resultCacheMaxMemory +
+                ", validationCacheTtl=" + validationCacheTtl +
+                ", lazyConnect=" + lazyConnect +
+                ", clusterMetadataCacheTtl=" + clusterMetadataCacheTtl +
+                ", maxRetries=" + maxRetries +
+                ", retryBaseDelay=" + retryBaseDelay +
+                ", retryMaxDelay=" + retryMaxDelay +
+                ", retryPolicy=" + retryPolicy +
+                ", circuitBreakerThreshold=" + circuitBreakerThreshold +
+                ", circuitBreakerOpenTime=" + circuitBreakerOpenTime +
+                ", hosts=" + hosts +
+                ", nodeSniffing=" + nodeSniffing +
+                ", nodeSniffInterval=" + nodeSniffInterval +
+                ", loadBalancing=" + loadBalancing +
+                ", nodeEjectionTime=" + nodeEjectionTime +
+                ", requestBodyCompression=" + requestBodyCompression +
+                ", logAsync=" + logAsync +
+                ", logBufferSize=" + logBufferSize +
+                ", logOverflowPolicy=" + logOverflowPolicy +
+                ", logMaxFileSize=" + logMaxFileSize +
+                ", logMaxFiles=" + logMaxFiles +
+                ", statisticsMBeans=" + statisticsMBeans +
+                ", queryListener=" + queryListener +
                 '}';
     }
 
@@ -266,6 +511,97 @@ public class ConnectionConfig {
         private TunnelHostConnectionProperty tunnelHostConnectionProperty
                 = new TunnelHostConnectionProperty();
 
+        private SharedConnectionPoolConnectionProperty sharedConnectionPoolConnectionProperty
+                = new SharedConnectionPoolConnectionProperty();
+        private MaxConnectionsPerRouteConnectionProperty maxConnectionsPerRouteConnectionProperty
+                = new MaxConnectionsPerRouteConnectionProperty();
+        private MaxConnectionsTotalConnectionProperty maxConnectionsTotalConnectionProperty
+                = new MaxConnectionsTotalConnectionProperty();
+        private IdleConnectionTimeoutConnectionProperty idleConnectionTimeoutConnectionProperty
+                = new IdleConnectionTimeoutConnectionProperty();
+        private ConnectionRequestTimeoutConnectionProperty connectionRequestTimeoutConnectionProperty
+                = new ConnectionRequestTimeoutConnectionProperty();
+
+        private TransportConnectionProperty transportConnectionProperty = new TransportConnectionProperty();
+
+        private CursorPrefetchConnectionProperty cursorPrefetchConnectionProperty
+                = new CursorPrefetchConnectionProperty();
+        private CursorPrefetchThresholdConnectionProperty cursorPrefetchThresholdConnectionProperty
+                = new CursorPrefetchThresholdConnectionProperty();
+        private CursorPrefetchMaxPagesConnectionProperty cursorPrefetchMaxPagesConnectionProperty
+                = new CursorPrefetchMaxPagesConnectionProperty();
+
+        private ResultCacheConnectionProperty resultCacheConnectionProperty
+                = new ResultCacheConnectionProperty();
+        private ResultCacheTtlConnectionProperty resultCacheTtlConnectionProperty
+                = new ResultCacheTtlConnectionProperty();
+        private ResultCacheMaxMemoryConnectionProperty resultCacheMaxMemoryConnectionProperty
+                = new ResultCacheMaxMemoryConnectionProperty();
+
+        private ValidationCacheTtlConnectionProperty validationCacheTtlConnectionProperty
+                = new ValidationCacheTtlConnectionProperty();
+
+        private LazyConnectConnectionProperty lazyConnectConnectionProperty
+                = new LazyConnectConnectionProperty();
+
+        private ClusterMetadataCacheTtlConnectionProperty clusterMetadataCacheTtlConnectionProperty
+                = new ClusterMetadataCacheTtlConnectionProperty();
+
+        private MaxRetriesConnectionProperty maxRetriesConnectionProperty
+                = new MaxRetriesConnectionProperty();
+
+        private RetryBaseDelayConnectionProperty retryBaseDelayConnectionProperty
+                = new RetryBaseDelayConnectionProperty();
+
+        private RetryMaxDelayConnectionProperty retryMaxDelayConnectionProperty
+                = new RetryMaxDelayConnectionProperty();
+
+        private RetryPolicyConnectionProperty retryPolicyConnectionProperty
+                = new RetryPolicyConnectionProperty();
+
+        private CircuitBreakerThresholdConnectionProperty circuitBreakerThresholdConnectionProperty
+                = new CircuitBreakerThresholdConnectionProperty();
+
+        private CircuitBreakerOpenTimeConnectionProperty circuitBreakerOpenTimeConnectionProperty
+                = new CircuitBreakerOpenTimeConnectionProperty();
+
+        private HostsConnectionProperty hostsConnectionProperty
+                = new HostsConnectionProperty();
+
+        private NodeSniffingConnectionProperty nodeSniffingConnectionProperty
+                = new NodeSniffingConnectionProperty();
+
+        private NodeSniffIntervalConnectionProperty nodeSniffIntervalConnectionProperty
+                = new NodeSniffIntervalConnectionProperty();
+
+        private LoadBalancingConnectionProperty loadBalancingConnectionProperty
+                = new LoadBalancingConnectionProperty();
+
+        private NodeEjectionTimeConnectionProperty nodeEjectionTimeConnectionProperty
+                = new NodeEjectionTimeConnectionProperty();
+
+        private RequestBodyCompressionConnectionProperty requestBodyCompressionConnectionProperty
+                = new RequestBodyCompressionConnectionProperty();
+
+        private LogAsyncConnectionProperty logAsyncConnectionProperty = new LogAsyncConnectionProperty();
+
+        private LogBufferSizeConnectionProperty logBufferSizeConnectionProperty
+                = new LogBufferSizeConnectionProperty();
+
+        private LogOverflowPolicyConnectionProperty logOverflowPolicyConnectionProperty
+                = new LogOverflowPolicyConnectionProperty();
+
+        private LogMaxFileSizeConnectionProperty logMaxFileSizeConnectionProperty
+                = new LogMaxFileSizeConnectionProperty();
+
+        private LogMaxFilesConnectionProperty logMaxFilesConnectionProperty = new LogMaxFilesConnectionProperty();
+
+        private StatisticsMBeansConnectionProperty statisticsMBeansConnectionProperty
+                = new StatisticsMBeansConnectionProperty();
+
+        private QueryListenerConnectionProperty queryListenerConnectionProperty
+                = new QueryListenerConnectionProperty();
+
         ConnectionProperty[] connectionProperties = new ConnectionProperty[]{
                 hostProperty,
                 portProperty,
@@ -289,7 +625,41 @@ public class ConnectionConfig {
                 trustStoreTypeConnectionProperty,
                 trustSelfSignedConnectionProperty,
                 hostnameVerificationConnectionProperty,
-                tunnelHostConnectionProperty
+                tunnelHostConnectionProperty,
+                sharedConnectionPoolConnectionProperty,
+                maxConnectionsPerRouteConnectionProperty,
+                maxConnectionsTotalConnectionProperty,
+                idleConnectionTimeoutConnectionProperty,
+                connectionRequestTimeoutConnectionProperty,
+                transportConnectionProperty,
+                cursorPrefetchConnectionProperty,
+                cursorPrefetchThresholdConnectionProperty,
+                cursorPrefetchMaxPagesConnectionProperty,
+                resultCacheConnectionProperty,
+                resultCacheTtlConnectionProperty,
+                resultCacheMaxMemoryConnectionProperty,
+                validationCacheTtlConnectionProperty,
+                lazyConnectConnectionProperty,
+                clusterMetadataCacheTtlConnectionProperty,
+                maxRetriesConnectionProperty,
+                retryBaseDelayConnectionProperty,
+                retryMaxDelayConnectionProperty,
+                retryPolicyConnectionProperty,
+                circuitBreakerThresholdConnectionProperty,
+                circuitBreakerOpenTimeConnectionProperty,
+                hostsConnectionProperty,
+                nodeSniffingConnectionProperty,
+                nodeSniffIntervalConnectionProperty,
+                loadBalancingConnectionProperty,
+                nodeEjectionTimeConnectionProperty,
+                requestBodyCompressionConnectionProperty,
+                logAsyncConnectionProperty,
+                logBufferSizeConnectionProperty,
+                logOverflowPolicyConnectionProperty,
+                logMaxFileSizeConnectionProperty,
+                logMaxFilesConnectionProperty,
+                statisticsMBeansConnectionProperty,
+                queryListenerConnectionProperty
         };
 
         private String url = null;
@@ -400,6 +770,142 @@ public class ConnectionConfig {
             return tunnelHostConnectionProperty;
         }
 
+        public SharedConnectionPoolConnectionProperty getSharedConnectionPoolConnectionProperty() {
+            return sharedConnectionPoolConnectionProperty;
+        }
+
+        public MaxConnectionsPerRouteConnectionProperty getMaxConnectionsPerRouteConnectionProperty() {
+            return maxConnectionsPerRouteConnectionProperty;
+        }
+
+        public MaxConnectionsTotalConnectionProperty getMaxConnectionsTotalConnectionProperty() {
+            return maxConnectionsTotalConnectionProperty;
+        }
+
+        public IdleConnectionTimeoutConnectionProperty getIdleConnectionTimeoutConnectionProperty() {
+            return idleConnectionTimeoutConnectionProperty;
+        }
+
+        public ConnectionRequestTimeoutConnectionProperty getConnectionRequestTimeoutConnectionProperty() {
+            return connectionRequestTimeoutConnectionProperty;
+        }
+
+        public TransportConnectionProperty getTransportConnectionProperty() {
+            return transportConnectionProperty;
+        }
+
+        public CursorPrefetchConnectionProperty getCursorPrefetchConnectionProperty() {
+            return cursorPrefetchConnectionProperty;
+        }
+
+        public CursorPrefetchThresholdConnectionProperty getCursorPrefetchThresholdConnectionProperty() {
+            return cursorPrefetchThresholdConnectionProperty;
+        }
+
+        public CursorPrefetchMaxPagesConnectionProperty getCursorPrefetchMaxPagesConnectionProperty() {
+            return cursorPrefetchMaxPagesConnectionProperty;
+        }
+
+        public ResultCacheConnectionProperty getResultCacheConnectionProperty() {
+            return resultCacheConnectionProperty;
+        }
+
+        public ResultCacheTtlConnectionProperty getResultCacheTtlConnectionProperty() {
+            return resultCacheTtlConnectionProperty;
+        }
+
+        public ResultCacheMaxMemoryConnectionProperty getResultCacheMaxMemoryConnectionProperty() {
+            return resultCacheMaxMemoryConnectionProperty;
+        }
+
+        public ValidationCacheTtlConnectionProperty getValidationCacheTtlConnectionProperty() {
+            return validationCacheTtlConnectionProperty;
+        }
+
+        public LazyConnectConnectionProperty getLazyConnectConnectionProperty() {
+            return lazyConnectConnectionProperty;
+        }
+
+        public ClusterMetadataCacheTtlConnectionProperty getClusterMetadataCacheTtlConnectionProperty() {
+            return clusterMetadataCacheTtlConnectionProperty;
+        }
+
+        public MaxRetriesConnectionProperty getMaxRetriesConnectionProperty() {
+            return maxRetriesConnectionProperty;
+        }
+
+        public RetryBaseDelayConnectionProperty getRetryBaseDelayConnectionProperty() {
+            return retryBaseDelayConnectionProperty;
+        }
+
+        public RetryMaxDelayConnectionProperty getRetryMaxDelayConnectionProperty() {
+            return retryMaxDelayConnectionProperty;
+        }
+
+        public RetryPolicyConnectionProperty getRetryPolicyConnectionProperty() {
+            return retryPolicyConnectionProperty;
+        }
+
+        public CircuitBreakerThresholdConnectionProperty getCircuitBreakerThresholdConnectionProperty() {
+            return circuitBreakerThresholdConnectionProperty;
+        }
+
+        public CircuitBreakerOpenTimeConnectionProperty getCircuitBreakerOpenTimeConnectionProperty() {
+            return circuitBreakerOpenTimeConnectionProperty;
+        }
+
+        public HostsConnectionProperty getHostsConnectionProperty() {
+            return hostsConnectionProperty;
+        }
+
+        public NodeSniffingConnectionProperty getNodeSniffingConnectionProperty() {
+            return nodeSniffingConnectionProperty;
+        }
+
+        public NodeSniffIntervalConnectionProperty getNodeSniffIntervalConnectionProperty() {
+            return nodeSniffIntervalConnectionProperty;
+        }
+
+        public LoadBalancingConnectionProperty getLoadBalancingConnectionProperty() {
+            return loadBalancingConnectionProperty;
+        }
+
+        public NodeEjectionTimeConnectionProperty getNodeEjectionTimeConnectionProperty() {
+            return nodeEjectionTimeConnectionProperty;
+        }
+
+        public RequestBodyCompressionConnectionProperty getRequestBodyCompressionConnectionProperty() {
+            return requestBodyCompressionConnectionProperty;
+        }
+
+        public LogAsyncConnectionProperty getLogAsyncConnectionProperty() {
+            return logAsyncConnectionProperty;
+        }
+
+        public LogBufferSizeConnectionProperty getLogBufferSizeConnectionProperty() {
+            return logBufferSizeConnectionProperty;
+        }
+
+        public LogOverflowPolicyConnectionProperty getLogOverflowPolicyConnectionProperty() {
+            return logOverflowPolicyConnectionProperty;
+        }
+
+        public LogMaxFileSizeConnectionProperty getLogMaxFileSizeConnectionProperty() {
+            return logMaxFileSizeConnectionProperty;
+        }
+
+        public LogMaxFilesConnectionProperty getLogMaxFilesConnectionProperty() {
+            return logMaxFilesConnectionProperty;
+        }
+
+        public StatisticsMBeansConnectionProperty getStatisticsMBeansConnectionProperty() {
+            return statisticsMBeansConnectionProperty;
+        }
+
+        public QueryListenerConnectionProperty getQueryListenerConnectionProperty() {
+            return queryListenerConnectionProperty;
+        }
+
         public Builder setLogWriter(PrintWriter printWriter) {
             this.logWriter = printWriter;
             return this;
@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Time in seconds a request waits for a connection from the HTTP
+ * connection pool once all pooled connections are in use. A value of 0
+ * waits without a limit.
+ */
+public class ConnectionRequestTimeoutConnectionProperty extends IntConnectionProperty {
+
+    public static final String KEY = "connectionRequestTimeout";
+
+    public ConnectionRequestTimeoutConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    protected Integer parseValue(Object value) throws ConnectionPropertyException {
+        int intValue = super.parseValue(value);
+
+        if (intValue < 0) {
+            throw new ConnectionPropertyException(getKey(),
+                    String.format("Connection request timeout property requires a valid integer >=0. Invalid value: %d", intValue));
+        }
+        return intValue;
+    }
+
+    @Override
+    public Integer getDefault() {
+        return 30;
+    }
+}
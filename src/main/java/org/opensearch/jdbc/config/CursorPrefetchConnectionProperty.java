@@ -0,0 +1,20 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Whether the next page of a paginated result is requested in the
+ * background while the rows of the current page are being read.
+ */
+public class CursorPrefetchConnectionProperty extends BoolConnectionProperty {
+
+    public static final String KEY = "cursorPrefetch";
+
+    public CursorPrefetchConnectionProperty() {
+        super(KEY);
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Maximum number of pages requested ahead of the page being read, when
+ * cursor prefetching is enabled.
+ */
+public class CursorPrefetchMaxPagesConnectionProperty extends IntConnectionProperty {
+
+    public static final String KEY = "cursorPrefetchMaxPages";
+
+    public CursorPrefetchMaxPagesConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    protected Integer parseValue(Object value) throws ConnectionPropertyException {
+        int intValue = super.parseValue(value);
+
+        if (intValue < 1) {
+            throw new ConnectionPropertyException(getKey(),
+                    String.format("Cursor prefetch max pages property requires a valid integer >=1. Invalid value: %d", intValue));
+        }
+        return intValue;
+    }
+
+    @Override
+    public Integer getDefault() {
+        return 1;
+    }
+}
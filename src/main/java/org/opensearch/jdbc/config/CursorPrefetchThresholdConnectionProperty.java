@@ -0,0 +1,36 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Percentage of the rows of a page that are read before the next page
+ * is requested, when cursor prefetching is enabled.
+ */
+public class CursorPrefetchThresholdConnectionProperty extends IntConnectionProperty {
+
+    public static final String KEY = "cursorPrefetchThreshold";
+
+    public CursorPrefetchThresholdConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    protected Integer parseValue(Object value) throws ConnectionPropertyException {
+        int intValue = super.parseValue(value);
+
+        if (intValue < 0 || intValue > 100) {
+            throw new ConnectionPropertyException(getKey(),
+                    String.format("Cursor prefetch threshold property requires a percentage between 0 and 100. Invalid value: %d", intValue));
+        }
+        return intValue;
+    }
+
+    @Override
+    public Integer getDefault() {
+        return 50;
+    }
+}
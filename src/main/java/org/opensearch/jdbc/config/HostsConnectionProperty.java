@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Comma separated list of the nodes of the cluster to spread requests
+ * across, each as {@code host[:port]}. Nodes without a port use the port
+ * of the connection.
+ * <p>
+ * The list is empty by default, in which case all requests are sent to
+ * the host of the connection.
+ */
+public class HostsConnectionProperty extends ConnectionProperty<List<String>> {
+
+    public static final String KEY = "hosts";
+
+    public HostsConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    protected List<String> parseValue(Object rawValue) throws ConnectionPropertyException {
+        if (rawValue == null) {
+            return getDefault();
+        } else if (rawValue instanceof String) {
+            List<String> hosts = new ArrayList<>();
+
+            for (String host : ((String) rawValue).split(",")) {
+                host = host.trim();
+                if (!isValidHost(host)) {
+                    throw new ConnectionPropertyException(getKey(),
+                            String.format("Invalid value specified for the property \"%s\". " +
+                                    "Expected a comma separated list of host[:port] entries, found \"%s\".",
+                                    getKey(), host));
+                }
+                hosts.add(host);
+            }
+            return Collections.unmodifiableList(hosts);
+        }
+
+        throw new ConnectionPropertyException(getKey(),
+                String.format("Property \"%s\" requires a comma separated list of hosts. " +
+                        "Invalid value of type: %s specified.", getKey(), rawValue.getClass().getName()));
+    }
+
+    private static boolean isValidHost(String host) {
+        if (host.isEmpty() || host.contains("/")) {
+            return false;
+        }
+
+        try {
+            URI uri = new URI("http://" + host);
+            return uri.getHost() != null && uri.getPath().isEmpty() && uri.getUserInfo() == null;
+        } catch (URISyntaxException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public List<String> getDefault() {
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Time in seconds after which an idle pooled HTTP connection is
+ * evicted. A value of 0 keeps idle connections until the server
+ * closes them.
+ */
+public class IdleConnectionTimeoutConnectionProperty extends IntConnectionProperty {
+
+    public static final String KEY = "idleConnectionTimeout";
+
+    public IdleConnectionTimeoutConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    protected Integer parseValue(Object value) throws ConnectionPropertyException {
+        int intValue = super.parseValue(value);
+
+        if (intValue < 0) {
+            throw new ConnectionPropertyException(getKey(),
+                    String.format("Idle connection timeout property requires a valid integer >=0. Invalid value: %d", intValue));
+        }
+        return intValue;
+    }
+
+    @Override
+    public Integer getDefault() {
+        return 60;
+    }
+}
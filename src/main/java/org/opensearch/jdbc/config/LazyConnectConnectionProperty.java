@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Whether opening a connection skips the request for the cluster
+ * metadata. The metadata is then requested when it is first needed, and
+ * the server is first contacted by the first query.
+ */
+public class LazyConnectConnectionProperty extends BoolConnectionProperty {
+
+    public static final String KEY = "lazyConnect";
+
+    public LazyConnectConnectionProperty() {
+        super(KEY);
+    }
+}
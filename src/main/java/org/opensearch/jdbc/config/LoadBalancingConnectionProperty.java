@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+import org.opensearch.jdbc.transport.LoadBalancingType;
+
+import java.util.Locale;
+
+public class LoadBalancingConnectionProperty extends ConnectionProperty<LoadBalancingType> {
+
+    public static final String KEY = "loadBalancing";
+
+    public LoadBalancingConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    protected LoadBalancingType parseValue(Object rawValue) throws ConnectionPropertyException {
+        if (rawValue == null) {
+            return getDefault();
+        } else if (rawValue instanceof String) {
+            String stringValue = (String) rawValue;
+            try {
+                return LoadBalancingType.valueOf(stringValue.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException iae) {
+                throw new ConnectionPropertyException(getKey(),
+                        String.format("Invalid value specified for the property \"%s\". " +
+                                "Unknown load balancing type \"%s\".", getKey(), stringValue));
+            }
+        }
+
+        throw new ConnectionPropertyException(getKey(),
+                String.format("Property \"%s\" requires a valid String matching a known load balancing type. " +
+                        "Invalid value of type: %s specified.", getKey(), rawValue.getClass().getName()));
+
+    }
+
+    @Override
+    public LoadBalancingType getDefault() {
+        return LoadBalancingType.ROUND_ROBIN;
+    }
+}
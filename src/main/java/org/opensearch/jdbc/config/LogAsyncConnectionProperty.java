@@ -0,0 +1,16 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+public class LogAsyncConnectionProperty extends BoolConnectionProperty {
+
+    public static final String KEY = "logAsync";
+
+    public LogAsyncConnectionProperty() {
+        super(KEY);
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Number of log entries that can be queued for the writer thread, when
+ * asynchronous logging is enabled.
+ */
+public class LogBufferSizeConnectionProperty extends IntConnectionProperty {
+
+    public static final String KEY = "logBufferSize";
+
+    public LogBufferSizeConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    protected Integer parseValue(Object value) throws ConnectionPropertyException {
+        int intValue = super.parseValue(value);
+
+        if (intValue < 1) {
+            throw new ConnectionPropertyException(getKey(),
+                    String.format("Log buffer size property requires a valid integer >=1. Invalid value: %d", intValue));
+        }
+        return intValue;
+    }
+
+    @Override
+    public Integer getDefault() {
+        return 8192;
+    }
+}
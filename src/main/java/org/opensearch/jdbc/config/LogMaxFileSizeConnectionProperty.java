@@ -0,0 +1,31 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Size in megabytes at which the log file is rolled over. 0 never rolls
+ * the log file over.
+ */
+public class LogMaxFileSizeConnectionProperty extends IntConnectionProperty {
+
+    public static final String KEY = "logMaxFileSize";
+
+    public LogMaxFileSizeConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    protected Integer parseValue(Object value) throws ConnectionPropertyException {
+        int intValue = super.parseValue(value);
+
+        if (intValue < 0) {
+            throw new ConnectionPropertyException(getKey(),
+                    String.format("Log max file size property requires a valid integer >=0. Invalid value: %d", intValue));
+        }
+        return intValue;
+    }
+}
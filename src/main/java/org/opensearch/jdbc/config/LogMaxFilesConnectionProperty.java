@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Number of rolled over log files kept, when the log file is rolled over.
+ */
+public class LogMaxFilesConnectionProperty extends IntConnectionProperty {
+
+    public static final String KEY = "logMaxFiles";
+
+    public LogMaxFilesConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    protected Integer parseValue(Object value) throws ConnectionPropertyException {
+        int intValue = super.parseValue(value);
+
+        if (intValue < 1) {
+            throw new ConnectionPropertyException(getKey(),
+                    String.format("Log max files property requires a valid integer >=1. Invalid value: %d", intValue));
+        }
+        return intValue;
+    }
+
+    @Override
+    public Integer getDefault() {
+        return 5;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+import org.opensearch.jdbc.logging.LogOverflowPolicy;
+
+import java.util.Locale;
+
+public class LogOverflowPolicyConnectionProperty extends ConnectionProperty<LogOverflowPolicy> {
+
+    public static final String KEY = "logOverflowPolicy";
+
+    public LogOverflowPolicyConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    protected LogOverflowPolicy parseValue(Object rawValue) throws ConnectionPropertyException {
+        if (rawValue == null) {
+            return getDefault();
+        } else if (rawValue instanceof String) {
+            String stringValue = (String) rawValue;
+            try {
+                return LogOverflowPolicy.valueOf(stringValue.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException iae) {
+                throw new ConnectionPropertyException(getKey(),
+                        String.format("Invalid value specified for the property \"%s\". " +
+                                "Unknown log overflow policy \"%s\".", getKey(), stringValue));
+            }
+        }
+
+        throw new ConnectionPropertyException(getKey(),
+                String.format("Property \"%s\" requires a valid String matching a known log overflow policy. " +
+                        "Invalid value of type: %s specified.", getKey(), rawValue.getClass().getName()));
+
+    }
+
+    @Override
+    public LogOverflowPolicy getDefault() {
+        return LogOverflowPolicy.DROP;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Maximum number of pooled HTTP connections per target host
+ */
+public class MaxConnectionsPerRouteConnectionProperty extends IntConnectionProperty {
+
+    public static final String KEY = "maxConnectionsPerRoute";
+
+    public MaxConnectionsPerRouteConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    protected Integer parseValue(Object value) throws ConnectionPropertyException {
+        int intValue = super.parseValue(value);
+
+        if (intValue < 1) {
+            throw new ConnectionPropertyException(getKey(),
+                    String.format("Max connections per route property requires a valid integer >=1. Invalid value: %d", intValue));
+        }
+        return intValue;
+    }
+
+    @Override
+    public Integer getDefault() {
+        return 10;
+    }
+}
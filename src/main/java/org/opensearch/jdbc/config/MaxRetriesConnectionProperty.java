@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Maximum number of times a request that is safe to repeat, such as a
+ * query or the fetch of a cursor page, is retried after a connection
+ * failure or a response indicating the server is overloaded.
+ */
+public class MaxRetriesConnectionProperty extends IntConnectionProperty {
+
+    public static final String KEY = "maxRetries";
+
+    public MaxRetriesConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    protected Integer parseValue(Object value) throws ConnectionPropertyException {
+        int intValue = super.parseValue(value);
+
+        if (intValue < 0) {
+            throw new ConnectionPropertyException(getKey(),
+                    String.format("Max retries property requires a valid integer >=0. Invalid value: %d", intValue));
+        }
+        return intValue;
+    }
+
+    @Override
+    public Integer getDefault() {
+        return 2;
+    }
+}
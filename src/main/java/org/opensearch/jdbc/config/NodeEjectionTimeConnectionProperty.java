@@ -0,0 +1,36 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Time in seconds for which a node that failed a request is left out
+ * when spreading requests across the nodes of the cluster.
+ */
+public class NodeEjectionTimeConnectionProperty extends IntConnectionProperty {
+
+    public static final String KEY = "nodeEjectionTime";
+
+    public NodeEjectionTimeConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    protected Integer parseValue(Object value) throws ConnectionPropertyException {
+        int intValue = super.parseValue(value);
+
+        if (intValue < 1) {
+            throw new ConnectionPropertyException(getKey(),
+                    String.format("Node ejection time property requires a valid integer >=1. Invalid value: %d", intValue));
+        }
+        return intValue;
+    }
+
+    @Override
+    public Integer getDefault() {
+        return 30;
+    }
+}
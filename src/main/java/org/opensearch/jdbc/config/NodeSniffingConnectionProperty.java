@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Whether the nodes requests are spread across are discovered from the
+ * cluster, by requesting the HTTP-enabled nodes from one of the
+ * configured hosts.
+ */
+public class NodeSniffingConnectionProperty extends BoolConnectionProperty {
+
+    public static final String KEY = "nodeSniffing";
+
+    public NodeSniffingConnectionProperty() {
+        super(KEY);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+import org.opensearch.jdbc.listener.QueryListener;
+
+/**
+ * {@link QueryListener} of the queries of the connection, given as an
+ * instance, or as the name of a class with a public no-argument
+ * constructor so that it can be set in the connection URL.
+ */
+public class QueryListenerConnectionProperty extends ConnectionProperty<QueryListener> {
+
+    public static final String KEY = "queryListener";
+
+    public QueryListenerConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    public QueryListener getDefault() {
+        return null;
+    }
+
+    @Override
+    protected QueryListener parseValue(Object rawValue) throws ConnectionPropertyException {
+        if (null == rawValue) {
+            return null;
+        } else if (rawValue instanceof QueryListener) {
+            return (QueryListener) rawValue;
+        } else if (rawValue instanceof String) {
+            return newInstance(((String) rawValue).trim());
+        }
+
+        throw new ConnectionPropertyException(getKey(),
+                String.format("Property \"%s\" requires a valid QueryListener instance or class name. " +
+                        "Invalid value of type: %s specified.", getKey(), rawValue.getClass().getName()));
+    }
+
+    private QueryListener newInstance(String className) throws ConnectionPropertyException {
+        try {
+            Class<?> listenerClass = Class.forName(className, true, getClassLoader());
+            if (!QueryListener.class.isAssignableFrom(listenerClass)) {
+                throw new ConnectionPropertyException(getKey(),
+                        String.format("Property \"%s\" requires a class implementing QueryListener. " +
+                                "Class %s does not.", getKey(), className));
+            }
+            return (QueryListener) listenerClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            throw new ConnectionPropertyException(getKey(),
+                    String.format("Could not create the QueryListener %s for property \"%s\": %s",
+                            className, getKey(), ex), ex);
+        }
+    }
+
+    private static ClassLoader getClassLoader() {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return contextClassLoader != null ? contextClassLoader : QueryListener.class.getClassLoader();
+    }
+}
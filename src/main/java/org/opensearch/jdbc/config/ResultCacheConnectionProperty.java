@@ -0,0 +1,20 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Whether the results of queries are cached and served to repeated
+ * executions of the same query for the duration of the result cache TTL.
+ */
+public class ResultCacheConnectionProperty extends BoolConnectionProperty {
+
+    public static final String KEY = "resultCache";
+
+    public ResultCacheConnectionProperty() {
+        super(KEY);
+    }
+}
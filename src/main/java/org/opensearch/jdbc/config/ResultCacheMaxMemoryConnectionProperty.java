@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Approximate memory in megabytes the cached query results may occupy,
+ * when the result cache is enabled. The least recently used results
+ * are evicted once it is exceeded.
+ */
+public class ResultCacheMaxMemoryConnectionProperty extends IntConnectionProperty {
+
+    public static final String KEY = "resultCacheMaxMemory";
+
+    public ResultCacheMaxMemoryConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    protected Integer parseValue(Object value) throws ConnectionPropertyException {
+        int intValue = super.parseValue(value);
+
+        if (intValue < 1) {
+            throw new ConnectionPropertyException(getKey(),
+                    String.format("Result cache max memory property requires a valid integer >=1. Invalid value: %d", intValue));
+        }
+        return intValue;
+    }
+
+    @Override
+    public Integer getDefault() {
+        return 64;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Time in milliseconds bounding the delay before the first retry of a
+ * request. The bound doubles with every further retry.
+ */
+public class RetryBaseDelayConnectionProperty extends IntConnectionProperty {
+
+    public static final String KEY = "retryBaseDelay";
+
+    public RetryBaseDelayConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    protected Integer parseValue(Object value) throws ConnectionPropertyException {
+        int intValue = super.parseValue(value);
+
+        if (intValue < 1) {
+            throw new ConnectionPropertyException(getKey(),
+                    String.format("Retry base delay property requires a valid integer >=1. Invalid value: %d", intValue));
+        }
+        return intValue;
+    }
+
+    @Override
+    public Integer getDefault() {
+        return 100;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Time in milliseconds bounding the delay before any retry of a request.
+ * A request is not retried if the server asks for a longer delay.
+ */
+public class RetryMaxDelayConnectionProperty extends IntConnectionProperty {
+
+    public static final String KEY = "retryMaxDelay";
+
+    public RetryMaxDelayConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    protected Integer parseValue(Object value) throws ConnectionPropertyException {
+        int intValue = super.parseValue(value);
+
+        if (intValue < 1) {
+            throw new ConnectionPropertyException(getKey(),
+                    String.format("Retry max delay property requires a valid integer >=1. Invalid value: %d", intValue));
+        }
+        return intValue;
+    }
+
+    @Override
+    public Integer getDefault() {
+        return 5000;
+    }
+}
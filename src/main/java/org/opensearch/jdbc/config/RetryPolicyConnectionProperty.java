@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+import org.opensearch.jdbc.transport.http.RetryPolicy;
+
+/**
+ * {@link RetryPolicy} replacing the exponential backoff configured by the
+ * retry properties.
+ */
+public class RetryPolicyConnectionProperty extends ConnectionProperty<RetryPolicy> {
+
+    public static final String KEY = "retryPolicy";
+
+    public RetryPolicyConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    public RetryPolicy getDefault() {
+        return null;
+    }
+
+    @Override
+    protected RetryPolicy parseValue(Object rawValue) throws ConnectionPropertyException {
+        if (null == rawValue) {
+            return null;
+        } else if (rawValue instanceof RetryPolicy) {
+            return (RetryPolicy) rawValue;
+        }
+
+        throw new ConnectionPropertyException(getKey(),
+                String.format("Property \"%s\" requires a valid RetryPolicy instance. " +
+                        "Invalid value of type: %s specified.", getKey(), rawValue.getClass().getName()));
+    }
+}
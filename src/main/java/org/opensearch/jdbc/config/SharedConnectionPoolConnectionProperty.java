@@ -0,0 +1,25 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Whether connections with an identical transport configuration
+ * share a single driver-wide pool of HTTP connections.
+ */
+public class SharedConnectionPoolConnectionProperty extends BoolConnectionProperty {
+
+    public static final String KEY = "sharedConnectionPool";
+
+    public SharedConnectionPoolConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    public Boolean getDefault() {
+        return true;
+    }
+}
@@ -0,0 +1,16 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+public class StatisticsMBeansConnectionProperty extends BoolConnectionProperty {
+
+    public static final String KEY = "statisticsMBeans";
+
+    public StatisticsMBeansConnectionProperty() {
+        super(KEY);
+    }
+}
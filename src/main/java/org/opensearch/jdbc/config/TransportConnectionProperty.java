@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+import org.opensearch.jdbc.transport.TransportType;
+
+import java.util.Locale;
+
+public class TransportConnectionProperty extends ConnectionProperty<TransportType> {
+
+    public static final String KEY = "transport";
+
+    public TransportConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    protected TransportType parseValue(Object rawValue) throws ConnectionPropertyException {
+        if (rawValue == null) {
+            return getDefault();
+        } else if (rawValue instanceof String) {
+            String stringValue = (String) rawValue;
+            try {
+                return TransportType.valueOf(stringValue.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException iae) {
+                throw new ConnectionPropertyException(getKey(),
+                        String.format("Invalid value specified for the property \"%s\". " +
+                                "Unknown transport type \"%s\".", getKey(), stringValue));
+            }
+        }
+
+        throw new ConnectionPropertyException(getKey(),
+                String.format("Property \"%s\" requires a valid String matching a known transport type. " +
+                        "Invalid value of type: %s specified.", getKey(), rawValue.getClass().getName()));
+
+    }
+
+    @Override
+    public TransportType getDefault() {
+        return TransportType.HTTP;
+    }
+}
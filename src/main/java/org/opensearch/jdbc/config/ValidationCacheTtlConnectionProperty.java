@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.config;
+
+/**
+ * Time in seconds for which a successful {@link java.sql.Connection#isValid(int)}
+ * probe is reused by later calls. A value of 0 probes the server on
+ * every call.
+ */
+public class ValidationCacheTtlConnectionProperty extends IntConnectionProperty {
+
+    public static final String KEY = "validationCacheTtl";
+
+    public ValidationCacheTtlConnectionProperty() {
+        super(KEY);
+    }
+
+    @Override
+    protected Integer parseValue(Object value) throws ConnectionPropertyException {
+        int intValue = super.parseValue(value);
+
+        if (intValue < 0) {
+            throw new ConnectionPropertyException(getKey(),
+                    String.format("Validation cache TTL property requires a valid integer >=0. Invalid value: %d", intValue));
+        }
+        return intValue;
+    }
+
+    @Override
+    public Integer getDefault() {
+        return 5;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.internal.cache;
+
+import org.opensearch.jdbc.config.ConnectionConfig;
+import org.opensearch.jdbc.protocol.ClusterMetadata;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Driver-wide cache of the {@link ClusterMetadata} received by
+ * connections, keyed by endpoint.
+ * <p>
+ * New connections to an endpoint reuse the metadata received by an
+ * earlier connection for the cluster metadata cache TTL of their own
+ * configuration, instead of requesting it again. The metadata describes
+ * the cluster rather than the user, so it is shared by connections
+ * authenticated as different users.
+ */
+public class ClusterMetadataCache {
+
+    public static final ClusterMetadataCache INSTANCE = new ClusterMetadataCache();
+
+    // bounds the cache for applications connecting to many endpoints
+    private static final int MAX_ENDPOINTS = 64;
+
+    private final LongSupplier nanoClock;
+    private final Map<EndpointKey, CachedMetadata> metadata =
+            new LinkedHashMap<EndpointKey, CachedMetadata>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<EndpointKey, CachedMetadata> eldest) {
+                    return size() > MAX_ENDPOINTS;
+                }
+            };
+
+    ClusterMetadataCache() {
+        this(System::nanoTime);
+    }
+
+    ClusterMetadataCache(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns the metadata of the endpoint of the configuration if it was
+     * received within the configured TTL, otherwise null.
+     */
+    public synchronized ClusterMetadata get(ConnectionConfig connectionConfig) {
+        if (connectionConfig.getClusterMetadataCacheTtl() <= 0) {
+            return null;
+        }
+
+        CachedMetadata cached = metadata.get(new EndpointKey(connectionConfig));
+        if (cached == null || nanoClock.getAsLong() - cached.receivedNanos
+                >= TimeUnit.SECONDS.toNanos(connectionConfig.getClusterMetadataCacheTtl())) {
+            return null;
+        }
+        return cached.clusterMetadata;
+    }
+
+    /**
+     * Records the metadata received from the endpoint of the
+     * configuration.
+     */
+    public synchronized void put(ConnectionConfig connectionConfig, ClusterMetadata clusterMetadata) {
+        if (connectionConfig.getClusterMetadataCacheTtl() > 0 && clusterMetadata != null) {
+            metadata.put(new EndpointKey(connectionConfig),
+                    new CachedMetadata(clusterMetadata, nanoClock.getAsLong()));
+        }
+    }
+
+    /**
+     * Removes the metadata of all endpoints.
+     */
+    public synchronized void clear() {
+        metadata.clear();
+    }
+
+    private static class CachedMetadata {
+        private final ClusterMetadata clusterMetadata;
+        private final long receivedNanos;
+
+        CachedMetadata(ClusterMetadata clusterMetadata, long receivedNanos) {
+            this.clusterMetadata = clusterMetadata;
+            this.receivedNanos = receivedNanos;
+        }
+    }
+
+    /**
+     * Identifies the endpoint a connection configuration points to.
+     */
+    static class EndpointKey {
+        private final Object[] values;
+        private final int hashCode;
+
+        EndpointKey(ConnectionConfig config) {
+            this.values = new Object[]{
+                    config.isUseSSL(),
+                    config.getHost(),
+                    config.getPort(),
+                    config.getPath()
+            };
+            this.hashCode = Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof EndpointKey)) return false;
+            return Arrays.equals(values, ((EndpointKey) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,390 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.internal.cache;
+
+import org.opensearch.jdbc.protocol.ColumnDescriptor;
+import org.opensearch.jdbc.protocol.JdbcQueryParam;
+import org.opensearch.jdbc.protocol.JdbcQueryRequest;
+import org.opensearch.jdbc.protocol.QueryResponse;
+import org.opensearch.jdbc.protocol.RequestError;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache of complete query results, served to repeated executions of the
+ * same query.
+ * <p>
+ * Results are keyed by the normalized SQL text of the query, the values
+ * of its parameters and the fetch size. A result is served for a fixed
+ * time after it was received, and the least recently used results are
+ * evicted once the approximate memory occupied by the cached results
+ * exceeds the configured budget.
+ * <p>
+ * Only results received in full in a single response can be cached, as
+ * the cursor of a paginated result is only valid for one reader.
+ */
+public class QueryResultCache {
+
+    // rough JVM object sizes used to estimate the memory a result occupies
+    private static final int OBJECT_OVERHEAD = 16;
+    private static final int REFERENCE_SIZE = 8;
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private final long ttlNanos;
+    private final long maxBytes;
+    private final LongSupplier nanoClock;
+
+    private final LinkedHashMap<Key, CachedResult> results = new LinkedHashMap<>(16, 0.75f, true);
+    private long usedBytes = 0;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * @param ttlMillis time in milliseconds for which a result is served
+     * @param maxBytes approximate memory the cached results may occupy
+     */
+    public QueryResultCache(long ttlMillis, long maxBytes) {
+        this(ttlMillis, maxBytes, System::nanoTime);
+    }
+
+    QueryResultCache(long ttlMillis, long maxBytes, LongSupplier nanoClock) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.maxBytes = maxBytes;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns the cached result for the key, or null if no result is
+     * cached or the cached result has expired.
+     */
+    public CachedResult get(Key key) {
+        CachedResult result;
+
+        synchronized (this) {
+            result = results.get(key);
+
+            if (result != null && isExpired(result)) {
+                remove(key);
+                result = null;
+            }
+        }
+
+        (result != null ? hitCount : missCount).incrementAndGet();
+        return result;
+    }
+
+    /**
+     * Caches a complete query result, unless it alone exceeds the memory
+     * budget. The cached rows must not be modified afterwards.
+     *
+     * @return true if the result was cached
+     */
+    public boolean put(Key key, List<? extends ColumnDescriptor> columnDescriptors, List<List<Object>> datarows) {
+        return put(key, columnDescriptors, datarows, estimateSize(key, datarows));
+    }
+
+    /**
+     * Returns a response passing on the rows of the query response, and
+     * caching the result once they have all been read, if the response
+     * turns out to hold the complete result.
+     * <p>
+     * Whether it does is only known once the cursor, which may follow the
+     * rows in the response, has been read. The rows are therefore recorded
+     * as they are read, rather than read into memory up front.
+     */
+    public QueryResponse recording(Key key, QueryResponse queryResponse) {
+        return new RecordingQueryResponse(this, key, queryResponse);
+    }
+
+    boolean put(Key key, List<? extends ColumnDescriptor> columnDescriptors, List<List<Object>> datarows,
+                long size) {
+        if (size > maxBytes) {
+            return false;
+        }
+
+        CachedResult result = new CachedResult(columnDescriptors, datarows, size, nanoClock.getAsLong());
+
+        synchronized (this) {
+            remove(key);
+            results.put(key, result);
+            usedBytes += size;
+            evict();
+        }
+        return true;
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public synchronized void clear() {
+        results.clear();
+        usedBytes = 0;
+    }
+
+    /**
+     * @return number of results currently cached, including results that
+     *         have expired but have not been evicted yet
+     */
+    public synchronized int size() {
+        return results.size();
+    }
+
+    /**
+     * @return approximate memory in bytes occupied by the cached results
+     */
+    public synchronized long getMemoryUsage() {
+        return usedBytes;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    private boolean isExpired(CachedResult result) {
+        return nanoClock.getAsLong() - result.createdNanos >= ttlNanos;
+    }
+
+    private void remove(Key key) {
+        CachedResult removed = results.remove(key);
+        if (removed != null) {
+            usedBytes -= removed.size;
+        }
+    }
+
+    /**
+     * Removes expired results, then evicts the least recently used
+     * results until the cached results fit the memory budget.
+     */
+    private void evict() {
+        Iterator<CachedResult> iterator = results.values().iterator();
+        while (iterator.hasNext()) {
+            CachedResult result = iterator.next();
+            if (isExpired(result)) {
+                iterator.remove();
+                usedBytes -= result.size;
+            }
+        }
+
+        // iteration order is from the least to the most recently used
+        iterator = results.values().iterator();
+        while (usedBytes > maxBytes && iterator.hasNext()) {
+            CachedResult result = iterator.next();
+            iterator.remove();
+            usedBytes -= result.size;
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    long getMaxBytes() {
+        return maxBytes;
+    }
+
+    private static long estimateSize(Key key, List<List<Object>> datarows) {
+        long size = estimateKeySize(key);
+
+        for (List<Object> row : datarows) {
+            size += estimateRowSize(row);
+        }
+        return size;
+    }
+
+    static long estimateKeySize(Key key) {
+        return ENTRY_OVERHEAD + estimateValueSize(key.sql);
+    }
+
+    static long estimateRowSize(List<Object> row) {
+        long size = OBJECT_OVERHEAD + (long) REFERENCE_SIZE * row.size();
+        for (Object value : row) {
+            size += estimateValueSize(value);
+        }
+        return size;
+    }
+
+    private static long estimateValueSize(Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof String) {
+            return OBJECT_OVERHEAD * 2 + ((String) value).length();
+        } else if (value instanceof Number || value instanceof Boolean) {
+            return OBJECT_OVERHEAD + 8;
+        } else if (value instanceof Map) {
+            long size = OBJECT_OVERHEAD * 3;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += ENTRY_OVERHEAD / 2 + estimateValueSize(entry.getKey()) + estimateValueSize(entry.getValue());
+            }
+            return size;
+        } else if (value instanceof List) {
+            long size = OBJECT_OVERHEAD * 2;
+            for (Object element : (List<?>) value) {
+                size += REFERENCE_SIZE + estimateValueSize(element);
+            }
+            return size;
+        }
+        return ENTRY_OVERHEAD;
+    }
+
+    /**
+     * Returns the SQL text with runs of whitespace outside of quoted
+     * literals, identifiers and line comments collapsed to a single
+     * space, and leading and trailing whitespace removed.
+     */
+    static String normalizeSql(String sql) {
+        StringBuilder normalized = new StringBuilder(sql.length());
+        char quote = 0;
+        boolean lineComment = false;
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+
+            if (lineComment) {
+                // the line break ends the comment, so is kept as is
+                normalized.append(c);
+                lineComment = c != '\n' && c != '\r';
+                continue;
+            }
+
+            if (quote == 0 && Character.isWhitespace(c)) {
+                // the line break ending a comment already separates tokens
+                pendingSpace = normalized.length() > 0
+                        && !Character.isWhitespace(normalized.charAt(normalized.length() - 1));
+                continue;
+            }
+
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+            normalized.append(c);
+
+            if (quote == 0) {
+                if (c == '\'' || c == '"' || c == '`') {
+                    quote = c;
+                } else if (c == '-' && i + 1 < sql.length() && sql.charAt(i + 1) == '-') {
+                    normalized.append('-');
+                    i++;
+                    lineComment = true;
+                }
+            } else if (c == '\\' && i + 1 < sql.length()) {
+                // escaped character within a quoted literal
+                normalized.append(sql.charAt(++i));
+            } else if (c == quote) {
+                quote = 0;
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Key identifying the result of a query.
+     */
+    public static class Key {
+        private final String sql;
+        private final List<JdbcQueryParam> parameters;
+        private final int fetchSize;
+
+        Key(String sql, List<JdbcQueryParam> parameters, int fetchSize) {
+            this.sql = normalizeSql(sql);
+            // parameters of a prepared statement may be set again after
+            // the query is executed
+            this.parameters = parameters == null ? Collections.emptyList() : new ArrayList<>(parameters);
+            this.fetchSize = fetchSize;
+        }
+
+        public static Key of(JdbcQueryRequest request) {
+            return new Key(request.getQuery(), request.getParameters(), request.getFetchSize());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return fetchSize == key.fetchSize &&
+                    sql.equals(key.sql) &&
+                    parameters.equals(key.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sql, parameters, fetchSize);
+        }
+    }
+
+    /**
+     * A cached query result, served as a {@link QueryResponse} holding
+     * all rows of the result.
+     */
+    public static class CachedResult implements QueryResponse {
+        private final List<? extends ColumnDescriptor> columnDescriptors;
+        private final List<List<Object>> datarows;
+        private final long size;
+        private final long createdNanos;
+
+        CachedResult(List<? extends ColumnDescriptor> columnDescriptors, List<List<Object>> datarows,
+                     long size, long createdNanos) {
+            this.columnDescriptors = columnDescriptors;
+            this.datarows = datarows;
+            this.size = size;
+            this.createdNanos = createdNanos;
+        }
+
+        @Override
+        public List<? extends ColumnDescriptor> getColumnDescriptors() {
+            return columnDescriptors;
+        }
+
+        @Override
+        public List<List<Object>> getDatarows() {
+            return datarows;
+        }
+
+        @Override
+        public long getTotal() {
+            return datarows.size();
+        }
+
+        @Override
+        public long getSize() {
+            return datarows.size();
+        }
+
+        @Override
+        public int getStatus() {
+            return 200;
+        }
+
+        @Override
+        public String getCursor() {
+            return null;
+        }
+
+        @Override
+        public RequestError getError() {
+            return null;
+        }
+    }
+}
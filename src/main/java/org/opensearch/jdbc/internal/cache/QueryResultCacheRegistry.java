@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.internal.cache;
+
+import org.opensearch.jdbc.config.ConnectionConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Driver-wide registry of {@link QueryResultCache} instances.
+ * <p>
+ * Connections to the same endpoint, with the same credentials and with
+ * the same cache settings share a cache, so results are served across
+ * the connections of a DataSource or of separate callers of the Driver.
+ * Results are never shared between connections that may see different
+ * data, such as connections authenticated as different users, nor with
+ * connections whose credentials the server has not accepted for the
+ * results cached.
+ */
+public class QueryResultCacheRegistry {
+
+    public static final QueryResultCacheRegistry INSTANCE = new QueryResultCacheRegistry();
+
+    private final Map<CacheKey, QueryResultCache> caches = new HashMap<>();
+
+    QueryResultCacheRegistry() {
+
+    }
+
+    /**
+     * Returns the cache for the specified configuration, creating it if
+     * none exists.
+     */
+    public synchronized QueryResultCache getCache(ConnectionConfig connectionConfig) {
+        return caches.computeIfAbsent(new CacheKey(connectionConfig), (key) -> new QueryResultCache(
+                connectionConfig.getResultCacheTtl() * 1000L,
+                connectionConfig.getResultCacheMaxMemory() * 1024L * 1024L));
+    }
+
+    /**
+     * Removes all cached results from all caches.
+     */
+    public synchronized void clearAll() {
+        for (QueryResultCache cache : caches.values()) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Identifies the connection configuration values that determine the
+     * results a connection sees, and the cache settings. The password is
+     * part of the key, as a digest, since a cache hit is served without
+     * contacting the server that would otherwise verify it.
+     */
+    static class CacheKey {
+        private final Object[] values;
+        private final int hashCode;
+
+        CacheKey(ConnectionConfig config) {
+            this.values = new Object[]{
+                    config.isUseSSL(),
+                    config.getHost(),
+                    config.getPort(),
+                    config.getPath(),
+                    config.getAuthenticationType(),
+                    config.getUser(),
+                    digest(config.getPassword()),
+                    config.getRegion(),
+                    config.getAwsCredentialsProvider(),
+                    config.getResultCacheTtl(),
+                    config.getResultCacheMaxMemory()
+            };
+            this.hashCode = Arrays.hashCode(values);
+        }
+
+        private static String digest(String password) {
+            if (password == null) {
+                return null;
+            }
+            try {
+                MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+                return Base64.getEncoder().encodeToString(
+                        messageDigest.digest(password.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException ex) {
+                // every Java platform supports SHA-256
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CacheKey)) return false;
+            return Arrays.equals(values, ((CacheKey) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.internal.cache;
+
+import org.opensearch.jdbc.protocol.ColumnDescriptor;
+import org.opensearch.jdbc.protocol.DatarowConsumer;
+import org.opensearch.jdbc.protocol.DatarowReader;
+import org.opensearch.jdbc.protocol.QueryResponse;
+import org.opensearch.jdbc.protocol.RequestError;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A {@link QueryResponse} recording the data rows of another response as
+ * they are read, and caching them once they have all been read if the
+ * response holds no cursor.
+ * <p>
+ * Recording stops once the rows exceed the memory budget of the cache, or
+ * the response is closed before its rows have all been read.
+ */
+class RecordingQueryResponse implements QueryResponse {
+
+    private final QueryResultCache cache;
+    private final QueryResultCache.Key key;
+    private final QueryResponse delegate;
+    private List<List<Object>> recordedRows = new ArrayList<>();
+    private long recordedBytes;
+
+    RecordingQueryResponse(QueryResultCache cache, QueryResultCache.Key key, QueryResponse delegate) {
+        this.cache = cache;
+        this.key = key;
+        this.delegate = delegate;
+        this.recordedBytes = QueryResultCache.estimateKeySize(key);
+    }
+
+    @Override
+    public List<? extends ColumnDescriptor> getColumnDescriptors() {
+        return delegate.getColumnDescriptors();
+    }
+
+    @Override
+    public List<List<Object>> getDatarows() {
+        List<List<Object>> datarows = delegate.getDatarows();
+        datarows.forEach(this::record);
+        allRowsRead();
+        return datarows;
+    }
+
+    @Override
+    public Iterator<List<Object>> getDatarowIterator() {
+        Iterator<List<Object>> datarows = delegate.getDatarowIterator();
+        return new Iterator<List<Object>>() {
+            @Override
+            public boolean hasNext() {
+                if (datarows.hasNext()) {
+                    return true;
+                }
+                allRowsRead();
+                return false;
+            }
+
+            @Override
+            public List<Object> next() {
+                List<Object> row = datarows.next();
+                record(row);
+                return row;
+            }
+        };
+    }
+
+    @Override
+    public DatarowReader getDatarowReader() {
+        DatarowReader datarows = delegate.getDatarowReader();
+        return (consumer, maxRows) -> {
+            int rowCount = datarows.read(recordedRows != null ? new RecordingConsumer(consumer) : consumer, maxRows);
+            if (rowCount == 0) {
+                allRowsRead();
+            }
+            return rowCount;
+        };
+    }
+
+    @Override
+    public long getTotal() {
+        return delegate.getTotal();
+    }
+
+    @Override
+    public long getSize() {
+        return delegate.getSize();
+    }
+
+    @Override
+    public int getStatus() {
+        return delegate.getStatus();
+    }
+
+    @Override
+    public String getCursor() {
+        return delegate.getCursor();
+    }
+
+    @Override
+    public String getReceivedCursor() {
+        return delegate.getReceivedCursor();
+    }
+
+    @Override
+    public RequestError getError() {
+        return delegate.getError();
+    }
+
+    @Override
+    public long getResponseBytes() {
+        return delegate.getResponseBytes();
+    }
+
+    @Override
+    public String getNode() {
+        return delegate.getNode();
+    }
+
+    @Override
+    public void close() throws IOException {
+        recordedRows = null;
+        delegate.close();
+    }
+
+    private void record(List<Object> row) {
+        if (recordedRows == null) {
+            return;
+        }
+
+        recordedBytes += QueryResultCache.estimateRowSize(row);
+        if (recordedBytes > cache.getMaxBytes()) {
+            // too large to be cached
+            recordedRows = null;
+        } else {
+            recordedRows.add(row);
+        }
+    }
+
+    private void allRowsRead() {
+        if (recordedRows == null) {
+            return;
+        }
+        List<List<Object>> datarows = recordedRows;
+        recordedRows = null;
+
+        try {
+            if (delegate.getCursor() == null) {
+                cache.put(key, delegate.getColumnDescriptors(), datarows, recordedBytes);
+            }
+        } catch (UncheckedIOException ex) {
+            // not cached, the reader of the response is told of the error
+            // when it asks for the cursor
+        }
+    }
+
+    /**
+     * Passes the column values on to the consumer reading the response,
+     * and records them as a row.
+     */
+    private class RecordingConsumer implements DatarowConsumer {
+        private final DatarowConsumer consumer;
+        private final List<Object> row = new ArrayList<>();
+
+        RecordingConsumer(DatarowConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void acceptNull(int column) {
+            consumer.acceptNull(column);
+            set(column, null);
+        }
+
+        @Override
+        public void acceptInt(int column, int value) {
+            consumer.acceptInt(column, value);
+            set(column, value);
+        }
+
+        @Override
+        public void acceptLong(int column, long value) {
+            consumer.acceptLong(column, value);
+            set(column, value);
+        }
+
+        @Override
+        public void acceptDouble(int column, double value) {
+            consumer.acceptDouble(column, value);
+            set(column, value);
+        }
+
+        @Override
+        public void acceptBoolean(int column, boolean value) {
+            consumer.acceptBoolean(column, value);
+            set(column, value);
+        }
+
+        @Override
+        public void acceptString(int column, String value) {
+            consumer.acceptString(column, value);
+            set(column, value);
+        }
+
+        @Override
+        public void acceptObject(int column, Object value) {
+            consumer.acceptObject(column, value);
+            set(column, value);
+        }
+
+        @Override
+        public void endRow() {
+            consumer.endRow();
+            record(Arrays.asList(row.toArray()));
+            row.clear();
+        }
+
+        private void set(int column, Object value) {
+            while (row.size() <= column) {
+                row.add(null);
+            }
+            row.set(column, value);
+        }
+    }
+}
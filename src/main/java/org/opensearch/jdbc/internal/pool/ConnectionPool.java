@@ -0,0 +1,380 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.internal.pool;
+
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+import javax.sql.ConnectionPoolDataSource;
+import javax.sql.PooledConnection;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Lightweight pool of the {@link PooledConnection}s of a
+ * {@link ConnectionPoolDataSource}.
+ * <p>
+ * Idle connections are handed out most recently used first, after
+ * checking that they have not exceeded their maximum lifetime and that
+ * {@link Connection#isValid(int)} holds. Connections are returned to
+ * the pool when the handle given out is closed, and removed from it
+ * when they report a connection error. Once connections are handed
+ * out, the pool keeps at least the configured number of idle
+ * connections, opening new ones in the background.
+ */
+public class ConnectionPool implements ConnectionEventListener, AutoCloseable {
+
+    private static final ExecutorService FILL_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "opensearch-jdbc-connection-pool");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ConnectionPoolDataSource dataSource;
+    private final int minIdle;
+    private final int maxSize;
+    private final long maxLifetimeNanos;
+    private final int validationTimeout;
+    private final long acquireTimeoutNanos;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final Deque<PoolEntry> idle = new ArrayDeque<>();
+    private final Map<PooledConnection, PoolEntry> entries = new IdentityHashMap<>();
+    private int pending = 0;
+    private boolean closed = false;
+
+    /**
+     * @param minIdle number of idle connections kept ready
+     * @param maxSize maximum number of open connections
+     * @param maxLifetimeMillis time in milliseconds after which a
+     *         connection is closed rather than handed out again, 0 for
+     *         no limit
+     * @param validationTimeout timeout in seconds for the validation of
+     *         an idle connection before it is handed out
+     * @param acquireTimeoutMillis time in milliseconds to wait for a
+     *         connection when all connections are in use
+     */
+    public ConnectionPool(ConnectionPoolDataSource dataSource, int minIdle, int maxSize, long maxLifetimeMillis,
+                          int validationTimeout, long acquireTimeoutMillis) {
+        this(dataSource, minIdle, maxSize, maxLifetimeMillis, validationTimeout, acquireTimeoutMillis,
+                System::nanoTime);
+    }
+
+    ConnectionPool(ConnectionPoolDataSource dataSource, int minIdle, int maxSize, long maxLifetimeMillis,
+                   int validationTimeout, long acquireTimeoutMillis, LongSupplier nanoClock) {
+        this.dataSource = dataSource;
+        this.minIdle = Math.min(minIdle, maxSize);
+        this.maxSize = maxSize;
+        this.maxLifetimeNanos = TimeUnit.MILLISECONDS.toNanos(maxLifetimeMillis);
+        this.validationTimeout = validationTimeout;
+        this.acquireTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMillis);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns a handle for an idle or a newly opened connection, waiting
+     * for a connection to be returned if the pool is at its maximum size.
+     *
+     * @throws SQLTransientConnectionException if no connection becomes
+     *         available within the acquire timeout
+     */
+    public Connection getConnection() throws SQLException {
+        final long deadline = nanoClock.getAsLong() + acquireTimeoutNanos;
+
+        while (true) {
+            PoolEntry entry = acquire(deadline);
+
+            if (entry == null) {
+                entry = open();
+            } else if (isExpired(entry)) {
+                discard(entry);
+                continue;
+            }
+
+            Connection connection;
+            try {
+                connection = entry.pooledConnection.getConnection();
+                if (entry.handedOut && !connection.isValid(validationTimeout)) {
+                    discard(entry);
+                    continue;
+                }
+            } catch (SQLException ex) {
+                discard(entry);
+                if (!entry.handedOut) {
+                    throw ex;
+                }
+                continue;
+            }
+
+            entry.handedOut = true;
+            fill();
+            return connection;
+        }
+    }
+
+    /**
+     * Takes an idle connection, or reserves room for a new connection.
+     *
+     * @return the idle connection, or null if a new connection is to be
+     *         opened
+     */
+    private PoolEntry acquire(long deadline) throws SQLException {
+        lock.lock();
+        try {
+            while (true) {
+                checkOpen();
+
+                PoolEntry entry = idle.pollFirst();
+                if (entry != null) {
+                    return entry;
+                }
+
+                if (entries.size() + pending < maxSize) {
+                    pending++;
+                    return null;
+                }
+
+                long remaining = deadline - nanoClock.getAsLong();
+                if (remaining <= 0) {
+                    throw new SQLTransientConnectionException(String.format(
+                            "Timed out waiting for a connection, all %d pooled connections are in use.", maxSize));
+                }
+                available.awaitNanos(remaining);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted waiting for a connection.", ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Opens a connection for which room was reserved.
+     */
+    private PoolEntry open() throws SQLException {
+        PooledConnection pooledConnection;
+        try {
+            pooledConnection = dataSource.getPooledConnection();
+        } catch (SQLException | RuntimeException ex) {
+            lock.lock();
+            try {
+                pending--;
+                available.signal();
+            } finally {
+                lock.unlock();
+            }
+            throw ex;
+        }
+
+        PoolEntry entry = new PoolEntry(pooledConnection, nanoClock.getAsLong());
+        boolean added;
+
+        lock.lock();
+        try {
+            pending--;
+            added = !closed;
+            if (added) {
+                entries.put(pooledConnection, entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (!added) {
+            closeQuietly(pooledConnection);
+            throw new SQLNonTransientConnectionException("Connection pool is closed.");
+        }
+        pooledConnection.addConnectionEventListener(this);
+        return entry;
+    }
+
+    /**
+     * Opens connections in the background until the minimum number of
+     * idle connections is reached.
+     */
+    private void fill() {
+        lock.lock();
+        try {
+            int missing = Math.min(minIdle - idle.size() - pending, maxSize - entries.size() - pending);
+            for (int i = 0; i < missing; i++) {
+                pending++;
+                FILL_EXECUTOR.execute(this::openIdle);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void openIdle() {
+        try {
+            release(open());
+        } catch (SQLException ex) {
+            // the next caller opens a connection of its own
+        }
+    }
+
+    @Override
+    public void connectionClosed(ConnectionEvent event) {
+        PoolEntry entry;
+
+        lock.lock();
+        try {
+            entry = entries.get((PooledConnection) event.getSource());
+        } finally {
+            lock.unlock();
+        }
+
+        if (entry != null) {
+            release(entry);
+        }
+    }
+
+    @Override
+    public void connectionErrorOccurred(ConnectionEvent event) {
+        PoolEntry entry;
+
+        lock.lock();
+        try {
+            entry = entries.get((PooledConnection) event.getSource());
+        } finally {
+            lock.unlock();
+        }
+
+        if (entry != null) {
+            discard(entry);
+        }
+    }
+
+    /**
+     * Returns a connection to the idle connections, unless it has expired
+     * or the pool is closed.
+     */
+    private void release(PoolEntry entry) {
+        if (isExpired(entry)) {
+            discard(entry);
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (!closed && entries.get(entry.pooledConnection) == entry) {
+                idle.addFirst(entry);
+                available.signal();
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        discard(entry);
+    }
+
+    private void discard(PoolEntry entry) {
+        lock.lock();
+        try {
+            entries.remove(entry.pooledConnection);
+            idle.remove(entry);
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        entry.pooledConnection.removeConnectionEventListener(this);
+        closeQuietly(entry.pooledConnection);
+    }
+
+    private boolean isExpired(PoolEntry entry) {
+        return maxLifetimeNanos > 0 && nanoClock.getAsLong() - entry.createdNanos >= maxLifetimeNanos;
+    }
+
+    private void checkOpen() throws SQLException {
+        if (closed) {
+            throw new SQLNonTransientConnectionException("Connection pool is closed.");
+        }
+    }
+
+    /**
+     * @return number of idle connections
+     */
+    public int getIdleCount() {
+        lock.lock();
+        try {
+            return idle.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return number of open connections, idle or in use
+     */
+    public int getSize() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the idle connections. Connections in use are closed when
+     * they are returned.
+     */
+    @Override
+    public void close() {
+        List<PoolEntry> idleEntries;
+
+        lock.lock();
+        try {
+            closed = true;
+            idleEntries = new ArrayList<>(idle);
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        for (PoolEntry entry : idleEntries) {
+            discard(entry);
+        }
+    }
+
+    private static void closeQuietly(PooledConnection pooledConnection) {
+        try {
+            pooledConnection.close();
+        } catch (SQLException ex) {
+            // ignore
+        }
+    }
+
+    private static class PoolEntry {
+        private final PooledConnection pooledConnection;
+        private final long createdNanos;
+        // connections are validated from their second use on
+        private volatile boolean handedOut = false;
+
+        PoolEntry(PooledConnection pooledConnection, long createdNanos) {
+            this.pooledConnection = pooledConnection;
+            this.createdNanos = createdNanos;
+        }
+    }
+}
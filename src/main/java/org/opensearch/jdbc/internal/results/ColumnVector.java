@@ -0,0 +1,470 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.internal.results;
+
+import org.opensearch.jdbc.types.OpenSearchType;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Storage for the values of one column of a {@link Page}.
+ * <p>
+ * Numeric and boolean columns keep their values in primitive arrays with
+ * a separate null bitmap, string columns in a String array. A vector
+ * rejects values it can not store without changing their type - such
+ * as an integral value in a floating point column - so that the
+ * {@link Page} can fall back to an {@link ObjectVector} for the column
+ * and values are returned exactly as received.
+ */
+public abstract class ColumnVector {
+
+    /**
+     * Keyword columns commonly hold few distinct values, which are
+     * stored once per page up to this many distinct values.
+     */
+    static final int MAX_DICTIONARY_SIZE = 1024;
+
+    protected int size;
+
+    /**
+     * Returns a vector suited to values of the specified type.
+     */
+    public static ColumnVector forType(OpenSearchType type, int capacity) {
+        switch (type) {
+            case BYTE:
+            case SHORT:
+            case INTEGER:
+                return new IntVector(capacity);
+            case LONG:
+                return new LongVector(capacity);
+            case HALF_FLOAT:
+            case FLOAT:
+            case DOUBLE:
+            case SCALED_FLOAT:
+                return new DoubleVector(capacity);
+            case BOOLEAN:
+                return new BooleanVector(capacity);
+            case KEYWORD:
+            case IP:
+                return new StringVector(capacity, true);
+            case TEXT:
+            case STRING:
+            case DATE:
+            case TIME:
+            case DATETIME:
+            case TIMESTAMP:
+            case BINARY:
+                return new StringVector(capacity, false);
+            default:
+                return new ObjectVector(capacity);
+        }
+    }
+
+    /**
+     * @return number of values in the vector
+     */
+    public int size() {
+        return size;
+    }
+
+    public abstract boolean isNull(int row);
+
+    /**
+     * Returns the value at the specified row boxed in the type it was
+     * received as, or null.
+     */
+    public abstract Object getObject(int row);
+
+    public abstract void appendNull();
+
+    /**
+     * @return false if the vector does not store int values
+     */
+    public boolean appendInt(int value) {
+        return false;
+    }
+
+    /**
+     * @return false if the vector does not store long values
+     */
+    public boolean appendLong(long value) {
+        return false;
+    }
+
+    /**
+     * @return false if the vector does not store double values
+     */
+    public boolean appendDouble(double value) {
+        return false;
+    }
+
+    /**
+     * @return false if the vector does not store boolean values
+     */
+    public boolean appendBoolean(boolean value) {
+        return false;
+    }
+
+    /**
+     * @return false if the vector does not store String values
+     */
+    public boolean appendString(String value) {
+        return false;
+    }
+
+    /**
+     * Removes all values, retaining the allocated storage.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Base for vectors of primitive values, tracking nulls in a bitmap.
+     */
+    abstract static class PrimitiveVector extends ColumnVector {
+        private long[] nulls;
+
+        PrimitiveVector(int capacity) {
+            nulls = new long[bitmapLength(capacity)];
+        }
+
+        @Override
+        public boolean isNull(int row) {
+            return (nulls[row >>> 6] & (1L << row)) != 0;
+        }
+
+        @Override
+        public void appendNull() {
+            ensureCapacity(size + 1);
+            nulls[size >>> 6] |= 1L << size;
+            size++;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(nulls, 0, bitmapLength(size), 0L);
+            super.clear();
+        }
+
+        /**
+         * Reserves space for the next value and returns its row.
+         */
+        int nextRow() {
+            ensureCapacity(size + 1);
+            return size++;
+        }
+
+        void ensureCapacity(int capacity) {
+            if (capacity > capacity()) {
+                int newCapacity = Math.max(capacity, capacity() * 2);
+                grow(newCapacity);
+                nulls = Arrays.copyOf(nulls, Math.max(nulls.length, bitmapLength(newCapacity)));
+            }
+        }
+
+        abstract int capacity();
+
+        abstract void grow(int capacity);
+
+        private static int bitmapLength(int capacity) {
+            return (capacity + 63) >>> 6;
+        }
+    }
+
+    public static class IntVector extends PrimitiveVector {
+        private int[] values;
+
+        IntVector(int capacity) {
+            super(capacity);
+            values = new int[capacity];
+        }
+
+        public int getInt(int row) {
+            return values[row];
+        }
+
+        @Override
+        public Object getObject(int row) {
+            return isNull(row) ? null : values[row];
+        }
+
+        @Override
+        public boolean appendInt(int value) {
+            int row = nextRow();
+            values[row] = value;
+            return true;
+        }
+
+        @Override
+        int capacity() {
+            return values.length;
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    public static class LongVector extends PrimitiveVector {
+        private long[] values;
+
+        LongVector(int capacity) {
+            super(capacity);
+            values = new long[capacity];
+        }
+
+        public long getLong(int row) {
+            return values[row];
+        }
+
+        @Override
+        public Object getObject(int row) {
+            return isNull(row) ? null : values[row];
+        }
+
+        @Override
+        public boolean appendInt(int value) {
+            return appendLong(value);
+        }
+
+        @Override
+        public boolean appendLong(long value) {
+            int row = nextRow();
+            values[row] = value;
+            return true;
+        }
+
+        @Override
+        int capacity() {
+            return values.length;
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    public static class DoubleVector extends PrimitiveVector {
+        private double[] values;
+
+        DoubleVector(int capacity) {
+            super(capacity);
+            values = new double[capacity];
+        }
+
+        public double getDouble(int row) {
+            return values[row];
+        }
+
+        @Override
+        public Object getObject(int row) {
+            return isNull(row) ? null : values[row];
+        }
+
+        @Override
+        public boolean appendDouble(double value) {
+            int row = nextRow();
+            values[row] = value;
+            return true;
+        }
+
+        @Override
+        int capacity() {
+            return values.length;
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    public static class BooleanVector extends PrimitiveVector {
+        private boolean[] values;
+
+        BooleanVector(int capacity) {
+            super(capacity);
+            values = new boolean[capacity];
+        }
+
+        public boolean getBoolean(int row) {
+            return values[row];
+        }
+
+        @Override
+        public Object getObject(int row) {
+            return isNull(row) ? null : values[row];
+        }
+
+        @Override
+        public boolean appendBoolean(boolean value) {
+            int row = nextRow();
+            values[row] = value;
+            return true;
+        }
+
+        @Override
+        int capacity() {
+            return values.length;
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    public static class StringVector extends ColumnVector {
+        private String[] values;
+        private final Map<String, String> dictionary;
+
+        StringVector(int capacity, boolean dictionaryEncoded) {
+            values = new String[capacity];
+            dictionary = dictionaryEncoded ? new HashMap<>() : null;
+        }
+
+        public String getString(int row) {
+            return values[row];
+        }
+
+        @Override
+        public boolean isNull(int row) {
+            return values[row] == null;
+        }
+
+        @Override
+        public Object getObject(int row) {
+            return values[row];
+        }
+
+        @Override
+        public void appendNull() {
+            ensureCapacity(size + 1);
+            values[size++] = null;
+        }
+
+        @Override
+        public boolean appendString(String value) {
+            ensureCapacity(size + 1);
+            values[size++] = dictionary != null ? encode(value) : value;
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(values, 0, size, null);
+            if (dictionary != null) {
+                dictionary.clear();
+            }
+            super.clear();
+        }
+
+        private String encode(String value) {
+            String encoded = dictionary.get(value);
+            if (encoded != null) {
+                return encoded;
+            }
+            if (dictionary.size() < MAX_DICTIONARY_SIZE) {
+                dictionary.put(value, value);
+            }
+            return value;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > values.length) {
+                values = Arrays.copyOf(values, Math.max(capacity, values.length * 2));
+            }
+        }
+    }
+
+    /**
+     * Stores values of any type as Objects. Used for columns with
+     * structured values and for columns with values a typed vector
+     * does not store.
+     */
+    public static class ObjectVector extends ColumnVector {
+        private Object[] values;
+
+        ObjectVector(int capacity) {
+            values = new Object[capacity];
+        }
+
+        /**
+         * Returns an ObjectVector holding the values of another vector.
+         */
+        static ObjectVector copyOf(ColumnVector vector, int capacity) {
+            ObjectVector copy = new ObjectVector(Math.max(capacity, vector.size()));
+            for (int row = 0; row < vector.size(); row++) {
+                copy.appendObject(vector.getObject(row));
+            }
+            return copy;
+        }
+
+        @Override
+        public boolean isNull(int row) {
+            return values[row] == null;
+        }
+
+        @Override
+        public Object getObject(int row) {
+            return values[row];
+        }
+
+        @Override
+        public void appendNull() {
+            appendObject(null);
+        }
+
+        @Override
+        public boolean appendInt(int value) {
+            appendObject(value);
+            return true;
+        }
+
+        @Override
+        public boolean appendLong(long value) {
+            appendObject(value);
+            return true;
+        }
+
+        @Override
+        public boolean appendDouble(double value) {
+            appendObject(value);
+            return true;
+        }
+
+        @Override
+        public boolean appendBoolean(boolean value) {
+            appendObject(value);
+            return true;
+        }
+
+        @Override
+        public boolean appendString(String value) {
+            appendObject(value);
+            return true;
+        }
+
+        public void appendObject(Object value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(1, values.length * 2));
+            }
+            values[size++] = value;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(values, 0, size, null);
+            super.clear();
+        }
+    }
+}
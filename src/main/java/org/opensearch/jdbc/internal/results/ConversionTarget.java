@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.internal.results;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A Java class the ResultSet getters return column values as.
+ * <p>
+ * Each target has a fixed ordinal, so that the converters a
+ * {@link Schema} resolves for a target are found by index rather
+ * than by a lookup of the class.
+ *
+ * @param <T> the Java class values are converted to
+ */
+public final class ConversionTarget<T> {
+
+    private static final Map<Class<?>, ConversionTarget<?>> targetsByClass = new HashMap<>();
+    private static int count = 0;
+
+    /**
+     * The default Java class of the column's JDBCType.
+     */
+    public static final ConversionTarget<Object> DEFAULT = new ConversionTarget<>(null);
+
+    public static final ConversionTarget<String> STRING = new ConversionTarget<>(String.class);
+    public static final ConversionTarget<Boolean> BOOLEAN = new ConversionTarget<>(Boolean.class);
+    public static final ConversionTarget<Byte> BYTE = new ConversionTarget<>(Byte.class);
+    public static final ConversionTarget<Short> SHORT = new ConversionTarget<>(Short.class);
+    public static final ConversionTarget<Integer> INTEGER = new ConversionTarget<>(Integer.class);
+    public static final ConversionTarget<Long> LONG = new ConversionTarget<>(Long.class);
+    public static final ConversionTarget<Float> FLOAT = new ConversionTarget<>(Float.class);
+    public static final ConversionTarget<Double> DOUBLE = new ConversionTarget<>(Double.class);
+    public static final ConversionTarget<byte[]> BYTES = new ConversionTarget<>(byte[].class);
+    public static final ConversionTarget<Date> DATE = new ConversionTarget<>(Date.class);
+    public static final ConversionTarget<Time> TIME = new ConversionTarget<>(Time.class);
+    public static final ConversionTarget<Timestamp> TIMESTAMP = new ConversionTarget<>(Timestamp.class);
+    public static final ConversionTarget<Instant> INSTANT = new ConversionTarget<>(Instant.class);
+    public static final ConversionTarget<OffsetDateTime> OFFSET_DATE_TIME = new ConversionTarget<>(OffsetDateTime.class);
+    public static final ConversionTarget<LocalDateTime> LOCAL_DATE_TIME = new ConversionTarget<>(LocalDateTime.class);
+    public static final ConversionTarget<LocalDate> LOCAL_DATE = new ConversionTarget<>(LocalDate.class);
+
+    private final int ordinal;
+    private final Class<T> javaClass;
+
+    private ConversionTarget(Class<T> javaClass) {
+        this.ordinal = count++;
+        this.javaClass = javaClass;
+        targetsByClass.put(javaClass, this);
+    }
+
+    /**
+     * Returns the target for a Java class.
+     *
+     * @param javaClass the Java class, or null for the default class
+     *
+     * @return the target for the class, or null if values are not
+     *         commonly converted to the class
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ConversionTarget<T> of(Class<T> javaClass) {
+        return (ConversionTarget<T>) targetsByClass.get(javaClass);
+    }
+
+    static int count() {
+        return count;
+    }
+
+    int ordinal() {
+        return ordinal;
+    }
+
+    public Class<T> getJavaClass() {
+        return javaClass;
+    }
+}
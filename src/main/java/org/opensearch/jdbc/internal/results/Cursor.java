@@ -7,19 +7,45 @@
 package org.opensearch.jdbc.internal.results;
 
 
+import org.opensearch.jdbc.protocol.DatarowReader;
+
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 public class Cursor {
+
+    /**
+     * Number of rows read into the {@link Page} at a time
+     */
+    public static final int DEFAULT_PAGE_ROWS = 1024;
+
+    private static final int INITIAL_PAGE_CAPACITY = 64;
+
     private Schema schema;
-    private List<Row> rows;
+    private DatarowReader rows;
+    private Page page;
+    private int pageRows;
     private int currentRow = -1;
     private Map<String, Integer> labelToIndexMap;
 
-     public Cursor(Schema schema, List<Row> rows) {
+     public Cursor(Schema schema, List<List<Object>> rows) {
+         this(schema, DatarowReader.of(rows.iterator()));
+     }
+
+    /**
+     * Creates a Cursor over rows that are read as the cursor advances,
+     * such as rows decoded from a response still being received.
+     */
+     public Cursor(Schema schema, DatarowReader rows) {
+         this(schema, rows, DEFAULT_PAGE_ROWS);
+     }
+
+     public Cursor(Schema schema, DatarowReader rows, int pageRows) {
          this.schema = schema;
          this.rows = rows;
+         this.pageRows = pageRows;
+         this.page = new Page(schema, Math.min(pageRows, INITIAL_PAGE_CAPACITY));
          initLabelToIndexMap();
      }
 
@@ -28,9 +54,29 @@ public class Cursor {
     }
 
     public Object getColumn(int index) {
-        if (index < 0 || index >= getColumnCount())
-            throw new IllegalArgumentException("Column Index out of range: " + index);
-        return rows.get(currentRow).get(index);
+        checkColumnIndex(index);
+        return page.getObject(currentRow, index);
+    }
+
+    public boolean isNull(int index) {
+        checkColumnIndex(index);
+        return page.isNull(currentRow, index);
+    }
+
+    /**
+     * Returns the storage for a column of the current {@link Page}, for
+     * reading values of the current row without boxing them.
+     */
+    public ColumnVector getColumnVector(int index) {
+        checkColumnIndex(index);
+        return page.getColumn(index);
+    }
+
+    /**
+     * @return the row of the current {@link Page} the cursor is positioned on
+     */
+    public int getPageRow() {
+        return currentRow;
     }
 
     public int getColumnCount() {
@@ -38,10 +84,23 @@ public class Cursor {
     }
 
     public boolean next() {
-        if (currentRow < rows.size() - 1) {
+        if (currentRow < page.getRowCount() - 1) {
             currentRow++;
             return true;
+        }
+
+        if (rows == null) {
+            return false;
+        }
+
+        page.clear();
+        currentRow = -1;
+
+        if (rows.read(page, pageRows) > 0) {
+            currentRow = 0;
+            return true;
         } else {
+            rows = null;
             return false;
         }
     }
@@ -50,6 +109,13 @@ public class Cursor {
          return labelToIndexMap.get(label);
     }
 
+    private void checkColumnIndex(int index) {
+        if (index < 0 || index >= getColumnCount())
+            throw new IllegalArgumentException("Column Index out of range: " + index);
+        if (currentRow < 0)
+            throw new IllegalStateException("Cursor is not positioned on a row");
+    }
+
     private void initLabelToIndexMap() {
         labelToIndexMap = new HashMap<>();
         for (int i=0; i < schema.getNumberOfColumns(); i++) {
@@ -0,0 +1,130 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.internal.results;
+
+import org.opensearch.jdbc.protocol.DatarowConsumer;
+
+/**
+ * A batch of result rows stored column by column, with the storage for
+ * each column chosen based on its type in the {@link Schema}.
+ * <p>
+ * A Page is filled by passing it to a
+ * {@link org.opensearch.jdbc.protocol.DatarowReader} and can be
+ * {@link #clear() cleared} and filled again, reusing its storage.
+ */
+public class Page implements DatarowConsumer {
+    private final ColumnVector[] columns;
+    private final int capacity;
+    private int rowCount;
+
+    public Page(Schema schema, int capacity) {
+        this.capacity = capacity;
+        this.columns = new ColumnVector[schema.getNumberOfColumns()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = ColumnVector.forType(schema.getOpenSearchType(i), capacity);
+        }
+    }
+
+    /**
+     * @return number of rows in the page
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public ColumnVector getColumn(int column) {
+        return columns[column];
+    }
+
+    public boolean isNull(int row, int column) {
+        return columns[column].isNull(row);
+    }
+
+    public Object getObject(int row, int column) {
+        return columns[column].getObject(row);
+    }
+
+    public void clear() {
+        for (ColumnVector column : columns) {
+            column.clear();
+        }
+        rowCount = 0;
+    }
+
+    @Override
+    public void acceptNull(int column) {
+        if (column < columns.length) {
+            columns[column].appendNull();
+        }
+    }
+
+    @Override
+    public void acceptInt(int column, int value) {
+        if (column < columns.length && !columns[column].appendInt(value)) {
+            toObjectVector(column).appendObject(value);
+        }
+    }
+
+    @Override
+    public void acceptLong(int column, long value) {
+        if (column < columns.length && !columns[column].appendLong(value)) {
+            toObjectVector(column).appendObject(value);
+        }
+    }
+
+    @Override
+    public void acceptDouble(int column, double value) {
+        if (column < columns.length && !columns[column].appendDouble(value)) {
+            toObjectVector(column).appendObject(value);
+        }
+    }
+
+    @Override
+    public void acceptBoolean(int column, boolean value) {
+        if (column < columns.length && !columns[column].appendBoolean(value)) {
+            toObjectVector(column).appendObject(value);
+        }
+    }
+
+    @Override
+    public void acceptString(int column, String value) {
+        if (column < columns.length && !columns[column].appendString(value)) {
+            toObjectVector(column).appendObject(value);
+        }
+    }
+
+    @Override
+    public void acceptObject(int column, Object value) {
+        if (column < columns.length) {
+            toObjectVector(column).appendObject(value);
+        }
+    }
+
+    @Override
+    public void endRow() {
+        rowCount++;
+
+        // rows with fewer values than the schema has columns
+        for (ColumnVector column : columns) {
+            while (column.size() < rowCount) {
+                column.appendNull();
+            }
+        }
+    }
+
+    /**
+     * Replaces the storage for a column with an {@link ColumnVector.ObjectVector}
+     * when it receives a value its typed storage does not hold. The
+     * column keeps the ObjectVector once the page is cleared.
+     */
+    private ColumnVector.ObjectVector toObjectVector(int column) {
+        if (!(columns[column] instanceof ColumnVector.ObjectVector)) {
+            columns[column] = ColumnVector.ObjectVector.copyOf(columns[column], capacity);
+        }
+        return (ColumnVector.ObjectVector) columns[column];
+    }
+}
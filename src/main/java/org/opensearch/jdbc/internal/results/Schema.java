@@ -7,7 +7,11 @@
 package org.opensearch.jdbc.internal.results;
 
 import org.opensearch.jdbc.types.OpenSearchType;
+import org.opensearch.jdbc.types.TypeConverter;
+import org.opensearch.jdbc.types.TypeConverters;
+import org.opensearch.jdbc.types.ValueConverter;
 
+import java.sql.SQLException;
 import java.util.List;
 
 /**
@@ -17,6 +21,10 @@ public class Schema {
     private final List<ColumnMetaData> columnMetaDataList;
     private final int numberOfColumns;
 
+    // converters of the values of each column, by conversion target,
+    // resolved the first time values are converted to the target
+    private final ValueConverter<?>[][] valueConverters = new ValueConverter<?>[ConversionTarget.count()][];
+
     public Schema(List<ColumnMetaData> columnMetaDataList) {
         this.columnMetaDataList = columnMetaDataList;
         this.numberOfColumns = columnMetaDataList != null ? columnMetaDataList.size() : 0;
@@ -51,4 +59,38 @@ public class Schema {
     public OpenSearchType getOpenSearchType(int index) {
         return columnMetaDataList.get(index).getOpenSearchType();
     }
+
+    /**
+     * Returns the converter of the values of a specific column in the
+     * result to the Java class of a conversion target.
+     *
+     * @param index the index of the column to return the converter for
+     * @param target the conversion target
+     *
+     * @return {@link ValueConverter} for the specified column and target
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ValueConverter<T> getValueConverter(int index, ConversionTarget<T> target) {
+        ValueConverter<?>[] columnConverters = valueConverters[target.ordinal()];
+
+        if (columnConverters == null) {
+            columnConverters = new ValueConverter<?>[numberOfColumns];
+            for (int i = 0; i < numberOfColumns; i++) {
+                columnConverters[i] = resolveValueConverter(getOpenSearchType(i), target.getJavaClass());
+            }
+            valueConverters[target.ordinal()] = columnConverters;
+        }
+        return (ValueConverter<T>) columnConverters[index];
+    }
+
+    private static <T> ValueConverter<T> resolveValueConverter(OpenSearchType openSearchType, Class<T> javaClass) {
+        final TypeConverter tc = TypeConverters.getInstance(openSearchType.getJdbcType());
+
+        if (tc == null) {
+            return (value, conversionParams) -> {
+                throw new SQLException("Conversion from " + openSearchType + " not supported.");
+            };
+        }
+        return tc.getValueConverter(javaClass);
+    }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.internal.util;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timer shared by all statements to enforce query timeouts.
+ * <p>
+ * A single daemon thread runs the timeout tasks, which only abort the
+ * requests of the timed out statements and do not block.
+ */
+public class QueryTimer {
+
+    public static final QueryTimer INSTANCE = new QueryTimer();
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    private QueryTimer() {
+        executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "opensearch-jdbc-query-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // statements mostly complete within their timeout
+        executor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Runs the task once the timeout elapses, unless the returned
+     * future is cancelled before that.
+     */
+    public ScheduledFuture<?> schedule(Runnable task, long timeoutMillis) {
+        return executor.schedule(task, timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+}
@@ -8,6 +8,7 @@ package org.opensearch.jdbc.internal.util;
 
 import org.opensearch.jdbc.config.ConnectionProperty;
 import org.opensearch.jdbc.config.HostConnectionProperty;
+import org.opensearch.jdbc.config.HostsConnectionProperty;
 import org.opensearch.jdbc.config.PathConnectionProperty;
 import org.opensearch.jdbc.config.PortConnectionProperty;
 import org.opensearch.jdbc.config.UseSSLConnectionProperty;
@@ -41,6 +42,11 @@ public class UrlParser {
      * {@link ConnectionProperty}
      * instances.
      *
+     * The url may list several comma separated hosts, as in
+     * <code>jdbc:opensearch://host1:9200,host2:9200/</code>, in which case the
+     * list is returned against the {@link HostsConnectionProperty} key, and
+     * the first host of the list as the host and port of the url.
+     *
      * Properties specified in the url query string are returned against
      * the exact property key as is used in the url.
      *
@@ -65,18 +71,27 @@ public class UrlParser {
         int schemeDelimIdx = trimmedUrl.indexOf(SCHEME_DELIM, URL_PREFIX_LEN);
 
         URI uri = null;
+        String hosts = null;
 
         if (schemeDelimIdx != -1){
             // user provided a scheme
-            uri = toURI(extractTargetUrl(trimmedUrl));
+            String targetUrl = extractTargetUrl(trimmedUrl);
+            int authorityIdx = targetUrl.indexOf(SCHEME_DELIM) + SCHEME_DELIM.length();
+            hosts = extractHostList(targetUrl, authorityIdx);
+            uri = toURI(hosts == null ? targetUrl : replaceHostList(targetUrl, authorityIdx, hosts));
         } else if (URL_PREFIX_LEN < trimmedUrl.length()) {
             // no scheme provided, but URL has more than just URL_PREFIX,
             // so assume http:// scheme.
-            uri = toURI("http://"+extractTargetUrl(trimmedUrl));
+            String targetUrl = extractTargetUrl(trimmedUrl);
+            hosts = extractHostList(targetUrl, 0);
+            uri = toURI("http://" + (hosts == null ? targetUrl : replaceHostList(targetUrl, 0, hosts)));
         }
 
         Properties props = new Properties();
 
+        if (hosts != null)
+            props.setProperty(HostsConnectionProperty.KEY.toLowerCase(), hosts);
+
         if (uri != null) {
             String scheme = uri.getScheme();
             String host = uri.getHost();
@@ -123,6 +138,30 @@ public class UrlParser {
         return props;
     }
 
+    /**
+     * @return the comma separated list of hosts starting at the index of
+     * the url, or null if the url names a single host
+     */
+    private static String extractHostList(final String url, int authorityIdx) {
+        int end = authorityIdx;
+        while (end < url.length() && url.charAt(end) != '/' && url.charAt(end) != '?') {
+            end++;
+        }
+
+        String authority = url.substring(authorityIdx, end);
+        return authority.indexOf(',') == -1 ? null : authority;
+    }
+
+    /**
+     * Replaces the list of hosts starting at the index of the url with the
+     * first host of the list, so the url can be parsed as a {@link URI}.
+     */
+    private static String replaceHostList(final String url, int authorityIdx, String hosts) {
+        return url.substring(0, authorityIdx)
+                + hosts.substring(0, hosts.indexOf(',')).trim()
+                + url.substring(authorityIdx + hosts.length());
+    }
+
     private static String extractTargetUrl(final String url) {
         return url.substring(URL_PREFIX_LEN);
     }
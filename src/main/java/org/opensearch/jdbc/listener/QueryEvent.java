@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.listener;
+
+/**
+ * Stage of the execution of a query, passed to a {@link QueryListener}.
+ * <p>
+ * Each callback of the listener documents which values its event
+ * carries. Values an event does not carry are 0, or -1 for counts of
+ * bytes, which are also -1 if they are not known.
+ * <p>
+ * Byte counts are of response bodies as decoded, after any decompression.
+ * Rows are decoded as the result set reads them off the network, so the
+ * time spent decoding rows includes waiting for the network to deliver
+ * them.
+ */
+public class QueryEvent {
+
+    private final long queryId;
+    private final String sql;
+    private final int fetchSize;
+    private final int page;
+    private final long rows;
+    private final long responseBytes;
+    private final long elapsedNanos;
+    private final long decodeNanos;
+    private final boolean cached;
+    private final Exception failure;
+
+    QueryEvent(long queryId, String sql, int fetchSize, int page, long rows, long responseBytes,
+               long elapsedNanos, long decodeNanos, boolean cached, Exception failure) {
+        this.queryId = queryId;
+        this.sql = sql;
+        this.fetchSize = fetchSize;
+        this.page = page;
+        this.rows = rows;
+        this.responseBytes = responseBytes;
+        this.elapsedNanos = elapsedNanos;
+        this.decodeNanos = decodeNanos;
+        this.cached = cached;
+        this.failure = failure;
+    }
+
+    /**
+     * @return the id of the query, unique within the driver
+     */
+    public long getQueryId() {
+        return queryId;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return the fetch size of the query, 0 if the result is not
+     *         paginated
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * @return the number of the page starting at 1, or the number of
+     *         pages read when the result set is closed
+     */
+    public int getPage() {
+        return page;
+    }
+
+    /**
+     * @return the number of rows of the page, or of the result set
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * @return the number of bytes of the page, or of the pages of the
+     *         result set, or -1 if not known
+     */
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * @return the time elapsed in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return the time spent decoding the rows of the page, or of the
+     *         result set, in nanoseconds
+     */
+    public long getDecodeNanos() {
+        return decodeNanos;
+    }
+
+    /**
+     * @return true if the result was served from the result cache
+     */
+    public boolean isCached() {
+        return cached;
+    }
+
+    /**
+     * @return the exception the query or the page fetch failed with, or
+     *         null
+     */
+    public Exception getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryEvent{" +
+                "queryId=" + queryId +
+                ", sql='" + sql + '\'' +
+                ", fetchSize=" + fetchSize +
+                ", page=" + page +
+                ", rows=" + rows +
+                ", responseBytes=" + responseBytes +
+                ", elapsedNanos=" + elapsedNanos +
+                ", decodeNanos=" + decodeNanos +
+                ", cached=" + cached +
+                ", failure=" + failure +
+                '}';
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.listener;
+
+/**
+ * Listener notified of the stages of the execution of queries, such as
+ * for tracing or profiling them.
+ * <p>
+ * A listener is registered for a connection through the
+ * {@code queryListener} connection property, or for all connections by
+ * naming it in a {@code META-INF/services/org.opensearch.jdbc.listener.QueryListener}
+ * file on the class path, for the {@link java.util.ServiceLoader}.
+ * <p>
+ * Listeners are called on the thread executing the query or reading its
+ * results, so they should return quickly. Exceptions thrown by a
+ * listener are logged and otherwise ignored. Connections without
+ * listeners do not create any events.
+ * <p>
+ * The events of a query can be told apart from the events of other
+ * queries by their {@link QueryEvent#getQueryId() query id}.
+ */
+public interface QueryListener {
+
+    /**
+     * Called before a query is executed.
+     *
+     * @param event the SQL and fetch size of the query
+     */
+    default void queryStarted(QueryEvent event) {
+    }
+
+    /**
+     * Called once the first page of the result of a query has been
+     * received, or the query failed.
+     *
+     * @param event the time elapsed since the query was started, whether
+     *         the result was served from the result cache, and the
+     *         failure if any
+     */
+    default void queryExecuted(QueryEvent event) {
+    }
+
+    /**
+     * Called once a page of the result following the first page has been
+     * received, or could not be fetched.
+     *
+     * @param event the number of the page, the time the result set waited
+     *         for it, and the failure if any
+     */
+    default void pageFetched(QueryEvent event) {
+    }
+
+    /**
+     * Called once all rows of a page of the result have been read.
+     *
+     * @param event the number of the page, its number of rows and bytes,
+     *         and the time spent decoding its rows
+     */
+    default void pageRead(QueryEvent event) {
+    }
+
+    /**
+     * Called once the result set of a query is closed.
+     *
+     * @param event the number of pages, rows and bytes read, the time
+     *         spent decoding rows, and the time elapsed since the query
+     *         was started
+     */
+    default void resultSetClosed(QueryEvent event) {
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.listener;
+
+import org.opensearch.jdbc.config.ConnectionConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Resolves the {@link QueryListener}s of connections: the listeners
+ * found by the {@link ServiceLoader}, which apply to all connections,
+ * followed by the listener configured for the connection, if any.
+ * <p>
+ * The service providers are looked up once, with the class loader of
+ * the driver. Providers that can not be loaded are skipped.
+ */
+public class QueryListenerRegistry {
+
+    public static final QueryListenerRegistry INSTANCE =
+            new QueryListenerRegistry(QueryListener.class.getClassLoader());
+
+    private final ClassLoader classLoader;
+    private volatile List<QueryListener> serviceListeners;
+
+    QueryListenerRegistry(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * @return the listeners of a connection, empty if there are none
+     */
+    public List<QueryListener> getListeners(ConnectionConfig connectionConfig) {
+        List<QueryListener> services = getServiceListeners();
+        QueryListener configured = connectionConfig.getQueryListener();
+
+        if (configured == null) {
+            return services;
+        }
+
+        List<QueryListener> listeners = new ArrayList<>(services.size() + 1);
+        listeners.addAll(services);
+        listeners.add(configured);
+        return Collections.unmodifiableList(listeners);
+    }
+
+    private List<QueryListener> getServiceListeners() {
+        List<QueryListener> listeners = serviceListeners;
+        if (listeners == null) {
+            synchronized (this) {
+                listeners = serviceListeners;
+                if (listeners == null) {
+                    listeners = loadServiceListeners();
+                    serviceListeners = listeners;
+                }
+            }
+        }
+        return listeners;
+    }
+
+    private List<QueryListener> loadServiceListeners() {
+        List<QueryListener> listeners = new ArrayList<>();
+        Iterator<QueryListener> providers = ServiceLoader.load(QueryListener.class, classLoader).iterator();
+
+        while (true) {
+            try {
+                if (!providers.hasNext()) {
+                    break;
+                }
+                listeners.add(providers.next());
+            } catch (ServiceConfigurationError ex) {
+                // a provider that can not be loaded does not prevent
+                // connections from being opened
+            }
+        }
+        return listeners.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(listeners);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.listener;
+
+import org.opensearch.jdbc.logging.Logger;
+import org.opensearch.jdbc.logging.LoggingSource;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * Tracks the execution of a single query and its result set, and
+ * notifies the {@link QueryListener}s of the connection of each stage.
+ * <p>
+ * A trace is only created for connections that have listeners, so the
+ * callers check for a null trace rather than for listeners. A trace is
+ * used by one thread at a time, like the statement and result set it
+ * belongs to.
+ */
+public class QueryTrace implements LoggingSource {
+
+    private static final AtomicLong queryIds = new AtomicLong();
+
+    private final List<QueryListener> listeners;
+    private final Logger log;
+    private final long queryId;
+    private final String sql;
+    private final int fetchSize;
+    private final long startNanos;
+
+    private boolean cached = false;
+    private boolean closed = false;
+    private int pages = 0;
+    private long rowsAtPageStart = 0;
+    private long pageDecodeNanos = 0;
+    private long decodeNanos = 0;
+    private long responseBytes = 0;
+    private boolean responseBytesKnown = true;
+
+    private QueryTrace(List<QueryListener> listeners, Logger log, String sql, int fetchSize) {
+        this.listeners = listeners;
+        this.log = log;
+        this.queryId = queryIds.incrementAndGet();
+        this.sql = sql;
+        this.fetchSize = fetchSize;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Starts the trace of a query, notifying the listeners.
+     *
+     * @param listeners the listeners of the connection, or null
+     * @return the trace, or null if there are no listeners
+     */
+    public static QueryTrace start(List<QueryListener> listeners, Logger log, String sql, int fetchSize) {
+        if (listeners == null || listeners.isEmpty()) {
+            return null;
+        }
+
+        QueryTrace trace = new QueryTrace(listeners, log, sql, fetchSize);
+        trace.notify(QueryListener::queryStarted, trace.newEvent(0, 0, -1, 0, 0, null));
+        return trace;
+    }
+
+    /**
+     * Marks the result of the query as served from the result cache.
+     */
+    public void servedFromCache() {
+        this.cached = true;
+    }
+
+    /**
+     * @param failure the exception the query failed with, or null
+     */
+    public void queryExecuted(Exception failure) {
+        pages = failure == null ? 1 : 0;
+        notify(QueryListener::queryExecuted, newEvent(pages, 0, -1, elapsedSince(startNanos), 0, failure));
+    }
+
+    /**
+     * @param elapsedNanos the time the result set waited for the page
+     * @param failure the exception the page fetch failed with, or null
+     */
+    public void pageFetched(long elapsedNanos, Exception failure) {
+        int page = pages + 1;
+        if (failure == null) {
+            pages = page;
+        }
+        notify(QueryListener::pageFetched, newEvent(page, 0, -1, elapsedNanos, 0, failure));
+    }
+
+    /**
+     * Adds the time spent decoding a row of the current page.
+     */
+    public void rowDecoded(long nanos) {
+        pageDecodeNanos += nanos;
+    }
+
+    /**
+     * @param rowsRead the number of rows the result set has read across
+     *         all pages
+     * @param pageBytes the number of bytes of the page, or -1 if not known
+     */
+    public void pageRead(long rowsRead, long pageBytes) {
+        long rows = rowsRead - rowsAtPageStart;
+        long pageDecode = pageDecodeNanos;
+        endPage(rowsRead, pageBytes);
+
+        notify(QueryListener::pageRead, newEvent(pages, rows, pageBytes, 0, pageDecode, null));
+    }
+
+    /**
+     * Notifies the listeners of the closing of the result set, once.
+     *
+     * @param rowsRead the number of rows the result set has read across
+     *         all pages
+     * @param pageBytes the number of bytes read of the page that was not
+     *         read in full, 0 if all pages were read in full, or -1 if not
+     *         known
+     */
+    public void resultSetClosed(long rowsRead, long pageBytes) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        endPage(rowsRead, pageBytes);
+
+        notify(QueryListener::resultSetClosed, newEvent(pages, rowsRead, responseBytesKnown ? responseBytes : -1,
+                elapsedSince(startNanos), decodeNanos, null));
+    }
+
+    private void endPage(long rowsRead, long pageBytes) {
+        if (pageBytes < 0) {
+            responseBytesKnown = false;
+        } else {
+            responseBytes += pageBytes;
+        }
+        decodeNanos += pageDecodeNanos;
+        pageDecodeNanos = 0;
+        rowsAtPageStart = rowsRead;
+    }
+
+    private QueryEvent newEvent(int page, long rows, long bytes, long elapsedNanos, long decodeNanos,
+                                Exception failure) {
+        return new QueryEvent(queryId, sql, fetchSize, page, rows, bytes, elapsedNanos, decodeNanos, cached,
+                failure);
+    }
+
+    private void notify(BiConsumer<QueryListener, QueryEvent> callback, QueryEvent event) {
+        for (QueryListener listener : listeners) {
+            try {
+                callback.accept(listener, event);
+            } catch (RuntimeException ex) {
+                log.warn(() -> logMessage("Query listener %s failed: %s", listener, ex), ex);
+            }
+        }
+    }
+
+    private static long elapsedSince(long startNanos) {
+        return System.nanoTime() - startNanos;
+    }
+}
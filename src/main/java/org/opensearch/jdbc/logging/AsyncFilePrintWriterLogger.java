@@ -0,0 +1,31 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.logging;
+
+import java.io.IOException;
+
+public class AsyncFilePrintWriterLogger extends AsyncPrintWriterLogger {
+
+    /**
+     * @param maxFileSize the size in bytes at which the log file is rolled
+     *         over, or 0 to never roll it over
+     * @param maxFiles the number of rolled over log files kept
+     */
+    public AsyncFilePrintWriterLogger(String filePath, LogLevel logLevel, Layout layout, long maxFileSize,
+                                      int maxFiles, int bufferSize, LogOverflowPolicy overflowPolicy)
+            throws IOException {
+        // flushed by the writer thread once it caught up with the queued entries
+        super(FilePrintWriterLogger.openPrintWriter(filePath, maxFileSize, maxFiles, false),
+                logLevel, layout, bufferSize, overflowPolicy);
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        printWriter.close();
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.logging;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A logger that hands log entries over to a writer thread of its own,
+ * instead of formatting and writing them on the logging thread.
+ *
+ * Entries are queued in a bounded {@link RingBuffer}, along with the time
+ * they were logged at and the name of the logging thread, and are formatted
+ * and written by the writer thread. Logging threads neither wait on each
+ * other nor on the writer, unless the buffer is full and the
+ * {@link LogOverflowPolicy} is {@link LogOverflowPolicy#BLOCK}.
+ *
+ * The writer flushes the {@link PrintWriter} once it has written all
+ * queued entries. Closing the logger writes the entries still queued and
+ * stops the writer thread.
+ */
+public class AsyncPrintWriterLogger implements Logger {
+
+    static final int FLUSH_INTERVAL = 256;
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long CLOSE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    protected final PrintWriter printWriter;
+    private final LogLevel logLevel;
+    private final Layout layout;
+    private final LogOverflowPolicy overflowPolicy;
+
+    private final RingBuffer<LogEvent> buffer;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean writerIdle;
+    private volatile boolean closed;
+
+    /**
+     * @param bufferSize the number of entries that can be queued for the
+     *         writer thread, rounded up to a power of two
+     * @param overflowPolicy what to do with entries logged while the
+     *         buffer is full
+     */
+    public AsyncPrintWriterLogger(PrintWriter printWriter, LogLevel logLevel, Layout layout,
+                                  int bufferSize, LogOverflowPolicy overflowPolicy) {
+        this.printWriter = printWriter;
+        this.logLevel = logLevel == null ? LogLevel.OFF : logLevel;
+        this.layout = layout;
+        this.overflowPolicy = overflowPolicy == null ? LogOverflowPolicy.DROP : overflowPolicy;
+        this.buffer = new RingBuffer<>(bufferSize);
+
+        this.writer = new Thread(this::writeEntries, "opensearch-jdbc-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void fatal(String message) {
+        enqueue(LogLevel.FATAL, message, null);
+    }
+
+    @Override
+    public void fatal(String message, Throwable t) {
+        enqueue(LogLevel.FATAL, message, t);
+    }
+
+    @Override
+    public void error(String message) {
+        enqueue(LogLevel.ERROR, message, null);
+    }
+
+    @Override
+    public void error(String message, Throwable t) {
+        enqueue(LogLevel.ERROR, message, t);
+    }
+
+    @Override
+    public void warn(String message) {
+        enqueue(LogLevel.WARN, message, null);
+    }
+
+    @Override
+    public void warn(String message, Throwable t) {
+        enqueue(LogLevel.WARN, message, t);
+    }
+
+    @Override
+    public void info(String message) {
+        enqueue(LogLevel.INFO, message, null);
+    }
+
+    @Override
+    public void info(String message, Throwable t) {
+        enqueue(LogLevel.INFO, message, t);
+    }
+
+    @Override
+    public void debug(String message) {
+        enqueue(LogLevel.DEBUG, message, null);
+    }
+
+    @Override
+    public void debug(String message, Throwable t) {
+        enqueue(LogLevel.DEBUG, message, t);
+    }
+
+    @Override
+    public void trace(String message) {
+        enqueue(LogLevel.TRACE, message, null);
+    }
+
+    @Override
+    public void trace(String message, Throwable t) {
+        enqueue(LogLevel.TRACE, message, t);
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return logLevel.isGreaterThanOrEqualTo(LogLevel.DEBUG);
+    }
+
+    @Override
+    public LogLevel getLevel() {
+        return logLevel;
+    }
+
+    /**
+     * @return the number of entries dropped because the buffer was full,
+     *         and not yet reported in the log
+     */
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void enqueue(LogLevel severity, String message, Throwable t) {
+        if (closed) {
+            return;
+        }
+
+        LogEvent event = new LogEvent(severity, message, t, System.currentTimeMillis(),
+                Thread.currentThread().getName());
+
+        while (!buffer.offer(event)) {
+            if (overflowPolicy == LogOverflowPolicy.DROP) {
+                dropped.incrementAndGet();
+                return;
+            }
+
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(this, FULL_PARK_NANOS);
+
+            if (closed) {
+                return;
+            }
+        }
+
+        if (writerIdle) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void writeEntries() {
+        int written = 0;
+
+        while (true) {
+            LogEvent event = buffer.poll();
+
+            if (event != null) {
+                write(event);
+                if (++written % FLUSH_INTERVAL == 0) {
+                    printWriter.flush();
+                }
+                continue;
+            }
+
+            if (written > 0 || dropped.get() > 0) {
+                reportDropped();
+                printWriter.flush();
+                written = 0;
+            }
+
+            if (closed) {
+                // entries queued by threads that saw the logger open
+                if (buffer.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+
+            // the flag is set before checking the buffer again, so a
+            // logging thread either sees it set, or the writer sees its entry
+            writerIdle = true;
+            if (buffer.isEmpty() && !closed) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            writerIdle = false;
+        }
+    }
+
+    private void write(LogEvent event) {
+        String message = event.throwable == null ? event.message
+                : buildMessageWithThrowable(event.message, event.throwable);
+        printWriter.println(layout.formatLogEntry(event.severity, message, event.timeMillis, event.threadName));
+    }
+
+    private void reportDropped() {
+        long count = dropped.getAndSet(0);
+
+        if (count > 0) {
+            printWriter.println(layout.formatLogEntry(LogLevel.WARN,
+                    count + " log entries were dropped as the log buffer was full",
+                    System.currentTimeMillis(), writer.getName()));
+        }
+    }
+
+    private String buildMessageWithThrowable(String message, Throwable t) {
+        StringWriter stringWriter = new StringWriter();
+        PrintWriter pw = new PrintWriter(stringWriter);
+        pw.println(message);
+        t.printStackTrace(pw);
+        pw.close();
+        return stringWriter.toString();
+    }
+
+    private static class LogEvent {
+        private final LogLevel severity;
+        private final String message;
+        private final Throwable throwable;
+        private final long timeMillis;
+        private final String threadName;
+
+        LogEvent(LogLevel severity, String message, Throwable throwable, long timeMillis, String threadName) {
+            this.severity = severity;
+            this.message = message;
+            this.throwable = throwable;
+            this.timeMillis = timeMillis;
+            this.threadName = threadName;
+        }
+    }
+}
@@ -6,22 +6,27 @@
 
 package org.opensearch.jdbc.logging;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
 
 public class FilePrintWriterLogger extends PrintWriterLogger {
 
     public FilePrintWriterLogger(String filePath, LogLevel logLevel, Layout layout) throws IOException {
-        super(new PrintWriter(
-                Files.newBufferedWriter(
-                        Paths.get("").resolve(filePath),
-                        StandardCharsets.UTF_8,
-                        StandardOpenOption.CREATE,
-                        StandardOpenOption.APPEND), true), logLevel, layout);
+        this(filePath, logLevel, layout, 0, 1);
+    }
+
+    /**
+     * @param maxFileSize the size in bytes at which the log file is rolled
+     *         over, or 0 to never roll it over
+     * @param maxFiles the number of rolled over log files kept
+     */
+    public FilePrintWriterLogger(String filePath, LogLevel logLevel, Layout layout,
+                                 long maxFileSize, int maxFiles) throws IOException {
+        super(openPrintWriter(filePath, maxFileSize, maxFiles, true), logLevel, layout);
     }
 
     @Override
@@ -29,4 +34,13 @@ public class FilePrintWriterLogger extends PrintWriterLogger {
         super.close();
         printWriter.close();
     }
+
+    static PrintWriter openPrintWriter(String filePath, long maxFileSize, int maxFiles, boolean autoFlush)
+            throws IOException {
+        return new PrintWriter(
+                new BufferedWriter(
+                        new OutputStreamWriter(
+                                new RollingFileOutputStream(Paths.get("").resolve(filePath), maxFileSize, maxFiles),
+                                StandardCharsets.UTF_8)), autoFlush);
+    }
 }
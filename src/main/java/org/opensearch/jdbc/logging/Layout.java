@@ -8,4 +8,17 @@ package org.opensearch.jdbc.logging;
 
 public interface Layout {
     String formatLogEntry(LogLevel severity, String message);
+
+    /**
+     * Formats an entry logged at the given time by the thread with the given
+     * name. Loggers that write entries on a thread of their own format them
+     * with this method, after the fact.
+     *
+     * Layouts that include the time or the thread of an entry should
+     * override it, as the entry is otherwise formatted as if it was logged
+     * by the writing thread.
+     */
+    default String formatLogEntry(LogLevel severity, String message, long timeMillis, String threadName) {
+        return formatLogEntry(severity, message);
+    }
 }
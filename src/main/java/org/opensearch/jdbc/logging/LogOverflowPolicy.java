@@ -0,0 +1,25 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.logging;
+
+/**
+ * What an asynchronous logger does with an entry logged while its buffer
+ * is full.
+ */
+public enum LogOverflowPolicy {
+
+    /**
+     * The entry is dropped. The number of dropped entries is logged once
+     * the buffer has room again.
+     */
+    DROP,
+
+    /**
+     * The logging thread waits until the buffer has room for the entry.
+     */
+    BLOCK
+}
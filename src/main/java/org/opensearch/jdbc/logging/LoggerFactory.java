@@ -23,6 +23,29 @@ public class LoggerFactory {
         }
     }
 
+    public static Logger getLogger(String filePath, LogLevel logLevel, long maxFileSize, int maxFiles) {
+        try {
+            return new FilePrintWriterLogger(filePath, logLevel, StandardLayout.INSTANCE, maxFileSize, maxFiles);
+        } catch (IOException ioe) {
+            throw new RuntimeException(ioe);
+        }
+    }
+
+    public static Logger getAsyncLogger(String filePath, LogLevel logLevel, long maxFileSize, int maxFiles,
+                                        int bufferSize, LogOverflowPolicy overflowPolicy) {
+        try {
+            return new AsyncFilePrintWriterLogger(filePath, logLevel, StandardLayout.INSTANCE, maxFileSize,
+                    maxFiles, bufferSize, overflowPolicy);
+        } catch (IOException ioe) {
+            throw new RuntimeException(ioe);
+        }
+    }
+
+    public static Logger getAsyncLogger(PrintWriter printWriter, LogLevel logLevel,
+                                        int bufferSize, LogOverflowPolicy overflowPolicy) {
+        return new AsyncPrintWriterLogger(printWriter, logLevel, StandardLayout.INSTANCE, bufferSize, overflowPolicy);
+    }
+
     public static Logger getLogger(PrintWriter printWriter, LogLevel logLevel) {
         return getLogger(printWriter, logLevel, StandardLayout.INSTANCE);
     }
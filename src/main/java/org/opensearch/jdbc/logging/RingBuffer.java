@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free queue for any number of producers and a single
+ * consumer.
+ *
+ * Each slot carries a sequence number telling whose turn it is. A producer
+ * claims the slot at the tail by advancing the tail, stores its element and
+ * then publishes the slot to the consumer by advancing the slot's sequence.
+ * The consumer hands the slot back to the producers of the next lap the same
+ * way. Producers only contend on the tail, and an element is never offered
+ * to a full buffer, so offering never waits on another thread.
+ */
+class RingBuffer<E> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+
+    // only accessed by the consumer
+    private long head;
+
+    /**
+     * @param capacity the minimum number of elements the buffer can hold,
+     *         rounded up to a power of two
+     */
+    RingBuffer(int capacity) {
+        int size = capacity <= 1 ? 1 : Integer.highestOneBit(Math.min(capacity, MAX_CAPACITY) - 1) << 1;
+
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * @return false if the buffer is full
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+
+        while (true) {
+            int index = (int) position & mask;
+            long lag = sequences.get(index) - position;
+
+            if (lag == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    // publishes the element to the consumer
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (lag < 0) {
+                // the slot still holds the element of the previous lap
+                return false;
+            } else {
+                // another producer claimed the slot
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Takes the element at the head of the buffer. Must only be called by
+     * the consumer.
+     *
+     * @return the element, or null if the buffer is empty
+     */
+    E poll() {
+        int index = (int) head & mask;
+
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+
+        E element = elements.get(index);
+        elements.lazySet(index, null);
+        // hands the slot over to the producers of the next lap
+        sequences.set(index, head + mask + 1);
+        head++;
+        return element;
+    }
+
+    /**
+     * Must only be called by the consumer.
+     */
+    boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.logging;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends to a log file, and rolls the file over once it reaches a maximum
+ * size.
+ *
+ * A rolled over file is renamed with the suffix {@code .1}, after files
+ * rolled over before are renamed with the next suffix, and a new file is
+ * started. The oldest file is deleted once the maximum number of rolled
+ * over files is reached.
+ *
+ * The size is checked when the stream is flushed, which writers do once
+ * an entry is complete, so that entries are not split across files.
+ */
+class RollingFileOutputStream extends OutputStream {
+
+    private final Path path;
+    private final long maxFileSize;
+    private final int maxFiles;
+
+    private OutputStream out;
+    private long size;
+
+    /**
+     * @param path the log file
+     * @param maxFileSize the size in bytes at which the file is rolled
+     *         over, or 0 to never roll it over
+     * @param maxFiles the number of rolled over files kept
+     */
+    RollingFileOutputStream(Path path, long maxFileSize, int maxFiles) throws IOException {
+        this.path = path;
+        this.maxFileSize = maxFileSize;
+        this.maxFiles = maxFiles;
+        open();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        size++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        size += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+
+        if (maxFileSize > 0 && size >= maxFileSize) {
+            roll();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void open() throws IOException {
+        out = Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        size = Files.size(path);
+    }
+
+    private void roll() throws IOException {
+        out.close();
+
+        try {
+            Files.deleteIfExists(rolledPath(maxFiles));
+            for (int i = maxFiles - 1; i >= 1; i--) {
+                Path rolled = rolledPath(i);
+                if (Files.exists(rolled)) {
+                    Files.move(rolled, rolledPath(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(path, rolledPath(1), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            // keeps appending to the current file if it could not be rolled
+            // over, and tries again with the next flush
+            open();
+        }
+    }
+
+    private Path rolledPath(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+}
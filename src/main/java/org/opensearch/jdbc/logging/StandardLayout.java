@@ -13,18 +13,62 @@ package org.opensearch.jdbc.logging;
  *
  * Timestamp uses ISO format date and a a 24 hour clock value upto
  * milliseconds: [YYYY-mm-dd HH:MM:SS.mmm]
+ *
+ * The date and time up to the second are formatted once per second and
+ * reused by the entries logged within that second, so that only the
+ * milliseconds are formatted for each entry.
  */
 public class StandardLayout implements Layout {
     public static final StandardLayout INSTANCE = new StandardLayout();
 
+    private volatile FormattedSecond formattedSecond = new FormattedSecond(Long.MIN_VALUE, null);
+
     private StandardLayout() {
         // singleton
     }
 
     @Override
     public String formatLogEntry(LogLevel severity, String message)  {
-        long time = System.currentTimeMillis();
-        return String.format("[%tF %tT.%tL][%-5s][Thread-%s]%s",
-                time, time, time, severity, Thread.currentThread().getName(), message);
+        return formatLogEntry(severity, message, System.currentTimeMillis(), Thread.currentThread().getName());
+    }
+
+    @Override
+    public String formatLogEntry(LogLevel severity, String message, long timeMillis, String threadName) {
+        long second = Math.floorDiv(timeMillis, 1000);
+        int millis = (int) Math.floorMod(timeMillis, 1000);
+
+        FormattedSecond formatted = formattedSecond;
+        if (formatted.second != second) {
+            long secondMillis = second * 1000;
+            formatted = new FormattedSecond(second, String.format("%tF %tT", secondMillis, secondMillis));
+            formattedSecond = formatted;
+        }
+
+        String level = String.valueOf(severity);
+        StringBuilder entry = new StringBuilder(48 + level.length() + threadName.length()
+                + (message == null ? 4 : message.length()));
+
+        entry.append('[').append(formatted.dateTime).append('.');
+        if (millis < 100) {
+            entry.append('0');
+        }
+        if (millis < 10) {
+            entry.append('0');
+        }
+        entry.append(millis).append("][").append(level);
+        for (int i = level.length(); i < 5; i++) {
+            entry.append(' ');
+        }
+        return entry.append("][Thread-").append(threadName).append(']').append(message).toString();
+    }
+
+    private static class FormattedSecond {
+        private final long second;
+        private final String dateTime;
+
+        FormattedSecond(long second, String dateTime) {
+            this.second = second;
+            this.dateTime = dateTime;
+        }
     }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.protocol;
+
+/**
+ * Receives the column values of data rows read from a
+ * {@link QueryResponse} through a {@link DatarowReader}.
+ * <p>
+ * Values are passed to the callback matching their decoded type, so
+ * readers that decode the response themselves can pass numeric and
+ * boolean values without boxing them. Every row is terminated by a call
+ * to {@link #endRow()}.
+ */
+public interface DatarowConsumer {
+
+    void acceptNull(int column);
+
+    void acceptInt(int column, int value);
+
+    void acceptLong(int column, long value);
+
+    void acceptDouble(int column, double value);
+
+    void acceptBoolean(int column, boolean value);
+
+    void acceptString(int column, String value);
+
+    /**
+     * Accepts a value not covered by the other callbacks, such as an
+     * object, an array or a number out of range of a long.
+     */
+    void acceptObject(int column, Object value);
+
+    void endRow();
+
+    /**
+     * Passes an already decoded value to the callback matching its type.
+     */
+    default void accept(int column, Object value) {
+        if (value == null) {
+            acceptNull(column);
+        } else if (value instanceof Integer) {
+            acceptInt(column, (Integer) value);
+        } else if (value instanceof Long) {
+            acceptLong(column, (Long) value);
+        } else if (value instanceof Double) {
+            acceptDouble(column, (Double) value);
+        } else if (value instanceof Boolean) {
+            acceptBoolean(column, (Boolean) value);
+        } else if (value instanceof String) {
+            acceptString(column, (String) value);
+        } else {
+            acceptObject(column, value);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.protocol;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Reads the data rows of a {@link QueryResponse} in batches into a
+ * {@link DatarowConsumer}.
+ */
+@FunctionalInterface
+public interface DatarowReader {
+
+    /**
+     * Reads up to maxRows data rows into the consumer.
+     * <p>
+     * Implementations reading from a network stream throw an
+     * {@link java.io.UncheckedIOException} if the stream can not be read
+     * or decoded.
+     *
+     * @param consumer the consumer to pass the row values to
+     * @param maxRows maximum number of rows to read
+     *
+     * @return number of rows read, 0 once all rows have been read
+     */
+    int read(DatarowConsumer consumer, int maxRows);
+
+    /**
+     * Returns a DatarowReader over rows that have already been decoded.
+     */
+    static DatarowReader of(Iterator<List<Object>> datarows) {
+        return (consumer, maxRows) -> {
+            int rowCount = 0;
+            while (rowCount < maxRows && datarows.hasNext()) {
+                List<Object> row = datarows.next();
+                for (int i = 0; i < row.size(); i++) {
+                    consumer.accept(i, row.get(i));
+                }
+                consumer.endRow();
+                rowCount++;
+            }
+            return rowCount;
+        };
+    }
+}
@@ -6,6 +6,8 @@
 
 package org.opensearch.jdbc.protocol;
 
+import java.util.Objects;
+
 public class JdbcQueryParam implements Parameter {
     private Object value;
 
@@ -25,4 +27,18 @@ public class JdbcQueryParam implements Parameter {
     public String getType() {
         return type;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof JdbcQueryParam)) return false;
+        JdbcQueryParam that = (JdbcQueryParam) o;
+        return Objects.equals(type, that.type) &&
+                Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, value);
+    }
 }
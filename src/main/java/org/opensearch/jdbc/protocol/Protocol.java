@@ -7,14 +7,89 @@
 package org.opensearch.jdbc.protocol;
 
 import org.opensearch.jdbc.protocol.exceptions.ResponseException;
+import org.opensearch.jdbc.transport.RequestCanceller;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 public interface Protocol extends AutoCloseable {
 
     ConnectionResponse connect(int timeout) throws ResponseException, IOException;
 
+    /**
+     * Checks that the server is reachable and responding.
+     * <p>
+     * The default implementation repeats the connection request.
+     *
+     * @param timeout read timeout for the request in milliseconds, 0 for
+     *                no timeout
+     *
+     * @throws ResponseException if the server does not respond successfully
+     * @throws IOException if the server can not be reached
+     */
+    default void ping(int timeout) throws ResponseException, IOException {
+        connect(timeout);
+    }
+
     QueryResponse execute(QueryRequest request) throws ResponseException, IOException;
 
+    /**
+     * Executes a query request that can be aborted through the canceller.
+     * <p>
+     * The default implementation ignores the timeout and the canceller.
+     *
+     * @param request query request to execute
+     * @param timeout read timeout for the request in milliseconds, 0 for
+     *                no timeout
+     * @param canceller canceller to abort the request with
+     */
+    default QueryResponse execute(QueryRequest request, int timeout, RequestCanceller canceller)
+            throws ResponseException, IOException {
+        return execute(request);
+    }
+
+    /**
+     * Executes a query request without blocking the calling thread,
+     * where supported by the protocol and its underlying transport.
+     * <p>
+     * The default implementation executes the request synchronously
+     * on the calling thread and returns an already completed future.
+     *
+     * @param request query request to execute
+     *
+     * @return future that completes with the query response, or
+     *         exceptionally with a {@link ResponseException} or
+     *         {@link IOException} if the request fails
+     */
+    default CompletableFuture<QueryResponse> executeAsync(QueryRequest request) {
+        return executeAsync(request, 0);
+    }
+
+    /**
+     * Executes a query request without blocking the calling thread,
+     * failing the request if the server does not respond within the
+     * read timeout.
+     * <p>
+     * The default implementation executes the request synchronously
+     * on the calling thread and returns an already completed future.
+     *
+     * @param request query request to execute
+     * @param timeout read timeout for the request in milliseconds, 0 for
+     *                no timeout
+     *
+     * @return future that completes with the query response, or
+     *         exceptionally with a {@link ResponseException} or
+     *         {@link IOException} if the request fails
+     */
+    default CompletableFuture<QueryResponse> executeAsync(QueryRequest request, int timeout) {
+        CompletableFuture<QueryResponse> future = new CompletableFuture<>();
+        try {
+            future.complete(execute(request, timeout, null));
+        } catch (ResponseException | IOException ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
     void close() throws IOException;
 }
@@ -6,14 +6,40 @@
 
 package org.opensearch.jdbc.protocol;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
 
-public interface QueryResponse {
+public interface QueryResponse extends Closeable {
 
     List<? extends ColumnDescriptor> getColumnDescriptors();
 
     List<List<Object>> getDatarows();
 
+    /**
+     * Returns an iterator over the data rows of the response.
+     * <p>
+     * Responses that are decoded incrementally return rows as they are
+     * read from the server, so consumers visiting each row once should
+     * prefer this over {@link #getDatarows()}.
+     */
+    default Iterator<List<Object>> getDatarowIterator() {
+        return getDatarows().iterator();
+    }
+
+    /**
+     * Returns a reader over the data rows of the response. Rows read
+     * through it are consumed in the same way as through the
+     * {@link #getDatarowIterator() datarow iterator}.
+     * <p>
+     * Responses that decode rows as they are read pass numeric and
+     * boolean values to the {@link DatarowConsumer} without boxing them.
+     */
+    default DatarowReader getDatarowReader() {
+        return DatarowReader.of(getDatarowIterator());
+    }
+
     long getTotal();
 
     long getSize();
@@ -22,5 +48,41 @@ public interface QueryResponse {
 
     String getCursor();
 
+    /**
+     * Returns the cursor id if it has been received already, without
+     * reading any data rows that have not been read yet.
+     */
+    default String getReceivedCursor() {
+        return getCursor();
+    }
+
     RequestError getError();
+
+    /**
+     * Returns the number of bytes of the response body decoded so far,
+     * which is the size of the body once the response has been read in
+     * full, or -1 if not known.
+     */
+    default long getResponseBytes() {
+        return -1;
+    }
+
+    /**
+     * Returns the node of the cluster that served the query, as a URI,
+     * if the connection spreads requests across several nodes. Requests
+     * for the following pages of the cursor of the response are sent to
+     * the same node.
+     */
+    default String getNode() {
+        return null;
+    }
+
+    /**
+     * Releases any resources held by the response, such as a content
+     * stream that has not been read in full.
+     */
+    @Override
+    default void close() throws IOException {
+
+    }
 }
@@ -22,11 +22,22 @@ import java.util.Objects;
 public class JdbcCursorQueryRequest implements QueryRequest {
 
     String cursor;
+    String node;
 
     public JdbcCursorQueryRequest(String cursor) {
         this.cursor = cursor;
     }
 
+    /**
+     * @param node the node that serves the cursor, as returned by
+     *        {@link org.opensearch.jdbc.protocol.QueryResponse#getNode()},
+     *        or null
+     */
+    public JdbcCursorQueryRequest(String cursor, String node) {
+        this.cursor = cursor;
+        this.node = node;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -46,6 +57,10 @@ public class JdbcCursorQueryRequest implements QueryRequest {
         return cursor;
     }
 
+    public String getNode() {
+        return node;
+    }
+
     @Override
     public List<JdbcQueryParam> getParameters() {
         return null;
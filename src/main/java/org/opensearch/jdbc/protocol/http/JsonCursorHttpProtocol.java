@@ -7,13 +7,12 @@
 package org.opensearch.jdbc.protocol.http;
 
 import org.opensearch.jdbc.protocol.QueryRequest;
-import org.opensearch.jdbc.protocol.QueryResponse;
 import org.opensearch.jdbc.protocol.exceptions.ResponseException;
 import org.opensearch.jdbc.transport.http.HttpTransport;
+import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
 
 import java.io.IOException;
-import java.io.InputStream;
 
 /**
  * Http protocol for cursor request and response
@@ -23,6 +22,8 @@ import java.io.InputStream;
  **/
 public class JsonCursorHttpProtocol extends JsonHttpProtocol {
 
+    private static final String CLOSE_CURSOR_PATH = "/close";
+
     public JsonCursorHttpProtocol(HttpTransport transport) {
         this(transport, DEFAULT_SQL_CONTEXT_PATH);
     }
@@ -31,27 +32,47 @@ public class JsonCursorHttpProtocol extends JsonHttpProtocol {
         super(transport, sqlContextPath);
     }
 
-    @Override
-    public QueryResponse execute(QueryRequest request) throws ResponseException, IOException {
-        try (CloseableHttpResponse response = getTransport().doPost(
-                getSqlContextPath(),
-                defaultJsonHeaders,
-                defaultJdbcParams,
-                buildQueryRequestBody(request), 0)) {
+    /**
+     * Closes the cursor on the server, releasing the resources it holds
+     * before all its pages have been read.
+     *
+     * @param cursorId id of the cursor to close
+     * @param timeout read timeout for the request in milliseconds
+     *
+     * @return true if the server reports the cursor closed
+     */
+    public boolean closeCursor(String cursorId, int timeout) throws ResponseException, IOException {
+        return closeCursor(cursorId, null, timeout);
+    }
 
-            return getJsonHttpResponseHandler().handleResponse(response, this::processQueryResponse);
+    /**
+     * Closes the cursor on the node that serves it. Closing a cursor is
+     * safe to repeat, so the request may be retried if it fails.
+     *
+     * @param cursorId id of the cursor to close
+     * @param node the node that serves the cursor, or null
+     * @param timeout read timeout for the request in milliseconds
+     *
+     * @return true if the server reports the cursor closed
+     */
+    public boolean closeCursor(String cursorId, String node, int timeout) throws ResponseException, IOException {
+        JdbcCursorQueryRequest request = new JdbcCursorQueryRequest(cursorId, node);
+        HttpEntity requestBody = buildQueryRequestBody(request);
 
-        }
-    }
+        try (CloseableHttpResponse response = getTransport().doRetryablePost(
+                getSqlContextPath() + CLOSE_CURSOR_PATH,
+                defaultJsonHeaders,
+                null,
+                requestBody, timeout, null, newNodeAffinity(request))) {
 
-    private String buildQueryRequestBody(QueryRequest queryRequest) throws IOException {
-        JsonCursorQueryRequest jsonQueryRequest = new JsonCursorQueryRequest(queryRequest);
-        String requestBody = mapper.writeValueAsString(jsonQueryRequest);
-        return requestBody;
+            return getJsonHttpResponseHandler().handleResponse(response,
+                    (contentStream) -> mapper.readTree(contentStream).path("succeeded").asBoolean(false));
+        }
     }
 
-    private JsonQueryResponse processQueryResponse(InputStream contentStream) throws IOException {
-        return mapper.readValue(contentStream, JsonQueryResponse.class);
+    @Override
+    protected HttpEntity buildQueryRequestBody(QueryRequest queryRequest) {
+        return new JsonEntity(mapper, new JsonCursorQueryRequest(queryRequest), getStatistics());
     }
 
 }
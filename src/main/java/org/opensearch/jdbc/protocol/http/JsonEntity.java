@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.protocol.http;
+
+import org.opensearch.jdbc.statistics.StatisticsRecorder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Request entity that serializes a value as JSON straight into the
+ * output stream of the request, so that large request bodies are not
+ * held in memory as a String and again as encoded bytes.
+ * <p>
+ * The value is serialized again each time the entity is written, so the
+ * entity is repeatable and the request can be retried.
+ * <p>
+ * If the entity has a statistics recorder, the bytes written and the
+ * time spent writing them are recorded. As the body is written straight
+ * into the request, that time includes the time the request waits on
+ * the network to accept the body.
+ */
+class JsonEntity extends AbstractHttpEntity {
+
+    private final ObjectMapper mapper;
+    private final Object value;
+    private final StatisticsRecorder statistics;
+
+    JsonEntity(ObjectMapper mapper, Object value) {
+        this(mapper, value, null);
+    }
+
+    /**
+     * @param statistics recorder of the serialization of the body, or null
+     */
+    JsonEntity(ObjectMapper mapper, Object value, StatisticsRecorder statistics) {
+        this.mapper = mapper;
+        this.value = value;
+        this.statistics = statistics;
+        setContentType(ContentType.APPLICATION_JSON.toString());
+        setChunked(true);
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    /**
+     * Serializes the value into memory. Only needed by clients that read
+     * the body rather than have it written, such as for signing.
+     */
+    @Override
+    public InputStream getContent() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        writeTo(buffer);
+        return new ByteArrayInputStream(buffer.toByteArray());
+    }
+
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+        if (statistics == null) {
+            write(outStream);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            write(statistics.countBytesSent(outStream));
+        } finally {
+            statistics.recordSerialize(System.nanoTime() - startNanos);
+        }
+    }
+
+    private void write(OutputStream outStream) throws IOException {
+        // the stream belongs to the client, which closes it once the
+        // request is complete
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(outStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            mapper.writeValue(generator, value);
+        }
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+}
@@ -11,18 +11,32 @@ import org.opensearch.jdbc.protocol.ConnectionResponse;
 import org.opensearch.jdbc.protocol.Protocol;
 import org.opensearch.jdbc.protocol.QueryRequest;
 import org.opensearch.jdbc.protocol.QueryResponse;
+import org.opensearch.jdbc.statistics.StatisticsRecorder;
+import org.opensearch.jdbc.transport.RequestCanceller;
+import org.opensearch.jdbc.transport.http.AsyncHttpTransport;
 import org.opensearch.jdbc.transport.http.HttpParam;
 import org.opensearch.jdbc.transport.http.HttpTransport;
+import org.opensearch.jdbc.transport.http.NodeAffinity;
 import org.opensearch.jdbc.protocol.exceptions.ResponseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.http.Header;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpHeaders;
+import org.apache.http.HttpHost;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.message.BasicHeader;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public class JsonHttpProtocol implements Protocol {
 
@@ -37,10 +51,14 @@ public class JsonHttpProtocol implements Protocol {
     private static final Header[] defaultEmptyRequestBodyJsonHeaders = new Header[]{acceptJson};
     protected static final HttpParam[] defaultJdbcParams = new HttpParam[]{requestJdbcFormatParam};
 
+    private static final Set<String> READ_ONLY_KEYWORDS = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList("SELECT", "WITH", "SHOW", "DESCRIBE", "DESC", "EXPLAIN")));
+
     protected static final ObjectMapper mapper = new ObjectMapper();
     private String sqlContextPath;
     private HttpTransport transport;
     private JsonHttpResponseHandler jsonHttpResponseHandler;
+    private StatisticsRecorder statistics;
 
     public JsonHttpProtocol(HttpTransport transport) {
         this(transport, DEFAULT_SQL_CONTEXT_PATH);
@@ -64,6 +82,22 @@ public class JsonHttpProtocol implements Protocol {
         return this.jsonHttpResponseHandler;
     }
 
+    /**
+     * @return the recorder of the bytes sent and received, or null
+     */
+    public StatisticsRecorder getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @param statistics recorder of the bytes sent and received, and of
+     *         the time spent serializing requests, or null to not record
+     *         them
+     */
+    public void setStatistics(StatisticsRecorder statistics) {
+        this.statistics = statistics;
+    }
+
     @Override
     public ConnectionResponse connect(int timeout) throws ResponseException, IOException {
         try (CloseableHttpResponse response = transport.doGet(
@@ -76,23 +110,168 @@ public class JsonHttpProtocol implements Protocol {
         }
     }
 
+    /**
+     * Requests the root endpoint, as {@link #connect(int)} does, without
+     * parsing the cluster metadata in the response.
+     */
+    @Override
+    public void ping(int timeout) throws ResponseException, IOException {
+        try (CloseableHttpResponse response = transport.doGet(
+                    "/",
+                     defaultEmptyRequestBodyJsonHeaders,
+                    null, timeout)) {
+
+            // closing the content consumes it, so the connection can be reused
+            jsonHttpResponseHandler.handleResponse(response, (contentStream) -> null);
+        }
+    }
+
+    /**
+     * Executes the query request. The data rows of the returned response
+     * are decoded as they are read, and the response must be closed if
+     * they are not all read.
+     */
     @Override
     public QueryResponse execute(QueryRequest request) throws ResponseException, IOException {
-        try (CloseableHttpResponse response = transport.doPost(
-                    sqlContextPath,
-                    defaultJsonHeaders,
-                    defaultJdbcParams,
-                    buildQueryRequestBody(request), 0)) {
+        return execute(request, 0, null);
+    }
+
+    @Override
+    public QueryResponse execute(QueryRequest request, int timeout, RequestCanceller canceller)
+            throws ResponseException, IOException {
+        return executeStreaming(sqlContextPath, buildQueryRequestBody(request), timeout, canceller,
+                isSafeToRetry(request), newNodeAffinity(request));
+    }
+
+    protected QueryResponse executeStreaming(String path, HttpEntity requestBody, int timeout,
+                                             RequestCanceller canceller, boolean retryable, NodeAffinity affinity)
+            throws ResponseException, IOException {
+        CloseableHttpResponse response;
+        if (retryable) {
+            response = transport.doRetryablePost(path, defaultJsonHeaders, defaultJdbcParams, requestBody, timeout,
+                    canceller, affinity);
+        } else {
+            response = transport.doPost(path, defaultJsonHeaders, defaultJdbcParams, requestBody, timeout, canceller);
+        }
+
+        JsonStreamingQueryResponse queryResponse = jsonHttpResponseHandler.handleStreamingResponse(
+                response, (contentStream) -> processStreamingQueryResponse(contentStream, response));
+        queryResponse.setNode(getNode(affinity));
+        return queryResponse;
+    }
 
-            return jsonHttpResponseHandler.handleResponse(response, this::processQueryResponse);
+    /**
+     * @return the affinity binding the request to the node serving the
+     *         cursor it continues, if any
+     */
+    protected static NodeAffinity newNodeAffinity(QueryRequest request) {
+        String node = request instanceof JdbcCursorQueryRequest ? ((JdbcCursorQueryRequest) request).getNode() : null;
+        return new NodeAffinity(node != null ? HttpHost.create(node) : null);
+    }
+
+    protected static String getNode(NodeAffinity affinity) {
+        return affinity != null && affinity.getNode() != null ? affinity.getNode().toURI() : null;
+    }
+
+    /**
+     * @return true if the request reads data without modifying it, so
+     *         may be sent again if it fails: the fetch of a cursor page,
+     *         or a query that does not modify data
+     */
+    static boolean isSafeToRetry(QueryRequest request) {
+        return request instanceof JdbcCursorQueryRequest || isReadOnlyQuery(request.getQuery());
+    }
+
+    /**
+     * @return true if the first keyword of the query, after any comments
+     *         and opening parentheses, starts a statement that only reads
+     *         data
+     */
+    static boolean isReadOnlyQuery(String sql) {
+        if (sql == null) {
+            return false;
+        }
+
+        int i = 0;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c) || c == '(') {
+                i++;
+            } else if (sql.startsWith("--", i)) {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? sql.length() : end + 1;
+            } else if (sql.startsWith("/*", i)) {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? sql.length() : end + 2;
+            } else {
+                break;
+            }
+        }
+
+        int end = i;
+        while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
 
+        String keyword = sql.substring(i, end).toUpperCase(Locale.ROOT);
+        return READ_ONLY_KEYWORDS.contains(keyword);
+    }
+
+    /**
+     * Executes the query request over the transport without blocking
+     * if the transport is an {@link AsyncHttpTransport}. Otherwise the
+     * request is executed synchronously.
+     * <p>
+     * The response is parsed on the transport's I/O thread once it has
+     * been received in full. Callers doing significant work with the
+     * result should continue on an executor of their own.
+     */
+    @Override
+    public CompletableFuture<QueryResponse> executeAsync(QueryRequest request, int timeout) {
+        if (!(transport instanceof AsyncHttpTransport)) {
+            return Protocol.super.executeAsync(request, timeout);
         }
+
+        CompletableFuture<QueryResponse> queryResponseFuture = new CompletableFuture<>();
+        NodeAffinity affinity = newNodeAffinity(request);
+        HttpEntity requestBody = buildQueryRequestBody(request);
+
+        CompletableFuture<CloseableHttpResponse> responseFuture = ((AsyncHttpTransport) transport).doPostAsync(
+                sqlContextPath,
+                defaultJsonHeaders,
+                defaultJdbcParams,
+                requestBody, timeout, affinity);
+
+        responseFuture.whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                queryResponseFuture.completeExceptionally(throwable);
+                return;
+            }
+
+            try (CloseableHttpResponse closeableResponse = response) {
+                JsonQueryResponse queryResponse =
+                        jsonHttpResponseHandler.handleResponse(closeableResponse, this::processQueryResponse);
+                queryResponse.setNode(getNode(affinity));
+                queryResponseFuture.complete(queryResponse);
+            } catch (ResponseException | IOException ex) {
+                queryResponseFuture.completeExceptionally(ex);
+            }
+        });
+
+        // propagate cancellation to abort the in-flight request
+        queryResponseFuture.whenComplete((queryResponse, throwable) -> {
+            if (queryResponseFuture.isCancelled()) {
+                responseFuture.cancel(true);
+            }
+        });
+        return queryResponseFuture;
     }
 
-    private String buildQueryRequestBody(QueryRequest queryRequest) throws IOException {
-        JsonQueryRequest jsonQueryRequest = new JsonQueryRequest(queryRequest);
-        String requestBody = mapper.writeValueAsString(jsonQueryRequest);
-        return requestBody;
+    /**
+     * @return the body of the request, serialized as it is sent
+     */
+    protected HttpEntity buildQueryRequestBody(QueryRequest queryRequest) {
+        return new JsonEntity(mapper, new JsonQueryRequest(queryRequest), getStatistics());
     }
 
     @Override
@@ -106,6 +285,15 @@ public class JsonHttpProtocol implements Protocol {
     }
 
     private JsonQueryResponse processQueryResponse(InputStream contentStream) throws IOException {
-        return mapper.readValue(contentStream, JsonQueryResponse.class);
+        try (JsonParser parser = mapper.createParser(contentStream)) {
+            JsonQueryResponse queryResponse = mapper.readValue(parser, JsonQueryResponse.class);
+            queryResponse.setResponseBytes(parser.getCurrentLocation().getByteOffset());
+            return queryResponse;
+        }
+    }
+
+    protected JsonStreamingQueryResponse processStreamingQueryResponse(InputStream contentStream,
+                                                                       Closeable response) throws IOException {
+        return new JsonStreamingQueryResponse(mapper, contentStream, response);
     }
 }
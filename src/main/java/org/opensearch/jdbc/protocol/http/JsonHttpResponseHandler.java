@@ -8,13 +8,18 @@ package org.opensearch.jdbc.protocol.http;
 
 import org.opensearch.jdbc.protocol.exceptions.MalformedResponseException;
 import org.opensearch.jdbc.protocol.exceptions.ResponseException;
+import org.opensearch.jdbc.statistics.StatisticsRecorder;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.util.EntityUtils;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -22,6 +27,14 @@ import java.util.Set;
 
 public class JsonHttpResponseHandler {
 
+    /**
+     * Size above which the content of a query response is streamed from
+     * the connection rather than read in full before it is parsed.
+     */
+    public static final int STREAMING_THRESHOLD_BYTES = 256 * 1024;
+
+    private static final int BUFFER_SIZE = 8192;
+
     protected JsonHttpProtocol protocol;
 
     public static final Set<Integer> DEFAULT_ACCEPTABLE_HTTP_CODES =
@@ -41,7 +54,7 @@ public class JsonHttpResponseHandler {
         try {
             checkResponseForErrors(response, acceptableHttpStatusCodes, expectResponseBody);
 
-            try (InputStream responseContent = response.getEntity().getContent()) {
+            try (InputStream responseContent = getContent(response)) {
                 return contentParser.apply(responseContent);
             }
 
@@ -52,6 +65,45 @@ public class JsonHttpResponseHandler {
         }
     }
 
+    /**
+     * Checks the response for errors and passes its content stream to the
+     * content parser without closing it, for parsers that continue reading
+     * the content after this method returns.
+     * <p>
+     * Content of up to {@link #STREAMING_THRESHOLD_BYTES} is read in full
+     * before it is parsed, and the response is released at once, so that
+     * a small response does not hold on to a pooled connection until it
+     * is read. Only larger content is streamed from the connection.
+     * <p>
+     * The result of the parser takes ownership of the response. The
+     * response is closed here only if it fails the checks or the parser
+     * throws.
+     */
+    public <R> R handleStreamingResponse(CloseableHttpResponse response,
+                                         JsonContentParser<InputStream, R> contentParser) throws ResponseException {
+        boolean handedOff = false;
+        try {
+            checkResponseForErrors(response, null, true);
+
+            R result = contentParser.apply(bufferSmallContent(response));
+            handedOff = true;
+            return result;
+
+        } catch (JsonProcessingException jpe) {
+            throw new MalformedResponseException("Could not process server response", jpe);
+        } catch (IOException ioe) {
+            throw new ResponseException("Error reading server response", ioe);
+        } finally {
+            if (!handedOff) {
+                try {
+                    response.close();
+                } catch (IOException ioe) {
+                    // ignore
+                }
+            }
+        }
+    }
+
     /**
      * Checks if an HttpResponse meets the requirements to be accepted.
      *
@@ -133,6 +185,47 @@ public class JsonHttpResponseHandler {
         return DEFAULT_ACCEPTABLE_HTTP_CODES;
     }
 
+    /**
+     * @return the content stream of the response, counting the bytes read
+     *         if the protocol records statistics
+     */
+    private InputStream getContent(HttpResponse response) throws IOException {
+        InputStream content = response.getEntity().getContent();
+        StatisticsRecorder statistics = protocol != null ? protocol.getStatistics() : null;
+        return statistics != null && content != null ? statistics.countBytesReceived(content) : content;
+    }
+
+    /**
+     * Reads the content of the response up to the streaming threshold.
+     *
+     * @return the content read in full, with the response released, or
+     *         the content read so far followed by the rest of the
+     *         content stream if it exceeds the threshold
+     */
+    private InputStream bufferSmallContent(CloseableHttpResponse response) throws IOException {
+        InputStream content = getContent(response);
+        long contentLength = response.getEntity().getContentLength();
+        if (contentLength > STREAMING_THRESHOLD_BYTES) {
+            return content;
+        }
+
+        ByteArrayOutputStream head = new ByteArrayOutputStream(
+                contentLength >= 0 ? (int) contentLength : BUFFER_SIZE);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = content.read(buffer)) != -1) {
+            head.write(buffer, 0, read);
+            if (head.size() > STREAMING_THRESHOLD_BYTES) {
+                return new SequenceInputStream(new ByteArrayInputStream(head.toByteArray()), content);
+            }
+        }
+
+        // the content is consumed, so the connection goes back to the pool
+        content.close();
+        response.close();
+        return new ByteArrayInputStream(head.toByteArray());
+    }
+
     private boolean isHttpStatusCodeAcceptable(int statusCode, Set<Integer> acceptableHttpStatusCodes) {
 
         if (acceptableHttpStatusCodes == null)
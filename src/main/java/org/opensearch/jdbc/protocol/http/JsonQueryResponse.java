@@ -10,6 +10,7 @@ import org.opensearch.jdbc.protocol.ColumnDescriptor;
 import org.opensearch.jdbc.protocol.QueryResponse;
 import org.opensearch.jdbc.protocol.RequestError;
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -35,6 +36,10 @@ public class JsonQueryResponse implements QueryResponse {
 
     private JsonRequestError error;
 
+    private String node;
+
+    private long responseBytes = -1;
+
     @Override
     public List<SchemaEntry> getColumnDescriptors() {
         return schema;
@@ -73,6 +78,11 @@ public class JsonQueryResponse implements QueryResponse {
         this.error = error;
     }
 
+    @JsonIgnore
+    public void setNode(String node) {
+        this.node = node;
+    }
+
     @Override
     public long getTotal() {
         return total;
@@ -98,6 +108,21 @@ public class JsonQueryResponse implements QueryResponse {
         return error;
     }
 
+    @Override
+    public String getNode() {
+        return node;
+    }
+
+    @JsonIgnore
+    public void setResponseBytes(long responseBytes) {
+        this.responseBytes = responseBytes;
+    }
+
+    @Override
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -106,7 +131,7 @@ public class JsonQueryResponse implements QueryResponse {
         return getSize() == response.getSize() &&
                 getTotal() == response.getTotal() &&
                 getStatus() == response.getStatus() &&
-                getCursor() == response.getCursor() &&
+                Objects.equals(getCursor(), response.getCursor()) &&
                 Objects.equals(schema, response.schema) &&
                 Objects.equals(getDatarows(), response.getDatarows()) &&
                 Objects.equals(getError(), response.getError());
@@ -0,0 +1,453 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.protocol.http;
+
+import org.opensearch.jdbc.protocol.DatarowConsumer;
+import org.opensearch.jdbc.protocol.DatarowReader;
+import org.opensearch.jdbc.protocol.QueryResponse;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link QueryResponse} implementation for the JSON protocol that decodes
+ * the {@code datarows} of the response incrementally.
+ * <p>
+ * Fields preceding {@code datarows} in the response - normally the
+ * {@code schema}, and the {@code error} of a failed request - are read
+ * when the response is created. Rows are then decoded one at a time as
+ * the {@link #getDatarowIterator() datarow iterator} advances, so only
+ * the row being read needs to be held in memory.
+ * <p>
+ * Fields following {@code datarows} (normally the {@code size} and
+ * {@code status}) are only known once all rows have been read. Calling
+ * their getters, or {@link #getDatarows()}, before that reads the
+ * remaining rows into memory.
+ * <p>
+ * The underlying content stream is released as soon as the response has
+ * been read in full. A response that is not read in full must be
+ * {@link #close() closed}.
+ */
+public class JsonStreamingQueryResponse extends JsonQueryResponse {
+
+    private static final TypeReference<List<SchemaEntry>> SCHEMA_TYPE = new TypeReference<List<SchemaEntry>>() {};
+
+    private final JsonParser parser;
+    private final Closeable source;
+
+    private boolean readingDatarows = false;
+    private boolean complete = false;
+    private boolean closed = false;
+    private int nextBufferedRow = 0;
+
+    /**
+     * @param mapper ObjectMapper to decode the response with
+     * @param content response content stream
+     * @param source the resource the content stream belongs to, closed
+     *               along with the response
+     *
+     * @throws IOException if the fields preceding the data rows could
+     *         not be read
+     */
+    public JsonStreamingQueryResponse(ObjectMapper mapper, InputStream content, Closeable source)
+            throws IOException {
+        this.parser = mapper.createParser(content);
+        this.source = source;
+
+        try {
+            readHeader();
+        } catch (IOException ex) {
+            close();
+            throw ex;
+        }
+    }
+
+    @Override
+    public List<List<Object>> getDatarows() {
+        readRemaining();
+        return super.getDatarows();
+    }
+
+    /**
+     * Returns an iterator decoding the data rows as it advances. Rows
+     * returned by the iterator are consumed, and are not included in a
+     * subsequent call to {@link #getDatarows()}.
+     * <p>
+     * An {@link UncheckedIOException} is thrown from the iterator if the
+     * remaining content can not be read or decoded.
+     */
+    @Override
+    public Iterator<List<Object>> getDatarowIterator() {
+        return new Iterator<List<Object>>() {
+            private List<Object> nextRow;
+
+            @Override
+            public boolean hasNext() {
+                if (nextRow == null) {
+                    nextRow = nextDatarow();
+                }
+                return nextRow != null;
+            }
+
+            @Override
+            public List<Object> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<Object> row = nextRow;
+                nextRow = null;
+                return row;
+            }
+        };
+    }
+
+    /**
+     * Returns a reader decoding the data rows straight from the content
+     * stream, passing integral, floating point and boolean values to the
+     * consumer without boxing them. Rows returned by the reader are
+     * consumed in the same way as rows returned by the
+     * {@link #getDatarowIterator() datarow iterator}.
+     */
+    @Override
+    public DatarowReader getDatarowReader() {
+        return this::readDatarows;
+    }
+
+    @Override
+    public long getTotal() {
+        readRemaining();
+        return super.getTotal();
+    }
+
+    @Override
+    public long getSize() {
+        readRemaining();
+        return super.getSize();
+    }
+
+    @Override
+    public int getStatus() {
+        readRemaining();
+        return super.getStatus();
+    }
+
+    /**
+     * Returns the cursor id without reading the remaining rows if the
+     * cursor preceded the data rows in the response.
+     */
+    @Override
+    public String getCursor() {
+        if (super.getCursor() == null) {
+            readRemaining();
+        }
+        return super.getCursor();
+    }
+
+    @Override
+    public String getReceivedCursor() {
+        return super.getCursor();
+    }
+
+    @Override
+    public long getResponseBytes() {
+        return closed ? super.getResponseBytes() : parser.getCurrentLocation().getByteOffset();
+    }
+
+    /**
+     * @return true if the response has been read in full
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        setResponseBytes(parser.getCurrentLocation().getByteOffset());
+
+        try {
+            if (!complete) {
+                // closing the source first discards the rest of the
+                // content rather than reading it to the end
+                source.close();
+                parser.close();
+            } else {
+                parser.close();
+                source.close();
+            }
+        } finally {
+            readingDatarows = false;
+        }
+    }
+
+    private List<Object> nextDatarow() {
+        if (readingDatarows) {
+            try {
+                return readDatarow();
+            } catch (IOException ex) {
+                closeQuietly();
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        List<List<Object>> bufferedRows = super.getDatarows();
+        if (bufferedRows != null && nextBufferedRow < bufferedRows.size()) {
+            return bufferedRows.get(nextBufferedRow++);
+        }
+        return null;
+    }
+
+    private int readDatarows(DatarowConsumer consumer, int maxRows) {
+        int rowCount = 0;
+
+        while (rowCount < maxRows) {
+            if (readingDatarows) {
+                try {
+                    if (!readDatarow(consumer)) {
+                        break;
+                    }
+                } catch (IOException ex) {
+                    closeQuietly();
+                    throw new UncheckedIOException(ex);
+                }
+            } else {
+                List<Object> row = nextDatarow();
+                if (row == null) {
+                    break;
+                }
+                for (int i = 0; i < row.size(); i++) {
+                    consumer.accept(i, row.get(i));
+                }
+                consumer.endRow();
+            }
+            rowCount++;
+        }
+        return rowCount;
+    }
+
+    private void readRemaining() {
+        if (!readingDatarows) {
+            return;
+        }
+
+        List<List<Object>> rows = new ArrayList<>();
+        List<Object> row;
+        while ((row = nextDatarow()) != null) {
+            rows.add(row);
+        }
+        setDatarows(rows);
+        nextBufferedRow = 0;
+    }
+
+    private void readHeader() throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a JSON object in the query response");
+        }
+
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+
+            if ("datarows".equals(fieldName) && getColumnDescriptors() != null) {
+                expectToken(JsonToken.START_ARRAY);
+                readingDatarows = true;
+                return;
+            }
+            readField(fieldName);
+        }
+        readEnd(token);
+    }
+
+    private void readTrailer() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            readField(fieldName);
+        }
+        readEnd(token);
+    }
+
+    private void readEnd(JsonToken token) throws IOException {
+        if (token != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Unexpected end of query response");
+        }
+        complete = true;
+        close();
+    }
+
+    private void readField(String fieldName) throws IOException {
+        switch (fieldName) {
+            case "schema":
+                setSchema(parser.readValueAs(SCHEMA_TYPE));
+                break;
+            case "datarows":
+                // rows preceding the schema can not be handed out
+                // before the schema is known, so are read in full
+                List<List<Object>> rows = new ArrayList<>();
+                expectToken(JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    rows.add(readRowValues());
+                }
+                setDatarows(rows);
+                break;
+            case "size":
+                setSize(parser.getValueAsInt());
+                break;
+            case "total":
+                setTotal(parser.getValueAsInt());
+                break;
+            case "status":
+                setStatus(parser.getValueAsInt());
+                break;
+            case "cursor":
+                setCursor(parser.getValueAsString());
+                break;
+            case "error":
+                setError(parser.readValueAs(JsonRequestError.class));
+                break;
+            default:
+                parser.skipChildren();
+        }
+    }
+
+    private List<Object> readDatarow() throws IOException {
+        if (parser.nextToken() == JsonToken.END_ARRAY) {
+            readingDatarows = false;
+            setDatarows(new ArrayList<>());
+            readTrailer();
+            return null;
+        }
+        return readRowValues();
+    }
+
+    private boolean readDatarow(DatarowConsumer consumer) throws IOException {
+        if (parser.nextToken() == JsonToken.END_ARRAY) {
+            readingDatarows = false;
+            setDatarows(new ArrayList<>());
+            readTrailer();
+            return false;
+        }
+        expectToken(JsonToken.START_ARRAY);
+
+        int column = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new JsonParseException(parser, "Unexpected end of query response");
+            }
+
+            switch (token) {
+                case VALUE_NUMBER_INT:
+                    switch (parser.getNumberType()) {
+                        case INT:
+                            consumer.acceptInt(column, parser.getIntValue());
+                            break;
+                        case LONG:
+                            consumer.acceptLong(column, parser.getLongValue());
+                            break;
+                        default:
+                            consumer.acceptObject(column, parser.getNumberValue());
+                    }
+                    break;
+                case VALUE_NUMBER_FLOAT:
+                    consumer.acceptDouble(column, parser.getDoubleValue());
+                    break;
+                case VALUE_TRUE:
+                    consumer.acceptBoolean(column, true);
+                    break;
+                case VALUE_FALSE:
+                    consumer.acceptBoolean(column, false);
+                    break;
+                case VALUE_NULL:
+                    consumer.acceptNull(column);
+                    break;
+                case VALUE_STRING:
+                    consumer.acceptString(column, parser.getText());
+                    break;
+                default:
+                    consumer.acceptObject(column, readValue(token));
+            }
+            column++;
+        }
+        consumer.endRow();
+        return true;
+    }
+
+    private List<Object> readRowValues() throws IOException {
+        expectToken(JsonToken.START_ARRAY);
+
+        int columnCount = getColumnDescriptors() != null ? getColumnDescriptors().size() : 10;
+        List<Object> row = new ArrayList<>(columnCount);
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            row.add(readValue(token));
+        }
+        return row;
+    }
+
+    /**
+     * Reads a column value into the same types databinding produces for
+     * an untyped value.
+     */
+    private Object readValue(JsonToken token) throws IOException {
+        if (token == null) {
+            throw new JsonParseException(parser, "Unexpected end of query response");
+        }
+
+        switch (token) {
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                return parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            case VALUE_EMBEDDED_OBJECT:
+                return parser.getEmbeddedObject();
+            default:
+                // nested objects and arrays
+                return parser.readValueAs(Object.class);
+        }
+    }
+
+    private void expectToken(JsonToken expected) throws IOException {
+        if (parser.currentToken() != expected) {
+            throw new JsonParseException(parser,
+                    "Expected " + expected + " but found " + parser.currentToken());
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException ex) {
+            // ignore
+        }
+    }
+}
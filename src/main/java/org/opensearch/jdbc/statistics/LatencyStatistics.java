@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.statistics;
+
+/**
+ * Snapshot of the durations recorded for an operation. Percentiles are
+ * approximate, and at most 12.5% above the actual durations.
+ */
+public class LatencyStatistics {
+
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+
+    public LatencyStatistics(long count, long totalNanos, long maxNanos, long p50Nanos, long p90Nanos,
+                             long p99Nanos) {
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+    }
+
+    /**
+     * @return the number of recorded durations
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMeanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyStatistics{" +
+                "count=" + count +
+                ", totalNanos=" + totalNanos +
+                ", maxNanos=" + maxNanos +
+                ", p50Nanos=" + p50Nanos +
+                ", p90Nanos=" + p90Nanos +
+                ", p99Nanos=" + p99Nanos +
+                '}';
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.statistics;
+
+import java.util.Map;
+
+/**
+ * Snapshot of the statistics of the queries executed by a connection, or
+ * by all connections of the driver.
+ * <p>
+ * Counters are totals since the connection was opened, or since the
+ * driver was loaded. The counters are read one after the other, so a
+ * snapshot taken while queries are executed may be slightly inconsistent
+ * across counters.
+ */
+public class Statistics implements StatisticsMXBean {
+
+    private final long queriesExecuted;
+    private final long queryFailures;
+    private final long cursorPagesFetched;
+    private final long rowsRead;
+    private final long bytesSent;
+    private final long bytesReceived;
+    private final long requestsSent;
+    private final long requestFailures;
+    private final long retries;
+    private final long inFlightRequests;
+    private final Map<Integer, Long> statusCodeCounts;
+    private final LatencyStatistics queryLatency;
+    private final LatencyStatistics pageFetchLatency;
+    private final LatencyStatistics serializeTime;
+    private final LatencyStatistics networkTime;
+    private final LatencyStatistics parseTime;
+    private final LatencyStatistics convertTime;
+
+    Statistics(StatisticsRecorder recorder) {
+        this.queriesExecuted = recorder.getQueriesExecuted();
+        this.queryFailures = recorder.getQueryFailures();
+        this.cursorPagesFetched = recorder.getCursorPagesFetched();
+        this.rowsRead = recorder.getRowsRead();
+        this.bytesSent = recorder.getBytesSent();
+        this.bytesReceived = recorder.getBytesReceived();
+        this.requestsSent = recorder.getRequestsSent();
+        this.requestFailures = recorder.getRequestFailures();
+        this.retries = recorder.getRetries();
+        this.inFlightRequests = recorder.getInFlightRequests();
+        this.statusCodeCounts = recorder.getStatusCodeCounts();
+        this.queryLatency = recorder.getQueryLatency();
+        this.pageFetchLatency = recorder.getPageFetchLatency();
+        this.serializeTime = recorder.getSerializeTime();
+        this.networkTime = recorder.getNetworkTime();
+        this.parseTime = recorder.getParseTime();
+        this.convertTime = recorder.getConvertTime();
+    }
+
+    /**
+     * @return the number of queries sent to the server, excluding the
+     *         queries served from the result cache
+     */
+    @Override
+    public long getQueriesExecuted() {
+        return queriesExecuted;
+    }
+
+    /**
+     * @return the number of executed queries that failed
+     */
+    @Override
+    public long getQueryFailures() {
+        return queryFailures;
+    }
+
+    /**
+     * @return the number of pages of cursors read after the first page
+     */
+    @Override
+    public long getCursorPagesFetched() {
+        return cursorPagesFetched;
+    }
+
+    /**
+     * @return the number of rows read from result sets. Rows are counted
+     *         once a page is read in full, or the result set is closed.
+     */
+    @Override
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    /**
+     * @return the number of bytes of query request bodies sent, before
+     *         any compression. A retried request is counted each time it
+     *         is sent.
+     */
+    @Override
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * @return the number of bytes of response bodies read, after any
+     *         decompression
+     */
+    @Override
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * @return the number of HTTP requests sent, counting each attempt of
+     *         a retried request
+     */
+    @Override
+    public long getRequestsSent() {
+        return requestsSent;
+    }
+
+    /**
+     * @return the number of HTTP requests that failed without a response
+     */
+    @Override
+    public long getRequestFailures() {
+        return requestFailures;
+    }
+
+    /**
+     * @return the number of times a failed request was sent again
+     */
+    @Override
+    public long getRetries() {
+        return retries;
+    }
+
+    /**
+     * @return the number of HTTP requests waiting for their response
+     */
+    @Override
+    public long getInFlightRequests() {
+        return inFlightRequests;
+    }
+
+    /**
+     * @return the number of responses received, by HTTP status code
+     */
+    @Override
+    public Map<Integer, Long> getStatusCodeCounts() {
+        return statusCodeCounts;
+    }
+
+    /**
+     * @return the time from sending a query until its first page is
+     *         received
+     */
+    @Override
+    public LatencyStatistics getQueryLatency() {
+        return queryLatency;
+    }
+
+    /**
+     * @return the time a result set waited for a page of a cursor, which
+     *         is shorter than the request if the page was prefetched
+     */
+    @Override
+    public LatencyStatistics getPageFetchLatency() {
+        return pageFetchLatency;
+    }
+
+    /**
+     * @return the time spent serializing request bodies, which are
+     *         written to the connection as they are serialized
+     */
+    @Override
+    public LatencyStatistics getSerializeTime() {
+        return serializeTime;
+    }
+
+    /**
+     * @return the time from sending an HTTP request until its response
+     *         is received, for each attempt
+     */
+    @Override
+    public LatencyStatistics getNetworkTime() {
+        return networkTime;
+    }
+
+    /**
+     * @return the time spent decoding a row of a response, sampled for
+     *         one row in {@value StatisticsRecorder#SAMPLING_INTERVAL}
+     */
+    @Override
+    public LatencyStatistics getParseTime() {
+        return parseTime;
+    }
+
+    /**
+     * @return the time spent converting a value to the type requested
+     *         from a result set, sampled for one value in
+     *         {@value StatisticsRecorder#SAMPLING_INTERVAL}
+     */
+    @Override
+    public LatencyStatistics getConvertTime() {
+        return convertTime;
+    }
+
+    @Override
+    public String toString() {
+        return "Statistics{" +
+                "queriesExecuted=" + queriesExecuted +
+                ", queryFailures=" + queryFailures +
+                ", cursorPagesFetched=" + cursorPagesFetched +
+                ", rowsRead=" + rowsRead +
+                ", bytesSent=" + bytesSent +
+                ", bytesReceived=" + bytesReceived +
+                ", requestsSent=" + requestsSent +
+                ", requestFailures=" + requestFailures +
+                ", retries=" + retries +
+                ", inFlightRequests=" + inFlightRequests +
+                ", statusCodeCounts=" + statusCodeCounts +
+                ", queryLatency=" + queryLatency +
+                ", pageFetchLatency=" + pageFetchLatency +
+                ", serializeTime=" + serializeTime +
+                ", networkTime=" + networkTime +
+                ", parseTime=" + parseTime +
+                ", convertTime=" + convertTime +
+                '}';
+    }
+}
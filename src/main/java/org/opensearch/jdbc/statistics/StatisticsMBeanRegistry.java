@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.statistics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registers the statistics of connections, and of the driver, as MBeans
+ * with the platform MBean server.
+ * <p>
+ * The MBean of the driver is named {@value #DRIVER_NAME}, and the MBean
+ * of a connection {@code org.opensearch.jdbc:type=Statistics,name=connection-<id>},
+ * where the id is a sequence number. The MBean of the driver is registered
+ * along with the first connection, and stays registered.
+ * <p>
+ * MBeans that can not be registered, such as when the security manager
+ * does not permit it, are skipped, as the statistics remain available
+ * through the connection.
+ */
+public class StatisticsMBeanRegistry {
+
+    public static final StatisticsMBeanRegistry INSTANCE =
+            new StatisticsMBeanRegistry(ManagementFactory.getPlatformMBeanServer());
+
+    static final String DRIVER_NAME = "org.opensearch.jdbc:type=Statistics,name=driver";
+
+    private static final String CONNECTION_NAME_PREFIX = "org.opensearch.jdbc:type=Statistics,name=connection-";
+
+    private final MBeanServer mBeanServer;
+    private final AtomicLong connectionIds = new AtomicLong();
+    private boolean driverRegistered;
+
+    StatisticsMBeanRegistry(MBeanServer mBeanServer) {
+        this.mBeanServer = mBeanServer;
+    }
+
+    /**
+     * Registers the statistics of a connection.
+     *
+     * @return the name of the MBean, to unregister it with once the
+     *         connection is closed, or null if it could not be registered
+     */
+    public ObjectName register(StatisticsRecorder connectionStatistics) {
+        registerDriver();
+
+        try {
+            ObjectName name = new ObjectName(CONNECTION_NAME_PREFIX + connectionIds.incrementAndGet());
+            mBeanServer.registerMBean(connectionStatistics, name);
+            return name;
+        } catch (JMException | SecurityException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * @param name the name of the MBean of a connection, or null
+     */
+    public void unregister(ObjectName name) {
+        if (name == null) {
+            return;
+        }
+
+        try {
+            mBeanServer.unregisterMBean(name);
+        } catch (JMException | SecurityException ex) {
+            // already unregistered
+        }
+    }
+
+    private synchronized void registerDriver() {
+        if (driverRegistered) {
+            return;
+        }
+        driverRegistered = true;
+
+        try {
+            ObjectName name = new ObjectName(DRIVER_NAME);
+            if (!mBeanServer.isRegistered(name)) {
+                mBeanServer.registerMBean(StatisticsRecorder.DRIVER, name);
+            }
+        } catch (JMException | SecurityException ex) {
+            // connections register their own statistics regardless
+        }
+    }
+}
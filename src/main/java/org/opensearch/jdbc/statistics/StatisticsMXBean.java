@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.statistics;
+
+import java.util.Map;
+
+/**
+ * Statistics of the queries executed by a connection, or by all
+ * connections of the driver, as exposed over JMX.
+ *
+ * @see Statistics
+ */
+public interface StatisticsMXBean {
+
+    long getQueriesExecuted();
+
+    long getQueryFailures();
+
+    long getCursorPagesFetched();
+
+    long getRowsRead();
+
+    long getBytesSent();
+
+    long getBytesReceived();
+
+    long getRequestsSent();
+
+    long getRequestFailures();
+
+    long getRetries();
+
+    long getInFlightRequests();
+
+    Map<Integer, Long> getStatusCodeCounts();
+
+    LatencyStatistics getQueryLatency();
+
+    LatencyStatistics getPageFetchLatency();
+
+    LatencyStatistics getSerializeTime();
+
+    LatencyStatistics getNetworkTime();
+
+    LatencyStatistics getParseTime();
+
+    LatencyStatistics getConvertTime();
+}
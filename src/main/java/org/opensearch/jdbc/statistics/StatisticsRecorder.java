@@ -0,0 +1,375 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.statistics;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the statistics of the queries executed by a connection, and
+ * adds them to the statistics of the driver.
+ * <p>
+ * Recording is safe from any thread, and neither allocates nor locks
+ * once a status code has been seen, so the recorder can be updated on
+ * the request path. Durations that would have to be measured for every
+ * row or value are only measured for one in {@link #SAMPLING_INTERVAL},
+ * by the callers.
+ * <p>
+ * The recorder is registered as the JMX MBean of the connection, or of
+ * the driver, so its getters read the live counters.
+ */
+public class StatisticsRecorder implements StatisticsMXBean {
+
+    /**
+     * Durations of operations on single rows or values are measured for
+     * one in this many operations.
+     */
+    public static final int SAMPLING_INTERVAL = 16;
+
+    /**
+     * The statistics of all connections of the driver.
+     */
+    public static final StatisticsRecorder DRIVER = new StatisticsRecorder(null);
+
+    private final StatisticsRecorder parent;
+
+    private final LongAdder queriesExecuted = new LongAdder();
+    private final LongAdder queryFailures = new LongAdder();
+    private final LongAdder cursorPagesFetched = new LongAdder();
+    private final LongAdder rowsRead = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder requestsSent = new LongAdder();
+    private final LongAdder requestFailures = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder inFlightRequests = new LongAdder();
+    private final ConcurrentMap<Integer, LongAdder> statusCodeCounts = new ConcurrentHashMap<>();
+    private final LatencyHistogram queryLatency = new LatencyHistogram();
+    private final LatencyHistogram pageFetchLatency = new LatencyHistogram();
+    private final LatencyHistogram serializeTime = new LatencyHistogram();
+    private final LatencyHistogram networkTime = new LatencyHistogram();
+    private final LatencyHistogram parseTime = new LatencyHistogram();
+    private final LatencyHistogram convertTime = new LatencyHistogram();
+
+    /**
+     * Creates the recorder of a connection, whose statistics are added to
+     * the statistics of the driver.
+     */
+    public StatisticsRecorder() {
+        this(DRIVER);
+    }
+
+    /**
+     * @param parent the recorder the statistics are also added to, or null
+     */
+    StatisticsRecorder(StatisticsRecorder parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * @return a snapshot of the statistics
+     */
+    public Statistics snapshot() {
+        return new Statistics(this);
+    }
+
+    /**
+     * Records a query sent to the server.
+     *
+     * @param nanos the time until the first page was received
+     * @param failed true if the query failed
+     */
+    public void recordQuery(long nanos, boolean failed) {
+        queriesExecuted.increment();
+        if (failed) {
+            queryFailures.increment();
+        }
+        queryLatency.record(nanos);
+
+        if (parent != null) {
+            parent.recordQuery(nanos, failed);
+        }
+    }
+
+    /**
+     * Records a page of a cursor read after the first page.
+     *
+     * @param nanos the time the result set waited for the page
+     */
+    public void recordPageFetch(long nanos) {
+        cursorPagesFetched.increment();
+        pageFetchLatency.record(nanos);
+
+        if (parent != null) {
+            parent.recordPageFetch(nanos);
+        }
+    }
+
+    public void recordRowsRead(long rows) {
+        rowsRead.add(rows);
+
+        if (parent != null) {
+            parent.recordRowsRead(rows);
+        }
+    }
+
+    /**
+     * Records the serialization of a request body.
+     *
+     * @param nanos the time spent serializing and writing the body
+     */
+    public void recordSerialize(long nanos) {
+        serializeTime.record(nanos);
+
+        if (parent != null) {
+            parent.recordSerialize(nanos);
+        }
+    }
+
+    /**
+     * Records an HTTP request about to be sent.
+     */
+    public void recordRequestStarted() {
+        requestsSent.increment();
+        inFlightRequests.increment();
+
+        if (parent != null) {
+            parent.recordRequestStarted();
+        }
+    }
+
+    /**
+     * Records the response to an HTTP request.
+     *
+     * @param nanos the time from sending the request until its response
+     *         was received
+     */
+    public void recordResponse(int statusCode, long nanos) {
+        inFlightRequests.decrement();
+        networkTime.record(nanos);
+        getStatusCodeCount(statusCode).increment();
+
+        if (parent != null) {
+            parent.recordResponse(statusCode, nanos);
+        }
+    }
+
+    /**
+     * Records an HTTP request that failed without a response.
+     */
+    public void recordRequestFailure() {
+        inFlightRequests.decrement();
+        requestFailures.increment();
+
+        if (parent != null) {
+            parent.recordRequestFailure();
+        }
+    }
+
+    public void recordRetry() {
+        retries.increment();
+
+        if (parent != null) {
+            parent.recordRetry();
+        }
+    }
+
+    /**
+     * Records the time spent decoding a sampled row of a response.
+     */
+    public void recordParse(long nanos) {
+        parseTime.record(nanos);
+
+        if (parent != null) {
+            parent.recordParse(nanos);
+        }
+    }
+
+    /**
+     * Records the time spent converting a sampled value read from a
+     * result set.
+     */
+    public void recordConvert(long nanos) {
+        convertTime.record(nanos);
+
+        if (parent != null) {
+            parent.recordConvert(nanos);
+        }
+    }
+
+    /**
+     * @return a stream counting the bytes written to the stream it wraps
+     *         as bytes sent
+     */
+    public OutputStream countBytesSent(OutputStream out) {
+        return new FilterOutputStream(out) {
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                recordBytesSent(1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+                recordBytesSent(len);
+            }
+        };
+    }
+
+    /**
+     * @return a stream counting the bytes read from the stream it wraps
+     *         as bytes received
+     */
+    public InputStream countBytesReceived(InputStream in) {
+        return new FilterInputStream(in) {
+            @Override
+            public int read() throws IOException {
+                int b = in.read();
+                if (b >= 0) {
+                    recordBytesReceived(1);
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int read = in.read(b, off, len);
+                if (read > 0) {
+                    recordBytesReceived(read);
+                }
+                return read;
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                long skipped = in.skip(n);
+                if (skipped > 0) {
+                    recordBytesReceived(skipped);
+                }
+                return skipped;
+            }
+        };
+    }
+
+    private void recordBytesSent(long bytes) {
+        bytesSent.add(bytes);
+
+        if (parent != null) {
+            parent.recordBytesSent(bytes);
+        }
+    }
+
+    private void recordBytesReceived(long bytes) {
+        bytesReceived.add(bytes);
+
+        if (parent != null) {
+            parent.recordBytesReceived(bytes);
+        }
+    }
+
+    private LongAdder getStatusCodeCount(int statusCode) {
+        LongAdder count = statusCodeCounts.get(statusCode);
+        return count != null ? count : statusCodeCounts.computeIfAbsent(statusCode, (code) -> new LongAdder());
+    }
+
+    @Override
+    public long getQueriesExecuted() {
+        return queriesExecuted.sum();
+    }
+
+    @Override
+    public long getQueryFailures() {
+        return queryFailures.sum();
+    }
+
+    @Override
+    public long getCursorPagesFetched() {
+        return cursorPagesFetched.sum();
+    }
+
+    @Override
+    public long getRowsRead() {
+        return rowsRead.sum();
+    }
+
+    @Override
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    @Override
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    @Override
+    public long getRequestsSent() {
+        return requestsSent.sum();
+    }
+
+    @Override
+    public long getRequestFailures() {
+        return requestFailures.sum();
+    }
+
+    @Override
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    @Override
+    public long getInFlightRequests() {
+        return inFlightRequests.sum();
+    }
+
+    @Override
+    public Map<Integer, Long> getStatusCodeCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statusCodeCounts.forEach((statusCode, count) -> counts.put(statusCode, count.sum()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    @Override
+    public LatencyStatistics getQueryLatency() {
+        return queryLatency.snapshot();
+    }
+
+    @Override
+    public LatencyStatistics getPageFetchLatency() {
+        return pageFetchLatency.snapshot();
+    }
+
+    @Override
+    public LatencyStatistics getSerializeTime() {
+        return serializeTime.snapshot();
+    }
+
+    @Override
+    public LatencyStatistics getNetworkTime() {
+        return networkTime.snapshot();
+    }
+
+    @Override
+    public LatencyStatistics getParseTime() {
+        return parseTime.snapshot();
+    }
+
+    @Override
+    public LatencyStatistics getConvertTime() {
+        return convertTime.snapshot();
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport;
+
+/**
+ * Enum representing the available strategies to spread requests across
+ * the nodes of a cluster
+ */
+public enum LoadBalancingType {
+
+    /**
+     * Nodes take turns serving requests
+     */
+    ROUND_ROBIN,
+
+    /**
+     * The node with the fewest requests in flight serves the request
+     */
+    LEAST_OUTSTANDING;
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport;
+
+/**
+ * Allows a request executing on one thread to be aborted from another.
+ * <p>
+ * A transport executing a request registers an action that aborts it.
+ * Cancelling runs the registered action, and a cancelled canceller runs
+ * any action registered afterwards right away, so a request that has
+ * not yet been sent fails as soon as it is executed.
+ */
+public class RequestCanceller {
+
+    private Runnable abortAction;
+    private boolean cancelled = false;
+
+    /**
+     * Registers the action aborting the request currently executing,
+     * replacing any previously registered action.
+     */
+    public void setAbortAction(Runnable abortAction) {
+        boolean abort;
+        synchronized (this) {
+            this.abortAction = abortAction;
+            abort = cancelled;
+        }
+
+        if (abort) {
+            abortAction.run();
+        }
+    }
+
+    /**
+     * Aborts the request currently executing, and any request executed
+     * until the canceller is {@link #reset()}.
+     */
+    public void cancel() {
+        Runnable action;
+        synchronized (this) {
+            cancelled = true;
+            action = abortAction;
+        }
+
+        if (action != null) {
+            action.run();
+        }
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Clears the cancelled state and the registered action, before
+     * executing a new set of requests.
+     */
+    public synchronized void reset() {
+        cancelled = false;
+        abortAction = null;
+    }
+}
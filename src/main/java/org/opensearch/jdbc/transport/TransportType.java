@@ -0,0 +1,29 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport;
+
+/**
+ * Enum representing the available transport implementations
+ */
+public enum TransportType {
+
+    /**
+     * Blocking HTTP/1.1 transport
+     */
+    HTTP,
+
+    /**
+     * Non-blocking HTTP/1.1 transport
+     */
+    HTTP_ASYNC,
+
+    /**
+     * Non-blocking HTTP/2 transport, multiplexing concurrent requests
+     * over a single connection per node. Requires Java 11 or later.
+     */
+    HTTP2;
+}
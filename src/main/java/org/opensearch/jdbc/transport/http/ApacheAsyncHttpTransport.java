@@ -0,0 +1,393 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.opensearch.jdbc.auth.AuthenticationType;
+import org.opensearch.jdbc.config.ConnectionConfig;
+import org.opensearch.jdbc.internal.util.QueryTimer;
+import org.opensearch.jdbc.logging.Logger;
+import org.opensearch.jdbc.statistics.StatisticsRecorder;
+import org.opensearch.jdbc.transport.RequestCanceller;
+import org.opensearch.jdbc.transport.TransportException;
+import org.apache.http.Header;
+import org.apache.http.HeaderElement;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.entity.DeflateDecompressingEntity;
+import org.apache.http.client.entity.GzipDecompressingEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.utils.URIBuilder;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.pool.PoolStats;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@link AsyncHttpTransport} implementation based on the non-blocking
+ * Apache HttpAsyncClient.
+ * <p>
+ * Requests are driven by a small, fixed set of I/O reactor threads
+ * rather than by the calling threads. The underlying client, along with
+ * its reactor and connection pool, is shared through the
+ * {@link ApacheHttpClientRegistry} by all transports with an identical
+ * configuration, irrespective of the {@code sharedConnectionPool}
+ * setting, since every client owns its own set of I/O threads.
+ * <p>
+ * Responses are buffered in full before they are handed back.
+ */
+public class ApacheAsyncHttpTransport implements AsyncHttpTransport {
+
+    private static final Header acceptEncodingCompressed =
+            new BasicHeader(HttpHeaders.ACCEPT_ENCODING, "gzip,deflate");
+
+    // the pool checks lease deadlines against the wall clock
+    private static final long LEASE_TIMEOUT_SLACK_MILLIS = 10;
+
+    String path;
+    int readTimeout;
+    int connectionRequestTimeout;
+
+    private final boolean requestCompression;
+    private final boolean requestBodyCompression;
+    private PooledHttpAsyncClient pooledHttpAsyncClient;
+    private RetryingRequestExecutor requestExecutor;
+
+    public ApacheAsyncHttpTransport(ConnectionConfig connectionConfig, Logger log, String userAgent)
+            throws TransportException {
+        this.path = connectionConfig.getPath();
+        this.requestCompression = connectionConfig.requestCompression();
+        this.requestBodyCompression = connectionConfig.requestBodyCompression();
+        this.connectionRequestTimeout = (int) Math.min(Integer.MAX_VALUE,
+                connectionConfig.getConnectionRequestTimeout() * 1000L);
+
+        this.pooledHttpAsyncClient = ApacheHttpClientRegistry.INSTANCE.acquire(PooledHttpAsyncClient.class,
+                connectionConfig, userAgent, () -> buildPooledHttpAsyncClient(connectionConfig, userAgent));
+        this.requestExecutor = RetryingRequestExecutor.forConfig(connectionConfig, log,
+                (node) -> await(execute(new HttpGet(buildRequestURI(node, NodeSniffer.PATH, NodeSniffer.PARAMS)),
+                        null, NodeSniffer.TIMEOUT_MILLIS)));
+    }
+
+    private static PooledHttpAsyncClient buildPooledHttpAsyncClient(ConnectionConfig connectionConfig,
+                                                                    String userAgent) throws TransportException {
+        if (connectionConfig.isUseSSL()) {
+            // load the stores upfront so that invalid stores fail the connection
+            try {
+                SslContextRegistry.INSTANCE.getSslContext(connectionConfig);
+            } catch (Exception e) {
+                throw new TransportException("Exception building SSL/TLS session strategy " + e, e);
+            }
+        }
+        SchemeIOSessionStrategy sslSessionStrategy =
+                new ReloadingSslSessionStrategy(SslContextRegistry.INSTANCE, connectionConfig);
+
+        Registry<SchemeIOSessionStrategy> sessionStrategyRegistry = RegistryBuilder.<SchemeIOSessionStrategy>create()
+                .register("http", NoopIOSessionStrategy.INSTANCE)
+                .register("https", sslSessionStrategy)
+                .build();
+
+        PoolingNHttpClientConnectionManager connectionManager;
+        try {
+            DefaultConnectingIOReactor ioReactor = new DefaultConnectingIOReactor(IOReactorConfig.custom()
+                    .setSoKeepAlive(true)
+                    .build());
+            connectionManager = new PoolingNHttpClientConnectionManager(ioReactor, sessionStrategyRegistry);
+        } catch (IOReactorException e) {
+            throw new TransportException("Exception starting I/O reactor " + e, e);
+        }
+        connectionManager.setDefaultMaxPerRoute(connectionConfig.getMaxConnectionsPerRoute());
+        connectionManager.setMaxTotal(connectionConfig.getMaxConnectionsTotal());
+
+        HttpAsyncClientBuilder httpAsyncClientBuilder = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setUserAgent(userAgent);
+
+        // setup authentication
+        if (connectionConfig.getAuthenticationType() == AuthenticationType.BASIC) {
+            httpAsyncClientBuilder.addInterceptorLast(
+                    ApacheHttpTransport.buildBasicAuthInterceptor(connectionConfig));
+
+        } else if (connectionConfig.getAuthenticationType() == AuthenticationType.AWS_SIGV4 ||
+                connectionConfig.getAuthenticationType() == AuthenticationType.AWS_SIGV4_SERVERLESS) {
+            httpAsyncClientBuilder.addInterceptorLast(
+                    ApacheHttpTransport.buildAwsRequestSigningInterceptor(connectionConfig));
+        }
+
+        PooledHttpAsyncClient pooledHttpAsyncClient = new PooledHttpAsyncClient(
+                httpAsyncClientBuilder.build(), connectionManager, connectionConfig.getIdleConnectionTimeout());
+        pooledHttpAsyncClient.getHttpAsyncClient().start();
+        return pooledHttpAsyncClient;
+    }
+
+    @Override
+    public CloseableHttpResponse doGet(String path, Header[] headers, HttpParam[] params, int timeout)
+            throws TransportException {
+        return requestExecutor.execute(
+                (node) -> await(execute(new HttpGet(buildRequestURI(node, path, params)), headers, timeout)),
+                false, null, null);
+    }
+
+    @Override
+    public CloseableHttpResponse doPost(String path, Header[] headers, HttpParam[] params, String body, int timeout)
+            throws TransportException {
+        return doPost(path, headers, params, body, timeout, null);
+    }
+
+    @Override
+    public CloseableHttpResponse doPost(String path, Header[] headers, HttpParam[] params, String body, int timeout,
+                                        RequestCanceller canceller) throws TransportException {
+        return doPost(path, headers, params, new StringEntity(body, ContentType.APPLICATION_JSON), timeout, canceller);
+    }
+
+    @Override
+    public CloseableHttpResponse doPost(String path, Header[] headers, HttpParam[] params, HttpEntity body,
+                                        int timeout, RequestCanceller canceller) throws TransportException {
+        return requestExecutor.execute(
+                (node) -> executePost(buildRequestURI(node, path, params), headers, body, timeout, canceller),
+                false, canceller, null);
+    }
+
+    @Override
+    public CloseableHttpResponse doRetryablePost(String path, Header[] headers, HttpParam[] params, String body,
+                                                 int timeout, RequestCanceller canceller, NodeAffinity affinity)
+            throws TransportException {
+        return doRetryablePost(path, headers, params, new StringEntity(body, ContentType.APPLICATION_JSON), timeout,
+                canceller, affinity);
+    }
+
+    @Override
+    public CloseableHttpResponse doRetryablePost(String path, Header[] headers, HttpParam[] params, HttpEntity body,
+                                                 int timeout, RequestCanceller canceller, NodeAffinity affinity)
+            throws TransportException {
+        return requestExecutor.execute(
+                (node) -> executePost(buildRequestURI(node, path, params), headers, body, timeout, canceller),
+                true, canceller, affinity);
+    }
+
+    private CloseableHttpResponse executePost(URI uri, Header[] headers, HttpEntity body, int timeout,
+                                              RequestCanceller canceller) throws TransportException {
+        CompletableFuture<CloseableHttpResponse> responseFuture = execute(newPost(uri, body), headers, timeout);
+        if (canceller != null) {
+            canceller.setAbortAction(() -> responseFuture.cancel(true));
+        }
+        return await(responseFuture);
+    }
+
+    @Override
+    public CompletableFuture<CloseableHttpResponse> doGetAsync(String path, Header[] headers, HttpParam[] params,
+                                                                int timeout) {
+        return requestExecutor.executeAsync((node) -> {
+            try {
+                return execute(new HttpGet(buildRequestURI(node, path, params)), headers, timeout);
+            } catch (TransportException e) {
+                return failedFuture(e);
+            }
+        }, null);
+    }
+
+    @Override
+    public CompletableFuture<CloseableHttpResponse> doPostAsync(String path, Header[] headers, HttpParam[] params,
+                                                                 String body, int timeout) {
+        return doPostAsync(path, headers, params, body, timeout, null);
+    }
+
+    @Override
+    public CompletableFuture<CloseableHttpResponse> doPostAsync(String path, Header[] headers, HttpParam[] params,
+                                                                 String body, int timeout, NodeAffinity affinity) {
+        return doPostAsync(path, headers, params, new StringEntity(body, ContentType.APPLICATION_JSON), timeout,
+                affinity);
+    }
+
+    @Override
+    public CompletableFuture<CloseableHttpResponse> doPostAsync(String path, Header[] headers, HttpParam[] params,
+                                                                 HttpEntity body, int timeout, NodeAffinity affinity) {
+        return requestExecutor.executeAsync((node) -> {
+            try {
+                return execute(newPost(buildRequestURI(node, path, params), body), headers, timeout);
+            } catch (TransportException e) {
+                return failedFuture(e);
+            }
+        }, affinity);
+    }
+
+    /**
+     * The non-blocking client reads the body from the entity rather than
+     * have the entity write it, so a streamed body is rendered in memory
+     * once here.
+     */
+    private HttpPost newPost(URI uri, HttpEntity body) {
+        HttpPost request = new HttpPost(uri);
+        request.setEntity(requestBodyCompression ? new GzipRequestEntity(body) : body);
+        return request;
+    }
+
+    @Override
+    public void setStatistics(StatisticsRecorder statistics) {
+        requestExecutor.setStatistics(statistics);
+    }
+
+    @Override
+    public void close() throws TransportException {
+        ApacheHttpClientRegistry.INSTANCE.release(pooledHttpAsyncClient);
+    }
+
+    @Override
+    public void setReadTimeout(int readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * @return a snapshot of the connections in the pool backing this
+     *         transport. The pool may be shared with other transports.
+     */
+    public PoolStats getPoolStats() {
+        return pooledHttpAsyncClient.getPoolStats();
+    }
+
+    private CompletableFuture<CloseableHttpResponse> execute(HttpRequestBase request, Header[] headers,
+                                                             int readTimeout) {
+        setReadTimeout(readTimeout);
+        request.setHeaders(headers);
+        if (requestCompression) {
+            request.addHeader(acceptEncodingCompressed);
+        }
+        // built per request as requests may be in flight concurrently
+        request.setConfig(RequestConfig.custom()
+                .setSocketTimeout(readTimeout)
+                .setConnectionRequestTimeout(connectionRequestTimeout)
+                .build());
+
+        CompletableFuture<CloseableHttpResponse> responseFuture = new CompletableFuture<>();
+
+        Future<HttpResponse> requestFuture = pooledHttpAsyncClient.getHttpAsyncClient().execute(request,
+                new FutureCallback<HttpResponse>() {
+                    @Override
+                    public void completed(HttpResponse response) {
+                        responseFuture.complete(new BufferedHttpResponse(requestCompression ? decompress(response) : response));
+                    }
+
+                    @Override
+                    public void failed(Exception ex) {
+                        if (ex instanceof TimeoutException) {
+                            // the pool could not lease a connection in time
+                            responseFuture.completeExceptionally(ApacheHttpTransport.connectionPoolTimeout(
+                                    connectionRequestTimeout, new ConnectionPoolTimeoutException(ex.getMessage())));
+                        } else {
+                            responseFuture.completeExceptionally(new TransportException(ex));
+                        }
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        responseFuture.cancel(false);
+                    }
+                });
+
+        ScheduledFuture<?> leaseTimer = connectionRequestTimeout > 0 ?
+                QueryTimer.INSTANCE.schedule(pooledHttpAsyncClient::validatePendingRequests,
+                        connectionRequestTimeout + LEASE_TIMEOUT_SLACK_MILLIS) : null;
+
+        responseFuture.whenComplete((response, throwable) -> {
+            if (leaseTimer != null) {
+                leaseTimer.cancel(false);
+            }
+            if (responseFuture.isCancelled()) {
+                requestFuture.cancel(true);
+            }
+        });
+        return responseFuture;
+    }
+
+    /**
+     * The non-blocking client does not decode compressed content, so
+     * responses are decoded here if compression was requested.
+     */
+    static HttpResponse decompress(HttpResponse response) {
+        HttpEntity entity = response.getEntity();
+
+        if (entity != null && entity.getContentEncoding() != null) {
+            for (HeaderElement encoding : entity.getContentEncoding().getElements()) {
+                if ("gzip".equalsIgnoreCase(encoding.getName()) || "x-gzip".equalsIgnoreCase(encoding.getName())) {
+                    response.setEntity(new GzipDecompressingEntity(entity));
+                } else if ("deflate".equalsIgnoreCase(encoding.getName())) {
+                    response.setEntity(new DeflateDecompressingEntity(entity));
+                }
+            }
+        }
+        return response;
+    }
+
+    static CloseableHttpResponse await(CompletableFuture<CloseableHttpResponse> responseFuture)
+            throws TransportException {
+        try {
+            return responseFuture.get();
+        } catch (InterruptedException e) {
+            responseFuture.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new TransportException(e);
+        } catch (CancellationException e) {
+            throw new TransportException("Request aborted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TransportException) {
+                throw (TransportException) cause;
+            }
+            throw new TransportException(cause);
+        }
+    }
+
+    static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    private URI buildRequestURI(HttpHost node, String path, HttpParam... params) throws TransportException {
+        try {
+            URIBuilder uriBuilder = new URIBuilder()
+                    .setScheme(node.getSchemeName())
+                    .setHost(node.getHostName())
+                    .setPort(node.getPort())
+                    .setPath(this.path + path);
+
+            if (params != null) {
+                for (HttpParam param : params)
+                    uriBuilder.setParameter(param.getName(), param.getValue());
+            }
+            return uriBuilder.build();
+        } catch (URISyntaxException e) {
+            throw new TransportException(e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.opensearch.jdbc.config.ConnectionConfig;
+import org.opensearch.jdbc.logging.Logger;
+import org.opensearch.jdbc.transport.TransportException;
+import org.opensearch.jdbc.transport.TransportFactory;
+
+public class ApacheAsyncHttpTransportFactory implements TransportFactory<ApacheAsyncHttpTransport> {
+
+    public static ApacheAsyncHttpTransportFactory INSTANCE = new ApacheAsyncHttpTransportFactory();
+
+    private ApacheAsyncHttpTransportFactory() {
+
+    }
+
+    @Override
+    public ApacheAsyncHttpTransport getTransport(ConnectionConfig config, Logger log, String userAgent)
+            throws TransportException {
+        return new ApacheAsyncHttpTransport(config, log, userAgent);
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.opensearch.jdbc.config.ConnectionConfig;
+import org.opensearch.jdbc.transport.TransportException;
+import org.apache.http.pool.PoolStats;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Driver-wide registry of {@link PooledClient} instances.
+ * <p>
+ * Transports created from connection configurations that are identical
+ * in every aspect affecting the HTTP client (endpoint, TLS, authentication
+ * and pool settings) share a single client and connection pool, so that
+ * a new JDBC connection can reuse sockets, and their completed TLS
+ * handshakes, left behind by earlier connections.
+ * <p>
+ * A single background thread periodically evicts expired and idle
+ * pooled connections, and discards clients that are no longer held by
+ * any transport once their pool has drained.
+ */
+public class ApacheHttpClientRegistry {
+
+    public static final ApacheHttpClientRegistry INSTANCE = new ApacheHttpClientRegistry();
+
+    private static final long EVICTION_INTERVAL_SECONDS = 5;
+
+    private final Map<ClientKey, PooledClient> clients = new HashMap<>();
+    private ScheduledExecutorService evictionExecutor;
+
+    ApacheHttpClientRegistry() {
+
+    }
+
+    /**
+     * Returns the client of the specified type registered for the
+     * specified configuration, building and registering a new one if
+     * none exists. Every call must be balanced by a call to
+     * {@link #release(PooledClient)}.
+     */
+    synchronized <C extends PooledClient> C acquire(Class<C> clientType, ConnectionConfig connectionConfig,
+                                                    String userAgent, PooledClientBuilder<C> clientBuilder)
+            throws TransportException {
+        ClientKey key = new ClientKey(clientType, connectionConfig, userAgent);
+        C client = clientType.cast(clients.get(key));
+
+        if (client == null) {
+            client = clientBuilder.build();
+            clients.put(key, client);
+            startEvictionIfRequired();
+        }
+        client.retain();
+        return client;
+    }
+
+    /**
+     * Signals that a transport no longer uses a client obtained via
+     * {@link #acquire}. Pooled connections are left open for reuse
+     * and are evicted once idle.
+     */
+    synchronized void release(PooledClient client) {
+        client.release();
+    }
+
+    /**
+     * @return number of clients currently registered
+     */
+    public synchronized int size() {
+        return clients.size();
+    }
+
+    /**
+     * @return connection statistics aggregated over the pools of
+     *         all registered clients
+     */
+    public synchronized PoolStats getPoolStats() {
+        int leased = 0, pending = 0, available = 0, max = 0;
+
+        for (PooledClient client : clients.values()) {
+            PoolStats stats = client.getPoolStats();
+            leased += stats.getLeased();
+            pending += stats.getPending();
+            available += stats.getAvailable();
+            max += stats.getMax();
+        }
+        return new PoolStats(leased, pending, available, max);
+    }
+
+    /**
+     * Closes and discards all registered clients that are not held by
+     * any transport, irrespective of whether their pool has drained.
+     */
+    public synchronized void closeUnused() {
+        removeUnused(false);
+    }
+
+    synchronized void evictIdleConnections() {
+        for (PooledClient client : clients.values()) {
+            client.evictIdleConnections();
+        }
+        removeUnused(true);
+    }
+
+    private void removeUnused(boolean onlyDrained) {
+        Iterator<PooledClient> iterator = clients.values().iterator();
+
+        while (iterator.hasNext()) {
+            PooledClient client = iterator.next();
+            if (client.getReferenceCount() > 0) {
+                continue;
+            }
+
+            if (onlyDrained) {
+                PoolStats stats = client.getPoolStats();
+                if (stats.getLeased() + stats.getAvailable() > 0) {
+                    continue;
+                }
+            }
+
+            iterator.remove();
+            try {
+                client.close();
+            } catch (IOException e) {
+                // ignore, the client is discarded anyway
+            }
+        }
+
+        if (clients.isEmpty() && evictionExecutor != null) {
+            evictionExecutor.shutdown();
+            evictionExecutor = null;
+        }
+    }
+
+    private void startEvictionIfRequired() {
+        if (evictionExecutor == null) {
+            evictionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "opensearch-jdbc-connection-evictor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            evictionExecutor.scheduleWithFixedDelay(this::evictIdleConnections,
+                    EVICTION_INTERVAL_SECONDS, EVICTION_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    @FunctionalInterface
+    interface PooledClientBuilder<C extends PooledClient> {
+        C build() throws TransportException;
+    }
+
+    /**
+     * Identifies the connection configuration values that affect how
+     * an HTTP client is built. Configurations with equal keys can
+     * share a client.
+     */
+    static class ClientKey {
+        private final Object[] values;
+        private final int hashCode;
+
+        ClientKey(Class<?> clientType, ConnectionConfig config, String userAgent) {
+            this.values = new Object[]{
+                    clientType,
+                    config.isUseSSL(),
+                    config.getHost(),
+                    config.getPort(),
+                    config.requestCompression(),
+                    config.getAuthenticationType(),
+                    config.getUser(),
+                    config.getPassword(),
+                    config.getRegion(),
+                    config.getAwsCredentialsProvider(),
+                    config.getKeyStoreLocation(),
+                    config.getKeyStorePassword(),
+                    config.getKeyStoreType(),
+                    config.getTrustStoreLocation(),
+                    config.getTrustStorePassword(),
+                    config.getTrustStoreType(),
+                    config.trustSelfSigned(),
+                    config.hostnameVerification(),
+                    config.tunnelHost(),
+                    config.getMaxConnectionsPerRoute(),
+                    config.getMaxConnectionsTotal(),
+                    config.getIdleConnectionTimeout(),
+                    userAgent
+            };
+            this.hashCode = Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ClientKey)) return false;
+            return Arrays.equals(values, ((ClientKey) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -6,20 +6,23 @@
 
 package org.opensearch.jdbc.transport.http;
 
-import com.amazonaws.auth.AWS4Signer;
 import org.opensearch.jdbc.auth.AuthenticationType;
 import org.opensearch.jdbc.config.ConnectionConfig;
 import org.opensearch.jdbc.logging.Logger;
 import org.opensearch.jdbc.logging.LoggingSource;
+import org.opensearch.jdbc.logging.NoOpLogger;
+import org.opensearch.jdbc.statistics.StatisticsRecorder;
+import org.opensearch.jdbc.transport.RequestCanceller;
 import org.opensearch.jdbc.transport.TransportException;
-import org.opensearch.jdbc.transport.http.auth.aws.AWSRequestSigningApacheInterceptor;
-import com.amazonaws.auth.AWS4UnsignedPayloadSigner;
+import org.opensearch.jdbc.transport.http.auth.aws.AWSSigV4RequestInterceptor;
+import org.opensearch.jdbc.transport.http.auth.aws.RefreshingAWSCredentialsProvider;
+import org.opensearch.jdbc.transport.http.auth.basic.PreemptiveBasicAuthInterceptor;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 import org.apache.http.Header;
-import org.apache.http.auth.AuthScope;
-import org.apache.http.auth.UsernamePasswordCredentials;
-import org.apache.http.client.CredentialsProvider;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequestInterceptor;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -28,6 +31,7 @@ import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.config.Registry;
 import org.apache.http.config.RegistryBuilder;
 import org.apache.http.config.SocketConfig;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
 import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
@@ -35,11 +39,11 @@ import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
-import org.apache.http.impl.conn.BasicHttpClientConnectionManager;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.apache.http.ssl.SSLContexts;
 import org.apache.http.ssl.TrustStrategy;
@@ -57,43 +61,69 @@ import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
 
 public class ApacheHttpTransport implements HttpTransport, LoggingSource {
-    String scheme;
-    String host;
-    int port;
     String path;
     int readTimeout;
+    int connectionRequestTimeout;
 
     private RequestConfig requestConfig;
+    private PooledHttpClient pooledHttpClient;
     private CloseableHttpClient httpClient;
+    private boolean shared;
+    private boolean requestBodyCompression;
+    private RetryingRequestExecutor requestExecutor;
 
     public ApacheHttpTransport(ConnectionConfig connectionConfig, Logger log, String userAgent) throws TransportException {
-        this.host = connectionConfig.getHost();
-        this.port = connectionConfig.getPort();
-        this.scheme = connectionConfig.isUseSSL() ? "https" : "http";
         this.path = connectionConfig.getPath();
+        this.requestBodyCompression = connectionConfig.requestBodyCompression();
+        this.connectionRequestTimeout = (int) Math.min(Integer.MAX_VALUE,
+                connectionConfig.getConnectionRequestTimeout() * 1000L);
 
         updateRequestConfig();
 
-        ConnectionSocketFactory sslConnectionSocketFactory = null;
+        // wire logging is emitted through the connection's own log, so a
+        // connection logging at debug level keeps a client of its own
+        this.shared = connectionConfig.sharedConnectionPool() && !log.isDebugEnabled();
 
-        try {
-            sslConnectionSocketFactory = getSslConnectionSocketFactory(connectionConfig);
-        } catch (Exception e) {
-            throw new TransportException("Exception building SSL/TLS socket factory " + e, e);
+        if (shared) {
+            this.pooledHttpClient = ApacheHttpClientRegistry.INSTANCE.acquire(PooledHttpClient.class,
+                    connectionConfig, userAgent, () -> buildPooledHttpClient(connectionConfig, new JclLoggerAdapter(NoOpLogger.INSTANCE, getSource()), userAgent));
+        } else {
+            this.pooledHttpClient = buildPooledHttpClient(connectionConfig, new JclLoggerAdapter(log, getSource()), userAgent);
+        }
+        this.httpClient = pooledHttpClient.getHttpClient();
+        this.requestExecutor = RetryingRequestExecutor.forConfig(connectionConfig, log,
+                (node) -> executeGet(buildRequestURI(node, NodeSniffer.PATH, NodeSniffer.PARAMS), null,
+                        NodeSniffer.TIMEOUT_MILLIS));
+    }
+
+    private PooledHttpClient buildPooledHttpClient(ConnectionConfig connectionConfig, JclLoggerAdapter wireLog,
+                                                   String userAgent) throws TransportException {
+        if (connectionConfig.isUseSSL()) {
+            // load the stores upfront so that invalid stores fail the connection
+            try {
+                SslContextRegistry.INSTANCE.getSslContext(connectionConfig);
+            } catch (Exception e) {
+                throw new TransportException("Exception building SSL/TLS socket factory " + e, e);
+            }
         }
+        ConnectionSocketFactory sslConnectionSocketFactory =
+                new ReloadingSslConnectionSocketFactory(SslContextRegistry.INSTANCE, connectionConfig);
 
         Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
                 .register("http", PlainConnectionSocketFactory.getSocketFactory())
                 .register("https", sslConnectionSocketFactory)
                 .build();
 
-        ApacheHttpClientConnectionFactory connectionFactory =
-                new ApacheHttpClientConnectionFactory(new JclLoggerAdapter(log, getSource()));
+        ApacheHttpClientConnectionFactory connectionFactory = new ApacheHttpClientConnectionFactory(wireLog);
+
+        PoolingHttpClientConnectionManager connectionManager =
+                new PoolingHttpClientConnectionManager(socketFactoryRegistry, connectionFactory);
+        connectionManager.setDefaultMaxPerRoute(connectionConfig.getMaxConnectionsPerRoute());
+        connectionManager.setMaxTotal(connectionConfig.getMaxConnectionsTotal());
+        connectionManager.setDefaultSocketConfig(buildDefaultSocketConfig());
 
         HttpClientBuilder httpClientBuilder = HttpClients.custom()
-                .setConnectionManager(
-                        new BasicHttpClientConnectionManager(socketFactoryRegistry, connectionFactory))
-                .setDefaultSocketConfig(buildDefaultSocketConfig())
+                .setConnectionManager(connectionManager)
                 .setDefaultRequestConfig(getRequestConfig())
                 .setUserAgent(userAgent);
 
@@ -103,64 +133,96 @@ public class ApacheHttpTransport implements HttpTransport, LoggingSource {
 
         // setup authentication
         if (connectionConfig.getAuthenticationType() == AuthenticationType.BASIC) {
-            CredentialsProvider basicCredsProvider = new BasicCredentialsProvider();
-            basicCredsProvider.setCredentials(
-                    AuthScope.ANY,
-                    new UsernamePasswordCredentials(connectionConfig.getUser(), connectionConfig.getPassword()));
-            httpClientBuilder.setDefaultCredentialsProvider(basicCredsProvider);
-
-        } else if (connectionConfig.getAuthenticationType() == AuthenticationType.AWS_SIGV4) {
-            AWS4Signer signer = new AWS4Signer();
-            signer.setServiceName("es");
-            signer.setRegionName(connectionConfig.getRegion());
-
-            AWSCredentialsProvider provider = connectionConfig.getAwsCredentialsProvider() != null ?
-                    connectionConfig.getAwsCredentialsProvider() : new DefaultAWSCredentialsProviderChain();
-            httpClientBuilder.addInterceptorLast(
-                    new AWSRequestSigningApacheInterceptor(
-                            "es",
-                            signer,
-                            provider,
-                            connectionConfig.tunnelHost()));
-        } else if (connectionConfig.getAuthenticationType() == AuthenticationType.AWS_SIGV4_SERVERLESS) {
-            AWS4UnsignedPayloadSigner signer = new AWS4UnsignedPayloadSigner();
-            signer.setServiceName("aoss");
-            signer.setRegionName(connectionConfig.getRegion());
-
-            AWSCredentialsProvider provider = connectionConfig.getAwsCredentialsProvider() != null ?
-                    connectionConfig.getAwsCredentialsProvider() : new DefaultAWSCredentialsProviderChain();
-
-            httpClientBuilder.addInterceptorLast(
-                    new AWSRequestSigningApacheInterceptor(
-                            "aoss",
-                            signer,
-                            provider,
-                            null));
+            httpClientBuilder.addInterceptorLast(buildBasicAuthInterceptor(connectionConfig));
+
+        } else if (connectionConfig.getAuthenticationType() == AuthenticationType.AWS_SIGV4 ||
+                connectionConfig.getAuthenticationType() == AuthenticationType.AWS_SIGV4_SERVERLESS) {
+            httpClientBuilder.addInterceptorLast(buildAwsRequestSigningInterceptor(connectionConfig));
         }
-        // TODO - can apply settings retry & backoff
-        this.httpClient = httpClientBuilder.build();
+        // retries depend on whether the operation is safe to repeat, so
+        // are applied per request rather than by the client
+        return new PooledHttpClient(httpClientBuilder.build(), connectionManager,
+                connectionConfig.getIdleConnectionTimeout());
+    }
+
+    /**
+     * @return a snapshot of the connections in the pool backing this
+     *         transport. The pool may be shared with other transports.
+     */
+    public PoolStats getPoolStats() {
+        return pooledHttpClient.getPoolStats();
+    }
+
+    /**
+     * @return true if this transport uses a connection pool shared
+     *         with other transports
+     */
+    public boolean isShared() {
+        return shared;
     }
 
     @Override
     public CloseableHttpResponse doGet(String path, Header[] headers, HttpParam[] params, int timeout) throws TransportException {
-        return doGet(buildRequestURI(path, params), headers, timeout);
+        return requestExecutor.execute(
+                (node) -> executeGet(buildRequestURI(node, path, params), headers, timeout), false, null, null);
     }
 
     @Override
     public CloseableHttpResponse doPost(String path, Header[] headers, HttpParam[] params, String body, int timeout) throws TransportException {
-        return doPost(buildRequestURI(path, params), headers, body, timeout);
+        return doPost(path, headers, params, body, timeout, null);
+    }
+
+    @Override
+    public CloseableHttpResponse doPost(String path, Header[] headers, HttpParam[] params, String body, int timeout,
+                                        RequestCanceller canceller) throws TransportException {
+        return doPost(path, headers, params, new StringEntity(body, ContentType.APPLICATION_JSON), timeout, canceller);
+    }
+
+    @Override
+    public CloseableHttpResponse doPost(String path, Header[] headers, HttpParam[] params, HttpEntity body,
+                                        int timeout, RequestCanceller canceller) throws TransportException {
+        return requestExecutor.execute(
+                (node) -> executePost(buildRequestURI(node, path, params), headers, body, timeout, canceller),
+                false, canceller, null);
+    }
+
+    @Override
+    public CloseableHttpResponse doRetryablePost(String path, Header[] headers, HttpParam[] params, String body,
+                                                 int timeout, RequestCanceller canceller, NodeAffinity affinity)
+            throws TransportException {
+        return doRetryablePost(path, headers, params, new StringEntity(body, ContentType.APPLICATION_JSON), timeout,
+                canceller, affinity);
+    }
+
+    @Override
+    public CloseableHttpResponse doRetryablePost(String path, Header[] headers, HttpParam[] params, HttpEntity body,
+                                                 int timeout, RequestCanceller canceller, NodeAffinity affinity)
+            throws TransportException {
+        return requestExecutor.execute(
+                (node) -> executePost(buildRequestURI(node, path, params), headers, body, timeout, canceller),
+                true, canceller, affinity);
+    }
+
+    @Override
+    public void setStatistics(StatisticsRecorder statistics) {
+        requestExecutor.setStatistics(statistics);
     }
 
     @Override
     public void close() throws TransportException {
+        if (shared) {
+            ApacheHttpClientRegistry.INSTANCE.release(pooledHttpClient);
+            return;
+        }
+
         try {
-            this.httpClient.close();
+            this.pooledHttpClient.close();
         } catch (IOException e) {
             throw new TransportException(e);
         }
     }
 
-    private ConnectionSocketFactory getSslConnectionSocketFactory(ConnectionConfig connectionConfig)
+    static SSLContext buildSslContext(ConnectionConfig connectionConfig)
             throws CertificateException, NoSuchAlgorithmException, KeyStoreException, IOException,
             UnrecoverableKeyException, KeyManagementException {
 
@@ -194,11 +256,41 @@ public class ApacheHttpTransport implements HttpTransport, LoggingSource {
             builder.loadTrustMaterial(null, trustStrategy);
         }
 
-        HostnameVerifier hostnameVerifier = connectionConfig.hostnameVerification() ?
+        return builder.build();
+    }
+
+    static HostnameVerifier buildHostnameVerifier(ConnectionConfig connectionConfig) {
+        return connectionConfig.hostnameVerification() ?
                 SSLConnectionSocketFactory.getDefaultHostnameVerifier() : new NoopHostnameVerifier();
+    }
 
-        SSLContext sslContext = builder.build();
-        return new SSLConnectionSocketFactory(sslContext, hostnameVerifier);
+    static HttpRequestInterceptor buildBasicAuthInterceptor(ConnectionConfig connectionConfig) {
+        return new PreemptiveBasicAuthInterceptor(connectionConfig.getUser(), connectionConfig.getPassword());
+    }
+
+    static HttpRequestInterceptor buildAwsRequestSigningInterceptor(ConnectionConfig connectionConfig) {
+        // credentials are fetched in the background at a fixed interval, so
+        // that signing does not wait for them, once for all connections
+        // using the same provider
+        AWSCredentialsProvider provider = RefreshingAWSCredentialsProvider.of(
+                connectionConfig.getAwsCredentialsProvider() != null ?
+                        connectionConfig.getAwsCredentialsProvider() : new DefaultAWSCredentialsProviderChain());
+
+        if (connectionConfig.getAuthenticationType() == AuthenticationType.AWS_SIGV4_SERVERLESS) {
+            return new AWSSigV4RequestInterceptor(
+                    "aoss",
+                    connectionConfig.getRegion(),
+                    provider,
+                    null,
+                    true);
+        } else {
+            return new AWSSigV4RequestInterceptor(
+                    "es",
+                    connectionConfig.getRegion(),
+                    provider,
+                    connectionConfig.tunnelHost(),
+                    false);
+        }
     }
 
     private SocketConfig buildDefaultSocketConfig() {
@@ -211,6 +303,7 @@ public class ApacheHttpTransport implements HttpTransport, LoggingSource {
     private void updateRequestConfig() {
         this.requestConfig = RequestConfig.custom()
                 .setSocketTimeout(this.readTimeout)
+                .setConnectionRequestTimeout(this.connectionRequestTimeout)
                 .build();
     }
 
@@ -225,18 +318,18 @@ public class ApacheHttpTransport implements HttpTransport, LoggingSource {
         }
     }
 
-    private URIBuilder getUriBuilder(String path) {
+    private URIBuilder getUriBuilder(HttpHost node, String path) {
         return new URIBuilder()
-                .setScheme(this.scheme)
-                .setHost(this.host)
-                .setPort(this.port)
+                .setScheme(node.getSchemeName())
+                .setHost(node.getHostName())
+                .setPort(node.getPort())
                 .setPath(this.path + path);
     }
 
 
-    private URI buildRequestURI(String path, HttpParam... params) throws TransportException {
+    private URI buildRequestURI(HttpHost node, String path, HttpParam... params) throws TransportException {
         try {
-            URIBuilder uriBuilder = getUriBuilder(path);
+            URIBuilder uriBuilder = getUriBuilder(node, path);
 
             if (params != null) {
                 for (HttpParam param : params)
@@ -248,29 +341,55 @@ public class ApacheHttpTransport implements HttpTransport, LoggingSource {
         }
     }
 
-    private CloseableHttpResponse doGet(URI uri, Header[] headers, int readTimeout) throws TransportException {
+    private CloseableHttpResponse executeGet(URI uri, Header[] headers, int readTimeout) throws TransportException {
         try {
-            setReadTimeout(readTimeout);
             HttpGet request = new HttpGet(uri);
             request.setHeaders(headers);
-            request.setConfig(getRequestConfig());
+            request.setConfig(buildRequestConfig(readTimeout));
             return httpClient.execute(request);
+        } catch (ConnectionPoolTimeoutException e) {
+            throw connectionPoolTimeout(connectionRequestTimeout, e);
         } catch (IOException e) {
             throw new TransportException(e);
         }
     }
 
-    private CloseableHttpResponse doPost(URI uri, Header[] headers, String body, int readTimeout) throws TransportException {
+    private CloseableHttpResponse executePost(URI uri, Header[] headers, HttpEntity body, int readTimeout,
+                                              RequestCanceller canceller) throws TransportException {
         try {
-            setReadTimeout(readTimeout);
             HttpPost request = new HttpPost(uri);
             request.setHeaders(headers);
-            request.setEntity(new StringEntity(body, ContentType.APPLICATION_JSON));
-            request.setConfig(getRequestConfig());
+            request.setEntity(requestBodyCompression ? new GzipRequestEntity(body) : body);
+            request.setConfig(buildRequestConfig(readTimeout));
+
+            if (canceller != null) {
+                // aborting also releases the connection while the
+                // response is being read
+                canceller.setAbortAction(request::abort);
+            }
             return httpClient.execute(request);
+        } catch (ConnectionPoolTimeoutException e) {
+            throw connectionPoolTimeout(connectionRequestTimeout, e);
         } catch (IOException e) {
             throw new TransportException(e);
         }
     }
 
+    /**
+     * Builds the config of a single request, leaving the transport's
+     * default config alone, as requests with different timeouts may be
+     * in flight concurrently.
+     */
+    private RequestConfig buildRequestConfig(int readTimeout) {
+        return RequestConfig.custom()
+                .setSocketTimeout(readTimeout)
+                .setConnectionRequestTimeout(connectionRequestTimeout)
+                .build();
+    }
+
+    static TransportException connectionPoolTimeout(int connectionRequestTimeout, ConnectionPoolTimeoutException e) {
+        return new TransportException(String.format("Timed out after %d ms waiting for a connection from the " +
+                "HTTP connection pool, as all pooled connections are in use", connectionRequestTimeout), e);
+    }
+
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.opensearch.jdbc.transport.TransportException;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.util.EntityUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An {@link HttpTransport} that can additionally execute requests
+ * without blocking the calling thread.
+ * <p>
+ * The returned futures complete with the response once it has been
+ * received in full, or exceptionally with a
+ * {@link org.opensearch.jdbc.transport.TransportException} if the
+ * request fails. Cancelling a returned future aborts the request.
+ */
+public interface AsyncHttpTransport extends HttpTransport {
+
+    CompletableFuture<CloseableHttpResponse> doGetAsync(String path, Header[] headers, HttpParam[] params, int timeout);
+
+    CompletableFuture<CloseableHttpResponse> doPostAsync(String path, Header[] headers, HttpParam[] params,
+                                                         String body, int timeout);
+
+    /**
+     * Executes a POST request without blocking, sending it to the node of
+     * the affinity if it has one. See
+     * {@link #doRetryablePost(String, Header[], HttpParam[], String, int,
+     * org.opensearch.jdbc.transport.RequestCanceller, NodeAffinity)}.
+     * <p>
+     * The default implementation ignores the affinity.
+     *
+     * @param affinity the node the request is bound to, or null
+     */
+    default CompletableFuture<CloseableHttpResponse> doPostAsync(String path, Header[] headers, HttpParam[] params,
+                                                                 String body, int timeout, NodeAffinity affinity) {
+        return doPostAsync(path, headers, params, body, timeout);
+    }
+
+    /**
+     * Executes a POST request without blocking, with a body written by
+     * the entity. See
+     * {@link #doPost(String, Header[], HttpParam[], HttpEntity, int,
+     * org.opensearch.jdbc.transport.RequestCanceller)}.
+     * <p>
+     * The default implementation renders the body to a String.
+     *
+     * @param affinity the node the request is bound to, or null
+     */
+    default CompletableFuture<CloseableHttpResponse> doPostAsync(String path, Header[] headers, HttpParam[] params,
+                                                                 HttpEntity body, int timeout, NodeAffinity affinity) {
+        String content;
+        try {
+            content = EntityUtils.toString(body, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            CompletableFuture<CloseableHttpResponse> future = new CompletableFuture<>();
+            future.completeExceptionally(new TransportException(e));
+            return future;
+        }
+        return doPostAsync(path, headers, params, content, timeout, affinity);
+    }
+}
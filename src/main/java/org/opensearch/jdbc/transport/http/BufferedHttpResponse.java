@@ -0,0 +1,34 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.util.EntityUtils;
+
+import java.io.IOException;
+
+/**
+ * {@link CloseableHttpResponse} view of a response whose entity has
+ * already been received in full, as produced by the non-blocking
+ * client. Closing it only releases the buffered content.
+ */
+class BufferedHttpResponse extends BasicHttpResponse implements CloseableHttpResponse {
+
+    BufferedHttpResponse(HttpResponse response) {
+        super(response.getStatusLine());
+        setHeaders(response.getAllHeaders());
+        setEntity(response.getEntity());
+        setLocale(response.getLocale());
+    }
+
+    @Override
+    public void close() throws IOException {
+        EntityUtils.consume(getEntity());
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker failing requests to an endpoint fast while the
+ * endpoint is failing.
+ * <p>
+ * The breaker opens once the configured number of consecutive requests
+ * have failed. While it is open, requests are rejected without being
+ * sent. After the open time has passed, a single trial request is let
+ * through: the breaker closes if it succeeds, and opens again if it
+ * fails. Requests are rejected while the trial request is in flight.
+ */
+public class CircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedNanos;
+
+    /**
+     * @param failureThreshold number of consecutive failures that open
+     *         the breaker
+     * @param openMillis time in milliseconds for which the breaker
+     *         rejects requests once opened
+     */
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this(failureThreshold, openMillis, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, long openMillis, LongSupplier nanoClock) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return true if a request may be sent, false if it is to be
+     *         rejected
+     */
+    public synchronized boolean allowRequest() {
+        switch (state) {
+            case OPEN:
+            case HALF_OPEN:
+                // a trial request whose outcome is never reported is
+                // followed by another once the open time has passed
+                long now = nanoClock.getAsLong();
+                if (now - openedNanos < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                openedNanos = now;
+                return true;
+            case CLOSED:
+            default:
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedNanos = nanoClock.getAsLong();
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+}
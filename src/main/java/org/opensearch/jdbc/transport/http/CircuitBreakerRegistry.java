@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.opensearch.jdbc.config.ConnectionConfig;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Driver-wide registry of {@link CircuitBreaker}s.
+ * <p>
+ * All connections to the same endpoint with the same circuit breaker
+ * settings share a breaker, so the failures seen by any of them open it
+ * for all of them.
+ */
+public class CircuitBreakerRegistry {
+
+    public static final CircuitBreakerRegistry INSTANCE = new CircuitBreakerRegistry();
+
+    private final Map<BreakerKey, CircuitBreaker> circuitBreakers = new HashMap<>();
+
+    CircuitBreakerRegistry() {
+
+    }
+
+    /**
+     * Returns the circuit breaker for the endpoint of the configuration,
+     * creating it if none exists.
+     *
+     * @return the circuit breaker, or null if the configuration disables
+     *         circuit breaking
+     */
+    public synchronized CircuitBreaker getCircuitBreaker(ConnectionConfig connectionConfig) {
+        if (connectionConfig.getCircuitBreakerThreshold() <= 0) {
+            return null;
+        }
+
+        return circuitBreakers.computeIfAbsent(new BreakerKey(connectionConfig), (key) -> new CircuitBreaker(
+                connectionConfig.getCircuitBreakerThreshold(),
+                connectionConfig.getCircuitBreakerOpenTime() * 1000L));
+    }
+
+    /**
+     * Removes all circuit breakers, closing them for new connections.
+     */
+    public synchronized void clear() {
+        circuitBreakers.clear();
+    }
+
+    /**
+     * Identifies the endpoint a connection configuration points to, and
+     * the circuit breaker settings.
+     */
+    static class BreakerKey {
+        private final Object[] values;
+        private final int hashCode;
+
+        BreakerKey(ConnectionConfig config) {
+            this.values = new Object[]{
+                    config.isUseSSL(),
+                    config.getHost(),
+                    config.getPort(),
+                    config.getPath(),
+                    config.getCircuitBreakerThreshold(),
+                    config.getCircuitBreakerOpenTime()
+            };
+            this.hashCode = Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof BreakerKey)) return false;
+            return Arrays.equals(values, ((BreakerKey) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.apache.http.HttpStatus;
+import org.apache.http.NoHttpResponseException;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * {@link RetryPolicy} retrying a limited number of times with
+ * exponentially growing delays.
+ * <p>
+ * Requests are retried on connection failures, and on responses with
+ * status 429, 502, 503 or 504. Read timeouts are not retried, as the
+ * server may still be working on the request, nor are timeouts waiting
+ * for a connection from the exhausted local pool, as the server is not
+ * at fault. The delay before the
+ * n-th retry is drawn at random between 0 and base delay * 2^(n-1),
+ * capped at the maximum delay, so that clients failing at the same time
+ * do not retry at the same time. A delay requested by the server
+ * through Retry-After is honored, and a request is not retried if the
+ * server asks for a delay exceeding the maximum delay.
+ */
+public class ExponentialBackoffRetryPolicy implements RetryPolicy {
+
+    private final int maxRetries;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final LongUnaryOperator random;
+
+    /**
+     * @param maxRetries maximum number of retries of a request
+     * @param baseDelayMillis upper bound of the delay before the first
+     *         retry
+     * @param maxDelayMillis upper bound of the delay before any retry
+     */
+    public ExponentialBackoffRetryPolicy(int maxRetries, long baseDelayMillis, long maxDelayMillis) {
+        this(maxRetries, baseDelayMillis, maxDelayMillis,
+                (bound) -> ThreadLocalRandom.current().nextLong(bound + 1));
+    }
+
+    ExponentialBackoffRetryPolicy(int maxRetries, long baseDelayMillis, long maxDelayMillis,
+                                  LongUnaryOperator random) {
+        this.maxRetries = maxRetries;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.random = random;
+    }
+
+    @Override
+    public long getRetryDelay(int attempt, int statusCode, Throwable exception, long retryAfterMillis) {
+        if (attempt > maxRetries || !isRetryable(statusCode, exception) || retryAfterMillis > maxDelayMillis) {
+            return -1;
+        }
+
+        // the shift is bounded so the delay cannot overflow
+        long delayBound = Math.min(baseDelayMillis << Math.min(attempt - 1, 30), maxDelayMillis);
+        return Math.max(random.applyAsLong(delayBound), retryAfterMillis);
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    static boolean isRetryable(int statusCode, Throwable exception) {
+        if (exception != null) {
+            return !(exception instanceof ConnectionPoolTimeoutException) && (exception instanceof ConnectException
+                    || exception instanceof ConnectTimeoutException
+                    || exception instanceof NoHttpResponseException
+                    || exception instanceof SocketException);
+        }
+        return isOverloadStatus(statusCode);
+    }
+
+    /**
+     * @return true if the status indicates the server is temporarily
+     *         unable to serve requests
+     */
+    static boolean isOverloadStatus(int statusCode) {
+        return statusCode == 429
+                || statusCode == HttpStatus.SC_BAD_GATEWAY
+                || statusCode == HttpStatus.SC_SERVICE_UNAVAILABLE
+                || statusCode == HttpStatus.SC_GATEWAY_TIMEOUT;
+    }
+}
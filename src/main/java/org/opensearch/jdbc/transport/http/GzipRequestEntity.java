@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.message.BasicHeader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses the body of a request with gzip as it is written.
+ * <p>
+ * Unlike {@link org.apache.http.client.entity.GzipCompressingEntity},
+ * the compressed content can also be read, as is required to sign the
+ * request, or to send it through the non-blocking client.
+ */
+class GzipRequestEntity extends HttpEntityWrapper {
+
+    private static final Header CONTENT_ENCODING_GZIP = new BasicHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+    GzipRequestEntity(HttpEntity wrappedEntity) {
+        super(wrappedEntity);
+    }
+
+    @Override
+    public Header getContentEncoding() {
+        return CONTENT_ENCODING_GZIP;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public boolean isChunked() {
+        return true;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        writeTo(buffer);
+        return new ByteArrayInputStream(buffer.toByteArray());
+    }
+
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+        // closing the gzip stream completes it and releases the native
+        // memory of its deflater, without closing the stream of the client
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(new NonClosingOutputStream(outStream))) {
+            wrappedEntity.writeTo(gzipStream);
+        }
+    }
+
+    /**
+     * Passes writes on to the underlying stream, and only flushes it when
+     * closed.
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.opensearch.jdbc.config.ConnectionConfig;
+import org.opensearch.jdbc.logging.Logger;
+import org.opensearch.jdbc.transport.TransportException;
+import org.opensearch.jdbc.transport.TransportFactory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Creates HTTP/2 transports.
+ * <p>
+ * The transport is built on the HTTP client of Java 11, and is only
+ * present in the Java 11 part of the multi-release driver jar, so it is
+ * looked up when a transport is requested rather than linked directly.
+ */
+public class Http2TransportFactory implements TransportFactory<AsyncHttpTransport> {
+
+    public static Http2TransportFactory INSTANCE = new Http2TransportFactory();
+
+    static final String TRANSPORT_CLASS_NAME = "org.opensearch.jdbc.transport.http.JdkHttp2Transport";
+
+    private Http2TransportFactory() {
+
+    }
+
+    @Override
+    public AsyncHttpTransport getTransport(ConnectionConfig config, Logger log, String userAgent)
+            throws TransportException {
+        Constructor<? extends AsyncHttpTransport> constructor;
+        try {
+            constructor = Class.forName(TRANSPORT_CLASS_NAME)
+                    .asSubclass(AsyncHttpTransport.class)
+                    .getConstructor(ConnectionConfig.class, Logger.class, String.class);
+        } catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+            throw new TransportException("The HTTP2 transport requires Java 11 or later", e);
+        }
+
+        try {
+            return constructor.newInstance(config, log, userAgent);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof TransportException) {
+                throw (TransportException) e.getCause();
+            }
+            throw new TransportException(e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new TransportException(e);
+        }
+    }
+}
@@ -6,10 +6,17 @@
 
 package org.opensearch.jdbc.transport.http;
 
+import org.opensearch.jdbc.statistics.StatisticsRecorder;
+import org.opensearch.jdbc.transport.RequestCanceller;
 import org.opensearch.jdbc.transport.Transport;
 import org.opensearch.jdbc.transport.TransportException;
 import org.apache.http.Header;
+import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.util.EntityUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 public interface HttpTransport extends Transport {
 
@@ -18,4 +25,81 @@ public interface HttpTransport extends Transport {
 
     CloseableHttpResponse doPost(String path, Header[] headers, HttpParam[] params, String body, int timeout)
             throws TransportException;
+
+    /**
+     * Executes a POST request that can be aborted through the canceller
+     * while it is executing, and while its response is being read.
+     * <p>
+     * The default implementation does not support aborting the request.
+     */
+    default CloseableHttpResponse doPost(String path, Header[] headers, HttpParam[] params, String body, int timeout,
+                                         RequestCanceller canceller) throws TransportException {
+        return doPost(path, headers, params, body, timeout);
+    }
+
+    /**
+     * Executes a POST request for an operation that is safe to repeat,
+     * such as a query or the fetch of a cursor page, which the transport
+     * may retry if it fails.
+     * <p>
+     * If the transport spreads requests across several nodes, the request
+     * is sent to the node of the affinity if it has one, and the affinity
+     * receives the node that served the request.
+     * <p>
+     * The default implementation does not retry the request, and ignores
+     * the affinity.
+     *
+     * @param affinity the node the request is bound to, or null
+     */
+    default CloseableHttpResponse doRetryablePost(String path, Header[] headers, HttpParam[] params, String body,
+                                                  int timeout, RequestCanceller canceller, NodeAffinity affinity)
+            throws TransportException {
+        return doPost(path, headers, params, body, timeout, canceller);
+    }
+
+    /**
+     * Executes a POST request whose body is written by the entity while
+     * the request is sent, rather than rendered in memory beforehand.
+     * The entity must be repeatable if the request may be retried.
+     * <p>
+     * The default implementation renders the body to a String.
+     */
+    default CloseableHttpResponse doPost(String path, Header[] headers, HttpParam[] params, HttpEntity body,
+                                         int timeout, RequestCanceller canceller) throws TransportException {
+        try {
+            return doPost(path, headers, params, EntityUtils.toString(body, StandardCharsets.UTF_8), timeout,
+                    canceller);
+        } catch (IOException e) {
+            throw new TransportException(e);
+        }
+    }
+
+    /**
+     * Executes a POST request for an operation that is safe to repeat,
+     * with a body written by the entity while the request is sent. See
+     * {@link #doRetryablePost(String, Header[], HttpParam[], String, int, RequestCanceller, NodeAffinity)}.
+     * <p>
+     * The default implementation renders the body to a String.
+     */
+    default CloseableHttpResponse doRetryablePost(String path, Header[] headers, HttpParam[] params, HttpEntity body,
+                                                  int timeout, RequestCanceller canceller, NodeAffinity affinity)
+            throws TransportException {
+        try {
+            return doRetryablePost(path, headers, params, EntityUtils.toString(body, StandardCharsets.UTF_8), timeout,
+                    canceller, affinity);
+        } catch (IOException e) {
+            throw new TransportException(e);
+        }
+    }
+
+    /**
+     * Sets the recorder of the requests sent by the transport, their
+     * responses and their retries.
+     * <p>
+     * The default implementation does not record requests.
+     *
+     * @param statistics the recorder, or null to not record requests
+     */
+    default void setStatistics(StatisticsRecorder statistics) {
+    }
 }
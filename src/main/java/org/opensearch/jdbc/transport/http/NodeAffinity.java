@@ -0,0 +1,42 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.apache.http.HttpHost;
+
+/**
+ * Binds a request to a node of the cluster.
+ * <p>
+ * A request with a node is sent to that node irrespective of load
+ * balancing, as is needed for requests that continue server-side state
+ * held by the node, such as the pages of a cursor. Once the request has
+ * been served, the affinity holds the node that served it.
+ */
+public class NodeAffinity {
+
+    private volatile HttpHost node;
+
+    public NodeAffinity() {
+
+    }
+
+    /**
+     * @param node the node to send the request to, or null to let the
+     *         transport pick the node
+     */
+    public NodeAffinity(HttpHost node) {
+        this.node = node;
+    }
+
+    public HttpHost getNode() {
+        return node;
+    }
+
+    void setNode(HttpHost node) {
+        this.node = node;
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.opensearch.jdbc.transport.LoadBalancingType;
+import org.apache.http.HttpHost;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Spreads requests across the nodes of a cluster.
+ * <p>
+ * Nodes are picked in turn, or by fewest requests in flight, skipping
+ * the nodes that are ejected. A node is ejected for the ejection time
+ * when a request to it fails to connect or is answered with an overload
+ * status, and is picked again once the time has passed. If all nodes are
+ * ejected, the node whose ejection ends first is picked, so requests are
+ * not failed without being sent.
+ * <p>
+ * When sniffing is enabled, the nodes are replaced at every sniff
+ * interval by the HTTP-enabled nodes reported by the cluster.
+ */
+public class NodeSelector {
+
+    private final LoadBalancingType loadBalancing;
+    private final long ejectionNanos;
+    private final long sniffIntervalNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final AtomicBoolean sniffing = new AtomicBoolean();
+    private volatile List<Node> nodes;
+    private volatile boolean sniffed = false;
+    private volatile long lastSniffNanos;
+
+    /**
+     * @param hosts the nodes to spread requests across
+     * @param ejectionMillis time in milliseconds for which a failing node
+     *         is not picked
+     * @param sniffIntervalMillis time in milliseconds after which the
+     *         nodes are sniffed again, or 0 to not sniff nodes
+     */
+    public NodeSelector(List<HttpHost> hosts, LoadBalancingType loadBalancing, long ejectionMillis,
+                        long sniffIntervalMillis) {
+        this(hosts, loadBalancing, ejectionMillis, sniffIntervalMillis, System::nanoTime);
+    }
+
+    NodeSelector(List<HttpHost> hosts, LoadBalancingType loadBalancing, long ejectionMillis,
+                 long sniffIntervalMillis, LongSupplier nanoClock) {
+        if (hosts.isEmpty()) {
+            throw new IllegalArgumentException("At least one node is required");
+        }
+        this.loadBalancing = loadBalancing;
+        this.ejectionNanos = TimeUnit.MILLISECONDS.toNanos(ejectionMillis);
+        this.sniffIntervalNanos = TimeUnit.MILLISECONDS.toNanos(sniffIntervalMillis);
+        this.nanoClock = nanoClock;
+        this.nodes = toNodes(hosts, Collections.emptyList());
+    }
+
+    /**
+     * Picks the node to send a request to. The node must be handed back
+     * through {@link #release(Node)} once the request completes.
+     *
+     * @param pinned node the request must be sent to, or null to pick
+     *         any node
+     */
+    public Node select(HttpHost pinned) {
+        List<Node> current = nodes;
+        Node selected = null;
+
+        if (pinned != null) {
+            for (Node node : current) {
+                if (node.host.equals(pinned)) {
+                    selected = node;
+                    break;
+                }
+            }
+            if (selected == null) {
+                // a node that has since been dropped by a sniff
+                selected = new Node(pinned);
+            }
+        } else {
+            long now = nanoClock.getAsLong();
+            int start = Math.floorMod(nextIndex.getAndIncrement(), current.size());
+
+            for (int i = 0; i < current.size(); i++) {
+                Node node = current.get((start + i) % current.size());
+                if (node.isEjected(now)) {
+                    continue;
+                }
+                if (loadBalancing == LoadBalancingType.ROUND_ROBIN) {
+                    selected = node;
+                    break;
+                }
+                if (selected == null || node.outstanding.get() < selected.outstanding.get()) {
+                    selected = node;
+                }
+            }
+
+            if (selected == null) {
+                for (Node node : current) {
+                    if (selected == null || node.ejectedUntilNanos - selected.ejectedUntilNanos < 0) {
+                        selected = node;
+                    }
+                }
+            }
+        }
+
+        selected.outstanding.incrementAndGet();
+        return selected;
+    }
+
+    public void release(Node node) {
+        node.outstanding.decrementAndGet();
+    }
+
+    /**
+     * Records a request to the node that succeeded, ending any ejection.
+     */
+    public void onSuccess(Node node) {
+        node.ejected = false;
+    }
+
+    /**
+     * Records a request to the node that failed, ejecting the node.
+     */
+    public void onFailure(Node node) {
+        node.ejectedUntilNanos = nanoClock.getAsLong() + ejectionNanos;
+        node.ejected = true;
+    }
+
+    /**
+     * @return true if the caller is to sniff the nodes, in which case it
+     *         must report the nodes found through {@link #endSniff(List)}
+     */
+    boolean startSniff() {
+        if (!isSniffDue() || !sniffing.compareAndSet(false, true)) {
+            return false;
+        }
+
+        // another caller may have completed a sniff in the meantime
+        if (!isSniffDue()) {
+            sniffing.set(false);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isSniffDue() {
+        return sniffIntervalNanos > 0 && (!sniffed || nanoClock.getAsLong() - lastSniffNanos >= sniffIntervalNanos);
+    }
+
+    /**
+     * Replaces the nodes with the sniffed nodes.
+     *
+     * @param hosts the nodes found, or null if sniffing failed, in which
+     *         case the current nodes are kept until the next sniff
+     */
+    void endSniff(List<HttpHost> hosts) {
+        if (hosts != null && !hosts.isEmpty()) {
+            nodes = toNodes(hosts, nodes);
+        }
+        lastSniffNanos = nanoClock.getAsLong();
+        sniffed = true;
+        sniffing.set(false);
+    }
+
+    List<Node> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Builds the nodes for the hosts, carrying over the state of the
+     * nodes already known.
+     */
+    private static List<Node> toNodes(List<HttpHost> hosts, List<Node> known) {
+        List<Node> nodes = new ArrayList<>(hosts.size());
+
+        for (HttpHost host : hosts) {
+            Node node = null;
+            for (Node knownNode : known) {
+                if (knownNode.host.equals(host)) {
+                    node = knownNode;
+                    break;
+                }
+            }
+            nodes.add(node != null ? node : new Node(host));
+        }
+        return Collections.unmodifiableList(nodes);
+    }
+
+    /**
+     * A node of the cluster, along with its requests in flight and its
+     * ejection state.
+     */
+    public static class Node {
+        private final HttpHost host;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private volatile boolean ejected = false;
+        private volatile long ejectedUntilNanos;
+
+        Node(HttpHost host) {
+            this.host = host;
+        }
+
+        public HttpHost getHost() {
+            return host;
+        }
+
+        int getOutstanding() {
+            return outstanding.get();
+        }
+
+        boolean isEjected(long nowNanos) {
+            return ejected && ejectedUntilNanos - nowNanos > 0;
+        }
+
+        @Override
+        public String toString() {
+            return host.toURI();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.opensearch.jdbc.config.ConnectionConfig;
+import org.apache.http.HttpHost;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Driver-wide registry of {@link NodeSelector}s.
+ * <p>
+ * All connections to the same set of hosts with the same load balancing
+ * settings share a selector, so they share the health of the nodes and
+ * the nodes found by sniffing.
+ */
+public class NodeSelectorRegistry {
+
+    public static final NodeSelectorRegistry INSTANCE = new NodeSelectorRegistry();
+
+    private final Map<SelectorKey, NodeSelector> nodeSelectors = new HashMap<>();
+
+    NodeSelectorRegistry() {
+
+    }
+
+    /**
+     * Returns the node selector for the hosts of the configuration,
+     * creating it if none exists.
+     *
+     * @return the node selector, or null if the configuration names a
+     *         single host and does not sniff nodes
+     */
+    public synchronized NodeSelector getNodeSelector(ConnectionConfig connectionConfig) {
+        if (connectionConfig.getHosts().size() <= 1 && !connectionConfig.nodeSniffing()) {
+            return null;
+        }
+
+        return nodeSelectors.computeIfAbsent(new SelectorKey(connectionConfig), (key) -> new NodeSelector(
+                getHosts(connectionConfig),
+                connectionConfig.getLoadBalancing(),
+                connectionConfig.getNodeEjectionTime() * 1000L,
+                connectionConfig.nodeSniffing() ? connectionConfig.getNodeSniffInterval() * 1000L : 0));
+    }
+
+    /**
+     * Removes all node selectors, discarding the state of the nodes.
+     */
+    public synchronized void clear() {
+        nodeSelectors.clear();
+    }
+
+    /**
+     * @return the hosts of the configuration, or the host of the
+     *         connection if it lists none
+     */
+    static List<HttpHost> getHosts(ConnectionConfig connectionConfig) {
+        String scheme = connectionConfig.isUseSSL() ? "https" : "http";
+
+        if (connectionConfig.getHosts().isEmpty()) {
+            return Arrays.asList(new HttpHost(connectionConfig.getHost(), connectionConfig.getPort(), scheme));
+        }
+
+        List<HttpHost> hosts = new ArrayList<>();
+        for (String host : connectionConfig.getHosts()) {
+            try {
+                URI uri = new URI(scheme + "://" + host);
+                hosts.add(new HttpHost(uri.getHost(), uri.getPort() != -1 ? uri.getPort() : connectionConfig.getPort(),
+                        scheme));
+            } catch (URISyntaxException ex) {
+                // the hosts are validated when the configuration is built
+                throw new IllegalArgumentException("Invalid host: " + host, ex);
+            }
+        }
+        return hosts;
+    }
+
+    /**
+     * Identifies the hosts a connection configuration points to, and the
+     * load balancing settings.
+     */
+    static class SelectorKey {
+        private final Object[] values;
+        private final int hashCode;
+
+        SelectorKey(ConnectionConfig config) {
+            this.values = new Object[]{
+                    config.isUseSSL(),
+                    config.getHost(),
+                    config.getPort(),
+                    config.getPath(),
+                    config.getHosts(),
+                    config.getLoadBalancing(),
+                    config.getNodeEjectionTime(),
+                    config.nodeSniffing(),
+                    config.getNodeSniffInterval()
+            };
+            this.hashCode = Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof SelectorKey)) return false;
+            return Arrays.equals(values, ((SelectorKey) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
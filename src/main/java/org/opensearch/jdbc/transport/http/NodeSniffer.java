@@ -0,0 +1,109 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.HttpHost;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Discovers the HTTP-enabled nodes of a cluster from the response to a
+ * nodes info request.
+ * <p>
+ * Dedicated cluster manager nodes are left out, as they are not meant
+ * to coordinate requests.
+ */
+class NodeSniffer {
+
+    static final String PATH = "/_nodes/http";
+
+    static final HttpParam[] PARAMS = new HttpParam[]{
+            new HttpParam("filter_path", "nodes.*.http.publish_address,nodes.*.roles")};
+
+    static final int TIMEOUT_MILLIS = 10000;
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private NodeSniffer() {
+
+    }
+
+    /**
+     * @param contentStream the nodes info response
+     * @param scheme the scheme to reach the nodes with
+     *
+     * @return the nodes found in the response
+     */
+    static List<HttpHost> parseNodes(InputStream contentStream, String scheme) throws IOException {
+        List<HttpHost> hosts = new ArrayList<>();
+
+        Iterator<JsonNode> nodes = mapper.readTree(contentStream).path("nodes").elements();
+        while (nodes.hasNext()) {
+            JsonNode node = nodes.next();
+            String publishAddress = node.path("http").path("publish_address").asText(null);
+
+            if (publishAddress != null && !isDedicatedClusterManager(node.path("roles"))) {
+                HttpHost host = parsePublishAddress(publishAddress, scheme);
+                if (host != null) {
+                    hosts.add(host);
+                }
+            }
+        }
+        return hosts;
+    }
+
+    /**
+     * Parses a publish address, which is either {@code ip:port} or
+     * {@code hostname/ip:port}. The hostname is preferred when present,
+     * so that TLS hostname verification can succeed.
+     *
+     * @return the host, or null if the address can not be parsed
+     */
+    static HttpHost parsePublishAddress(String publishAddress, String scheme) {
+        String address = publishAddress;
+        String hostname = null;
+
+        int slashIdx = publishAddress.indexOf('/');
+        if (slashIdx != -1) {
+            hostname = publishAddress.substring(0, slashIdx);
+            address = publishAddress.substring(slashIdx + 1);
+        }
+
+        try {
+            URI uri = new URI(scheme + "://" + address);
+            if (uri.getHost() == null || uri.getPort() == -1) {
+                return null;
+            }
+            return new HttpHost(hostname == null || hostname.isEmpty() ? uri.getHost() : hostname,
+                    uri.getPort(), scheme);
+        } catch (URISyntaxException ex) {
+            return null;
+        }
+    }
+
+    private static boolean isDedicatedClusterManager(JsonNode roles) {
+        if (!roles.isArray() || roles.size() == 0) {
+            return false;
+        }
+
+        for (JsonNode role : roles) {
+            String name = role.asText();
+            if (!"cluster_manager".equals(name) && !"master".equals(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
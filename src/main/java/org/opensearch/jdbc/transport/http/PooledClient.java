@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.apache.http.pool.PoolStats;
+
+import java.io.IOException;
+
+/**
+ * An HTTP client together with the pool of connections backing it.
+ * <p>
+ * Instances may be shared by multiple transports through the
+ * {@link ApacheHttpClientRegistry}, in which case the number of
+ * transports currently holding the client is tracked through
+ * {@link #retain()} and {@link #release()}.
+ */
+public abstract class PooledClient {
+
+    private final int idleConnectionTimeout;
+    private int referenceCount;
+
+    protected PooledClient(int idleConnectionTimeout) {
+        this.idleConnectionTimeout = idleConnectionTimeout;
+    }
+
+    /**
+     * @return a snapshot of the leased, pending and available connections
+     *         in the pool backing this client
+     */
+    public abstract PoolStats getPoolStats();
+
+    /**
+     * Closes expired connections and, if an idle timeout is configured,
+     * connections that have been idle for longer than the timeout.
+     */
+    void evictIdleConnections() {
+        closeExpiredConnections();
+        if (idleConnectionTimeout > 0) {
+            closeIdleConnections(idleConnectionTimeout);
+        }
+    }
+
+    protected abstract void closeExpiredConnections();
+
+    protected abstract void closeIdleConnections(int idleSeconds);
+
+    synchronized void retain() {
+        referenceCount++;
+    }
+
+    synchronized int release() {
+        return --referenceCount;
+    }
+
+    synchronized int getReferenceCount() {
+        return referenceCount;
+    }
+
+    abstract void close() throws IOException;
+}
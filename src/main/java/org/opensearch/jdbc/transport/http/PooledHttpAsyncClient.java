@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A non-blocking {@link CloseableHttpAsyncClient} together with the
+ * pooling connection manager and I/O reactor backing it.
+ */
+public class PooledHttpAsyncClient extends PooledClient {
+
+    private final CloseableHttpAsyncClient httpAsyncClient;
+    private final PoolingNHttpClientConnectionManager connectionManager;
+
+    PooledHttpAsyncClient(CloseableHttpAsyncClient httpAsyncClient,
+                          PoolingNHttpClientConnectionManager connectionManager, int idleConnectionTimeout) {
+        super(idleConnectionTimeout);
+        this.httpAsyncClient = httpAsyncClient;
+        this.connectionManager = connectionManager;
+    }
+
+    public CloseableHttpAsyncClient getHttpAsyncClient() {
+        return httpAsyncClient;
+    }
+
+    @Override
+    public PoolStats getPoolStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * Fails the requests waiting for a connection for longer than their
+     * connection request timeout. The pool only checks the timeouts when
+     * a connection is released or closed, so they are checked here once
+     * a timeout elapses.
+     */
+    void validatePendingRequests() {
+        connectionManager.validatePendingRequests();
+    }
+
+    @Override
+    protected void closeExpiredConnections() {
+        connectionManager.closeExpiredConnections();
+    }
+
+    @Override
+    protected void closeIdleConnections(int idleSeconds) {
+        connectionManager.closeIdleConnections(idleSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    void close() throws IOException {
+        httpAsyncClient.close();
+    }
+}
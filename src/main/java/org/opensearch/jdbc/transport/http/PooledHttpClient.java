@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A blocking {@link CloseableHttpClient} together with the pooling
+ * connection manager backing it.
+ */
+public class PooledHttpClient extends PooledClient {
+
+    private final CloseableHttpClient httpClient;
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    PooledHttpClient(CloseableHttpClient httpClient, PoolingHttpClientConnectionManager connectionManager,
+                     int idleConnectionTimeout) {
+        super(idleConnectionTimeout);
+        this.httpClient = httpClient;
+        this.connectionManager = connectionManager;
+    }
+
+    public CloseableHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    @Override
+    public PoolStats getPoolStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    @Override
+    protected void closeExpiredConnections() {
+        connectionManager.closeExpiredConnections();
+    }
+
+    @Override
+    protected void closeIdleConnections(int idleSeconds) {
+        connectionManager.closeIdleConnections(idleSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    void close() throws IOException {
+        httpClient.close();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.opensearch.jdbc.config.ConnectionConfig;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.socket.LayeredConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.protocol.HttpContext;
+
+import javax.net.ssl.SSLException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.security.GeneralSecurityException;
+
+/**
+ * Socket factory for TLS connections that looks up the shared socket
+ * factory in the {@link SslContextRegistry} for every new socket, so that
+ * a long-lived connection pool picks up rotated key and trust stores.
+ */
+class ReloadingSslConnectionSocketFactory implements LayeredConnectionSocketFactory {
+
+    private final SslContextRegistry registry;
+    private final ConnectionConfig connectionConfig;
+
+    ReloadingSslConnectionSocketFactory(SslContextRegistry registry, ConnectionConfig connectionConfig) {
+        this.registry = registry;
+        this.connectionConfig = connectionConfig;
+    }
+
+    @Override
+    public Socket createSocket(HttpContext context) throws IOException {
+        return getSocketFactory().createSocket(context);
+    }
+
+    @Override
+    public Socket connectSocket(int connectTimeout, Socket sock, HttpHost host, InetSocketAddress remoteAddress,
+                                InetSocketAddress localAddress, HttpContext context) throws IOException {
+        return getSocketFactory().connectSocket(connectTimeout, sock, host, remoteAddress, localAddress, context);
+    }
+
+    @Override
+    public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context)
+            throws IOException {
+        return getSocketFactory().createLayeredSocket(socket, target, port, context);
+    }
+
+    private SSLConnectionSocketFactory getSocketFactory() throws IOException {
+        try {
+            return registry.getSocketFactory(connectionConfig);
+        } catch (GeneralSecurityException e) {
+            throw new SSLException("Exception building SSL/TLS socket factory " + e, e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.opensearch.jdbc.config.ConnectionConfig;
+import org.apache.http.HttpHost;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOSession;
+
+import javax.net.ssl.SSLException;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+
+/**
+ * Session strategy for non-blocking TLS connections that looks up the
+ * shared session strategy in the {@link SslContextRegistry} for every new
+ * session, so that a long-lived connection pool picks up rotated key and
+ * trust stores.
+ */
+class ReloadingSslSessionStrategy implements SchemeIOSessionStrategy {
+
+    private final SslContextRegistry registry;
+    private final ConnectionConfig connectionConfig;
+
+    ReloadingSslSessionStrategy(SslContextRegistry registry, ConnectionConfig connectionConfig) {
+        this.registry = registry;
+        this.connectionConfig = connectionConfig;
+    }
+
+    @Override
+    public boolean isLayeringRequired() {
+        return true;
+    }
+
+    @Override
+    public IOSession upgrade(HttpHost host, IOSession iosession) throws IOException {
+        SSLIOSessionStrategy sessionStrategy;
+        try {
+            sessionStrategy = registry.getSessionStrategy(connectionConfig);
+        } catch (GeneralSecurityException e) {
+            throw new SSLException("Exception building SSL/TLS session strategy " + e, e);
+        }
+        return sessionStrategy.upgrade(host, iosession);
+    }
+}
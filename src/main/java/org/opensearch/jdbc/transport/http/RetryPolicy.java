@@ -0,0 +1,34 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+/**
+ * Decides whether and when a failed request is retried.
+ * <p>
+ * A transport consults the policy only for requests that are safe to
+ * repeat, such as queries and the fetch of a cursor page, when a
+ * request fails with an I/O error or a response indicating the server
+ * is temporarily unable to serve it.
+ */
+public interface RetryPolicy {
+
+    /**
+     * Returns the time to wait before retrying a failed request.
+     *
+     * @param attempt number of the attempt that failed, starting at 1
+     * @param statusCode HTTP status code of the response, or 0 if the
+     *         attempt failed with an exception
+     * @param exception the cause of the failure if the attempt failed
+     *         with an exception, otherwise null
+     * @param retryAfterMillis delay requested by the server through a
+     *         Retry-After header, or -1 if the response has none
+     *
+     * @return the delay in milliseconds, or -1 if the request is not
+     *         to be retried
+     */
+    long getRetryDelay(int attempt, int statusCode, Throwable exception, long retryAfterMillis);
+}
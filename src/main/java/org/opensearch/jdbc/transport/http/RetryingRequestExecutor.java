@@ -0,0 +1,353 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.opensearch.jdbc.config.ConnectionConfig;
+import org.opensearch.jdbc.logging.Logger;
+import org.opensearch.jdbc.logging.LoggingSource;
+import org.opensearch.jdbc.statistics.StatisticsRecorder;
+import org.opensearch.jdbc.transport.RequestCanceller;
+import org.opensearch.jdbc.transport.TransportException;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.utils.DateUtils;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.util.EntityUtils;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes the requests of a transport, retrying the requests that are
+ * safe to repeat according to a {@link RetryPolicy}, and failing fast
+ * while the {@link CircuitBreaker} of the endpoint is open.
+ * <p>
+ * If the connection spreads requests across several nodes, each attempt
+ * is sent to the node picked by the {@link NodeSelector}, so a retry
+ * normally goes to a different node than the attempt that failed.
+ * <p>
+ * A request failing on its last attempt fails as it would without
+ * retries: the last exception is thrown, or the last response returned.
+ */
+class RetryingRequestExecutor implements LoggingSource {
+
+    private final RetryPolicy retryPolicy;
+    private final CircuitBreaker circuitBreaker;
+    private final NodeSelector nodeSelector;
+    private final Attempt sniffAttempt;
+    private final HttpHost defaultNode;
+    private final String endpoint;
+    private final Logger log;
+    private volatile StatisticsRecorder statistics;
+
+    /**
+     * @param retryPolicy policy for requests that are safe to repeat, or
+     *         null to not retry requests
+     * @param circuitBreaker breaker of the endpoint, or null to not fail
+     *         requests fast
+     * @param nodeSelector selector of the node for each attempt, or null
+     *         to send all requests to the default node
+     * @param sniffAttempt sends the nodes info request for sniffing to a
+     *         node
+     */
+    RetryingRequestExecutor(RetryPolicy retryPolicy, CircuitBreaker circuitBreaker, NodeSelector nodeSelector,
+                            Attempt sniffAttempt, HttpHost defaultNode, String path, Logger log) {
+        this.retryPolicy = retryPolicy;
+        this.circuitBreaker = circuitBreaker;
+        this.nodeSelector = nodeSelector;
+        this.sniffAttempt = sniffAttempt;
+        this.defaultNode = defaultNode;
+        this.endpoint = defaultNode.toURI() + path;
+        this.log = log;
+    }
+
+    /**
+     * Builds the executor for the retry, circuit breaker and load
+     * balancing settings of the configuration.
+     *
+     * @param sniffAttempt sends the nodes info request for sniffing to a
+     *         node
+     */
+    static RetryingRequestExecutor forConfig(ConnectionConfig connectionConfig, Logger log, Attempt sniffAttempt) {
+        RetryPolicy retryPolicy = connectionConfig.getRetryPolicy() != null ?
+                connectionConfig.getRetryPolicy() :
+                new ExponentialBackoffRetryPolicy(connectionConfig.getMaxRetries(),
+                        connectionConfig.getRetryBaseDelay(), connectionConfig.getRetryMaxDelay());
+
+        HttpHost defaultNode = new HttpHost(connectionConfig.getHost(), connectionConfig.getPort(),
+                connectionConfig.isUseSSL() ? "https" : "http");
+
+        return new RetryingRequestExecutor(retryPolicy,
+                CircuitBreakerRegistry.INSTANCE.getCircuitBreaker(connectionConfig),
+                NodeSelectorRegistry.INSTANCE.getNodeSelector(connectionConfig),
+                sniffAttempt, defaultNode, connectionConfig.getPath(), log);
+    }
+
+    /**
+     * @param statistics recorder of the requests and their attempts, or
+     *         null to not record them
+     */
+    void setStatistics(StatisticsRecorder statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * @param attempt sends the request once to a node
+     * @param retryable true if the request is safe to repeat
+     * @param canceller canceller of the request, or null
+     * @param affinity the node the request is bound to, which receives
+     *         the node that served the request, or null
+     */
+    CloseableHttpResponse execute(Attempt attempt, boolean retryable, RequestCanceller canceller,
+                                  NodeAffinity affinity) throws TransportException {
+        StatisticsRecorder statistics = this.statistics;
+
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            if (circuitBreaker != null && !circuitBreaker.allowRequest()) {
+                throw new TransportException(String.format("Request to %s rejected without being sent, " +
+                        "as recent requests to it failed. Circuit breaker is open.", endpoint));
+            }
+
+            sniffNodesIfDue();
+
+            HttpHost pinned = affinity != null ? affinity.getNode() : null;
+            NodeSelector.Node node = nodeSelector != null ? nodeSelector.select(pinned) : null;
+            HttpHost target = node != null ? node.getHost() : pinned != null ? pinned : defaultNode;
+
+            if (attemptNumber > 1 && statistics != null) {
+                statistics.recordRetry();
+            }
+
+            CloseableHttpResponse response;
+            long startNanos = startAttempt(statistics);
+            try {
+                response = attempt.execute(target);
+            } catch (TransportException ex) {
+                Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                if (statistics != null) {
+                    statistics.recordRequestFailure();
+                }
+                if (node != null) {
+                    nodeSelector.release(node);
+                }
+                if ((canceller != null && canceller.isCancelled()) || cause instanceof InterruptedException) {
+                    throw ex;
+                }
+
+                if (circuitBreaker != null && !(cause instanceof ConnectionPoolTimeoutException)) {
+                    circuitBreaker.onFailure();
+                }
+                if (node != null && ExponentialBackoffRetryPolicy.isRetryable(0, cause)) {
+                    nodeSelector.onFailure(node);
+                }
+
+                long delay = retryable && retryPolicy != null ?
+                        retryPolicy.getRetryDelay(attemptNumber, 0, cause, -1) : -1;
+                if (delay < 0) {
+                    throw ex;
+                }
+
+                final int failedAttempt = attemptNumber;
+                log.debug(() -> logMessage("Attempt %d of request to %s failed with %s, retrying in %d ms",
+                        failedAttempt, target, cause, delay));
+                sleep(delay, ex);
+                continue;
+            }
+
+            int statusCode = response.getStatusLine().getStatusCode();
+            boolean overloaded = ExponentialBackoffRetryPolicy.isOverloadStatus(statusCode);
+            if (statistics != null) {
+                statistics.recordResponse(statusCode, System.nanoTime() - startNanos);
+            }
+
+            if (circuitBreaker != null) {
+                if (overloaded) {
+                    circuitBreaker.onFailure();
+                } else {
+                    circuitBreaker.onSuccess();
+                }
+            }
+            if (node != null) {
+                recordOutcome(node, overloaded);
+            }
+            if (affinity != null) {
+                affinity.setNode(target);
+            }
+
+            if (!retryable || retryPolicy == null || (statusCode < 500 && !overloaded)) {
+                return response;
+            }
+
+            long delay = retryPolicy.getRetryDelay(attemptNumber, statusCode, null, getRetryAfterMillis(response));
+            if (delay < 0) {
+                return response;
+            }
+
+            final int failedAttempt = attemptNumber;
+            log.debug(() -> logMessage("Attempt %d of request to %s failed with HTTP status %d, retrying in %d ms",
+                    failedAttempt, target, statusCode, delay));
+
+            // consuming the content returns the connection to the pool
+            EntityUtils.consumeQuietly(response.getEntity());
+            try {
+                response.close();
+            } catch (IOException ex) {
+                // ignore
+            }
+            sleep(delay, null);
+        }
+    }
+
+    /**
+     * Sends a request once without blocking, to the node picked by the
+     * {@link NodeSelector}. The request is neither retried nor subject to
+     * the circuit breaker.
+     *
+     * @param attempt sends the request once to a node
+     * @param affinity the node the request is bound to, which receives
+     *         the node that served the request, or null
+     */
+    CompletableFuture<CloseableHttpResponse> executeAsync(AsyncAttempt attempt, NodeAffinity affinity) {
+        HttpHost pinned = affinity != null ? affinity.getNode() : null;
+        NodeSelector.Node node = nodeSelector != null ? nodeSelector.select(pinned) : null;
+        HttpHost target = node != null ? node.getHost() : pinned != null ? pinned : defaultNode;
+
+        StatisticsRecorder statistics = this.statistics;
+        long startNanos = startAttempt(statistics);
+
+        CompletableFuture<CloseableHttpResponse> responseFuture = attempt.execute(target);
+        responseFuture.whenComplete((response, throwable) -> {
+            if (statistics != null) {
+                if (response != null) {
+                    statistics.recordResponse(response.getStatusLine().getStatusCode(),
+                            System.nanoTime() - startNanos);
+                } else {
+                    statistics.recordRequestFailure();
+                }
+            }
+            if (node != null) {
+                if (response != null) {
+                    recordOutcome(node,
+                            ExponentialBackoffRetryPolicy.isOverloadStatus(response.getStatusLine().getStatusCode()));
+                } else {
+                    nodeSelector.release(node);
+                    Throwable cause = throwable.getCause() != null ? throwable.getCause() : throwable;
+                    if (ExponentialBackoffRetryPolicy.isRetryable(0, cause)) {
+                        nodeSelector.onFailure(node);
+                    }
+                }
+            }
+            if (response != null && affinity != null) {
+                affinity.setNode(target);
+            }
+        });
+        return responseFuture;
+    }
+
+    private static long startAttempt(StatisticsRecorder statistics) {
+        if (statistics == null) {
+            return 0;
+        }
+        statistics.recordRequestStarted();
+        return System.nanoTime();
+    }
+
+    private void recordOutcome(NodeSelector.Node node, boolean failed) {
+        nodeSelector.release(node);
+        if (failed) {
+            nodeSelector.onFailure(node);
+        } else {
+            nodeSelector.onSuccess(node);
+        }
+    }
+
+    /**
+     * Replaces the nodes requests are spread across with the nodes
+     * reported by the cluster, if sniffing is enabled and due. Failures
+     * are logged, and the known nodes kept until the next sniff.
+     */
+    private void sniffNodesIfDue() {
+        if (nodeSelector == null || sniffAttempt == null || !nodeSelector.startSniff()) {
+            return;
+        }
+
+        List<HttpHost> hosts = null;
+        boolean failed = false;
+        NodeSelector.Node node = nodeSelector.select(null);
+        try (CloseableHttpResponse response = sniffAttempt.execute(node.getHost())) {
+            int statusCode = response.getStatusLine().getStatusCode();
+            failed = ExponentialBackoffRetryPolicy.isOverloadStatus(statusCode);
+
+            if (statusCode == 200 && response.getEntity() != null) {
+                hosts = NodeSniffer.parseNodes(response.getEntity().getContent(), defaultNode.getSchemeName());
+                List<HttpHost> sniffedHosts = hosts;
+                log.debug(() -> logMessage("Sniffed nodes %s from %s", sniffedHosts, node));
+            } else {
+                log.warn(() -> logMessage("Sniffing nodes from %s failed with HTTP status %d", node, statusCode));
+            }
+        } catch (IOException | RuntimeException ex) {
+            Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+            failed = ExponentialBackoffRetryPolicy.isRetryable(0, cause);
+            log.warn(() -> logMessage("Sniffing nodes from %s failed: %s", node, ex));
+        } finally {
+            nodeSelector.release(node);
+            if (failed) {
+                nodeSelector.onFailure(node);
+            }
+            nodeSelector.endSniff(hosts);
+        }
+    }
+
+    /**
+     * @return the delay requested through the Retry-After header of the
+     *         response in milliseconds, or -1 if there is none
+     */
+    static long getRetryAfterMillis(HttpResponse response) {
+        Header header = response.getFirstHeader(HttpHeaders.RETRY_AFTER);
+        if (header == null || header.getValue() == null) {
+            return -1;
+        }
+
+        String value = header.getValue().trim();
+        try {
+            return Math.max(TimeUnit.SECONDS.toMillis(Long.parseLong(value)), 0);
+        } catch (NumberFormatException ex) {
+            // the value may also be an HTTP date
+            Date date = DateUtils.parseDate(value);
+            return date == null ? -1 : Math.max(date.getTime() - System.currentTimeMillis(), 0);
+        }
+    }
+
+    private static void sleep(long delayMillis, TransportException failure) throws TransportException {
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            TransportException interrupted = new TransportException("Interrupted waiting to retry request", ex);
+            if (failure != null) {
+                interrupted.addSuppressed(failure);
+            }
+            throw interrupted;
+        }
+    }
+
+    @FunctionalInterface
+    interface Attempt {
+        CloseableHttpResponse execute(HttpHost node) throws TransportException;
+    }
+
+    @FunctionalInterface
+    interface AsyncAttempt {
+        CompletableFuture<CloseableHttpResponse> execute(HttpHost node);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.opensearch.jdbc.config.ConnectionConfig;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import java.io.File;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Driver-wide registry of the TLS material built from connection
+ * configurations.
+ * <p>
+ * Connections with the same key store, trust store and verification
+ * settings share one {@link SSLContext}, so the stores are read from
+ * disk once rather than for every connection. Since the TLS session
+ * cache belongs to the context, sharing it also lets new sockets to a
+ * node resume a session established by an earlier socket, with an
+ * abbreviated handshake.
+ * <p>
+ * The store files are checked for changes whenever the material is
+ * looked up, and the material is rebuilt once they change, so rotated
+ * certificates are picked up by subsequent sockets without restarting.
+ * If the changed files can not be loaded, for instance while they are
+ * being written, the previous material keeps being served until the
+ * files load successfully.
+ */
+public class SslContextRegistry {
+
+    public static final SslContextRegistry INSTANCE = new SslContextRegistry();
+
+    private final Map<SslKey, SslMaterial> materials = new HashMap<>();
+
+    SslContextRegistry() {
+
+    }
+
+    /**
+     * @return the SSL context for the key and trust stores of the
+     *         configuration, building it if it is not cached or if the
+     *         stores have changed on disk
+     */
+    public synchronized SSLContext getSslContext(ConnectionConfig connectionConfig)
+            throws GeneralSecurityException, IOException {
+        return getMaterial(connectionConfig).sslContext;
+    }
+
+    /**
+     * @return the socket factory for blocking connections, sharing the
+     *         SSL context of the configuration
+     */
+    synchronized SSLConnectionSocketFactory getSocketFactory(ConnectionConfig connectionConfig)
+            throws GeneralSecurityException, IOException {
+        SslMaterial material = getMaterial(connectionConfig);
+
+        if (material.socketFactory == null) {
+            material.socketFactory = new SSLConnectionSocketFactory(material.sslContext, material.hostnameVerifier);
+        }
+        return material.socketFactory;
+    }
+
+    /**
+     * @return the session strategy for non-blocking connections, sharing
+     *         the SSL context of the configuration
+     */
+    synchronized SSLIOSessionStrategy getSessionStrategy(ConnectionConfig connectionConfig)
+            throws GeneralSecurityException, IOException {
+        SslMaterial material = getMaterial(connectionConfig);
+
+        if (material.sessionStrategy == null) {
+            material.sessionStrategy = new SSLIOSessionStrategy(material.sslContext, material.hostnameVerifier);
+        }
+        return material.sessionStrategy;
+    }
+
+    /**
+     * @return number of SSL contexts currently cached
+     */
+    public synchronized int size() {
+        return materials.size();
+    }
+
+    /**
+     * Removes all cached material, so that the stores are read again
+     * on the next lookup.
+     */
+    public synchronized void clear() {
+        materials.clear();
+    }
+
+    private SslMaterial getMaterial(ConnectionConfig connectionConfig) throws GeneralSecurityException, IOException {
+        SslKey key = new SslKey(connectionConfig);
+        SslMaterial material = materials.get(key);
+
+        if (material == null) {
+            material = new SslMaterial(connectionConfig);
+            materials.put(key, material);
+        } else if (material.isStale()) {
+            try {
+                material = new SslMaterial(connectionConfig);
+                materials.put(key, material);
+            } catch (GeneralSecurityException | IOException e) {
+                // the files may be mid-rotation, keep the previous material
+                // and try again on the next lookup
+            }
+        }
+        return material;
+    }
+
+    /**
+     * An SSL context along with the objects built on it, and the state of
+     * the store files it was loaded from.
+     */
+    private static class SslMaterial {
+        private final SSLContext sslContext;
+        private final HostnameVerifier hostnameVerifier;
+        private final List<FileStamp> files = new ArrayList<>();
+        private SSLConnectionSocketFactory socketFactory;
+        private SSLIOSessionStrategy sessionStrategy;
+
+        SslMaterial(ConnectionConfig connectionConfig) throws GeneralSecurityException, IOException {
+            // stamp the files first, so that a change made while loading
+            // is seen on the next lookup
+            if (connectionConfig.getTrustStoreLocation() != null) {
+                files.add(new FileStamp(new File(connectionConfig.getTrustStoreLocation())));
+            }
+            if (connectionConfig.getKeyStoreLocation() != null) {
+                files.add(new FileStamp(new File(connectionConfig.getKeyStoreLocation())));
+            }
+
+            this.sslContext = ApacheHttpTransport.buildSslContext(connectionConfig);
+            this.hostnameVerifier = ApacheHttpTransport.buildHostnameVerifier(connectionConfig);
+        }
+
+        boolean isStale() {
+            for (FileStamp file : files) {
+                if (file.isChanged()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static class FileStamp {
+        private final File file;
+        private final long lastModified;
+        private final long length;
+
+        FileStamp(File file) {
+            this.file = file;
+            this.lastModified = file.lastModified();
+            this.length = file.length();
+        }
+
+        boolean isChanged() {
+            return file.lastModified() != lastModified || file.length() != length;
+        }
+    }
+
+    /**
+     * Identifies the connection configuration values that affect how
+     * the TLS material is built.
+     */
+    static class SslKey {
+        private final Object[] values;
+        private final int hashCode;
+
+        SslKey(ConnectionConfig config) {
+            this.values = new Object[]{
+                    config.getKeyStoreLocation(),
+                    config.getKeyStorePassword(),
+                    config.getKeyStoreType(),
+                    config.getTrustStoreLocation(),
+                    config.getTrustStorePassword(),
+                    config.getTrustStoreType(),
+                    config.trustSelfSigned(),
+                    config.hostnameVerification()
+            };
+            this.hashCode = Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof SslKey)) return false;
+            return Arrays.equals(values, ((SslKey) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,511 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http.auth.aws;
+
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.auth.AWSSessionCredentials;
+import com.amazonaws.auth.AnonymousAWSCredentials;
+import com.amazonaws.auth.SdkClock;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.protocol.HttpContext;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.apache.http.protocol.HttpCoreContext.HTTP_TARGET_HOST;
+
+/**
+ * An {@link HttpRequestInterceptor} that signs requests with AWS
+ * Signature Version 4.
+ * <p>
+ * Unlike {@link AWSRequestSigningApacheInterceptor}, which copies each
+ * request into an AWS SDK request for a {@link com.amazonaws.auth.Signer},
+ * this interceptor signs the Apache request in place:
+ * <ul>
+ *     <li>the path and query are canonicalized straight from the request
+ *     line, without building an intermediate URI or header maps</li>
+ *     <li>the payload hash is computed in a single pass as the body is
+ *     written. A body held in memory is hashed where it is and left on
+ *     the request. Any other body is serialized once into a buffer that
+ *     is then sent as is</li>
+ *     <li>the signing key, which only changes with the date and the
+ *     credentials, is derived once and reused until then</li>
+ * </ul>
+ * The signatures are the same as those of the SDK's {@code AWS4Signer},
+ * except that headers that may be altered in transit, such as
+ * {@code Transfer-Encoding}, are left out of the signature.
+ */
+public class AWSSigV4RequestInterceptor implements HttpRequestInterceptor {
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final String TERMINATOR = "aws4_request";
+    private static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+    private static final String X_AMZ_DATE = "X-Amz-Date";
+    private static final String X_AMZ_SECURITY_TOKEN = "X-Amz-Security-Token";
+    private static final String X_AMZ_CONTENT_SHA256 = "x-amz-content-sha256";
+
+    private static final Set<String> UNSIGNED_HEADERS = new HashSet<>(Arrays.asList(
+            "connection", "content-length", "expect", "transfer-encoding", "x-amzn-trace-id"));
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final String EMPTY_PAYLOAD_HASH = hex(newSha256().digest());
+
+    private static final ThreadLocal<MessageDigest> SHA_256 =
+            ThreadLocal.withInitial(AWSSigV4RequestInterceptor::newSha256);
+
+    private static final ThreadLocal<Mac> HMAC_SHA_256 =
+            ThreadLocal.withInitial(AWSSigV4RequestInterceptor::newHmacSha256);
+
+    private final String service;
+    private final String region;
+    private final AWSCredentialsProvider awsCredentialsProvider;
+    private final String host;
+    private final boolean unsignedPayload;
+    private final SdkClock clock;
+    private volatile SigningKey signingKey;
+
+    /**
+     * @param service service that we're connecting to
+     * @param region region the service is in
+     * @param awsCredentialsProvider source of AWS credentials for signing
+     * @param host hostname to sign requests for, if connected through a
+     *         tunnel or proxy, or null to sign for the target host
+     * @param unsignedPayload true to leave the payload of requests sent
+     *         over HTTPS out of the signature, and to send the payload hash
+     *         in the {@code x-amz-content-sha256} header
+     */
+    public AWSSigV4RequestInterceptor(final String service,
+                                      final String region,
+                                      final AWSCredentialsProvider awsCredentialsProvider,
+                                      final String host,
+                                      final boolean unsignedPayload) {
+        this(service, region, awsCredentialsProvider, host, unsignedPayload, null);
+    }
+
+    /**
+     * @param clock clock giving the signing time, or null to use the
+     *         clock of the AWS SDK
+     */
+    AWSSigV4RequestInterceptor(final String service,
+                               final String region,
+                               final AWSCredentialsProvider awsCredentialsProvider,
+                               final String host,
+                               final boolean unsignedPayload,
+                               final SdkClock clock) {
+        this.service = service;
+        this.region = region;
+        this.awsCredentialsProvider = awsCredentialsProvider;
+        this.host = host;
+        this.unsignedPayload = unsignedPayload;
+        this.clock = clock;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void process(final HttpRequest request, final HttpContext context) throws IOException {
+        AWSCredentials credentials = awsCredentialsProvider.getCredentials();
+        if (credentials instanceof AnonymousAWSCredentials) {
+            return;
+        }
+
+        // split the request line URI, which is either absolute or a path
+        String uri = request.getRequestLine().getUri();
+        int pathStart = 0;
+        int schemeEnd = uri.indexOf("://");
+        if (schemeEnd != -1) {
+            pathStart = uri.indexOf('/', schemeEnd + 3);
+            if (pathStart == -1) {
+                pathStart = uri.length();
+            }
+        }
+        int end = uri.indexOf('#', pathStart);
+        if (end == -1) {
+            end = uri.length();
+        }
+        int queryStart = uri.indexOf('?', pathStart);
+        if (queryStart > end) {
+            queryStart = -1;
+        }
+        String rawPath = uri.substring(pathStart, queryStart != -1 ? queryStart : end);
+        String rawQuery = queryStart != -1 ? uri.substring(queryStart + 1, end) : null;
+
+        HttpHost endpoint = getEndpoint(uri, schemeEnd, pathStart, context);
+        String hostHeader = endpoint.getPort() == -1 || endpoint.getPort() == defaultPort(endpoint.getSchemeName()) ?
+                endpoint.getHostName() : endpoint.getHostName() + ":" + endpoint.getPort();
+
+        String amzDate = DATE_TIME_FORMAT.format(Instant.ofEpochMilli(currentTimeMillis()));
+        String dateStamp = amzDate.substring(0, 8);
+
+        request.setHeader(HttpHeaders.HOST, hostHeader);
+        request.setHeader(X_AMZ_DATE, amzDate);
+        if (credentials instanceof AWSSessionCredentials) {
+            request.setHeader(X_AMZ_SECURITY_TOKEN, ((AWSSessionCredentials) credentials).getSessionToken().trim());
+        }
+
+        String payloadHash = unsignedPayload && "https".equalsIgnoreCase(endpoint.getSchemeName()) ?
+                UNSIGNED_PAYLOAD : hashPayload(request);
+        if (unsignedPayload) {
+            request.setHeader(X_AMZ_CONTENT_SHA256, payloadHash);
+        }
+
+        // headers by lower case name, with the values of repeated headers
+        // joined by commas
+        Map<String, String> headers = new TreeMap<>();
+        for (Header header : request.getAllHeaders()) {
+            String name = header.getName().toLowerCase(Locale.ROOT);
+            if (!UNSIGNED_HEADERS.contains(name)) {
+                headers.merge(name, compact(header.getValue()), (first, second) -> first + "," + second);
+            }
+        }
+
+        StringBuilder canonicalRequest = new StringBuilder(512)
+                .append(request.getRequestLine().getMethod()).append('\n');
+        appendCanonicalPath(canonicalRequest, rawPath);
+        canonicalRequest.append('\n');
+        appendCanonicalQuery(canonicalRequest, rawQuery);
+        canonicalRequest.append('\n');
+
+        StringBuilder signedHeaders = new StringBuilder(128);
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            canonicalRequest.append(header.getKey()).append(':').append(header.getValue()).append('\n');
+            if (signedHeaders.length() > 0) {
+                signedHeaders.append(';');
+            }
+            signedHeaders.append(header.getKey());
+        }
+        canonicalRequest.append('\n').append(signedHeaders).append('\n').append(payloadHash);
+
+        String scope = dateStamp + "/" + region + "/" + service + "/" + TERMINATOR;
+        String stringToSign = ALGORITHM + "\n" + amzDate + "\n" + scope + "\n" + hex(sha256(canonicalRequest));
+
+        String secretKey = credentials.getAWSSecretKey().trim();
+        byte[] signature = hmac(getSigningKey(secretKey, dateStamp), stringToSign);
+
+        request.setHeader(HttpHeaders.AUTHORIZATION, ALGORITHM +
+                " Credential=" + credentials.getAWSAccessKeyId().trim() + "/" + scope +
+                ", SignedHeaders=" + signedHeaders +
+                ", Signature=" + hex(signature));
+    }
+
+    private long currentTimeMillis() {
+        return (clock != null ? clock : SdkClock.Instance.get()).currentTimeMillis();
+    }
+
+    private HttpHost getEndpoint(String uri, int schemeEnd, int pathStart, HttpContext context) throws IOException {
+        if (host != null && !host.equals("")) {
+            // override host if given by user (`tunnelHost` connection parameter)
+            URI hostUri = URI.create(host.startsWith("http") ? host : "https://" + host);
+            return new HttpHost(hostUri.getHost(), hostUri.getPort(), hostUri.getScheme());
+        }
+
+        HttpHost targetHost = context != null ? (HttpHost) context.getAttribute(HTTP_TARGET_HOST) : null;
+        if (targetHost != null) {
+            return targetHost;
+        }
+        if (schemeEnd != -1) {
+            URI authority = URI.create(uri.substring(0, pathStart));
+            return new HttpHost(authority.getHost(), authority.getPort(), authority.getScheme());
+        }
+        throw new IOException("Unknown target host of request " + uri);
+    }
+
+    private static int defaultPort(String scheme) {
+        return "https".equalsIgnoreCase(scheme) ? 443 : 80;
+    }
+
+    /**
+     * @return the signing key for the date, deriving it if the date or
+     *         the credentials have changed since it was last derived
+     */
+    private byte[] getSigningKey(String secretKey, String dateStamp) {
+        SigningKey cached = signingKey;
+
+        if (cached == null || !cached.dateStamp.equals(dateStamp) || !cached.secretKey.equals(secretKey)) {
+            byte[] key = hmac(("AWS4" + secretKey).getBytes(StandardCharsets.UTF_8), dateStamp);
+            key = hmac(key, region);
+            key = hmac(key, service);
+            key = hmac(key, TERMINATOR);
+
+            cached = new SigningKey(secretKey, dateStamp, key);
+            signingKey = cached;
+        }
+        return cached.key;
+    }
+
+    /**
+     * Hashes the body of the request in a single pass. A body held in
+     * memory is hashed as it is written, and left on the request. Any
+     * other body is written once into a buffer that replaces it, so that
+     * it is not serialized again when sent.
+     */
+    private static String hashPayload(HttpRequest request) throws IOException {
+        if (!(request instanceof HttpEntityEnclosingRequest)) {
+            return EMPTY_PAYLOAD_HASH;
+        }
+        HttpEntityEnclosingRequest entityRequest = (HttpEntityEnclosingRequest) request;
+        HttpEntity entity = entityRequest.getEntity();
+        if (entity == null) {
+            return EMPTY_PAYLOAD_HASH;
+        }
+
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+
+        if (entity.isRepeatable() && entity.getContentLength() >= 0) {
+            entity.writeTo(new DigestingOutputStream(digest, null));
+        } else {
+            PayloadBuffer buffer = new PayloadBuffer();
+            entity.writeTo(new DigestingOutputStream(digest, buffer));
+
+            ByteArrayEntity bufferedEntity = buffer.toEntity();
+            bufferedEntity.setContentType(entity.getContentType());
+            bufferedEntity.setContentEncoding(entity.getContentEncoding());
+            bufferedEntity.setChunked(entity.isChunked());
+            entityRequest.setEntity(bufferedEntity);
+        }
+        return hex(digest.digest());
+    }
+
+    /**
+     * Appends the path, encoded once more as the services other than S3
+     * expect.
+     */
+    private static void appendCanonicalPath(StringBuilder builder, String rawPath) {
+        if (!rawPath.startsWith("/")) {
+            builder.append('/');
+        }
+        appendEncoded(builder, rawPath, true);
+    }
+
+    /**
+     * Appends the query parameters sorted by encoded name and value.
+     */
+    private static void appendCanonicalQuery(StringBuilder builder, String rawQuery) throws IOException {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return;
+        }
+
+        List<String> parameters = new ArrayList<>();
+        for (String parameter : rawQuery.split("&")) {
+            if (parameter.isEmpty()) {
+                continue;
+            }
+            int separator = parameter.indexOf('=');
+            String name = separator != -1 ? parameter.substring(0, separator) : parameter;
+            String value = separator != -1 ? parameter.substring(separator + 1) : "";
+
+            StringBuilder encoded = new StringBuilder(parameter.length() + 8);
+            appendEncoded(encoded, decode(name), false);
+            // sorts the names ahead of their values, as '=' can not be
+            // part of an encoded name
+            encoded.append('\u0000');
+            appendEncoded(encoded, decode(value), false);
+            parameters.add(encoded.toString());
+        }
+        parameters.sort(null);
+
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                builder.append('&');
+            }
+            builder.append(parameters.get(i).replace('\u0000', '='));
+        }
+    }
+
+    /**
+     * Decodes a form encoded query parameter name or value.
+     */
+    private static String decode(String value) throws IOException {
+        if (value.indexOf('%') == -1 && value.indexOf('+') == -1) {
+            return value;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '+') {
+                bytes.write(' ');
+            } else if (c == '%') {
+                if (i + 2 >= value.length()
+                        || Character.digit(value.charAt(i + 1), 16) == -1
+                        || Character.digit(value.charAt(i + 2), 16) == -1) {
+                    throw new IOException("Invalid URI encoding: " + value);
+                }
+                bytes.write(Character.digit(value.charAt(i + 1), 16) << 4 | Character.digit(value.charAt(i + 2), 16));
+                i += 2;
+            } else {
+                byte[] encoded = String.valueOf(c).getBytes(StandardCharsets.UTF_8);
+                bytes.write(encoded, 0, encoded.length);
+            }
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Appends the value with every character other than the unreserved
+     * characters of RFC 3986 percent-encoded, except for slashes in paths.
+     */
+    private static void appendEncoded(StringBuilder builder, String value, boolean path) {
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xff);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == '~' || (path && c == '/')) {
+                builder.append(c);
+            } else {
+                builder.append('%')
+                        .append(Character.toUpperCase(HEX_DIGITS[c >> 4]))
+                        .append(Character.toUpperCase(HEX_DIGITS[c & 0xf]));
+            }
+        }
+    }
+
+    /**
+     * @return the value trimmed, with runs of spaces collapsed to a
+     *         single space
+     */
+    private static String compact(String value) {
+        String trimmed = value.trim();
+        if (trimmed.indexOf("  ") == -1) {
+            return trimmed;
+        }
+
+        StringBuilder builder = new StringBuilder(trimmed.length());
+        boolean previousSpace = false;
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c == ' ' && previousSpace) {
+                continue;
+            }
+            builder.append(c);
+            previousSpace = c == ' ';
+        }
+        return builder.toString();
+    }
+
+    private static byte[] sha256(CharSequence value) {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return digest.digest(value.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] hmac(byte[] key, String value) {
+        Mac mac = HMAC_SHA_256.get();
+        try {
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to initialize HmacSHA256", e);
+        }
+        return mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String hex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+            chars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xf];
+        }
+        return new String(chars);
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static Mac newHmacSha256() {
+        try {
+            return Mac.getInstance("HmacSHA256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private static class SigningKey {
+        private final String secretKey;
+        private final String dateStamp;
+        private final byte[] key;
+
+        SigningKey(String secretKey, String dateStamp, byte[] key) {
+            this.secretKey = secretKey;
+            this.dateStamp = dateStamp;
+            this.key = key;
+        }
+    }
+
+    /**
+     * Feeds the bytes written to a digest, and optionally to a buffer.
+     */
+    private static class DigestingOutputStream extends OutputStream {
+        private final MessageDigest digest;
+        private final OutputStream buffer;
+
+        DigestingOutputStream(MessageDigest digest, OutputStream buffer) {
+            this.digest = digest;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            digest.update((byte) b);
+            if (buffer != null) {
+                buffer.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            digest.update(b, off, len);
+            if (buffer != null) {
+                buffer.write(b, off, len);
+            }
+        }
+    }
+
+    /**
+     * Buffer whose contents are handed to an entity without being copied.
+     */
+    private static class PayloadBuffer extends ByteArrayOutputStream {
+        ByteArrayEntity toEntity() {
+            return new ByteArrayEntity(buf, 0, count);
+        }
+    }
+}
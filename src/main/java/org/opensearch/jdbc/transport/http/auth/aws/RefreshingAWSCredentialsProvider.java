@@ -0,0 +1,192 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http.auth.aws;
+
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * An {@link AWSCredentialsProvider} that serves the credentials of another
+ * provider from memory, and asks that provider for them again in the
+ * background at a fixed interval.
+ * <p>
+ * Providers backed by the instance metadata service or STS fetch new
+ * credentials on the calling thread once the current ones near expiry.
+ * Asking for the credentials in the background lets that fetch happen
+ * off the request path, so signing a request does not wait on it. Should
+ * the background fetches keep failing, the credentials are fetched on the
+ * calling thread once they are older than the maximum age.
+ * <p>
+ * Connections asking for the same provider with {@link #of} share one
+ * instance, and so one series of background fetches. The background
+ * fetches stop once the provider is no longer referenced.
+ */
+public class RefreshingAWSCredentialsProvider implements AWSCredentialsProvider {
+
+    static final long REFRESH_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    static final long MAX_AGE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private static ScheduledExecutorService refreshExecutor;
+
+    // stands for every instance of the default chain, which all fetch the
+    // same credentials
+    private static final AWSCredentialsProvider DEFAULT_CHAIN = new DefaultAWSCredentialsProviderChain();
+
+    // the values are weak too, as each provider references its delegate
+    private static final Map<AWSCredentialsProvider, WeakReference<RefreshingAWSCredentialsProvider>> SHARED_PROVIDERS =
+            new WeakHashMap<>();
+
+    private final AWSCredentialsProvider delegate;
+    private final LongSupplier clock;
+    private volatile FetchedCredentials current;
+
+    /**
+     * @param delegate the provider to fetch the credentials from
+     *
+     * @return the provider refreshing the credentials of the delegate,
+     *         shared with the other callers passing the same delegate, or
+     *         any instance of the default provider chain
+     */
+    public static synchronized RefreshingAWSCredentialsProvider of(AWSCredentialsProvider delegate) {
+        AWSCredentialsProvider key = delegate.getClass() == DefaultAWSCredentialsProviderChain.class ?
+                DEFAULT_CHAIN : delegate;
+
+        WeakReference<RefreshingAWSCredentialsProvider> reference = SHARED_PROVIDERS.get(key);
+        RefreshingAWSCredentialsProvider provider = reference != null ? reference.get() : null;
+        if (provider == null) {
+            provider = new RefreshingAWSCredentialsProvider(key);
+            SHARED_PROVIDERS.put(key, new WeakReference<>(provider));
+        }
+        return provider;
+    }
+
+    /**
+     * @param delegate the provider to fetch the credentials from
+     */
+    public RefreshingAWSCredentialsProvider(AWSCredentialsProvider delegate) {
+        this(delegate, System::currentTimeMillis);
+        RefreshTask.schedule(this);
+    }
+
+    /**
+     * Creates a provider that does not fetch credentials in the background.
+     */
+    RefreshingAWSCredentialsProvider(AWSCredentialsProvider delegate, LongSupplier clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+    }
+
+    @Override
+    public AWSCredentials getCredentials() {
+        FetchedCredentials fetched = current;
+
+        if (fetched == null || clock.getAsLong() - fetched.fetchedAtMillis >= MAX_AGE_MILLIS) {
+            return fetch(fetched);
+        }
+        return fetched.credentials;
+    }
+
+    @Override
+    public void refresh() {
+        delegate.refresh();
+        fetch(null);
+    }
+
+    /**
+     * Fetches the credentials from the delegate, keeping the current
+     * credentials if that fails.
+     */
+    void refreshInBackground() {
+        try {
+            fetch(null);
+        } catch (RuntimeException e) {
+            // retried at the next interval, or on the calling thread once
+            // the credentials are too old
+        }
+    }
+
+    /**
+     * @param stale the credentials found to be missing or too old, or null
+     *         to fetch the credentials irrespective of their age
+     */
+    private synchronized AWSCredentials fetch(FetchedCredentials stale) {
+        // another thread may have fetched the credentials in the meantime
+        if (stale != null && current != stale) {
+            return current.credentials;
+        }
+
+        AWSCredentials credentials = delegate.getCredentials();
+        current = new FetchedCredentials(credentials, clock.getAsLong());
+        return credentials;
+    }
+
+    private static synchronized ScheduledExecutorService getRefreshExecutor() {
+        if (refreshExecutor == null) {
+            refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "opensearch-jdbc-credentials-refresher");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return refreshExecutor;
+    }
+
+    private static class FetchedCredentials {
+        private final AWSCredentials credentials;
+        private final long fetchedAtMillis;
+
+        FetchedCredentials(AWSCredentials credentials, long fetchedAtMillis) {
+            this.credentials = credentials;
+            this.fetchedAtMillis = fetchedAtMillis;
+        }
+    }
+
+    /**
+     * Refreshes a provider at the refresh interval while it is referenced.
+     * The first fetch is started right away, so that the first request
+     * is not likely to wait on it either.
+     */
+    private static class RefreshTask implements Runnable {
+        private final WeakReference<RefreshingAWSCredentialsProvider> provider;
+        private volatile ScheduledFuture<?> future;
+
+        private RefreshTask(RefreshingAWSCredentialsProvider provider) {
+            this.provider = new WeakReference<>(provider);
+        }
+
+        static void schedule(RefreshingAWSCredentialsProvider provider) {
+            RefreshTask task = new RefreshTask(provider);
+            task.future = getRefreshExecutor().scheduleWithFixedDelay(task, 0, REFRESH_INTERVAL_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void run() {
+            RefreshingAWSCredentialsProvider refreshed = provider.get();
+
+            if (refreshed == null) {
+                // the future is assigned before the next run
+                if (future != null) {
+                    future.cancel(false);
+                }
+                return;
+            }
+            refreshed.refreshInBackground();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http.auth.basic;
+
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.protocol.HttpContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * An {@link HttpRequestInterceptor} that sends Basic credentials with
+ * every request, rather than in answer to a challenge.
+ * <p>
+ * A client authenticating on challenge sends the first request of every
+ * new connection without credentials, and only sends it again once it is
+ * rejected with 401, so each connection pays an additional round trip.
+ * The {@code Authorization} header is encoded once, and the interceptor
+ * is held by the client, so the header is shared by every connection
+ * using the client. Requests that already carry an {@code Authorization}
+ * header are left untouched.
+ * <p>
+ * The credentials are sent to every node of the cluster, as they were
+ * when answering challenges from any host.
+ */
+public class PreemptiveBasicAuthInterceptor implements HttpRequestInterceptor {
+
+    private final Header authorization;
+
+    /**
+     * @param user the user name
+     * @param password the password, or null for an empty password
+     */
+    public PreemptiveBasicAuthInterceptor(String user, String password) {
+        String credentials = user + ":" + (password != null ? password : "");
+        this.authorization = new BasicHeader(HttpHeaders.AUTHORIZATION,
+                "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public void process(HttpRequest request, HttpContext context) {
+        if (!request.containsHeader(HttpHeaders.AUTHORIZATION)) {
+            request.addHeader(authorization);
+        }
+    }
+
+    /**
+     * @return the {@code Authorization} header sent with requests
+     */
+    public Header getAuthorization() {
+        return authorization;
+    }
+}
@@ -12,6 +12,10 @@ import java.sql.SQLException;
 import java.sql.Struct;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -37,6 +41,11 @@ public abstract class BaseTypeConverter implements TypeConverter {
         typeHandlerMap.put(Date.class, DateType.INSTANCE);
         typeHandlerMap.put(Time.class, TimeType.INSTANCE);
 
+        typeHandlerMap.put(Instant.class, InstantType.INSTANCE);
+        typeHandlerMap.put(OffsetDateTime.class, OffsetDateTimeType.INSTANCE);
+        typeHandlerMap.put(LocalDateTime.class, LocalDateTimeType.INSTANCE);
+        typeHandlerMap.put(LocalDate.class, LocalDateType.INSTANCE);
+
         typeHandlerMap.put(Struct.class, StructType.INSTANCE);
 
         typeHandlerMap.put(Array.class, ArrayType.INSTANCE);
@@ -58,6 +67,28 @@ public abstract class BaseTypeConverter implements TypeConverter {
         throw objectConversionException(value, clazz);
     }
 
+    /**
+     * Returns the {@link TypeHelper} for the class if values can be
+     * converted to it, so that callers can recognize the conversion and
+     * read values of primitive types without boxing them.
+     */
+    @Override
+    public <T> ValueConverter<T> getValueConverter(Class<T> clazz) {
+        @SuppressWarnings("unchecked")
+        final Class<T> javaClass = clazz != null ? clazz : (Class<T>) getDefaultJavaClass();
+
+        if (getSupportedJavaClasses() != null && getSupportedJavaClasses().contains(javaClass)) {
+            TypeHelper<T> typeHelper = getTypeHelper(javaClass);
+
+            if (typeHelper != null) {
+                return typeHelper;
+            }
+        }
+        return (value, conversionParams) -> {
+            throw objectConversionException(value, javaClass);
+        };
+    }
+
     private <T> TypeHelper<T> getTypeHelper(Class<T> clazz) {
         return typeHandlerMap.get(clazz);
     }
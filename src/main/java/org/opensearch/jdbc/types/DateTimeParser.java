@@ -0,0 +1,359 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.types;
+
+import java.util.TimeZone;
+
+/**
+ * Parser of the date, time and timestamp values returned by the server,
+ * used by {@link TimestampType}, {@link DateType} and {@link TimeType}.
+ * <p>
+ * Values are parsed in a single pass over the characters, without the
+ * intermediate Strings, formatters and Calendars of the general purpose
+ * parsers. The parser accepts
+ * <pre>
+ *     yyyy-MM-dd
+ *     yyyy-MM-dd[ |T]HH:mm:ss[.fffffffff][Z|+hh|+hhmm|+hh:mm|-hh|-hhmm|-hh:mm]
+ *     HH:mm:ss
+ * </pre>
+ * and returns null for any other value, so that callers can fall back
+ * to the general purpose parsers and keep their leniency.
+ * <p>
+ * Dates are in the proleptic Gregorian calendar of java.time. Dates
+ * before 1900 are not converted in a {@link TimeZone}, as java.util
+ * converts them in the Julian calendar and with different historical
+ * offsets.
+ */
+final class DateTimeParser {
+
+    /**
+     * Returned by {@link ParsedDateTime#toEpochSecond(TimeZone)} if the
+     * local date-time has no single offset in the zone.
+     */
+    static final long UNRESOLVED = Long.MIN_VALUE;
+
+    private static final int MIN_YEAR = 1900;
+    private static final int MAX_EPOCH_MILLIS_DIGITS = 18;
+    private static final long DAYS_0000_TO_1970 = 719528L;
+
+    private DateTimeParser() {
+
+    }
+
+    /**
+     * Parses a date, or a date and time with an optional offset.
+     */
+    static ParsedDateTime parseTimestamp(String value) {
+        int length = value.length();
+        ParsedDateTime parsed = parseDate(value);
+
+        if (parsed == null || length == 10) {
+            return parsed;
+        }
+
+        char separator = value.charAt(10);
+        if ((separator != ' ' && separator != 'T') || !parseTime(value, 11, parsed)) {
+            return null;
+        }
+
+        int pos = parseFraction(value, 19, parsed);
+        if (pos < 0) {
+            return null;
+        }
+
+        if (pos < length) {
+            pos = parseOffset(value, pos, parsed);
+        }
+        return pos == length ? parsed : null;
+    }
+
+    /**
+     * Parses the date at the start of a value, ignoring what follows it.
+     */
+    static ParsedDateTime parseDate(String value) {
+        if (value.length() < 10 || value.charAt(4) != '-' || value.charAt(7) != '-') {
+            return null;
+        }
+
+        int year = parseDigits(value, 0, 4);
+        int month = parseDigits(value, 5, 2);
+        int day = parseDigits(value, 8, 2);
+
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return null;
+        }
+
+        ParsedDateTime parsed = new ParsedDateTime();
+        parsed.year = year;
+        parsed.month = month;
+        parsed.day = day;
+        return parsed;
+    }
+
+    /**
+     * Parses a time, or a date and time without fractional seconds, of
+     * which only the time is of interest.
+     */
+    static ParsedDateTime parseTime(String value) {
+        ParsedDateTime parsed;
+
+        if (value.length() == 8) {
+            parsed = new ParsedDateTime();
+            parsed.year = 1970;
+            parsed.month = 1;
+            parsed.day = 1;
+            return parseTime(value, 0, parsed) ? parsed : null;
+        } else if (value.length() == 19 && value.charAt(10) == ' ') {
+            parsed = parseDate(value);
+            return parsed != null && parseTime(value, 11, parsed) ? parsed : null;
+        }
+        return null;
+    }
+
+    /**
+     * @return true if the value is a number of milliseconds since the
+     *         epoch, such as the value of a date field with the epoch_millis
+     *         format
+     */
+    static boolean isEpochMillis(String value) {
+        int length = value.length();
+        int start = length > 1 && value.charAt(0) == '-' ? 1 : 0;
+
+        if (length == start || length - start > MAX_EPOCH_MILLIS_DIGITS) {
+            return false;
+        }
+
+        for (int i = start; i < length; i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean parseTime(String value, int pos, ParsedDateTime parsed) {
+        if (value.length() < pos + 8 || value.charAt(pos + 2) != ':' || value.charAt(pos + 5) != ':') {
+            return false;
+        }
+
+        parsed.hour = parseDigits(value, pos, 2);
+        parsed.minute = parseDigits(value, pos + 3, 2);
+        parsed.second = parseDigits(value, pos + 6, 2);
+
+        return parsed.hour >= 0 && parsed.hour <= 23
+                && parsed.minute >= 0 && parsed.minute <= 59
+                && parsed.second >= 0 && parsed.second <= 59;
+    }
+
+    /**
+     * @return position after the fractional seconds, if any, or -1 if
+     *         they are malformed
+     */
+    private static int parseFraction(String value, int pos, ParsedDateTime parsed) {
+        if (pos == value.length() || value.charAt(pos) != '.') {
+            return pos;
+        }
+
+        int nano = 0;
+        int digits = 0;
+        pos++;
+
+        while (pos < value.length() && isDigit(value.charAt(pos))) {
+            if (++digits > 9) {
+                return -1;
+            }
+            nano = nano * 10 + (value.charAt(pos++) - '0');
+        }
+
+        if (digits == 0) {
+            return -1;
+        }
+
+        for (int i = digits; i < 9; i++) {
+            nano *= 10;
+        }
+        parsed.nano = nano;
+        return pos;
+    }
+
+    /**
+     * @return position after the offset, or -1 if it is malformed
+     */
+    private static int parseOffset(String value, int pos, ParsedDateTime parsed) {
+        char sign = value.charAt(pos);
+
+        if (sign == 'Z') {
+            parsed.offsetSeconds = 0;
+            return pos + 1;
+        } else if (sign != '+' && sign != '-') {
+            return -1;
+        }
+
+        int length = value.length() - pos - 1;
+        int hours = length >= 2 ? parseDigits(value, pos + 1, 2) : -1;
+        int minutes;
+
+        if (length == 2) {
+            minutes = 0;
+        } else if (length == 4) {
+            minutes = parseDigits(value, pos + 3, 2);
+        } else if (length == 5 && value.charAt(pos + 3) == ':') {
+            minutes = parseDigits(value, pos + 4, 2);
+        } else {
+            return -1;
+        }
+
+        if (hours < 0 || hours > 18 || minutes < 0 || minutes > 59) {
+            return -1;
+        }
+
+        int offsetSeconds = hours * 3600 + minutes * 60;
+        parsed.offsetSeconds = sign == '-' ? -offsetSeconds : offsetSeconds;
+        return value.length();
+    }
+
+    /**
+     * @return the value of the digits, or -1 if any character is not a digit
+     */
+    private static int parseDigits(String value, int pos, int count) {
+        int result = 0;
+        for (int i = pos; i < pos + count; i++) {
+            char c = value.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * The fields of a parsed value.
+     */
+    static final class ParsedDateTime {
+        private int year;
+        private int month;
+        private int day;
+        private int hour;
+        private int minute;
+        private int second;
+        private int nano;
+        private int offsetSeconds = ZoneOffsetCache.UNRESOLVED;
+
+        int getYear() {
+            return year;
+        }
+
+        int getMonth() {
+            return month;
+        }
+
+        int getDay() {
+            return day;
+        }
+
+        int getHour() {
+            return hour;
+        }
+
+        int getMinute() {
+            return minute;
+        }
+
+        int getSecond() {
+            return second;
+        }
+
+        int getNano() {
+            return nano;
+        }
+
+        /**
+         * @return true if the value specifies its offset from UTC
+         */
+        boolean hasOffset() {
+            return offsetSeconds != ZoneOffsetCache.UNRESOLVED;
+        }
+
+        int getOffsetSeconds() {
+            return offsetSeconds;
+        }
+
+        /**
+         * Returns the epoch second of the date-time in the specified zone,
+         * or at the offset of the value if the zone is null.
+         *
+         * @return the epoch second, or {@link #UNRESOLVED} if the date-time
+         *         falls in a gap or overlap of the zone's offsets, or is
+         *         before 1900
+         */
+        long toEpochSecond(TimeZone zone) {
+            long localEpochSecond = toLocalEpochSecond();
+
+            if (year < MIN_YEAR) {
+                return UNRESOLVED;
+            } else if (zone == null) {
+                return localEpochSecond - offsetSeconds;
+            }
+
+            int zoneOffsetSeconds = ZoneOffsetCache.INSTANCE.getOffsetSeconds(zone, localEpochSecond);
+            return zoneOffsetSeconds == ZoneOffsetCache.UNRESOLVED ?
+                    UNRESOLVED : localEpochSecond - zoneOffsetSeconds;
+        }
+
+        /**
+         * @return the epoch second of the date-time at the offset of the
+         *         value, or at UTC if the value has no offset
+         */
+        long toUtcEpochSecond() {
+            return hasOffset() ? toLocalEpochSecond() - offsetSeconds : toLocalEpochSecond();
+        }
+
+        /**
+         * @return the epoch second of the date-time at offset zero
+         */
+        long toLocalEpochSecond() {
+            return toEpochDay() * 86400L + hour * 3600L + minute * 60L + second;
+        }
+
+        private long toEpochDay() {
+            long y = year;
+            long total = 365 * y + (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+            total += (367 * month - 362) / 12;
+            total += day - 1;
+            if (month > 2) {
+                total--;
+                if (!isLeapYear(year)) {
+                    total--;
+                }
+            }
+            return total - DAYS_0000_TO_1970;
+        }
+    }
+}
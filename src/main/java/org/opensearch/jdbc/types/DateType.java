@@ -51,6 +51,18 @@ public class DateType implements TypeHelper<Date> {
     }
 
     public java.sql.Date asDate(String value, Calendar calendar) throws SQLException {
+        DateTimeParser.ParsedDateTime parsed = value != null ? DateTimeParser.parseDate(value) : null;
+        if (parsed != null) {
+            if (calendar == null) {
+                return java.sql.Date.valueOf(LocalDate.of(parsed.getYear(), parsed.getMonth(), parsed.getDay()));
+            }
+
+            long epochSecond = parsed.toEpochSecond(calendar.getTimeZone());
+            if (epochSecond != DateTimeParser.UNRESOLVED) {
+                return new java.sql.Date(epochSecond * 1000);
+            }
+        }
+
         try {
             if (calendar == null) {
                 return java.sql.Date.valueOf(toLocalDate(value));
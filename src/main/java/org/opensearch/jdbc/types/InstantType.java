@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.types;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Supports returning a java.time.Instant from a String in the JDBC
+ * escape or ISO-8601 format, or a String or Number value indicating
+ * epoch time in millis.
+ * <p>
+ * Values are converted directly from their fields, without a Calendar.
+ * Values without an offset are taken to be in UTC, the time zone the
+ * server returns date-times in.
+ */
+public class InstantType implements TypeHelper<Instant> {
+
+    public static final InstantType INSTANCE = new InstantType();
+
+    private InstantType() {
+
+    }
+
+    @Override
+    public Instant fromValue(Object value, Map<String, Object> conversionParams) throws SQLException {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Instant) {
+            return (Instant) value;
+        } else if (value instanceof String) {
+            return asInstant((String) value);
+        } else if (value instanceof Number) {
+            return Instant.ofEpochMilli(((Number) value).longValue());
+        } else {
+            throw objectConversionException(value);
+        }
+    }
+
+    public Instant asInstant(String value) throws SQLException {
+        if (DateTimeParser.isEpochMillis(value)) {
+            return Instant.ofEpochMilli(Long.parseLong(value));
+        }
+
+        DateTimeParser.ParsedDateTime parsed = DateTimeParser.parseTimestamp(value);
+        if (parsed == null) {
+            throw stringConversionException(value, null);
+        }
+        return Instant.ofEpochSecond(parsed.toUtcEpochSecond(), parsed.getNano());
+    }
+
+    @Override
+    public String getTypeName() {
+        return "Instant";
+    }
+}
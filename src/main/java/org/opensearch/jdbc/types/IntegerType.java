@@ -45,6 +45,28 @@ public class IntegerType extends NumberType<Integer> {
         return (int) getDoubleValueWithinBounds(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
     }
 
+    /**
+     * Returns a long value as an int, without boxing either.
+     *
+     * @throws SQLException if the value is outside the range of an int
+     */
+    public int asInt(long value) throws SQLException {
+        if (value > Integer.MAX_VALUE || value < Integer.MIN_VALUE)
+            throw valueOutOfRangeException(value);
+
+        return (int) value;
+    }
+
+    /**
+     * Returns a double value rounded off to an int, without boxing either.
+     *
+     * @throws SQLException if the rounded value is outside the range of
+     *         an int
+     */
+    public int asInt(double value) throws SQLException {
+        return (int) getDoubleValueWithinBounds(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
     @Override
     public String getTypeName() {
         return "Integer";
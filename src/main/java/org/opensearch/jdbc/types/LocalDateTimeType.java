@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.types;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+/**
+ * Supports returning a java.time.LocalDateTime from a String in the
+ * JDBC escape or ISO-8601 format, or a String or Number value indicating
+ * epoch time in millis.
+ * <p>
+ * Values are converted directly from their fields, without a Calendar.
+ * Values with an offset, and epoch times, are returned as the date-time
+ * in UTC, the time zone the server returns date-times in.
+ */
+public class LocalDateTimeType implements TypeHelper<LocalDateTime> {
+
+    public static final LocalDateTimeType INSTANCE = new LocalDateTimeType();
+
+    private LocalDateTimeType() {
+
+    }
+
+    @Override
+    public LocalDateTime fromValue(Object value, Map<String, Object> conversionParams) throws SQLException {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof LocalDateTime) {
+            return (LocalDateTime) value;
+        } else if (value instanceof String) {
+            return asLocalDateTime((String) value);
+        } else if (value instanceof Number) {
+            return asLocalDateTime(((Number) value).longValue());
+        } else {
+            throw objectConversionException(value);
+        }
+    }
+
+    public LocalDateTime asLocalDateTime(String value) throws SQLException {
+        if (DateTimeParser.isEpochMillis(value)) {
+            return asLocalDateTime(Long.parseLong(value));
+        }
+
+        DateTimeParser.ParsedDateTime parsed = DateTimeParser.parseTimestamp(value);
+        if (parsed == null) {
+            throw stringConversionException(value, null);
+        }
+
+        if (parsed.hasOffset()) {
+            return LocalDateTime.ofEpochSecond(parsed.toUtcEpochSecond(), parsed.getNano(), ZoneOffset.UTC);
+        }
+        return LocalDateTime.of(parsed.getYear(), parsed.getMonth(), parsed.getDay(),
+                parsed.getHour(), parsed.getMinute(), parsed.getSecond(), parsed.getNano());
+    }
+
+    private LocalDateTime asLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, 1000L),
+                (int) Math.floorMod(epochMillis, 1000L) * 1000000, ZoneOffset.UTC);
+    }
+
+    @Override
+    public String getTypeName() {
+        return "LocalDateTime";
+    }
+}
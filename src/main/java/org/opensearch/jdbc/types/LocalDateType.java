@@ -0,0 +1,69 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.types;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Supports returning a java.time.LocalDate from a String (starting with
+ * yyyy-mm-dd, optionally followed by a time and offset) or a String or
+ * Number value indicating epoch time in millis.
+ * <p>
+ * Values are converted directly from their fields, without a Calendar.
+ * Values with an offset, and epoch times, are returned as the date in
+ * UTC, the time zone the server returns date-times in.
+ */
+public class LocalDateType implements TypeHelper<LocalDate> {
+
+    public static final LocalDateType INSTANCE = new LocalDateType();
+
+    private static final long SECONDS_PER_DAY = 86400L;
+    private static final long MILLIS_PER_DAY = SECONDS_PER_DAY * 1000L;
+
+    private LocalDateType() {
+
+    }
+
+    @Override
+    public LocalDate fromValue(Object value, Map<String, Object> conversionParams) throws SQLException {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof LocalDate) {
+            return (LocalDate) value;
+        } else if (value instanceof String) {
+            return asLocalDate((String) value);
+        } else if (value instanceof Number) {
+            return LocalDate.ofEpochDay(Math.floorDiv(((Number) value).longValue(), MILLIS_PER_DAY));
+        } else {
+            throw objectConversionException(value);
+        }
+    }
+
+    public LocalDate asLocalDate(String value) throws SQLException {
+        if (DateTimeParser.isEpochMillis(value)) {
+            return LocalDate.ofEpochDay(Math.floorDiv(Long.parseLong(value), MILLIS_PER_DAY));
+        }
+
+        DateTimeParser.ParsedDateTime parsed = DateTimeParser.parseTimestamp(value);
+        if (parsed == null) {
+            throw stringConversionException(value, null);
+        }
+
+        if (parsed.hasOffset()) {
+            return LocalDate.ofEpochDay(Math.floorDiv(parsed.toUtcEpochSecond(), SECONDS_PER_DAY));
+        }
+        return LocalDate.of(parsed.getYear(), parsed.getMonth(), parsed.getDay());
+    }
+
+    @Override
+    public String getTypeName() {
+        return "LocalDate";
+    }
+}
@@ -56,6 +56,16 @@ public class LongType extends NumberType<Long> {
         return (long) getDoubleValueWithinBounds(value, Long.MIN_VALUE, Long.MAX_VALUE);
     }
 
+    /**
+     * Returns a double value rounded off to a long, without boxing either.
+     *
+     * @throws SQLException if the rounded value is outside the range of
+     *         a long
+     */
+    public long asLong(double value) throws SQLException {
+        return (long) getDoubleValueWithinBounds(value, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
     @Override
     public String getTypeName() {
         return "Long";
@@ -36,6 +36,30 @@ public abstract class NumberType<T> implements TypeHelper<T> {
         return doubleValue;
     }
 
+    /**
+     * Returns a double value, rounded off if this type rounds off
+     * fractional values, if it falls within a specified min and max
+     * range.
+     *
+     * @param value double value to check
+     * @param minValue minimum value possible
+     * @param maxValue maximum value possible
+     *
+     * @return The double value if it falls within the specified min and
+     *         max range.
+     *
+     * @throws SQLException If the double value is outside the possible
+     *         range specified
+     */
+    double getDoubleValueWithinBounds(double value, double minValue, double maxValue) throws SQLException {
+        double doubleValue = roundOffValue() ? Math.round(value) : value;
+
+        if (doubleValue > maxValue || doubleValue < minValue)
+            throw valueOutOfRangeException(value);
+
+        return doubleValue;
+    }
+
     /**
      * Whether to round off a fractional value during cross conversion
      * from a different type to this type.
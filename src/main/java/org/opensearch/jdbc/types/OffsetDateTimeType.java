@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.types;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+/**
+ * Supports returning a java.time.OffsetDateTime from a String in the
+ * JDBC escape or ISO-8601 format, or a String or Number value indicating
+ * epoch time in millis.
+ * <p>
+ * Values are converted directly from their fields, without a Calendar,
+ * and keep the offset they specify. Values without an offset are taken
+ * to be in UTC, the time zone the server returns date-times in.
+ */
+public class OffsetDateTimeType implements TypeHelper<OffsetDateTime> {
+
+    public static final OffsetDateTimeType INSTANCE = new OffsetDateTimeType();
+
+    private OffsetDateTimeType() {
+
+    }
+
+    @Override
+    public OffsetDateTime fromValue(Object value, Map<String, Object> conversionParams) throws SQLException {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof OffsetDateTime) {
+            return (OffsetDateTime) value;
+        } else if (value instanceof String) {
+            return asOffsetDateTime((String) value);
+        } else if (value instanceof Number) {
+            return asOffsetDateTime(((Number) value).longValue());
+        } else {
+            throw objectConversionException(value);
+        }
+    }
+
+    public OffsetDateTime asOffsetDateTime(String value) throws SQLException {
+        if (DateTimeParser.isEpochMillis(value)) {
+            return asOffsetDateTime(Long.parseLong(value));
+        }
+
+        DateTimeParser.ParsedDateTime parsed = DateTimeParser.parseTimestamp(value);
+        if (parsed == null) {
+            throw stringConversionException(value, null);
+        }
+
+        ZoneOffset offset = parsed.hasOffset() ?
+                ZoneOffset.ofTotalSeconds(parsed.getOffsetSeconds()) : ZoneOffset.UTC;
+        return OffsetDateTime.of(parsed.getYear(), parsed.getMonth(), parsed.getDay(),
+                parsed.getHour(), parsed.getMinute(), parsed.getSecond(), parsed.getNano(), offset);
+    }
+
+    private OffsetDateTime asOffsetDateTime(long epochMillis) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+
+    @Override
+    public String getTypeName() {
+        return "OffsetDateTime";
+    }
+}
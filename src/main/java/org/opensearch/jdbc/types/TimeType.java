@@ -11,6 +11,7 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAccessor;
@@ -47,15 +48,11 @@ public class TimeType implements TypeHelper<Time>{
     Time time;
     LocalDateTime localDateTime;
 
-    try {
-      TemporalAccessor temporal = DateTimeFormatter
-              .ofPattern("yyyy-MM-dd HH:mm:ss", Locale.getDefault())
-              .parse(value);
-
-      localDateTime = LocalDateTime.from(temporal);
-      time = Time.valueOf(localDateTime.toLocalTime());
-    } catch (DateTimeParseException exception) {
-      time = Time.valueOf(value);
+    DateTimeParser.ParsedDateTime parsed = DateTimeParser.parseTime(value);
+    if (parsed != null) {
+      time = Time.valueOf(LocalTime.of(parsed.getHour(), parsed.getMinute(), parsed.getSecond()));
+    } else {
+      time = parseTime(value);
     }
 
     if (calendar == null) {
@@ -67,6 +64,24 @@ public class TimeType implements TypeHelper<Time>{
     return localDateTimeToTime(localDateTime, calendar);
   }
 
+  /**
+   * Parses values the {@link DateTimeParser} does not handle.
+   */
+  private Time parseTime(String value) {
+    Time time;
+
+    try {
+      TemporalAccessor temporal = DateTimeFormatter
+              .ofPattern("yyyy-MM-dd HH:mm:ss", Locale.getDefault())
+              .parse(value);
+
+      time = Time.valueOf(LocalDateTime.from(temporal).toLocalTime());
+    } catch (DateTimeParseException exception) {
+      time = Time.valueOf(value);
+    }
+    return time;
+  }
+
   public Time asTime(Number value) {
     return new Time(value.longValue());
   }
@@ -16,7 +16,8 @@ import java.util.TimeZone;
 
 /**
  * Supports returning a java.sql.Timestamp from a String in the
- * JDBC escape format, or a Number value indicating epoch time in millis.
+ * JDBC escape or ISO-8601 format, or a String or Number value indicating
+ * epoch time in millis.
  */
 public class TimestampType implements TypeHelper<Timestamp> {
 
@@ -60,6 +61,31 @@ public class TimestampType implements TypeHelper<Timestamp> {
     }
 
     public java.sql.Timestamp asTimestamp(String value, Calendar calendar) throws SQLException {
+        if (DateTimeParser.isEpochMillis(value)) {
+            return new java.sql.Timestamp(Long.parseLong(value));
+        }
+
+        DateTimeParser.ParsedDateTime parsed = DateTimeParser.parseTimestamp(value);
+        if (parsed != null) {
+            // 'calendar' parameter takes precedence over the offset in the value
+            TimeZone zone = calendar != null ? calendar.getTimeZone() :
+                    parsed.hasOffset() ? null : TimeZone.getDefault();
+            long epochSecond = parsed.toEpochSecond(zone);
+
+            if (epochSecond != DateTimeParser.UNRESOLVED) {
+                Timestamp ts = new Timestamp(epochSecond * 1000);
+                // conversions through a Calendar are precise to millis
+                ts.setNanos(calendar != null ? parsed.getNano() / 1000000 * 1000000 : parsed.getNano());
+                return ts;
+            }
+        }
+        return parseTimestamp(value, calendar);
+    }
+
+    /**
+     * Parses values the {@link DateTimeParser} does not handle.
+     */
+    private java.sql.Timestamp parseTimestamp(String value, Calendar calendar) throws SQLException {
         try {
             // Make some effort to understand ISO format
             if (value.length() > 11 && value.charAt(10) == 'T') {
@@ -68,6 +94,9 @@ public class TimestampType implements TypeHelper<Timestamp> {
             // Timestamp.valueOf() does not like timezone information
             if (value.length() > 23) {
                 if (value.length() == 24 && value.charAt(23) == 'Z') {
+                    if (calendar == null) {
+                        calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+                    }
                     value = value.substring(0, 23);
                 }
                 else if (value.charAt(23) == '+' || value.charAt(23) == '-') {
@@ -34,6 +34,21 @@ public interface TypeConverter {
      */
     <T> T convert(Object value, Class<T> clazz, Map<String, Object> conversionParams) throws SQLException;
 
+    /**
+     * Returns a converter of column values to instances of the specified
+     * class, which converts values the same way as
+     * {@link #convert(Object, Class, Map)}.
+     *
+     * @param <T> Type of the Java Class
+     * @param clazz Class to which values are converted, or null for the
+     *         default Java class of the JDBCType
+     *
+     * @return converter for the specified class
+     */
+    default <T> ValueConverter<T> getValueConverter(Class<T> clazz) {
+        return (value, conversionParams) -> convert(value, clazz, conversionParams);
+    }
+
     default SQLDataException objectConversionException(Object value, Class clazz) {
         return new SQLDataException(String.format(
                 "Can not convert object '%s' of type '%s' to type '%s'",
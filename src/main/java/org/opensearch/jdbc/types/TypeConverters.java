@@ -13,6 +13,10 @@ import java.sql.SQLException;
 import java.sql.Struct;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
@@ -110,7 +114,8 @@ public class TypeConverters {
 
         private static final Set<Class> supportedJavaClasses = Collections.unmodifiableSet(
                 new HashSet<>(Arrays.asList(
-                        String.class, Timestamp.class, Time.class
+                        String.class, Timestamp.class, Time.class,
+                        Instant.class, OffsetDateTime.class, LocalDateTime.class, LocalDate.class
                 )));
 
         private TimestampTypeConverter() {
@@ -133,7 +138,8 @@ public class TypeConverters {
 
         private static final Set<Class> supportedJavaClasses = Collections.unmodifiableSet(
                 new HashSet<>(Arrays.asList(
-                        String.class, Date.class
+                        String.class, Date.class,
+                        Instant.class, OffsetDateTime.class, LocalDateTime.class, LocalDate.class
                 )));
 
         private DateTypeConverter() {
@@ -179,6 +185,7 @@ public class TypeConverters {
         private static final Set<Class> supportedJavaClasses = Collections.unmodifiableSet(
                 new HashSet<>(Arrays.asList(
                         String.class, Timestamp.class, java.sql.Date.class,
+                        Instant.class, OffsetDateTime.class, LocalDateTime.class, LocalDate.class,
                         Byte.class, Short.class, Integer.class, Long.class,
                         Boolean.class
                 )));
@@ -348,5 +355,10 @@ public class TypeConverters {
             // a JAVA null here
             return null;
         }
+
+        @Override
+        public <T> ValueConverter<T> getValueConverter(Class<T> clazz) {
+            return (value, conversionParams) -> null;
+        }
     }
 }
@@ -17,7 +17,7 @@ import java.util.Map;
  *
  * @param <T> The Java type to which conversion is provided.
  */
-public interface TypeHelper<T> {
+public interface TypeHelper<T> extends ValueConverter<T> {
     default SQLDataException stringConversionException(String value, Throwable cause) {
         if (cause != null)
             return new SQLDataException(String.format("Can not parse %s as a %s", value, getTypeName()), cause);
@@ -54,6 +54,11 @@ public interface TypeHelper<T> {
      */
     T fromValue(Object value, Map<String, Object> conversionParams) throws SQLException;
 
+    @Override
+    default T convert(Object value, Map<String, Object> conversionParams) throws SQLException {
+        return fromValue(value, conversionParams);
+    }
+
     /**
      * Indicative name of the type T
      *
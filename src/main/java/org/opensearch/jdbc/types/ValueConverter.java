@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.types;
+
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Converts values of one JDBCType to one Java class.
+ * <p>
+ * Obtained from {@link TypeConverter#getValueConverter(Class)}, which
+ * resolves how values are converted once, rather than on every call to
+ * {@link TypeConverter#convert(Object, Class, Map)}.
+ *
+ * @param <T> Type of the Java Class values are converted to
+ */
+@FunctionalInterface
+public interface ValueConverter<T> {
+
+    /**
+     * @param value Column value
+     * @param conversionParams Optional conversion parameters to use in
+     *         the conversion
+     *
+     * @return Column value as an instance of type T
+     *
+     * @throws SQLException if the conversion is not supported or the
+     *         conversion operation fails.
+     */
+    T convert(Object value, Map<String, Object> conversionParams) throws SQLException;
+}
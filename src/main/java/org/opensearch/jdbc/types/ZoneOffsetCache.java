@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.types;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.List;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the offsets from UTC of the time zones date-time values are
+ * converted in.
+ * <p>
+ * For each zone the cache holds the most recently resolved range of
+ * local date-times over which the offset of the zone does not change,
+ * typically the months between two daylight saving transitions. Values
+ * of a result commonly fall within one such range, so their offset is
+ * found without consulting the rules of the zone.
+ */
+class ZoneOffsetCache {
+
+    /**
+     * Returned if the offset of a local date-time can not be resolved
+     * from the cache.
+     */
+    static final int UNRESOLVED = Integer.MIN_VALUE;
+
+    static final ZoneOffsetCache INSTANCE = new ZoneOffsetCache();
+
+    private static final int MAX_ZONES = 64;
+
+    private final ConcurrentHashMap<String, OffsetRange> ranges = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the offset in seconds of the zone at a local date-time.
+     *
+     * @param localEpochSecond the local date-time, as the epoch second it
+     *         would be at offset zero
+     *
+     * @return the offset, or {@link #UNRESOLVED} if the local date-time
+     *         falls in a gap or overlap of the zone's offsets, or the zone
+     *         is not backed by the time zone database
+     */
+    int getOffsetSeconds(TimeZone zone, long localEpochSecond) {
+        if (zone instanceof SimpleTimeZone) {
+            // custom rules not known to java.time
+            return UNRESOLVED;
+        }
+
+        String zoneId = zone.getID();
+        OffsetRange range = ranges.get(zoneId);
+
+        if (range == null || !range.contains(localEpochSecond)) {
+            range = resolve(zone.toZoneId().getRules(), localEpochSecond);
+            if (range == null) {
+                return UNRESOLVED;
+            }
+            if (ranges.size() < MAX_ZONES || ranges.containsKey(zoneId)) {
+                ranges.put(zoneId, range);
+            }
+        }
+        return range.offsetSeconds;
+    }
+
+    private static OffsetRange resolve(ZoneRules rules, long localEpochSecond) {
+        if (rules.isFixedOffset()) {
+            return new OffsetRange(Long.MIN_VALUE, Long.MAX_VALUE, rules.getOffset(Instant.EPOCH));
+        }
+
+        LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(localEpochSecond, 0, ZoneOffset.UTC);
+        List<ZoneOffset> validOffsets = rules.getValidOffsets(localDateTime);
+
+        if (validOffsets.size() != 1) {
+            // in a gap or overlap, resolved differently by java.util and java.time
+            return null;
+        }
+
+        ZoneOffset offset = validOffsets.get(0);
+        Instant instant = localDateTime.toInstant(offset);
+        ZoneOffsetTransition previous = rules.previousTransition(instant.plusSeconds(1));
+        ZoneOffsetTransition next = rules.nextTransition(instant);
+
+        // local date-times on both sides of a transition's gap or overlap
+        // resolve to a single offset
+        long from = previous == null ? Long.MIN_VALUE : Math.max(
+                previous.getDateTimeBefore().toEpochSecond(ZoneOffset.UTC),
+                previous.getDateTimeAfter().toEpochSecond(ZoneOffset.UTC));
+        long until = next == null ? Long.MAX_VALUE : Math.min(
+                next.getDateTimeBefore().toEpochSecond(ZoneOffset.UTC),
+                next.getDateTimeAfter().toEpochSecond(ZoneOffset.UTC));
+
+        if (localEpochSecond < from || localEpochSecond >= until) {
+            return new OffsetRange(localEpochSecond, localEpochSecond + 1, offset);
+        }
+        return new OffsetRange(from, until, offset);
+    }
+
+    /**
+     * Range of local date-times, as epoch seconds at offset zero, over
+     * which the offset of a zone does not change.
+     */
+    private static class OffsetRange {
+        private final long from;
+        private final long until;
+        private final int offsetSeconds;
+
+        OffsetRange(long from, long until, ZoneOffset offset) {
+            this.from = from;
+            this.until = until;
+            this.offsetSeconds = offset.getTotalSeconds();
+        }
+
+        boolean contains(long localEpochSecond) {
+            return localEpochSecond >= from && localEpochSecond < until;
+        }
+    }
+}
@@ -0,0 +1,406 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.opensearch.jdbc.auth.AuthenticationType;
+import org.opensearch.jdbc.config.ConnectionConfig;
+import org.opensearch.jdbc.logging.Logger;
+import org.opensearch.jdbc.statistics.StatisticsRecorder;
+import org.opensearch.jdbc.transport.RequestCanceller;
+import org.opensearch.jdbc.transport.TransportException;
+import org.opensearch.jdbc.transport.http.auth.basic.PreemptiveBasicAuthInterceptor;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.ProtocolVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.utils.URIBuilder;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.EnglishReasonPhraseCatalog;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicStatusLine;
+import org.apache.http.protocol.HttpCoreContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * {@link AsyncHttpTransport} implementation based on the HTTP client of
+ * Java 11.
+ * <p>
+ * Requests are sent over HTTP/2 where the server supports it, negotiated
+ * through ALPN over TLS, so that concurrent requests from any number of
+ * connections are multiplexed over a single connection per node. Servers
+ * that only support HTTP/1.1 are spoken to over HTTP/1.1. The underlying
+ * client is shared through the {@link ApacheHttpClientRegistry} by all
+ * transports with an identical configuration.
+ * <p>
+ * Responses are buffered in full before they are handed back. The read
+ * timeout bounds the time until the response headers are received.
+ */
+public class JdkHttp2Transport implements AsyncHttpTransport {
+
+    // headers the client sets itself, and does not allow to be set
+    private static final Set<String> RESTRICTED_HEADERS = new HashSet<>(Arrays.asList(
+            "connection", "content-length", "expect", "host", "upgrade"));
+
+    private static final ProtocolVersion HTTP_2 = new ProtocolVersion("HTTP", 2, 0);
+
+    String path;
+    int readTimeout;
+
+    private final boolean requestCompression;
+    private final boolean requestBodyCompression;
+    private final String userAgent;
+    private final Header basicAuthorization;
+    private final HttpRequestInterceptor awsRequestSigningInterceptor;
+    private PooledJdkHttpClient pooledJdkHttpClient;
+    private RetryingRequestExecutor requestExecutor;
+
+    public JdkHttp2Transport(ConnectionConfig connectionConfig, Logger log, String userAgent)
+            throws TransportException {
+        this.path = connectionConfig.getPath();
+        this.requestCompression = connectionConfig.requestCompression();
+        this.requestBodyCompression = connectionConfig.requestBodyCompression();
+        this.userAgent = userAgent;
+
+        if (connectionConfig.isUseSSL() && !connectionConfig.hostnameVerification()) {
+            throw new TransportException("The HTTP2 transport does not support disabling hostname verification");
+        }
+
+        // credentials are sent with every request, rather than in answer
+        // to a challenge, as the client gives up on a challenge that the
+        // credentials do not satisfy instead of returning the response
+        if (connectionConfig.getAuthenticationType() == AuthenticationType.BASIC) {
+            this.basicAuthorization = new PreemptiveBasicAuthInterceptor(connectionConfig.getUser(),
+                    connectionConfig.getPassword()).getAuthorization();
+        } else {
+            this.basicAuthorization = null;
+        }
+
+        if (connectionConfig.getAuthenticationType() == AuthenticationType.AWS_SIGV4 ||
+                connectionConfig.getAuthenticationType() == AuthenticationType.AWS_SIGV4_SERVERLESS) {
+            this.awsRequestSigningInterceptor = ApacheHttpTransport.buildAwsRequestSigningInterceptor(connectionConfig);
+        } else {
+            this.awsRequestSigningInterceptor = null;
+        }
+
+        this.pooledJdkHttpClient = ApacheHttpClientRegistry.INSTANCE.acquire(PooledJdkHttpClient.class,
+                connectionConfig, userAgent, () -> buildPooledJdkHttpClient(connectionConfig));
+        this.requestExecutor = RetryingRequestExecutor.forConfig(connectionConfig, log,
+                (node) -> ApacheAsyncHttpTransport.await(execute(
+                        "GET", buildRequestURI(node, NodeSniffer.PATH, NodeSniffer.PARAMS), null, null,
+                        NodeSniffer.TIMEOUT_MILLIS)));
+    }
+
+    private static PooledJdkHttpClient buildPooledJdkHttpClient(ConnectionConfig connectionConfig)
+            throws TransportException {
+        HttpClient.Builder httpClientBuilder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NEVER);
+
+        if (connectionConfig.isUseSSL()) {
+            try {
+                httpClientBuilder.sslContext(SslContextRegistry.INSTANCE.getSslContext(connectionConfig));
+            } catch (Exception e) {
+                throw new TransportException("Exception building SSL/TLS context " + e, e);
+            }
+        }
+        return new PooledJdkHttpClient(httpClientBuilder.build());
+    }
+
+    @Override
+    public CloseableHttpResponse doGet(String path, Header[] headers, HttpParam[] params, int timeout)
+            throws TransportException {
+        return requestExecutor.execute(
+                (node) -> ApacheAsyncHttpTransport.await(
+                        execute("GET", buildRequestURI(node, path, params), headers, null, timeout)),
+                false, null, null);
+    }
+
+    @Override
+    public CloseableHttpResponse doPost(String path, Header[] headers, HttpParam[] params, String body, int timeout)
+            throws TransportException {
+        return doPost(path, headers, params, body, timeout, null);
+    }
+
+    @Override
+    public CloseableHttpResponse doPost(String path, Header[] headers, HttpParam[] params, String body, int timeout,
+                                        RequestCanceller canceller) throws TransportException {
+        return doPost(path, headers, params, new StringEntity(body, ContentType.APPLICATION_JSON), timeout, canceller);
+    }
+
+    @Override
+    public CloseableHttpResponse doPost(String path, Header[] headers, HttpParam[] params, HttpEntity body,
+                                        int timeout, RequestCanceller canceller) throws TransportException {
+        return requestExecutor.execute(
+                (node) -> executePost(buildRequestURI(node, path, params), headers, body, timeout, canceller),
+                false, canceller, null);
+    }
+
+    @Override
+    public CloseableHttpResponse doRetryablePost(String path, Header[] headers, HttpParam[] params, String body,
+                                                 int timeout, RequestCanceller canceller, NodeAffinity affinity)
+            throws TransportException {
+        return doRetryablePost(path, headers, params, new StringEntity(body, ContentType.APPLICATION_JSON), timeout,
+                canceller, affinity);
+    }
+
+    @Override
+    public CloseableHttpResponse doRetryablePost(String path, Header[] headers, HttpParam[] params, HttpEntity body,
+                                                 int timeout, RequestCanceller canceller, NodeAffinity affinity)
+            throws TransportException {
+        return requestExecutor.execute(
+                (node) -> executePost(buildRequestURI(node, path, params), headers, body, timeout, canceller),
+                true, canceller, affinity);
+    }
+
+    private CloseableHttpResponse executePost(URI uri, Header[] headers, HttpEntity body, int timeout,
+                                              RequestCanceller canceller) throws TransportException {
+        CompletableFuture<CloseableHttpResponse> responseFuture = execute("POST", uri, headers, body, timeout);
+        if (canceller != null) {
+            canceller.setAbortAction(() -> responseFuture.cancel(true));
+        }
+        return ApacheAsyncHttpTransport.await(responseFuture);
+    }
+
+    @Override
+    public CompletableFuture<CloseableHttpResponse> doGetAsync(String path, Header[] headers, HttpParam[] params,
+                                                                int timeout) {
+        return requestExecutor.executeAsync((node) -> {
+            try {
+                return execute("GET", buildRequestURI(node, path, params), headers, null, timeout);
+            } catch (TransportException e) {
+                return ApacheAsyncHttpTransport.failedFuture(e);
+            }
+        }, null);
+    }
+
+    @Override
+    public CompletableFuture<CloseableHttpResponse> doPostAsync(String path, Header[] headers, HttpParam[] params,
+                                                                 String body, int timeout) {
+        return doPostAsync(path, headers, params, body, timeout, null);
+    }
+
+    @Override
+    public CompletableFuture<CloseableHttpResponse> doPostAsync(String path, Header[] headers, HttpParam[] params,
+                                                                 String body, int timeout, NodeAffinity affinity) {
+        return doPostAsync(path, headers, params, new StringEntity(body, ContentType.APPLICATION_JSON), timeout,
+                affinity);
+    }
+
+    @Override
+    public CompletableFuture<CloseableHttpResponse> doPostAsync(String path, Header[] headers, HttpParam[] params,
+                                                                 HttpEntity body, int timeout, NodeAffinity affinity) {
+        return requestExecutor.executeAsync((node) -> {
+            try {
+                return execute("POST", buildRequestURI(node, path, params), headers, body, timeout);
+            } catch (TransportException e) {
+                return ApacheAsyncHttpTransport.failedFuture(e);
+            }
+        }, affinity);
+    }
+
+    @Override
+    public void setStatistics(StatisticsRecorder statistics) {
+        requestExecutor.setStatistics(statistics);
+    }
+
+    @Override
+    public void close() throws TransportException {
+        ApacheHttpClientRegistry.INSTANCE.release(pooledJdkHttpClient);
+    }
+
+    @Override
+    public void setReadTimeout(int readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * The client takes the body as a publisher of bytes rather than have
+     * it written, so the body is rendered in memory once, and the same
+     * bytes are signed and sent.
+     *
+     * @param body the body of the request, or null to send none
+     */
+    private CompletableFuture<CloseableHttpResponse> execute(String method, URI uri, Header[] headers,
+                                                             HttpEntity body, int readTimeout)
+            throws TransportException {
+        setReadTimeout(readTimeout);
+
+        // the request is assembled as an Apache request first, so that it
+        // carries the same headers, and is signed the same way, as a
+        // request sent by the other transports
+        HttpRequestBase request;
+        byte[] content = null;
+        if (body != null) {
+            HttpEntity entity = requestBodyCompression ? new GzipRequestEntity(body) : body;
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try {
+                entity.writeTo(buffer);
+            } catch (IOException e) {
+                throw new TransportException(e);
+            }
+            content = buffer.toByteArray();
+
+            HttpPost post = new HttpPost(uri);
+            post.setEntity(new ByteArrayEntity(content));
+            request = post;
+            if (entity.getContentType() != null) {
+                request.setHeader(entity.getContentType());
+            }
+            if (entity.getContentEncoding() != null) {
+                request.setHeader(entity.getContentEncoding());
+            }
+        } else {
+            request = new HttpGet(uri);
+        }
+        // headers passed in take precedence over those of the entity
+        for (Header header : headers != null ? headers : new Header[0]) {
+            request.setHeader(header);
+        }
+        request.setHeader(HttpHeaders.USER_AGENT, userAgent);
+        if (requestCompression) {
+            request.setHeader(HttpHeaders.ACCEPT_ENCODING, "gzip,deflate");
+        }
+        if (basicAuthorization != null) {
+            request.setHeader(basicAuthorization);
+        }
+        if (awsRequestSigningInterceptor != null) {
+            HttpCoreContext context = HttpCoreContext.create();
+            context.setTargetHost(new HttpHost(uri.getHost(), uri.getPort(), uri.getScheme()));
+            try {
+                awsRequestSigningInterceptor.process(request, context);
+            } catch (HttpException | IOException e) {
+                throw new TransportException("Exception signing request " + e, e);
+            }
+        }
+
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(uri)
+                .method(method, content != null ?
+                        HttpRequest.BodyPublishers.ofByteArray(content) :
+                        HttpRequest.BodyPublishers.noBody());
+        for (Header header : request.getAllHeaders()) {
+            if (!RESTRICTED_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT))) {
+                requestBuilder.header(header.getName(), header.getValue());
+            }
+        }
+        if (readTimeout > 0) {
+            requestBuilder.timeout(Duration.ofMillis(readTimeout));
+        }
+
+        CompletableFuture<java.net.http.HttpResponse<byte[]>> requestFuture = pooledJdkHttpClient.getHttpClient()
+                .sendAsync(requestBuilder.build(), java.net.http.HttpResponse.BodyHandlers.ofByteArray());
+
+        CompletableFuture<CloseableHttpResponse> responseFuture = new CompletableFuture<>();
+        requestFuture.whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                responseFuture.completeExceptionally(new TransportException(unwrap(throwable)));
+            } else {
+                responseFuture.complete(toCloseableHttpResponse(response));
+            }
+        });
+
+        responseFuture.whenComplete((response, throwable) -> {
+            if (responseFuture.isCancelled()) {
+                requestFuture.cancel(true);
+            }
+        });
+        return responseFuture;
+    }
+
+    /**
+     * The client reports failures wrapped in a completion exception, and
+     * wraps some I/O failures, such as a connection reset, in a plain
+     * {@link IOException}. The underlying failure is unwrapped so that it
+     * is recognised as retryable.
+     */
+    private static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause.getClass() == IOException.class && cause.getCause() instanceof IOException) {
+            cause = cause.getCause();
+        }
+        if (cause.getClass() == HttpTimeoutException.class) {
+            // reported as the other transports report a read timeout
+            cause = new SocketTimeoutException(cause.getMessage()).initCause(cause);
+        }
+        return cause;
+    }
+
+    private CloseableHttpResponse toCloseableHttpResponse(java.net.http.HttpResponse<byte[]> response) {
+        ProtocolVersion version = response.version() == HttpClient.Version.HTTP_2 ? HTTP_2 : HttpVersion.HTTP_1_1;
+        BasicHttpResponse httpResponse = new BasicHttpResponse(
+                new BasicStatusLine(version, response.statusCode(),
+                        EnglishReasonPhraseCatalog.INSTANCE.getReason(response.statusCode(), Locale.ENGLISH)),
+                EnglishReasonPhraseCatalog.INSTANCE, Locale.getDefault());
+
+        for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+            // pseudo-headers of HTTP/2 are not headers of the response
+            if (header.getKey().startsWith(":")) {
+                continue;
+            }
+            for (String value : header.getValue()) {
+                httpResponse.addHeader(header.getKey(), value);
+            }
+        }
+
+        ByteArrayEntity entity = new ByteArrayEntity(response.body());
+        entity.setContentType(httpResponse.getFirstHeader(HttpHeaders.CONTENT_TYPE));
+        entity.setContentEncoding(httpResponse.getFirstHeader(HttpHeaders.CONTENT_ENCODING));
+        httpResponse.setEntity(entity);
+
+        HttpResponse decodedResponse = requestCompression ?
+                ApacheAsyncHttpTransport.decompress(httpResponse) : httpResponse;
+        return new BufferedHttpResponse(decodedResponse);
+    }
+
+    private URI buildRequestURI(HttpHost node, String path, HttpParam... params) throws TransportException {
+        try {
+            URIBuilder uriBuilder = new URIBuilder()
+                    .setScheme(node.getSchemeName())
+                    .setHost(node.getHostName())
+                    .setPort(node.getPort())
+                    .setPath(this.path + path);
+
+            if (params != null) {
+                for (HttpParam param : params)
+                    uriBuilder.setParameter(param.getName(), param.getValue());
+            }
+            return uriBuilder.build();
+        } catch (URISyntaxException e) {
+            throw new TransportException(e);
+        }
+    }
+}
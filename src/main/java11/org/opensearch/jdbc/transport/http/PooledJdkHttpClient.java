@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.apache.http.pool.PoolStats;
+
+import java.net.http.HttpClient;
+
+/**
+ * A JDK {@link HttpClient}, registered with the
+ * {@link ApacheHttpClientRegistry} so it is shared by all HTTP/2
+ * transports with an identical configuration.
+ * <p>
+ * The client multiplexes requests over a single connection per node,
+ * and closes idle connections on its own, so it exposes no pool to
+ * report on or to evict connections from.
+ */
+class PooledJdkHttpClient extends PooledClient {
+
+    private static final PoolStats EMPTY_POOL_STATS = new PoolStats(0, 0, 0, 0);
+
+    private final HttpClient httpClient;
+
+    PooledJdkHttpClient(HttpClient httpClient) {
+        super(0);
+        this.httpClient = httpClient;
+    }
+
+    HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    @Override
+    public PoolStats getPoolStats() {
+        return EMPTY_POOL_STATS;
+    }
+
+    @Override
+    protected void closeExpiredConnections() {
+
+    }
+
+    @Override
+    protected void closeIdleConnections(int idleSeconds) {
+
+    }
+
+    @Override
+    void close() {
+        // the client releases its connections once it is no longer referenced
+    }
+}
@@ -6,16 +6,28 @@
 
 package org.opensearch.jdbc;
 
+import org.opensearch.jdbc.auth.AuthenticationType;
 import org.opensearch.jdbc.config.AuthConnectionProperty;
+import org.opensearch.jdbc.config.ClusterMetadataCacheTtlConnectionProperty;
 import org.opensearch.jdbc.config.ConnectionConfig;
+import org.opensearch.jdbc.config.ConnectionRequestTimeoutConnectionProperty;
 import org.opensearch.jdbc.config.ConnectionPropertyException;
+import org.opensearch.jdbc.config.LazyConnectConnectionProperty;
+import org.opensearch.jdbc.config.MaxConnectionsPerRouteConnectionProperty;
 import org.opensearch.jdbc.config.PasswordConnectionProperty;
 import org.opensearch.jdbc.config.RegionConnectionProperty;
 import org.opensearch.jdbc.config.RequestCompressionConnectionProperty;
+import org.opensearch.jdbc.config.SharedConnectionPoolConnectionProperty;
+import org.opensearch.jdbc.config.TransportConnectionProperty;
 import org.opensearch.jdbc.config.UserConnectionProperty;
+import org.opensearch.jdbc.config.ValidationCacheTtlConnectionProperty;
+import org.opensearch.jdbc.internal.cache.ClusterMetadataCache;
+import org.opensearch.jdbc.logging.Logger;
 import org.opensearch.jdbc.logging.NoOpLogger;
+import org.opensearch.jdbc.protocol.JdbcQueryRequest;
 import org.opensearch.jdbc.protocol.Protocol;
 import org.opensearch.jdbc.protocol.ProtocolFactory;
+import org.opensearch.jdbc.protocol.QueryResponse;
 import org.opensearch.jdbc.protocol.exceptions.ResponseException;
 import org.opensearch.jdbc.protocol.http.HttpException;
 import org.opensearch.jdbc.protocol.http.JsonHttpProtocol;
@@ -33,20 +45,36 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.jdbc.transport.Transport;
 import org.opensearch.jdbc.transport.TransportFactory;
-
+import org.opensearch.jdbc.transport.http.ApacheAsyncHttpTransport;
+import org.opensearch.jdbc.transport.http.ApacheHttpTransport;
+import org.opensearch.jdbc.transport.http.HttpTransport;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.pool.PoolStats;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(PerTestWireMockServerExtension.class)
@@ -70,7 +98,7 @@ class ConnectionTests implements WireMockServerHelpers {
 
     @Test
     void testConnectWithBasicAuth(final WireMockServer mockServer) throws ConnectionPropertyException, SQLException {
-        // HTTP Client Basic Auth is not pre-emptive, set up an Auth Challenge
+        // Requests without the expected credentials are challenged
         mockServer.stubFor(get(urlEqualTo("/"))
                 .willReturn(aResponse()
                         .withStatus(401)
@@ -91,7 +119,8 @@ class ConnectionTests implements WireMockServerHelpers {
 
         Connection con = Assertions.assertDoesNotThrow(() -> new Driver().connect(getBaseURLForMockServer(mockServer), props));
 
-        mockServer.verify(2, getRequestedFor(urlEqualTo("/"))
+        // credentials are sent preemptively, so the challenge is never issued
+        mockServer.verify(1, getRequestedFor(urlEqualTo("/"))
                 .withHeader("Accept", equalTo("application/json")));
 
         MockOpenSearch.INSTANCE.assertMockOpenSearchConnectionResponse((OpenSearchConnection) con);
@@ -103,7 +132,7 @@ class ConnectionTests implements WireMockServerHelpers {
         // In the absence of explicit auth type, Basic is used if a username/password
         // is specified
 
-        // HTTP Client Basic Auth is not pre-emptive, set up an Auth Challenge
+        // Requests without the expected credentials are challenged
         mockServer.stubFor(get(urlEqualTo("/"))
                 .willReturn(aResponse()
                         .withStatus(401)
@@ -123,7 +152,8 @@ class ConnectionTests implements WireMockServerHelpers {
 
         Connection con = Assertions.assertDoesNotThrow(() -> new Driver().connect(getBaseURLForMockServer(mockServer), props));
 
-        mockServer.verify(2, getRequestedFor(urlEqualTo("/"))
+        // credentials are sent preemptively, so the challenge is never issued
+        mockServer.verify(1, getRequestedFor(urlEqualTo("/"))
                 .withHeader("Accept", equalTo("application/json")));
 
         MockOpenSearch.INSTANCE.assertMockOpenSearchConnectionResponse((OpenSearchConnection) con);
@@ -152,6 +182,73 @@ class ConnectionTests implements WireMockServerHelpers {
         assertEquals(sqlException.getMessage(), "Connection error Unauthorized");
     }
 
+    @Test
+    void testFailedConnectClosesLogger() throws ResponseException, IOException {
+        TransportFactory mockTransportFactory = mock(TransportFactory.class);
+        when(mockTransportFactory.getTransport(any(), any(), any()))
+                .thenReturn(mock(Transport.class));
+        ProtocolFactory mockProtocolFactory = mock(ProtocolFactory.class);
+        Protocol mockProtocol = mock(Protocol.class);
+
+        when(mockProtocolFactory.getProtocol(any(ConnectionConfig.class), any(Transport.class)))
+                .thenReturn(mockProtocol);
+        when(mockProtocol.connect(anyInt())).thenThrow(new HttpException(401, "Unauthorized"));
+
+        Logger mockLog = mock(Logger.class);
+        Assertions.assertThrows(SQLException.class,
+                () -> new ConnectionImpl(mock(ConnectionConfig.class),
+                mockTransportFactory, mockProtocolFactory, mockLog));
+
+        verify(mockLog).close();
+    }
+
+    @Test
+    void testFailedConnectClosesTransport() throws ResponseException, IOException {
+        Transport mockTransport = mock(Transport.class);
+        TransportFactory mockTransportFactory = mock(TransportFactory.class);
+        when(mockTransportFactory.getTransport(any(), any(), any()))
+                .thenReturn(mockTransport);
+        ProtocolFactory mockProtocolFactory = mock(ProtocolFactory.class);
+        Protocol mockProtocol = mock(Protocol.class);
+
+        when(mockProtocolFactory.getProtocol(any(ConnectionConfig.class), any(Transport.class)))
+                .thenReturn(mockProtocol);
+        when(mockProtocol.connect(anyInt())).thenThrow(new HttpException(401, "Unauthorized"));
+
+        Assertions.assertThrows(SQLException.class,
+                () -> new ConnectionImpl(mock(ConnectionConfig.class),
+                mockTransportFactory, mockProtocolFactory, NoOpLogger.INSTANCE));
+
+        // releases the transport's reference to the shared HTTP client
+        verify(mockTransport).close();
+    }
+
+    @Test
+    void testFailedConnectRegistersNoStatisticsMBean() throws Exception {
+        TransportFactory mockTransportFactory = mock(TransportFactory.class);
+        when(mockTransportFactory.getTransport(any(), any(), any()))
+                .thenReturn(mock(Transport.class));
+        ProtocolFactory mockProtocolFactory = mock(ProtocolFactory.class);
+        Protocol mockProtocol = mock(Protocol.class);
+
+        when(mockProtocolFactory.getProtocol(any(ConnectionConfig.class), any(Transport.class)))
+                .thenReturn(mockProtocol);
+        when(mockProtocol.connect(anyInt())).thenThrow(new HttpException(401, "Unauthorized"));
+
+        ConnectionConfig connectionConfig = mock(ConnectionConfig.class);
+        when(connectionConfig.statisticsMBeans()).thenReturn(true);
+
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName connectionMBeans = new ObjectName("org.opensearch.jdbc:type=Statistics,name=connection-*");
+        int registered = mBeanServer.queryNames(connectionMBeans, null).size();
+
+        Assertions.assertThrows(SQLException.class,
+                () -> new ConnectionImpl(connectionConfig,
+                mockTransportFactory, mockProtocolFactory, NoOpLogger.INSTANCE));
+
+        assertEquals(registered, mBeanServer.queryNames(connectionMBeans, null).size());
+    }
+
     @Test
     void testConnectWithRequestCompression(final WireMockServer mockServer) throws SQLException {
         // Respond only if request mentions it accepts gzip
@@ -288,6 +385,337 @@ class ConnectionTests implements WireMockServerHelpers {
         con.close();
     }
 
+    @Test
+    void testConnectionsShareConnectionPool(final WireMockServer mockServer) throws SQLException {
+        mockServer.stubFor(get(urlEqualTo("/"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(MockOpenSearch.INSTANCE.getConnectionResponse())));
+
+        Driver driver = new Driver();
+        Connection con1 = Assertions.assertDoesNotThrow(
+                () -> driver.connect(getBaseURLForMockServer(mockServer), (Properties) null));
+        con1.close();
+
+        Connection con2 = Assertions.assertDoesNotThrow(
+                () -> driver.connect(getBaseURLForMockServer(mockServer), (Properties) null));
+
+        ApacheHttpTransport transport = (ApacheHttpTransport) ((ConnectionImpl) con2).getTransport();
+        assertTrue(transport.isShared());
+
+        // the socket opened by the first connection is reused by the second
+        PoolStats poolStats = transport.getPoolStats();
+        assertEquals(0, poolStats.getLeased());
+        assertEquals(1, poolStats.getAvailable());
+        mockServer.verify(2, getRequestedFor(urlEqualTo("/")));
+        con2.close();
+    }
+
+    @Test
+    void testConnectWithoutSharedConnectionPool(final WireMockServer mockServer) throws SQLException {
+        mockServer.stubFor(get(urlEqualTo("/"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(MockOpenSearch.INSTANCE.getConnectionResponse())));
+
+        Properties props = new Properties();
+        props.setProperty(SharedConnectionPoolConnectionProperty.KEY, "false");
+
+        Connection con = Assertions.assertDoesNotThrow(
+                () -> new Driver().connect(getBaseURLForMockServer(mockServer), props));
+
+        ApacheHttpTransport transport = (ApacheHttpTransport) ((ConnectionImpl) con).getTransport();
+        Assertions.assertFalse(transport.isShared());
+        assertEquals(1, transport.getPoolStats().getAvailable());
+        con.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"http", "http_async"})
+    void testExhaustedConnectionPoolTimesOut(String transport, final WireMockServer mockServer) throws Exception {
+        QueryMock queryMock = new QueryMock.NycTaxisQueryMock();
+        queryMock.setupMockServerStub(mockServer);
+        mockServer.stubFor(get(urlEqualTo("/slow"))
+                .willReturn(aResponse()
+                        .withBody("slow")
+                        .withFixedDelay(3000)));
+
+        Properties props = new Properties();
+        props.setProperty(TransportConnectionProperty.KEY, transport);
+        props.setProperty(SharedConnectionPoolConnectionProperty.KEY, "false");
+        props.setProperty(MaxConnectionsPerRouteConnectionProperty.KEY, "1");
+        props.setProperty(ConnectionRequestTimeoutConnectionProperty.KEY, "1");
+
+        Connection con = Assertions.assertDoesNotThrow(
+                () -> new Driver().connect(getBaseURLForMockServer(mockServer), props));
+        HttpTransport httpTransport = (HttpTransport) ((ConnectionImpl) con).getTransport();
+        Supplier<PoolStats> poolStats = httpTransport instanceof ApacheHttpTransport ?
+                ((ApacheHttpTransport) httpTransport)::getPoolStats :
+                ((ApacheAsyncHttpTransport) httpTransport)::getPoolStats;
+
+        // a request in flight holds the only connection to the server
+        CompletableFuture<Void> slowRequest = CompletableFuture.runAsync(() -> {
+            try {
+                httpTransport.doGet("/slow", null, null, 0).close();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (poolStats.get().getLeased() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, poolStats.get().getLeased());
+
+        Statement st = con.createStatement();
+        long start = System.nanoTime();
+        SQLException ex = Assertions.assertThrows(SQLException.class, () -> st.executeQuery(queryMock.getSql()));
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(2500),
+                "Request did not time out waiting for a pooled connection");
+
+        Throwable cause = ex;
+        while (cause != null && !(cause instanceof ConnectionPoolTimeoutException)) {
+            cause = cause.getCause();
+        }
+        assertTrue(cause != null, "Unexpected failure " + ex);
+
+        // the pool serves requests again once the connection is returned
+        slowRequest.get(10, TimeUnit.SECONDS);
+        queryMock.getMockResultSet().assertMatches(st.executeQuery(queryMock.getSql()));
+        con.close();
+    }
+
+    @Test
+    void testIsValidProbesServer(final WireMockServer mockServer) throws SQLException {
+        mockServer.stubFor(get(urlEqualTo("/"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(MockOpenSearch.INSTANCE.getConnectionResponse())));
+
+        Properties props = new Properties();
+        props.setProperty(ValidationCacheTtlConnectionProperty.KEY, "0");
+        Connection con = Assertions.assertDoesNotThrow(
+                () -> new Driver().connect(getBaseURLForMockServer(mockServer), props));
+
+        assertTrue(con.isValid(5));
+        assertTrue(con.isValid(0));
+        mockServer.verify(3, getRequestedFor(urlEqualTo("/")));
+
+        mockServer.stubFor(get(urlEqualTo("/"))
+                .willReturn(aResponse().withStatus(503)));
+        Assertions.assertFalse(con.isValid(5));
+
+        Assertions.assertThrows(SQLException.class, () -> con.isValid(-1));
+
+        con.close();
+        Assertions.assertFalse(con.isValid(5));
+        mockServer.verify(4, getRequestedFor(urlEqualTo("/")));
+    }
+
+    @Test
+    void testIsValidReusesRecentProbe(final WireMockServer mockServer) throws SQLException {
+        mockServer.stubFor(get(urlEqualTo("/"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(MockOpenSearch.INSTANCE.getConnectionResponse())));
+
+        Properties props = new Properties();
+        props.setProperty(ValidationCacheTtlConnectionProperty.KEY, "60");
+        Connection con = Assertions.assertDoesNotThrow(
+                () -> new Driver().connect(getBaseURLForMockServer(mockServer), props));
+
+        // the connection request counts as the first probe
+        for (int i = 0; i < 10; i++) {
+            assertTrue(con.isValid(5));
+        }
+        mockServer.verify(1, getRequestedFor(urlEqualTo("/")));
+        con.close();
+    }
+
+    @Test
+    void testIsValidWithoutRootEndpoint() throws SQLException, ResponseException, IOException {
+        TransportFactory mockTransportFactory = mock(TransportFactory.class);
+        when(mockTransportFactory.getTransport(any(), any(), any()))
+                .thenReturn(mock(Transport.class));
+        ProtocolFactory mockProtocolFactory = mock(ProtocolFactory.class);
+        Protocol mockProtocol = mock(Protocol.class);
+        when(mockProtocolFactory.getProtocol(any(ConnectionConfig.class), any(Transport.class)))
+                .thenReturn(mockProtocol);
+
+        ConnectionConfig connectionConfig = mock(ConnectionConfig.class);
+        when(connectionConfig.getAuthenticationType()).thenReturn(AuthenticationType.AWS_SIGV4_SERVERLESS);
+
+        Connection con = new ConnectionImpl(connectionConfig, mockTransportFactory, mockProtocolFactory,
+                NoOpLogger.INSTANCE);
+
+        // serverless connections are not probed, but a closed one is not valid
+        assertFalse(con.isClosed());
+        assertTrue(con.isValid(5));
+        con.close();
+        assertFalse(con.isValid(5));
+        verify(mockProtocol, never()).connect(anyInt());
+        verify(mockProtocol, never()).ping(anyInt());
+    }
+
+    @Test
+    void testLazyConnect(final WireMockServer mockServer) throws SQLException, IOException {
+        QueryMock queryMock = new QueryMock.NycTaxisQueryMock();
+        queryMock.setupMockServerStub(mockServer);
+
+        Properties props = new Properties();
+        props.setProperty(LazyConnectConnectionProperty.KEY, "true");
+        Connection con = Assertions.assertDoesNotThrow(
+                () -> new Driver().connect(getBaseURLForMockServer(mockServer), props));
+
+        assertConnectionOpen(con);
+        mockServer.verify(0, getRequestedFor(urlEqualTo("/")));
+
+        // queries do not need the cluster metadata
+        con.createStatement().executeQuery(queryMock.getSql());
+        mockServer.verify(0, getRequestedFor(urlEqualTo("/")));
+
+        MockOpenSearch.INSTANCE.assertMockOpenSearchConnectionResponse((OpenSearchConnection) con);
+        mockServer.verify(1, getRequestedFor(urlEqualTo("/")));
+        con.close();
+    }
+
+    @Test
+    void testLazyConnectReportsConnectionErrorOnMetadataRequest(final WireMockServer mockServer) {
+        mockServer.stubFor(get(urlEqualTo("/"))
+                .willReturn(aResponse().withStatus(401)));
+
+        Properties props = new Properties();
+        props.setProperty(LazyConnectConnectionProperty.KEY, "true");
+        Connection con = Assertions.assertDoesNotThrow(
+                () -> new Driver().connect(getBaseURLForMockServer(mockServer), props));
+
+        SQLException ex = Assertions.assertThrows(SQLException.class,
+                () -> ((OpenSearchConnection) con).getClusterName());
+        assertEquals("28000", ex.getSQLState());
+        assertDoesNotThrow(con::close);
+    }
+
+    @Test
+    void testClusterMetadataReusedByNewConnections(final WireMockServer mockServer) throws SQLException {
+        mockServer.stubFor(get(urlEqualTo("/"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(MockOpenSearch.INSTANCE.getConnectionResponse())));
+
+        Properties props = new Properties();
+        props.setProperty(ClusterMetadataCacheTtlConnectionProperty.KEY, "60");
+        props.setProperty(LazyConnectConnectionProperty.KEY, "true");
+
+        try {
+            for (int i = 0; i < 3; i++) {
+                Connection con = Assertions.assertDoesNotThrow(
+                        () -> new Driver().connect(getBaseURLForMockServer(mockServer), props));
+                MockOpenSearch.INSTANCE.assertMockOpenSearchConnectionResponse((OpenSearchConnection) con);
+                con.close();
+            }
+            mockServer.verify(1, getRequestedFor(urlEqualTo("/")));
+
+            // connections not connecting lazily still connect, checking
+            // their credentials
+            props.setProperty(LazyConnectConnectionProperty.KEY, "false");
+            Connection con = Assertions.assertDoesNotThrow(
+                    () -> new Driver().connect(getBaseURLForMockServer(mockServer), props));
+            con.close();
+            mockServer.verify(2, getRequestedFor(urlEqualTo("/")));
+
+            // connections not using the cache still connect
+            con = Assertions.assertDoesNotThrow(
+                    () -> new Driver().connect(getBaseURLForMockServer(mockServer), (Properties) null));
+            con.close();
+            mockServer.verify(3, getRequestedFor(urlEqualTo("/")));
+        } finally {
+            ClusterMetadataCache.INSTANCE.clear();
+        }
+    }
+
+    @Test
+    void testConnectWithAsyncTransport(final WireMockServer mockServer) throws Exception {
+        QueryMock queryMock = new QueryMock.NycTaxisQueryMock();
+        queryMock.setupMockServerStub(mockServer);
+
+        Properties props = new Properties();
+        props.setProperty(TransportConnectionProperty.KEY, "http_async");
+
+        Connection con = Assertions.assertDoesNotThrow(
+                () -> new Driver().connect(getBaseURLForMockServer(mockServer), props));
+
+        assertConnectionOpen(con);
+        assertTrue(((ConnectionImpl) con).getTransport() instanceof ApacheAsyncHttpTransport);
+
+        // blocking statement execution goes through the same non-blocking client
+        Statement st = con.createStatement();
+        queryMock.getMockResultSet().assertMatches(st.executeQuery(queryMock.getSql()));
+        st.close();
+
+        QueryResponse response = ((ConnectionImpl) con).getProtocol()
+                .executeAsync(new JdbcQueryRequest(queryMock.getSql()))
+                .get(10, TimeUnit.SECONDS);
+        assertEquals(5, response.getDatarows().size());
+        assertEquals(200, response.getStatus());
+
+        mockServer.verify(2, postRequestedFor(urlEqualTo(JsonHttpProtocol.DEFAULT_SQL_CONTEXT_PATH + "?format=jdbc")));
+        con.close();
+    }
+
+    @Test
+    void testConnectWithHttp2Transport(final WireMockServer mockServer) throws Exception {
+        QueryMock queryMock = new QueryMock.NycTaxisQueryMock();
+        queryMock.setupMockServerStub(mockServer);
+
+        Properties props = new Properties();
+        props.setProperty(TransportConnectionProperty.KEY, "http2");
+
+        Connection con = Assertions.assertDoesNotThrow(
+                () -> new Driver().connect(getBaseURLForMockServer(mockServer), props));
+
+        assertConnectionOpen(con);
+        assertEquals("JdkHttp2Transport", ((ConnectionImpl) con).getTransport().getClass().getSimpleName());
+
+        Statement st = con.createStatement();
+        queryMock.getMockResultSet().assertMatches(st.executeQuery(queryMock.getSql()));
+        st.close();
+
+        QueryResponse response = ((ConnectionImpl) con).getProtocol()
+                .executeAsync(new JdbcQueryRequest(queryMock.getSql()))
+                .get(10, TimeUnit.SECONDS);
+        assertEquals(5, response.getDatarows().size());
+        assertEquals(200, response.getStatus());
+
+        mockServer.verify(2, postRequestedFor(urlEqualTo(JsonHttpProtocol.DEFAULT_SQL_CONTEXT_PATH + "?format=jdbc")));
+        con.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"http_async", "http2"})
+    void testExecuteAsyncTimeout(String transport, final WireMockServer mockServer) throws Exception {
+        QueryMock queryMock = new QueryMock.NycTaxisQueryMock();
+        queryMock.setupMockServerStub(mockServer);
+        mockServer.stubFor(post(urlEqualTo(JsonHttpProtocol.DEFAULT_SQL_CONTEXT_PATH + "?format=jdbc"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(queryMock.getResponseBody())
+                        .withFixedDelay(5000)));
+
+        Properties props = new Properties();
+        props.setProperty(TransportConnectionProperty.KEY, transport);
+
+        Connection con = Assertions.assertDoesNotThrow(
+                () -> new Driver().connect(getBaseURLForMockServer(mockServer), props));
+
+        long start = System.nanoTime();
+        CompletableFuture<QueryResponse> future = ((ConnectionImpl) con).getProtocol()
+                .executeAsync(new JdbcQueryRequest(queryMock.getSql()), 500);
+        Assertions.assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(4), "Request did not time out");
+
+        con.close();
+    }
+
     private void assertConnectionOpen(final Connection con) {
         boolean closed = assertDoesNotThrow(con::isClosed);
         assertTrue(!closed, "Connection is closed");
@@ -7,11 +7,13 @@
 package org.opensearch.jdbc;
 
 import org.opensearch.jdbc.internal.results.ColumnMetaData;
+import org.opensearch.jdbc.internal.results.ColumnVector;
 import org.opensearch.jdbc.internal.results.Cursor;
-import org.opensearch.jdbc.internal.results.Row;
 import org.opensearch.jdbc.internal.results.Schema;
+import org.opensearch.jdbc.protocol.DatarowReader;
 import org.opensearch.jdbc.protocol.http.JsonQueryResponse;
 import org.opensearch.jdbc.types.OpenSearchType;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -20,8 +22,10 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class CursorTests {
 
@@ -31,7 +35,7 @@ public class CursorTests {
         Schema schema = new Schema(Arrays.asList(
                 toColumnMetaData("rownum", OpenSearchType.INTEGER.getTypeName())));
 
-        List<Row> rows = new ArrayList<>();
+        List<List<Object>> rows = new ArrayList<>();
         for (int rowNum = 1; rowNum <= rowCount; rowNum++) {
             rows.add(toRow(rowNum));
         }
@@ -65,7 +69,7 @@ public class CursorTests {
 
         Schema schema = new Schema(columnMetaDatas);
 
-        List<Row> rows = new ArrayList<>();
+        List<List<Object>> rows = new ArrayList<>();
         for (int rowNum = 1; rowNum <= rowCount; rowNum++) {
             rows.add(toRow(rowNum, STRINGVAL, LONGVAL, DOUBLEVAL));
         }
@@ -109,7 +113,7 @@ public class CursorTests {
 
         Schema schema = new Schema(columnMetaDatas);
 
-        List<Row> rows = new ArrayList<>();
+        List<List<Object>> rows = new ArrayList<>();
         for (int rowNum = 1; rowNum <= rowCount; rowNum++) {
             rows.add(toRow(rowNum, STRINGVAL, LONGVAL, DOUBLEVAL));
         }
@@ -139,12 +143,98 @@ public class CursorTests {
         assertEquals(rowCount, cursorRowCount, "Unexpected number of rows retrieved from cursor.");
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 100})
+    void testCursorNextAcrossPages(final int pageRows) {
+        Schema schema = new Schema(Arrays.asList(
+                toColumnMetaData("rownum", OpenSearchType.INTEGER.getTypeName()),
+                toColumnMetaData("flag", OpenSearchType.BOOLEAN.getTypeName()),
+                toColumnMetaData("keyword", OpenSearchType.KEYWORD.getTypeName())));
+
+        List<List<Object>> rows = new ArrayList<>();
+        for (int rowNum = 1; rowNum <= 10; rowNum++) {
+            rows.add(rowNum % 3 == 0 ? toRow(rowNum, null, null) : toRow(rowNum, rowNum % 2 == 0, "k" + rowNum % 2));
+        }
+
+        Cursor cursor = new Cursor(schema, DatarowReader.of(rows.iterator()), pageRows);
+        int cursorRowCount = 0;
+
+        while (cursor.next()) {
+            cursorRowCount++;
+            assertEquals(cursorRowCount, cursor.getColumn(0), "Unexpected row number indicator");
+            assertTrue(cursor.getColumnVector(0) instanceof ColumnVector.IntVector);
+            assertEquals(cursorRowCount, ((ColumnVector.IntVector) cursor.getColumnVector(0)).getInt(cursor.getPageRow()));
+
+            if (cursorRowCount % 3 == 0) {
+                assertTrue(cursor.isNull(1));
+                assertNull(cursor.getColumn(1));
+                assertNull(cursor.getColumn(2));
+            } else {
+                assertFalse(cursor.isNull(1));
+                assertEquals(cursorRowCount % 2 == 0, cursor.getColumn(1));
+                assertEquals("k" + cursorRowCount % 2, cursor.getColumn(2));
+            }
+        }
+
+        assertEquals(10, cursorRowCount, "Unexpected number of rows retrieved from cursor.");
+        assertFalse(cursor.next());
+    }
+
+    @Test
+    void testCursorKeepsValuesNotMatchingColumnType() {
+        // integral values in a floating point column, values of a column
+        // defined as integer out of range of an int, and rows with fewer
+        // or more values than there are columns
+        Schema schema = new Schema(Arrays.asList(
+                toColumnMetaData("doubleval", OpenSearchType.SCALED_FLOAT.getTypeName()),
+                toColumnMetaData("intval", OpenSearchType.INTEGER.getTypeName()),
+                toColumnMetaData("longval", OpenSearchType.LONG.getTypeName())));
+
+        List<List<Object>> rows = Arrays.asList(
+                toRow(0.5, 1, 10),
+                toRow(5, 12345678901234L, 12345678901234L),
+                toRow(24.5, 2),
+                toRow(1.5, 3, 4L, "extra"));
+
+        Cursor cursor = new Cursor(schema, rows);
+
+        assertTrue(cursor.next());
+        assertEquals(0.5, cursor.getColumn(0));
+        assertEquals(1, cursor.getColumn(1));
+        assertEquals(10L, cursor.getColumn(2));
+
+        assertTrue(cursor.next());
+        assertEquals(5, cursor.getColumn(0));
+        assertEquals(12345678901234L, cursor.getColumn(1));
+        assertEquals(12345678901234L, cursor.getColumn(2));
+
+        assertTrue(cursor.next());
+        assertEquals(24.5, cursor.getColumn(0));
+        assertEquals(2, cursor.getColumn(1));
+        assertTrue(cursor.isNull(2));
+
+        assertTrue(cursor.next());
+        assertEquals(1.5, cursor.getColumn(0));
+        assertEquals(4L, cursor.getColumn(2));
+
+        assertFalse(cursor.next());
+    }
+
+    @Test
+    void testCursorBeforeFirstRow() {
+        Schema schema = new Schema(Arrays.asList(
+                toColumnMetaData("rownum", OpenSearchType.INTEGER.getTypeName())));
+
+        Cursor cursor = new Cursor(schema, Arrays.asList(toRow(1)));
+        assertThrows(IllegalStateException.class, () -> cursor.getColumn(0));
+    }
+
     private Object columnObject(Cursor cursor, String columnLabel) {
         return cursor.getColumn(cursor.findColumn(columnLabel));
     }
 
-    private Row toRow(Object... values) {
-        return new Row(Arrays.asList(values));
+    private List<Object> toRow(Object... values) {
+        return Arrays.asList(values);
     }
 
     private ColumnMetaData toColumnMetaData(String name, String type) {
@@ -22,15 +22,20 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
 import javax.sql.DataSource;
+import javax.sql.PooledConnection;
 import java.io.IOException;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -194,4 +199,117 @@ public class DataSourceTests implements WireMockServerHelpers {
         assertNotNull(rs);
         queryMock.getMockResultSet().assertMatches(rs);
     }
+
+    @Test
+    void testPooledConnectionHandles(WireMockServer mockServer) throws SQLException, IOException {
+        QueryMock queryMock = new QueryMock.NycTaxisQueryMock();
+        queryMock.setupMockServerStub(mockServer);
+
+        OpenSearchConnectionPoolDataSource ds = new OpenSearchConnectionPoolDataSource();
+        ds.setUrl(getBaseURLForMockServer(mockServer));
+
+        AtomicInteger closedEvents = new AtomicInteger();
+        PooledConnection pooledConnection = ds.getPooledConnection();
+        pooledConnection.addConnectionEventListener(new ConnectionEventListener() {
+            @Override
+            public void connectionClosed(ConnectionEvent event) {
+                assertSame(pooledConnection, event.getSource());
+                closedEvents.incrementAndGet();
+            }
+
+            @Override
+            public void connectionErrorOccurred(ConnectionEvent event) {
+                fail("Unexpected connection error");
+            }
+        });
+        ConnectionImpl physicalConnection = ((PooledConnectionImpl) pooledConnection).getPhysicalConnection();
+
+        Connection con = pooledConnection.getConnection();
+        Statement st = con.createStatement();
+        PreparedStatement pst = con.prepareStatement(queryMock.getSql());
+        assertSame(con, st.getConnection());
+        assertSame(con, pst.getConnection());
+
+        ResultSet rs = st.executeQuery(queryMock.getSql());
+        queryMock.getMockResultSet().assertMatches(rs);
+
+        con.close();
+        con.close();
+        assertEquals(1, closedEvents.get());
+        assertTrue(con.isClosed());
+        assertFalse(con.isValid(0));
+        assertThrows(SQLException.class, con::createStatement);
+
+        // statements of the handle are closed, the physical connection stays open
+        assertTrue(st.isClosed());
+        assertTrue(pst.isClosed());
+        assertFalse(physicalConnection.isClosed());
+
+        Connection next = pooledConnection.getConnection();
+        assertNotSame(con, next);
+        assertFalse(next.isClosed());
+
+        // a new handle closes the previous one without an event
+        Connection last = pooledConnection.getConnection();
+        assertTrue(next.isClosed());
+        assertEquals(1, closedEvents.get());
+
+        pooledConnection.close();
+        assertTrue(last.isClosed());
+        assertTrue(physicalConnection.isClosed());
+        assertEquals(1, closedEvents.get());
+        assertThrows(SQLException.class, pooledConnection::getConnection);
+    }
+
+    @Test
+    void testConnectionPoolDataSourceBuiltInPool(WireMockServer mockServer) throws SQLException, IOException {
+        QueryMock queryMock = new QueryMock.NycTaxisQueryMock();
+        queryMock.setupMockServerStub(mockServer);
+
+        OpenSearchConnectionPoolDataSource ds = new OpenSearchConnectionPoolDataSource();
+        ds.setUrl(getBaseURLForMockServer(mockServer));
+        ds.setPoolEnabled(true);
+        ds.setMaxPoolSize(2);
+
+        try {
+            Connection con = ds.getConnection();
+            ResultSet rs = con.createStatement().executeQuery(queryMock.getSql());
+            queryMock.getMockResultSet().assertMatches(rs);
+            con.close();
+
+            assertEquals(1, ds.getPool().getSize());
+            assertEquals(1, ds.getPool().getIdleCount());
+
+            Connection reused = ds.getConnection();
+            assertNotSame(con, reused);
+            assertEquals(1, ds.getPool().getSize());
+            assertEquals(0, ds.getPool().getIdleCount());
+
+            Connection second = ds.getConnection();
+            assertEquals(2, ds.getPool().getSize());
+            reused.close();
+            second.close();
+            assertEquals(2, ds.getPool().getIdleCount());
+        } finally {
+            ds.close();
+        }
+        assertEquals(0, ds.getPool().getSize());
+        assertThrows(SQLException.class, ds::getConnection);
+    }
+
+    @Test
+    void testConnectionPoolDataSourceSettings() throws SQLException {
+        OpenSearchConnectionPoolDataSource ds = new OpenSearchConnectionPoolDataSource();
+
+        assertFalse(ds.isPoolEnabled());
+        assertEquals(0, ds.getMinIdle());
+        assertEquals(10, ds.getMaxPoolSize());
+        assertEquals(1800, ds.getMaxLifetime());
+        assertEquals(5, ds.getValidationTimeout());
+
+        assertThrows(SQLException.class, () -> ds.setMinIdle(-1));
+        assertThrows(SQLException.class, () -> ds.setMaxPoolSize(0));
+        assertThrows(SQLException.class, () -> ds.setMaxLifetime(-1));
+        assertThrows(SQLException.class, () -> ds.setValidationTimeout(-1));
+    }
 }
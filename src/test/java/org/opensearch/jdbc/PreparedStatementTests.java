@@ -14,6 +14,7 @@ import org.opensearch.jdbc.protocol.QueryRequest;
 import org.opensearch.jdbc.protocol.QueryResponse;
 import org.opensearch.jdbc.protocol.exceptions.ResponseException;
 import org.opensearch.jdbc.test.PerTestWireMockServerExtension;
+import org.opensearch.jdbc.transport.RequestCanceller;
 import org.opensearch.jdbc.transport.Transport;
 import org.opensearch.jdbc.transport.TransportFactory;
 import org.junit.jupiter.api.Test;
@@ -140,7 +141,7 @@ public class PreparedStatementTests {
         when(pf.getProtocol(any(ConnectionConfig.class), any(Transport.class)))
                 .thenReturn(mockProtocol);
 
-        when(mockProtocol.execute(any(QueryRequest.class)))
+        when(mockProtocol.execute(any(QueryRequest.class), anyInt(), any(RequestCanceller.class)))
                 .thenReturn(mock(QueryResponse.class));
         Connection con = new ConnectionImpl(ConnectionConfig.builder().build(), tf, pf, NoOpLogger.INSTANCE);
         return con;
@@ -161,7 +162,7 @@ public class PreparedStatementTests {
         when(pf.getProtocol(any(ConnectionConfig.class), any(Transport.class)))
                 .thenReturn(mockProtocol);
 
-        when(mockProtocol.execute(any(QueryRequest.class)))
+        when(mockProtocol.execute(any(QueryRequest.class), anyInt(), any(RequestCanceller.class)))
                 .thenReturn(mock(QueryResponse.class));
 
         String url = "jdbc:opensearch://localhost:9200?fetchSize=400";
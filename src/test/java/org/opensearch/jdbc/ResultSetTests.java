@@ -6,10 +6,22 @@
 
 package org.opensearch.jdbc;
 
+import org.opensearch.jdbc.config.ConnectionConfig;
+import org.opensearch.jdbc.config.ConnectionRequestTimeoutConnectionProperty;
+import org.opensearch.jdbc.config.CursorPrefetchConnectionProperty;
+import org.opensearch.jdbc.config.CursorPrefetchMaxPagesConnectionProperty;
+import org.opensearch.jdbc.config.HostsConnectionProperty;
+import org.opensearch.jdbc.config.QueryListenerConnectionProperty;
+import org.opensearch.jdbc.config.TransportConnectionProperty;
 import org.opensearch.jdbc.internal.exceptions.ObjectClosedException;
+import org.opensearch.jdbc.internal.results.Cursor;
+import org.opensearch.jdbc.listener.QueryEvent;
+import org.opensearch.jdbc.listener.QueryTraceTests;
 import org.opensearch.jdbc.logging.NoOpLogger;
 import org.opensearch.jdbc.protocol.QueryResponse;
 import org.opensearch.jdbc.protocol.http.JsonHttpProtocol;
+import org.opensearch.jdbc.protocol.http.JsonHttpResponseHandler;
+import org.opensearch.jdbc.protocol.http.JsonQueryResponse;
 import org.opensearch.jdbc.test.TestResources;
 import org.opensearch.jdbc.test.mocks.MockOpenSearch;
 import org.opensearch.jdbc.types.OpenSearchType;
@@ -21,23 +33,34 @@ import org.opensearch.jdbc.test.mocks.MockResultSet;
 import org.opensearch.jdbc.test.mocks.MockResultSetRows;
 import org.opensearch.jdbc.test.mocks.MockResultSetMetaData;
 import org.opensearch.jdbc.test.mocks.QueryMock;
+import org.opensearch.jdbc.transport.http.ApacheHttpTransport;
 import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.ResultSet;
+import java.sql.SQLDataException;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.sql.Statement;
 import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.stream.Stream;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
@@ -45,6 +68,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
@@ -102,12 +126,245 @@ public class ResultSetTests implements WireMockServerHelpers {
     @Test
     void testResultSetOnPaginatedResponse(WireMockServer mockServer) throws SQLException, IOException {
 
-        String queryUrl = JsonHttpProtocol.DEFAULT_SQL_CONTEXT_PATH+"?format=jdbc";
         final String sql = "SELECT firstname, age FROM accounts LIMIT 12";
 
         // get Connection stub
         setupStubForConnect(mockServer, "/");
 
+        setupStubsForPaginatedQuery(mockServer, sql);
+
+        Connection con = new Driver().connect(getBaseURLForMockServer(mockServer), null);
+        Statement st = con.createStatement();
+        st.setFetchSize(3);
+        ResultSet rs = assertDoesNotThrow(() -> st.executeQuery(sql));
+        int cursorRowCount = 0;
+
+        while(rs.next()) {
+            cursorRowCount++;
+        }
+        assertEquals(12, cursorRowCount, "Unexpected number of rows retrieved from cursor.");
+
+        // test for execute method, mostly used by BI tools like Tableau for example.
+        con = new Driver().connect(getBaseURLForMockServer(mockServer), null);
+        Statement statement = con.createStatement();
+        st.setFetchSize(3);
+        boolean executed = assertDoesNotThrow(() -> statement.execute(sql));
+        assertTrue(executed);
+        rs = statement.getResultSet();
+        cursorRowCount = 0;
+
+        while(rs.next()) {
+            cursorRowCount++;
+        }
+        assertEquals(12, cursorRowCount, "Unexpected number of rows retrieved from cursor.");
+    }
+
+
+    @ParameterizedTest
+    @ValueSource(strings = {"http", "http_async", "http2"})
+    void testResultSetOnPaginatedResponseWithPrefetch(String transport, WireMockServer mockServer)
+            throws SQLException, IOException {
+        final String sql = "SELECT firstname, age FROM accounts LIMIT 12";
+
+        setupStubForConnect(mockServer, "/");
+        setupStubsForPaginatedQuery(mockServer, sql);
+
+        Properties props = new Properties();
+        props.setProperty(TransportConnectionProperty.KEY, transport);
+        props.setProperty(CursorPrefetchConnectionProperty.KEY, "true");
+        props.setProperty(CursorPrefetchMaxPagesConnectionProperty.KEY, "2");
+
+        Connection con = new Driver().connect(getBaseURLForMockServer(mockServer), props);
+        Statement st = con.createStatement();
+        st.setFetchSize(3);
+        ResultSet rs = assertDoesNotThrow(() -> st.executeQuery(sql));
+
+        List<String> firstnames = new ArrayList<>();
+        while (rs.next()) {
+            firstnames.add(rs.getString(1));
+        }
+        assertEquals(12, firstnames.size(), "Unexpected number of rows retrieved from cursor.");
+        assertEquals("Amber", firstnames.get(0));
+        assertEquals("Dale", firstnames.get(3));
+
+        // every page requested exactly once
+        mockServer.verify(1, postRequestedFor(urlEqualTo(JsonHttpProtocol.DEFAULT_SQL_CONTEXT_PATH + "?format=jdbc"))
+                .withRequestBody(matchingJsonPath("$.cursor", equalTo("abcde_1"))));
+        mockServer.verify(1, postRequestedFor(urlEqualTo(JsonHttpProtocol.DEFAULT_SQL_CONTEXT_PATH + "?format=jdbc"))
+                .withRequestBody(matchingJsonPath("$.cursor", equalTo("abcde_3"))));
+
+        rs.close();
+        con.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"http", "http_async", "http2"})
+    void testQueryTimeoutAppliesToPrefetchedPage(String transport, WireMockServer mockServer)
+            throws SQLException, IOException {
+        final String sql = "SELECT firstname, age FROM accounts LIMIT 12";
+
+        setupStubForConnect(mockServer, "/");
+        setupStubsForPaginatedQuery(mockServer, sql);
+
+        // second page slower than the query timeout
+        mockServer.stubFor(post(urlEqualTo(JsonHttpProtocol.DEFAULT_SQL_CONTEXT_PATH + "?format=jdbc"))
+                .withRequestBody(matchingJsonPath("$.cursor", equalTo("abcde_1")))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(getResponseBodyFromPath("mock/protocol/json/cursor/queryresponse_accounts_01.json"))
+                        .withFixedDelay(5000)));
+
+        Properties props = new Properties();
+        props.setProperty(TransportConnectionProperty.KEY, transport);
+        props.setProperty(CursorPrefetchConnectionProperty.KEY, "true");
+
+        Connection con = new Driver().connect(getBaseURLForMockServer(mockServer), props);
+        Statement st = con.createStatement();
+        st.setFetchSize(3);
+        st.setQueryTimeout(1);
+        ResultSet rs = assertDoesNotThrow(() -> st.executeQuery(sql));
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(rs.next());
+        }
+
+        long startNanos = System.nanoTime();
+        assertThrows(SQLTimeoutException.class, rs::next);
+        assertTrue(System.nanoTime() - startNanos < 4_000_000_000L, "Wait for the page outlasted the query timeout");
+
+        con.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"http", "http_async", "http2"})
+    void testCursorPagesPinnedToNode(String transport, WireMockServer mockServer)
+            throws SQLException, IOException {
+        final String sql = "SELECT firstname, age FROM accounts LIMIT 12";
+        final String queryUrl = JsonHttpProtocol.DEFAULT_SQL_CONTEXT_PATH + "?format=jdbc";
+
+        setupStubForConnect(mockServer, "/");
+        setupStubsForPaginatedQuery(mockServer, sql);
+
+        // two names for the same server stand for two nodes
+        Properties props = new Properties();
+        props.setProperty(TransportConnectionProperty.KEY, transport);
+        props.setProperty(HostsConnectionProperty.KEY,
+                "localhost:" + mockServer.port() + ",127.0.0.1:" + mockServer.port());
+        props.setProperty(CursorPrefetchConnectionProperty.KEY, "true");
+
+        Connection con = new Driver().connect(getBaseURLForMockServer(mockServer), props);
+        Statement st = con.createStatement();
+        st.setFetchSize(3);
+        ResultSet rs = assertDoesNotThrow(() -> st.executeQuery(sql));
+
+        int rowCount = 0;
+        while (rs.next()) {
+            rowCount++;
+        }
+        assertEquals(12, rowCount, "Unexpected number of rows retrieved from cursor.");
+
+        // every page requested from the node that served the query
+        String queryHost = mockServer.findAll(postRequestedFor(urlEqualTo(queryUrl))
+                .withRequestBody(matchingJsonPath("$.query"))).get(0).getHeader("Host");
+        List<LoggedRequest> pageRequests = mockServer.findAll(postRequestedFor(urlEqualTo(queryUrl))
+                .withRequestBody(matchingJsonPath("$.cursor")));
+        assertEquals(3, pageRequests.size());
+        pageRequests.forEach((request) -> assertEquals(queryHost, request.getHeader("Host")));
+
+        rs.close();
+        con.close();
+    }
+
+    @Test
+    void testCancelClosesServerCursor(WireMockServer mockServer) throws SQLException, IOException {
+        final String sql = "SELECT firstname, age FROM accounts LIMIT 12";
+        final String closeUrl = JsonHttpProtocol.DEFAULT_SQL_CONTEXT_PATH + "/close";
+
+        setupStubForConnect(mockServer, "/");
+        setupStubsForPaginatedQuery(mockServer, sql);
+        mockServer.stubFor(post(urlEqualTo(closeUrl))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"succeeded\":true}")));
+
+        Connection con = new Driver().connect(getBaseURLForMockServer(mockServer), null);
+        Statement st = con.createStatement();
+        st.setFetchSize(3);
+        ResultSet rs = assertDoesNotThrow(() -> st.executeQuery(sql));
+        assertTrue(rs.next());
+
+        st.cancel();
+
+        mockServer.verify(1, postRequestedFor(urlEqualTo(closeUrl))
+                .withRequestBody(matchingJsonPath("$.cursor", equalTo("abcde_1"))));
+
+        SQLException ex = assertThrows(SQLException.class, rs::next);
+        assertEquals("HY008", ex.getSQLState());
+
+        // no further pages requested
+        mockServer.verify(0, postRequestedFor(urlEqualTo(JsonHttpProtocol.DEFAULT_SQL_CONTEXT_PATH + "?format=jdbc"))
+                .withRequestBody(matchingJsonPath("$.cursor")));
+        mockServer.verify(1, postRequestedFor(urlEqualTo(closeUrl)));
+
+        st.close();
+        con.close();
+    }
+
+    @Test
+    void testQueryListenerOnPaginatedResponse(WireMockServer mockServer) throws SQLException, IOException {
+        final String sql = "SELECT firstname, age FROM accounts LIMIT 12";
+
+        setupStubForConnect(mockServer, "/");
+        setupStubsForPaginatedQuery(mockServer, sql);
+
+        QueryTraceTests.RecordingListener listener = new QueryTraceTests.RecordingListener();
+        Map<String, Object> props = new HashMap<>();
+        props.put(QueryListenerConnectionProperty.KEY, listener);
+        ConnectionConfig connectionConfig = ConnectionConfig.builder()
+                .setUrl(getBaseURLForMockServer(mockServer))
+                .setPropertyMap(props)
+                .build();
+
+        Connection con = new ConnectionImpl(connectionConfig, NoOpLogger.INSTANCE);
+        Statement st = con.createStatement();
+        st.setFetchSize(3);
+        ResultSet rs = assertDoesNotThrow(() -> st.executeQuery(sql));
+        while (rs.next()) {
+            // read all pages
+        }
+        rs.close();
+
+        assertEquals(Arrays.asList("queryStarted", "queryExecuted",
+                "pageRead", "pageFetched", "pageRead", "pageFetched", "pageRead", "pageFetched", "pageRead",
+                "resultSetClosed"), listener.getCallbacks());
+
+        List<QueryEvent> events = listener.getEvents();
+        assertEquals(sql, events.get(0).getSql());
+        assertEquals(3, events.get(0).getFetchSize());
+        assertNull(events.get(1).getFailure());
+
+        long pageBytes = 0;
+        for (int i = 0; i < events.size(); i++) {
+            if ("pageRead".equals(listener.getCallbacks().get(i))) {
+                assertEquals(3, events.get(i).getRows());
+                assertTrue(events.get(i).getResponseBytes() > 0);
+                pageBytes += events.get(i).getResponseBytes();
+            }
+        }
+
+        QueryEvent closed = events.get(events.size() - 1);
+        assertEquals(4, closed.getPage());
+        assertEquals(12, closed.getRows());
+        assertEquals(pageBytes, closed.getResponseBytes());
+        assertEquals(events.get(0).getQueryId(), closed.getQueryId());
+
+        st.close();
+        con.close();
+    }
+
+    private void setupStubsForPaginatedQuery(WireMockServer mockServer, String sql) throws IOException {
+        String queryUrl = JsonHttpProtocol.DEFAULT_SQL_CONTEXT_PATH+"?format=jdbc";
+
         // query response stub for initial page
         mockServer.stubFor(post(urlEqualTo(queryUrl))
                 .withHeader("Accept", equalTo("application/json"))
@@ -143,34 +400,100 @@ public class ResultSetTests implements WireMockServerHelpers {
                 .willReturn(aResponse()
                         .withHeader("Content-Type", "application/json")
                         .withBody(getResponseBodyFromPath("mock/protocol/json/cursor/queryresponse_accounts_03.json"))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"http", "http_async"})
+    void testUnreadResultSetsDoNotHoldConnections(String transport, WireMockServer mockServer)
+            throws SQLException, IOException {
+        final String sql = "SELECT rownum FROM rows";
 
+        setupStubForConnect(mockServer, "/");
+        mockServer.stubFor(post(urlEqualTo(JsonHttpProtocol.DEFAULT_SQL_CONTEXT_PATH + "?format=jdbc"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"schema\":[{\"name\":\"rownum\",\"type\":\"integer\"}]," +
+                                "\"datarows\":[[1],[2],[3]],\"total\":3,\"size\":3,\"status\":200}")));
+
+        Properties props = new Properties();
+        props.setProperty(TransportConnectionProperty.KEY, transport);
+        props.setProperty(ConnectionRequestTimeoutConnectionProperty.KEY, "1");
+
+        Connection con = new Driver().connect(getBaseURLForMockServer(mockServer), props);
+
+        // more open ResultSets than pooled connections per route
+        List<ResultSet> resultSets = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            resultSets.add(assertDoesNotThrow(() -> con.createStatement().executeQuery(sql)));
+        }
+        if (transport.equals("http")) {
+            assertEquals(0, ((ApacheHttpTransport) ((ConnectionImpl) con).getTransport()).getPoolStats().getLeased());
+        }
+
+        for (ResultSet rs : resultSets) {
+            int rowCount = 0;
+            while (rs.next()) {
+                rowCount++;
+            }
+            assertEquals(3, rowCount);
+        }
+
+        con.close();
+    }
+
+    @Test
+    void testResultSetReleasesResponseOnClose(WireMockServer mockServer) throws SQLException, IOException {
+        final String sql = "SELECT rownum FROM rows";
+        final int rowCount = 50 * Cursor.DEFAULT_PAGE_ROWS;
+
+        // a response with more rows than are read into the cursor at a time,
+        // large enough to be streamed rather than read in full
+        StringBuilder responseBody = new StringBuilder(
+                "{\"schema\":[{\"name\":\"rownum\",\"type\":\"integer\"}],\"datarows\":[");
+        for (int i = 1; i <= rowCount; i++) {
+            responseBody.append(i > 1 ? ",[" : "[").append(i).append("]");
+        }
+        responseBody.append("],\"total\":").append(rowCount)
+                .append(",\"size\":").append(rowCount).append(",\"status\":200}");
+        assertTrue(responseBody.length() > JsonHttpResponseHandler.STREAMING_THRESHOLD_BYTES);
+
+        setupStubForConnect(mockServer, "/");
+        mockServer.stubFor(post(urlEqualTo(JsonHttpProtocol.DEFAULT_SQL_CONTEXT_PATH + "?format=jdbc"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(responseBody.toString())));
 
         Connection con = new Driver().connect(getBaseURLForMockServer(mockServer), null);
+        ApacheHttpTransport transport = (ApacheHttpTransport) ((ConnectionImpl) con).getTransport();
         Statement st = con.createStatement();
-        st.setFetchSize(3);
-        ResultSet rs = assertDoesNotThrow(() -> st.executeQuery(sql));
-        int cursorRowCount = 0;
 
-        while(rs.next()) {
-            cursorRowCount++;
-        }
-        assertEquals(12, cursorRowCount, "Unexpected number of rows retrieved from cursor.");
+        // rows are read from the response as the ResultSet advances
+        ResultSet rs = st.executeQuery(sql);
+        assertTrue(rs.next());
+        assertEquals(1, transport.getPoolStats().getLeased());
 
-        // test for execute method, mostly used by BI tools like Tableau for example.
-        con = new Driver().connect(getBaseURLForMockServer(mockServer), null);
-        Statement statement = con.createStatement();
-        st.setFetchSize(3);
-        boolean executed = assertDoesNotThrow(() -> statement.execute(sql));
-        assertTrue(executed);
-        rs = statement.getResultSet();
-        cursorRowCount = 0;
+        rs.close();
+        assertEquals(0, transport.getPoolStats().getLeased());
 
-        while(rs.next()) {
+        // a ResultSet read to the end releases the response without being closed
+        rs = st.executeQuery(sql);
+        int cursorRowCount = 0;
+        while (rs.next()) {
             cursorRowCount++;
+            assertEquals(cursorRowCount, rs.getInt(1));
         }
-        assertEquals(12, cursorRowCount, "Unexpected number of rows retrieved from cursor.");
-    }
+        assertEquals(rowCount, cursorRowCount);
+        assertEquals(0, transport.getPoolStats().getLeased());
+
+        // closing the Statement closes a ResultSet that has not been read in full
+        rs = st.executeQuery(sql);
+        assertTrue(rs.next());
+        st.close();
+        assertTrue(rs.isClosed());
+        assertEquals(0, transport.getPoolStats().getLeased());
 
+        con.close();
+    }
 
     @Test
     void testNullableFieldsQuery(WireMockServer mockServer) throws SQLException, IOException {
@@ -279,6 +602,95 @@ public class ResultSetTests implements WireMockServerHelpers {
         con.close();
     }
 
+    @Test
+    void testPrimitiveGetters() throws SQLException {
+        List<JsonQueryResponse.SchemaEntry> schema = Arrays.asList(
+                new JsonQueryResponse.SchemaEntry("int_col", "integer", null),
+                new JsonQueryResponse.SchemaEntry("long_col", "long", null),
+                new JsonQueryResponse.SchemaEntry("double_col", "double", null),
+                new JsonQueryResponse.SchemaEntry("bool_col", "boolean", null),
+                new JsonQueryResponse.SchemaEntry("keyword_col", "keyword", null));
+
+        List<List<Object>> rows = Arrays.asList(
+                Arrays.asList(1, 5000000000L, 2.6, true, "7"),
+                Arrays.asList(null, null, null, null, null),
+                Arrays.asList(2147483647, 2L, 1e20, false, "x"));
+
+        ResultSet rs = new ResultSetImpl(null, schema, rows, NoOpLogger.INSTANCE);
+
+        assertTrue(rs.next());
+        assertEquals(1, rs.getInt(1));
+        assertFalse(rs.wasNull());
+        assertEquals(1L, rs.getLong(1));
+        assertEquals(1.0, rs.getDouble(1));
+        assertThrows(SQLDataException.class, () -> rs.getInt(2));
+        assertEquals(5000000000L, rs.getLong(2));
+        assertEquals(5000000000.0, rs.getDouble(2));
+        assertEquals(3, rs.getInt(3));
+        assertEquals(3L, rs.getLong(3));
+        assertEquals(2.6, rs.getDouble(3));
+        assertTrue(rs.getBoolean(4));
+        assertThrows(SQLDataException.class, () -> rs.getInt(4));
+        assertEquals(7, rs.getInt(5));
+        assertEquals(7L, rs.getLong("keyword_col"));
+
+        assertTrue(rs.next());
+        assertEquals(0, rs.getInt(1));
+        assertTrue(rs.wasNull());
+        assertEquals(0L, rs.getLong(2));
+        assertTrue(rs.wasNull());
+        assertEquals(0.0, rs.getDouble(3));
+        assertTrue(rs.wasNull());
+        assertFalse(rs.getBoolean(4));
+        assertTrue(rs.wasNull());
+
+        assertTrue(rs.next());
+        assertEquals(2147483647, rs.getInt("int_col"));
+        assertFalse(rs.wasNull());
+        assertEquals(2, rs.getInt(2));
+        assertThrows(SQLDataException.class, () -> rs.getInt(3));
+        assertEquals(rs.getObject(3, Long.class).longValue(), rs.getLong(3));
+        assertEquals(1e20, rs.getDouble(3));
+        assertFalse(rs.getBoolean(4));
+        assertThrows(SQLDataException.class, () -> rs.getInt(5));
+
+        assertFalse(rs.next());
+        rs.close();
+    }
+
+    @Test
+    void testJavaTimeGetters() throws SQLException {
+        List<JsonQueryResponse.SchemaEntry> schema = Arrays.asList(
+                new JsonQueryResponse.SchemaEntry("timestamp_col", "timestamp", null),
+                new JsonQueryResponse.SchemaEntry("date_col", "date", null),
+                new JsonQueryResponse.SchemaEntry("keyword_col", "keyword", null));
+
+        List<List<Object>> rows = Arrays.asList(
+                Arrays.asList("2015-01-01 12:10:30.123", "2015-01-01", "2015-01-01T12:10:30+01:00"),
+                Arrays.asList(null, null, null));
+
+        ResultSet rs = new ResultSetImpl(null, schema, rows, NoOpLogger.INSTANCE);
+
+        assertTrue(rs.next());
+        assertEquals(Instant.parse("2015-01-01T12:10:30.123Z"), rs.getObject(1, Instant.class));
+        assertEquals(LocalDateTime.of(2015, 1, 1, 12, 10, 30, 123000000), rs.getObject(1, LocalDateTime.class));
+        assertEquals(OffsetDateTime.parse("2015-01-01T12:10:30.123Z"), rs.getObject(1, OffsetDateTime.class));
+        assertEquals(LocalDate.of(2015, 1, 1), rs.getObject("timestamp_col", LocalDate.class));
+        assertEquals(LocalDate.of(2015, 1, 1), rs.getObject(2, LocalDate.class));
+        assertEquals(Instant.parse("2015-01-01T00:00:00Z"), rs.getObject(2, Instant.class));
+        assertEquals(OffsetDateTime.parse("2015-01-01T12:10:30+01:00"), rs.getObject(3, OffsetDateTime.class));
+        assertEquals(Instant.parse("2015-01-01T11:10:30Z"), rs.getObject(3, Instant.class));
+
+        assertTrue(rs.next());
+        assertNull(rs.getObject(1, Instant.class));
+        assertTrue(rs.wasNull());
+        assertNull(rs.getObject(2, LocalDate.class));
+        assertNull(rs.getObject(3, OffsetDateTime.class));
+
+        assertFalse(rs.next());
+        rs.close();
+    }
+
     @Test
     void testResultSetWrapper() throws SQLException {
         ResultSetImpl rsImpl = new ResultSetImpl(mock(StatementImpl.class), mock(QueryResponse.class), NoOpLogger.INSTANCE);
@@ -7,6 +7,9 @@
 package org.opensearch.jdbc;
 
 import org.opensearch.jdbc.config.ConnectionConfig;
+import org.opensearch.jdbc.config.ResultCacheConnectionProperty;
+import org.opensearch.jdbc.config.StatisticsMBeansConnectionProperty;
+import org.opensearch.jdbc.internal.cache.QueryResultCacheRegistry;
 import org.opensearch.jdbc.logging.NoOpLogger;
 import org.opensearch.jdbc.protocol.ConnectionResponse;
 import org.opensearch.jdbc.protocol.JdbcQueryRequest;
@@ -16,7 +19,10 @@ import org.opensearch.jdbc.protocol.QueryRequest;
 import org.opensearch.jdbc.protocol.QueryResponse;
 import org.opensearch.jdbc.protocol.exceptions.InternalServerErrorException;
 import org.opensearch.jdbc.protocol.exceptions.ResponseException;
+import org.opensearch.jdbc.protocol.http.JsonHttpProtocol;
+import org.opensearch.jdbc.statistics.Statistics;
 import org.opensearch.jdbc.test.PerTestWireMockServerExtension;
+import org.opensearch.jdbc.transport.RequestCanceller;
 import org.opensearch.jdbc.transport.Transport;
 import org.opensearch.jdbc.transport.TransportFactory;
 import org.opensearch.jdbc.test.WireMockServerHelpers;
@@ -25,20 +31,32 @@ import com.github.tomakehurst.wiremock.WireMockServer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.sql.Statement;
 import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -64,7 +82,7 @@ public class StatementTests implements WireMockServerHelpers {
         when(pf.getProtocol(any(ConnectionConfig.class), any(Transport.class)))
                 .thenReturn(mockProtocol);
 
-        when(mockProtocol.execute(any(QueryRequest.class)))
+        when(mockProtocol.execute(any(QueryRequest.class), anyInt(), any(RequestCanceller.class)))
                 .thenReturn(mock(QueryResponse.class));
 
         Connection con = new ConnectionImpl(ConnectionConfig.builder().build(), tf, pf, NoOpLogger.INSTANCE);
@@ -74,7 +92,7 @@ public class StatementTests implements WireMockServerHelpers {
 
         JdbcQueryRequest request = new JdbcQueryRequest(sql);
 
-        verify(mockProtocol).execute(request);
+        verify(mockProtocol).execute(eq(request), eq(0), any(RequestCanceller.class));
 
         // new ResultSetImpl(mock(StatementImpl.class), mock(QueryResponse.class));
         st.close();
@@ -98,7 +116,7 @@ public class StatementTests implements WireMockServerHelpers {
         when(pf.getProtocol(any(ConnectionConfig.class), any(Transport.class)))
                 .thenReturn(mockProtocol);
 
-        when(mockProtocol.execute(any(QueryRequest.class)))
+        when(mockProtocol.execute(any(QueryRequest.class), anyInt(), any(RequestCanceller.class)))
                 .thenReturn(mock(QueryResponse.class));
 
         String url = "jdbc:opensearch://localhost:9200?fetchSize=400";
@@ -153,4 +171,202 @@ public class StatementTests implements WireMockServerHelpers {
         st.close();
         con.close();
     }
+
+    @Test
+    void testQueryTimeoutConfig(WireMockServer mockServer) throws SQLException, IOException {
+        new QueryMock.NycTaxisQueryMock().setupMockServerStub(mockServer);
+
+        Connection con = new Driver().connect(getBaseURLForMockServer(mockServer), null);
+        Statement st = con.createStatement();
+        assertEquals(0, st.getQueryTimeout());
+
+        st.setQueryTimeout(30);
+        assertEquals(30, st.getQueryTimeout());
+
+        assertThrows(SQLException.class, () -> st.setQueryTimeout(-1));
+        assertEquals(30, st.getQueryTimeout());
+
+        st.close();
+        con.close();
+    }
+
+    @Test
+    void testQueryTimeout(WireMockServer mockServer) throws SQLException, IOException {
+        QueryMock queryMock = new QueryMock.NycTaxisQueryMock();
+
+        // a query response delayed past the timeout
+        queryMock.setupMockServerStub(mockServer);
+        mockServer.stubFor(post(urlEqualTo(JsonHttpProtocol.DEFAULT_SQL_CONTEXT_PATH + "?format=jdbc"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(queryMock.getResponseBody())
+                        .withFixedDelay(5000)));
+
+        Connection con = new Driver().connect(getBaseURLForMockServer(mockServer), null);
+        Statement st = con.createStatement();
+        st.setQueryTimeout(1);
+
+        long start = System.nanoTime();
+        assertThrows(SQLTimeoutException.class, () -> st.executeQuery(queryMock.getSql()));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMillis < 4000, "Query not aborted on timeout after " + elapsedMillis + "ms");
+
+        // the statement can be executed again
+        mockServer.resetMappings();
+        queryMock.setupMockServerStub(mockServer);
+        st.setQueryTimeout(0);
+        ResultSet rs = assertDoesNotThrow(() -> st.executeQuery(queryMock.getSql()));
+        assertTrue(rs.next());
+
+        st.close();
+        con.close();
+    }
+
+    @Test
+    void testCancelAbortsQuery(WireMockServer mockServer) throws Exception {
+        QueryMock queryMock = new QueryMock.NycTaxisQueryMock();
+
+        // a query response delayed past the cancellation
+        queryMock.setupMockServerStub(mockServer);
+        mockServer.stubFor(post(urlEqualTo(JsonHttpProtocol.DEFAULT_SQL_CONTEXT_PATH + "?format=jdbc"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(queryMock.getResponseBody())
+                        .withFixedDelay(5000)));
+
+        Connection con = new Driver().connect(getBaseURLForMockServer(mockServer), null);
+        Statement st = con.createStatement();
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            executor.schedule(() -> {
+                st.cancel();
+                return null;
+            }, 500, TimeUnit.MILLISECONDS);
+
+            SQLException ex = assertThrows(SQLException.class, () -> st.executeQuery(queryMock.getSql()));
+            assertFalse(ex instanceof SQLTimeoutException);
+            assertEquals("HY008", ex.getSQLState());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        st.close();
+        con.close();
+    }
+
+    @Test
+    void testResultCacheServesRepeatedQuery(WireMockServer mockServer) throws SQLException, IOException {
+        QueryMock queryMock = new QueryMock.NycTaxisQueryMock();
+        queryMock.setupMockServerStub(mockServer);
+
+        Properties props = new Properties();
+        props.setProperty(ResultCacheConnectionProperty.KEY, "true");
+
+        QueryResultCacheRegistry.INSTANCE.clearAll();
+        Connection con = new Driver().connect(getBaseURLForMockServer(mockServer), props);
+        Statement st = con.createStatement();
+
+        ResultSet rs = st.executeQuery(queryMock.getSql());
+        queryMock.getMockResultSet().assertMatches(rs);
+        rs.close();
+
+        // served from the cache, including to other connections
+        rs = st.executeQuery(queryMock.getSql());
+        queryMock.getMockResultSet().assertMatches(rs);
+        rs.close();
+
+        Connection con2 = new Driver().connect(getBaseURLForMockServer(mockServer), props);
+        Statement st2 = con2.createStatement();
+        rs = st2.executeQuery("  " + queryMock.getSql() + "\n");
+        queryMock.getMockResultSet().assertMatches(rs);
+        rs.close();
+
+        mockServer.verify(1, postRequestedFor(urlEqualTo(JsonHttpProtocol.DEFAULT_SQL_CONTEXT_PATH + "?format=jdbc")));
+
+        st2.close();
+        con2.close();
+        st.close();
+        con.close();
+    }
+
+    @Test
+    void testStatisticsRecorded(WireMockServer mockServer) throws SQLException, IOException {
+        QueryMock queryMock = new QueryMock.NycTaxisQueryMock();
+        queryMock.setupMockServerStub(mockServer);
+
+        OpenSearchConnection con = (OpenSearchConnection) new Driver().connect(
+                getBaseURLForMockServer(mockServer), null);
+        Statement st = con.createStatement();
+        long driverQueries = Driver.getStatistics().getQueriesExecuted();
+
+        ResultSet rs = st.executeQuery(queryMock.getSql());
+        queryMock.getMockResultSet().assertMatches(rs);
+        rs.close();
+
+        Statistics statistics = con.getStatistics();
+        assertEquals(1, statistics.getQueriesExecuted());
+        assertEquals(0, statistics.getQueryFailures());
+        assertEquals(5, statistics.getRowsRead());
+        assertEquals(1, statistics.getQueryLatency().getCount());
+        assertEquals(1, statistics.getSerializeTime().getCount());
+        assertTrue(statistics.getParseTime().getCount() > 0);
+        assertTrue(statistics.getConvertTime().getCount() > 0);
+
+        // connecting and the query
+        assertEquals(2, statistics.getRequestsSent());
+        assertEquals(0, statistics.getInFlightRequests());
+        assertEquals(Long.valueOf(2), statistics.getStatusCodeCounts().get(200));
+        assertEquals(2, statistics.getNetworkTime().getCount());
+        assertTrue(statistics.getBytesSent() > queryMock.getSql().length());
+        assertTrue(statistics.getBytesReceived() > queryMock.getResponseBody().length());
+
+        assertTrue(Driver.getStatistics().getQueriesExecuted() > driverQueries);
+
+        st.close();
+        con.close();
+        assertEquals(1, con.getStatistics().getQueriesExecuted());
+    }
+
+    @Test
+    void testStatisticsRecordQueryFailure(WireMockServer mockServer) throws SQLException, IOException {
+        QueryMock queryMock = new QueryMock.NycTaxisQueryInternalErrorMock();
+        queryMock.setupMockServerStub(mockServer);
+
+        OpenSearchConnection con = (OpenSearchConnection) new Driver().connect(
+                getBaseURLForMockServer(mockServer), null);
+        Statement st = con.createStatement();
+        assertThrows(InternalServerErrorException.class, () -> st.executeQuery(queryMock.getSql()));
+
+        Statistics statistics = con.getStatistics();
+        assertEquals(1, statistics.getQueriesExecuted());
+        assertEquals(1, statistics.getQueryFailures());
+        assertEquals(0, statistics.getRowsRead());
+
+        st.close();
+        con.close();
+    }
+
+    @Test
+    void testStatisticsMBeans(WireMockServer mockServer) throws Exception {
+        new QueryMock.NycTaxisQueryMock().setupMockServerStub(mockServer);
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName pattern = new ObjectName("org.opensearch.jdbc:type=Statistics,name=connection-*");
+
+        Connection con = new Driver().connect(getBaseURLForMockServer(mockServer), null);
+        assertEquals(0, mBeanServer.queryNames(pattern, null).size());
+        con.close();
+
+        Properties props = new Properties();
+        props.setProperty(StatisticsMBeansConnectionProperty.KEY, "true");
+        con = new Driver().connect(getBaseURLForMockServer(mockServer), props);
+
+        assertEquals(1, mBeanServer.queryNames(pattern, null).size());
+        ObjectName name = mBeanServer.queryNames(pattern, null).iterator().next();
+        assertEquals(1L, mBeanServer.getAttribute(name, "RequestsSent"));
+        assertTrue(mBeanServer.isRegistered(new ObjectName("org.opensearch.jdbc:type=Statistics,name=driver")));
+
+        con.close();
+        assertEquals(0, mBeanServer.queryNames(pattern, null).size());
+    }
 }
@@ -8,7 +8,11 @@ package org.opensearch.jdbc.config;
 
 import org.opensearch.jdbc.auth.AuthenticationType;
 import org.opensearch.jdbc.internal.util.UrlParser;
+import org.opensearch.jdbc.listener.QueryTraceTests;
 import org.opensearch.jdbc.logging.LogLevel;
+import org.opensearch.jdbc.logging.LogOverflowPolicy;
+import org.opensearch.jdbc.transport.LoadBalancingType;
+import org.opensearch.jdbc.transport.TransportType;
 import com.amazonaws.auth.EnvironmentVariableCredentialsProvider;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -178,12 +182,157 @@ class ConnectionConfigTests {
         assertCommonBooleanPropertyTests(RequestCompressionConnectionProperty.KEY, ConnectionConfig::requestCompression);
     }
 
+    @Test
+    void testRequestBodyCompressionConfig() {
+        assertCommonBooleanPropertyTests(RequestBodyCompressionConnectionProperty.KEY,
+                ConnectionConfig::requestBodyCompression);
+    }
+
+    @Test
+    void testLogAsyncConfig() {
+        assertCommonBooleanPropertyTests(LogAsyncConnectionProperty.KEY, ConnectionConfig::logAsync);
+    }
+
+    @Test
+    void testStatisticsMBeansConfig() {
+        assertCommonBooleanPropertyTests(StatisticsMBeansConnectionProperty.KEY, ConnectionConfig::statisticsMBeans);
+    }
+
+    @Test
+    void testQueryListenerConfig() {
+        assertPropertyRejectsValue(QueryListenerConnectionProperty.KEY, 10);
+        assertPropertyRejectsValue(QueryListenerConnectionProperty.KEY, "org.opensearch.jdbc.listener.MissingListener");
+        assertPropertyRejectsValue(QueryListenerConnectionProperty.KEY, String.class.getName());
+
+        // The property accepts null, a QueryListener or the name of a QueryListener class
+        assertPropertyAcceptsValue(QueryListenerConnectionProperty.KEY, ConnectionConfig::getQueryListener, null);
+        assertPropertyAcceptsValue(QueryListenerConnectionProperty.KEY, ConnectionConfig::getQueryListener,
+                new QueryTraceTests.RecordingListener());
+
+        ConnectionConfig conConfig = assertConnectionConfigIsBuilt(QueryListenerConnectionProperty.KEY,
+                " " + QueryTraceTests.RecordingListener.class.getName() + " ");
+        assertTrue(conConfig.getQueryListener() instanceof QueryTraceTests.RecordingListener);
+    }
+
+    @Test
+    void testLogBufferSizeConfig() {
+        // exception with invalid values
+        assertPropertyRejects(LogBufferSizeConnectionProperty.KEY, 0, -1, "invalid", "2.5");
+
+        // valid values
+        assertPropertyAccepts(LogBufferSizeConnectionProperty.KEY,
+                ConnectionConfig::getLogBufferSize, 1, 65536);
+        assertPropertyAcceptsParsedValue(LogBufferSizeConnectionProperty.KEY,
+                ConnectionConfig::getLogBufferSize, "1024", 1024);
+    }
+
+    @Test
+    void testLogOverflowPolicyConfig() {
+        // exception with invalid values
+        assertPropertyRejects(LogOverflowPolicyConnectionProperty.KEY, 42, "unknown", true);
+
+        // valid values
+        assertPropertyAcceptsParsedValue(LogOverflowPolicyConnectionProperty.KEY,
+                ConnectionConfig::getLogOverflowPolicy, "drop", LogOverflowPolicy.DROP);
+        assertPropertyAcceptsParsedValue(LogOverflowPolicyConnectionProperty.KEY,
+                ConnectionConfig::getLogOverflowPolicy, "BLOCK", LogOverflowPolicy.BLOCK);
+    }
+
+    @Test
+    void testLogRollingConfig() {
+        // exception with invalid values
+        assertPropertyRejects(LogMaxFileSizeConnectionProperty.KEY, -1, "invalid", "1.5");
+        assertPropertyRejects(LogMaxFilesConnectionProperty.KEY, 0, -1, "invalid", "1.5");
+
+        // valid values
+        assertPropertyAccepts(LogMaxFileSizeConnectionProperty.KEY,
+                ConnectionConfig::getLogMaxFileSize, 0, 100);
+        assertPropertyAcceptsParsedValue(LogMaxFileSizeConnectionProperty.KEY,
+                ConnectionConfig::getLogMaxFileSize, "10", 10);
+        assertPropertyAccepts(LogMaxFilesConnectionProperty.KEY,
+                ConnectionConfig::getLogMaxFiles, 1, 20);
+        assertPropertyAcceptsParsedValue(LogMaxFilesConnectionProperty.KEY,
+                ConnectionConfig::getLogMaxFiles, "3", 3);
+    }
+
     @Test
     void testAuthConfig() {
         // exception with invalid values
         assertPropertyRejects(AuthConnectionProperty.KEY, 42, "unknown", "true", true, false);
     }
 
+    @Test
+    void testTransportConfig() {
+        // exception with invalid values
+        assertPropertyRejects(TransportConnectionProperty.KEY, 42, "unknown", "true", true, false);
+
+        // valid values
+        assertPropertyAcceptsParsedValue(TransportConnectionProperty.KEY,
+                ConnectionConfig::getTransportType, "http", TransportType.HTTP);
+        assertPropertyAcceptsParsedValue(TransportConnectionProperty.KEY,
+                ConnectionConfig::getTransportType, "http_async", TransportType.HTTP_ASYNC);
+        assertPropertyAcceptsParsedValue(TransportConnectionProperty.KEY,
+                ConnectionConfig::getTransportType, "http2", TransportType.HTTP2);
+    }
+
+    @Test
+    void testCursorPrefetchConfig() {
+        assertCommonBooleanPropertyTests(CursorPrefetchConnectionProperty.KEY, ConnectionConfig::cursorPrefetch);
+    }
+
+    @Test
+    void testCursorPrefetchThresholdConfig() {
+        // exception with invalid values
+        assertPropertyRejects(CursorPrefetchThresholdConnectionProperty.KEY, -1, 101, "invalid", "0.5");
+
+        // valid values
+        assertPropertyAccepts(CursorPrefetchThresholdConnectionProperty.KEY,
+                ConnectionConfig::getCursorPrefetchThreshold, 0, 75, 100);
+        assertPropertyAcceptsParsedValue(CursorPrefetchThresholdConnectionProperty.KEY,
+                ConnectionConfig::getCursorPrefetchThreshold, "25", 25);
+    }
+
+    @Test
+    void testCursorPrefetchMaxPagesConfig() {
+        // exception with invalid values
+        assertPropertyRejects(CursorPrefetchMaxPagesConnectionProperty.KEY, 0, -1, "invalid", "2.5");
+
+        // valid values
+        assertPropertyAccepts(CursorPrefetchMaxPagesConnectionProperty.KEY,
+                ConnectionConfig::getCursorPrefetchMaxPages, 1, 4);
+        assertPropertyAcceptsParsedValue(CursorPrefetchMaxPagesConnectionProperty.KEY,
+                ConnectionConfig::getCursorPrefetchMaxPages, "3", 3);
+    }
+
+    @Test
+    void testResultCacheConfig() {
+        assertCommonBooleanPropertyTests(ResultCacheConnectionProperty.KEY, ConnectionConfig::resultCache);
+    }
+
+    @Test
+    void testResultCacheTtlConfig() {
+        // exception with invalid values
+        assertPropertyRejects(ResultCacheTtlConnectionProperty.KEY, 0, -1, "invalid", "1.5");
+
+        // valid values
+        assertPropertyAccepts(ResultCacheTtlConnectionProperty.KEY,
+                ConnectionConfig::getResultCacheTtl, 1, 300);
+        assertPropertyAcceptsParsedValue(ResultCacheTtlConnectionProperty.KEY,
+                ConnectionConfig::getResultCacheTtl, "30", 30);
+    }
+
+    @Test
+    void testResultCacheMaxMemoryConfig() {
+        // exception with invalid values
+        assertPropertyRejects(ResultCacheMaxMemoryConnectionProperty.KEY, 0, -1, "invalid", "1.5");
+
+        // valid values
+        assertPropertyAccepts(ResultCacheMaxMemoryConnectionProperty.KEY,
+                ConnectionConfig::getResultCacheMaxMemory, 1, 256);
+        assertPropertyAcceptsParsedValue(ResultCacheMaxMemoryConnectionProperty.KEY,
+                ConnectionConfig::getResultCacheMaxMemory, "16", 16);
+    }
+
     @Test
     void testBasicAuthConfigMissingUsername() {
         ConnectionConfig.Builder builder = ConnectionConfig.builder();
@@ -296,6 +445,138 @@ class ConnectionConfigTests {
         assertCommonBooleanPropertyTests(HostnameVerificationConnectionProperty.KEY, ConnectionConfig::hostnameVerification);
     }
 
+    @Test
+    void testSharedConnectionPoolConfig() {
+        assertCommonBooleanPropertyTests(SharedConnectionPoolConnectionProperty.KEY, ConnectionConfig::sharedConnectionPool);
+    }
+
+    @Test
+    void testMaxConnectionsPerRouteConfig() {
+        // exception with invalid values
+        assertPropertyRejects(MaxConnectionsPerRouteConnectionProperty.KEY, 0, -1, "invalid", "2.5");
+
+        // valid values
+        assertPropertyAccepts(MaxConnectionsPerRouteConnectionProperty.KEY,
+                ConnectionConfig::getMaxConnectionsPerRoute, 1, 100);
+        assertPropertyAcceptsParsedValue(MaxConnectionsPerRouteConnectionProperty.KEY,
+                ConnectionConfig::getMaxConnectionsPerRoute, "25", 25);
+    }
+
+    @Test
+    void testMaxConnectionsTotalConfig() {
+        // exception with invalid values
+        assertPropertyRejects(MaxConnectionsTotalConnectionProperty.KEY, 0, -1, "invalid", "2.5");
+
+        // valid values
+        assertPropertyAccepts(MaxConnectionsTotalConnectionProperty.KEY,
+                ConnectionConfig::getMaxConnectionsTotal, 1, 500);
+        assertPropertyAcceptsParsedValue(MaxConnectionsTotalConnectionProperty.KEY,
+                ConnectionConfig::getMaxConnectionsTotal, "200", 200);
+    }
+
+    @Test
+    void testConnectionRequestTimeoutConfig() {
+        // exception with invalid values
+        assertPropertyRejects(ConnectionRequestTimeoutConnectionProperty.KEY, -1, "invalid", "2.5");
+
+        // valid values
+        assertPropertyAccepts(ConnectionRequestTimeoutConnectionProperty.KEY,
+                ConnectionConfig::getConnectionRequestTimeout, 0, 5);
+        assertPropertyAcceptsParsedValue(ConnectionRequestTimeoutConnectionProperty.KEY,
+                ConnectionConfig::getConnectionRequestTimeout, "10", 10);
+    }
+
+    @Test
+    void testIdleConnectionTimeoutConfig() {
+        // exception with invalid values
+        assertPropertyRejects(IdleConnectionTimeoutConnectionProperty.KEY, -1, "invalid", "2.5");
+
+        // valid values
+        assertPropertyAccepts(IdleConnectionTimeoutConnectionProperty.KEY,
+                ConnectionConfig::getIdleConnectionTimeout, 0, 300);
+        assertPropertyAcceptsParsedValue(IdleConnectionTimeoutConnectionProperty.KEY,
+                ConnectionConfig::getIdleConnectionTimeout, "30", 30);
+    }
+
+    @Test
+    void testValidationCacheTtlConfig() {
+        // exception with invalid values
+        assertPropertyRejects(ValidationCacheTtlConnectionProperty.KEY, -1, "invalid", "2.5");
+
+        // valid values
+        assertPropertyAccepts(ValidationCacheTtlConnectionProperty.KEY,
+                ConnectionConfig::getValidationCacheTtl, 0, 30);
+        assertPropertyAcceptsParsedValue(ValidationCacheTtlConnectionProperty.KEY,
+                ConnectionConfig::getValidationCacheTtl, "10", 10);
+    }
+
+    @Test
+    void testLazyConnectConfig() {
+        assertCommonBooleanPropertyTests(LazyConnectConnectionProperty.KEY, ConnectionConfig::lazyConnect);
+    }
+
+    @Test
+    void testClusterMetadataCacheTtlConfig() {
+        // exception with invalid values
+        assertPropertyRejects(ClusterMetadataCacheTtlConnectionProperty.KEY, -1, "invalid", "2.5");
+
+        // valid values
+        assertPropertyAccepts(ClusterMetadataCacheTtlConnectionProperty.KEY,
+                ConnectionConfig::getClusterMetadataCacheTtl, 0, 300);
+        assertPropertyAcceptsParsedValue(ClusterMetadataCacheTtlConnectionProperty.KEY,
+                ConnectionConfig::getClusterMetadataCacheTtl, "60", 60);
+    }
+
+    @Test
+    void testRetryConfig() {
+        // exception with invalid values
+        assertPropertyRejects(MaxRetriesConnectionProperty.KEY, -1, "invalid", "2.5");
+        assertPropertyRejects(RetryBaseDelayConnectionProperty.KEY, 0, -1, "invalid");
+        assertPropertyRejects(RetryMaxDelayConnectionProperty.KEY, 0, -1, "invalid");
+
+        // valid values
+        assertPropertyAccepts(MaxRetriesConnectionProperty.KEY, ConnectionConfig::getMaxRetries, 0, 5);
+        assertPropertyAcceptsParsedValue(RetryBaseDelayConnectionProperty.KEY,
+                ConnectionConfig::getRetryBaseDelay, "250", 250);
+        assertPropertyAcceptsParsedValue(RetryMaxDelayConnectionProperty.KEY,
+                ConnectionConfig::getRetryMaxDelay, "10000", 10000);
+    }
+
+    @Test
+    void testCircuitBreakerConfig() {
+        // exception with invalid values
+        assertPropertyRejects(CircuitBreakerThresholdConnectionProperty.KEY, -1, "invalid");
+        assertPropertyRejects(CircuitBreakerOpenTimeConnectionProperty.KEY, 0, -1, "invalid");
+
+        // valid values
+        assertPropertyAccepts(CircuitBreakerThresholdConnectionProperty.KEY,
+                ConnectionConfig::getCircuitBreakerThreshold, 0, 5);
+        assertPropertyAcceptsParsedValue(CircuitBreakerOpenTimeConnectionProperty.KEY,
+                ConnectionConfig::getCircuitBreakerOpenTime, "60", 60);
+    }
+
+    @Test
+    void testLoadBalancingConfig() {
+        // exception with invalid values
+        assertPropertyRejects(HostsConnectionProperty.KEY, 42, "", "h1,,h2", "h1/path", "user@h1", "h1:port");
+        assertPropertyRejects(NodeSniffIntervalConnectionProperty.KEY, 0, -1, "invalid");
+        assertPropertyRejects(NodeEjectionTimeConnectionProperty.KEY, 0, -1, "invalid");
+        assertPropertyRejects(LoadBalancingConnectionProperty.KEY, 42, "unknown", true);
+
+        // valid values
+        assertPropertyAcceptsParsedValue(HostsConnectionProperty.KEY,
+                ConnectionConfig::getHosts, "h1, h2:9201,[::1]:9202", Arrays.asList("h1", "h2:9201", "[::1]:9202"));
+        assertCommonBooleanPropertyTests(NodeSniffingConnectionProperty.KEY, ConnectionConfig::nodeSniffing);
+        assertPropertyAcceptsParsedValue(NodeSniffIntervalConnectionProperty.KEY,
+                ConnectionConfig::getNodeSniffInterval, "60", 60);
+        assertPropertyAcceptsParsedValue(NodeEjectionTimeConnectionProperty.KEY,
+                ConnectionConfig::getNodeEjectionTime, "10", 10);
+        assertPropertyAcceptsParsedValue(LoadBalancingConnectionProperty.KEY,
+                ConnectionConfig::getLoadBalancing, "round_robin", LoadBalancingType.ROUND_ROBIN);
+        assertPropertyAcceptsParsedValue(LoadBalancingConnectionProperty.KEY,
+                ConnectionConfig::getLoadBalancing, "least_outstanding", LoadBalancingType.LEAST_OUTSTANDING);
+    }
+
     @Test
     void testConnectionConfigMultipleProps() {
         ConnectionConfig.Builder conConfigBuilder = ConnectionConfig.builder();
@@ -886,10 +1167,44 @@ class ConnectionConfigTests {
         assertEquals(0, connectionConfig.getLoginTimeout());
         assertFalse(connectionConfig.isUseSSL());
         assertFalse(connectionConfig.requestCompression());
+        assertFalse(connectionConfig.requestBodyCompression());
+        assertFalse(connectionConfig.logAsync());
+        assertEquals(8192, connectionConfig.getLogBufferSize());
+        assertEquals(LogOverflowPolicy.DROP, connectionConfig.getLogOverflowPolicy());
+        assertEquals(0, connectionConfig.getLogMaxFileSize());
+        assertEquals(5, connectionConfig.getLogMaxFiles());
+        assertFalse(connectionConfig.statisticsMBeans());
+        assertNull(connectionConfig.getQueryListener());
         assertEquals(AuthenticationType.NONE, connectionConfig.getAuthenticationType());
         assertNull(connectionConfig.getRegion());
         assertEquals(LogLevel.OFF, connectionConfig.getLogLevel());
         assertTrue(connectionConfig.hostnameVerification());
+        assertTrue(connectionConfig.sharedConnectionPool());
+        assertEquals(10, connectionConfig.getMaxConnectionsPerRoute());
+        assertEquals(50, connectionConfig.getMaxConnectionsTotal());
+        assertEquals(60, connectionConfig.getIdleConnectionTimeout());
+        assertEquals(30, connectionConfig.getConnectionRequestTimeout());
+        assertEquals(TransportType.HTTP, connectionConfig.getTransportType());
+        assertFalse(connectionConfig.cursorPrefetch());
+        assertEquals(50, connectionConfig.getCursorPrefetchThreshold());
+        assertEquals(1, connectionConfig.getCursorPrefetchMaxPages());
+        assertFalse(connectionConfig.resultCache());
+        assertEquals(60, connectionConfig.getResultCacheTtl());
+        assertEquals(64, connectionConfig.getResultCacheMaxMemory());
+        assertEquals(5, connectionConfig.getValidationCacheTtl());
+        assertFalse(connectionConfig.lazyConnect());
+        assertEquals(0, connectionConfig.getClusterMetadataCacheTtl());
+        assertEquals(2, connectionConfig.getMaxRetries());
+        assertEquals(100, connectionConfig.getRetryBaseDelay());
+        assertEquals(5000, connectionConfig.getRetryMaxDelay());
+        assertNull(connectionConfig.getRetryPolicy());
+        assertEquals(0, connectionConfig.getCircuitBreakerThreshold());
+        assertEquals(30, connectionConfig.getCircuitBreakerOpenTime());
+        assertTrue(connectionConfig.getHosts().isEmpty());
+        assertFalse(connectionConfig.nodeSniffing());
+        assertEquals(300, connectionConfig.getNodeSniffInterval());
+        assertEquals(LoadBalancingType.ROUND_ROBIN, connectionConfig.getLoadBalancing());
+        assertEquals(30, connectionConfig.getNodeEjectionTime());
     }
 
 }
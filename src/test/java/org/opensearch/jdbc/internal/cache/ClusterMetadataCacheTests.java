@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.internal.cache;
+
+import org.opensearch.jdbc.config.ClusterMetadataCacheTtlConnectionProperty;
+import org.opensearch.jdbc.config.ConnectionConfig;
+import org.opensearch.jdbc.config.ConnectionPropertyException;
+import org.opensearch.jdbc.config.UserConnectionProperty;
+import org.opensearch.jdbc.protocol.ClusterMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ClusterMetadataCacheTests {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ClusterMetadataCache cache = new ClusterMetadataCache(clock::get);
+    private final ClusterMetadata metadata = mock(ClusterMetadata.class);
+
+    @Test
+    void testMetadataServedWithinTtl() throws ConnectionPropertyException {
+        ConnectionConfig config = config("jdbc:opensearch://host:9200", 60, null);
+
+        assertNull(cache.get(config));
+        cache.put(config, metadata);
+        assertSame(metadata, cache.get(config));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        assertSame(metadata, cache.get(config));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertNull(cache.get(config));
+    }
+
+    @Test
+    void testTtlOfReadingConnectionApplies() throws ConnectionPropertyException {
+        cache.put(config("jdbc:opensearch://host:9200", 60, null), metadata);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        assertSame(metadata, cache.get(config("jdbc:opensearch://host:9200", 31, null)));
+        assertNull(cache.get(config("jdbc:opensearch://host:9200", 30, null)));
+        assertNull(cache.get(config("jdbc:opensearch://host:9200", 0, null)));
+    }
+
+    @Test
+    void testMetadataSharedPerEndpoint() throws ConnectionPropertyException {
+        cache.put(config("jdbc:opensearch://host:9200", 60, "user1"), metadata);
+
+        assertSame(metadata, cache.get(config("jdbc:opensearch://host:9200", 60, "user2")));
+        assertNull(cache.get(config("jdbc:opensearch://host:9201", 60, null)));
+        assertNull(cache.get(config("jdbc:opensearch://other-host:9200", 60, null)));
+        assertNull(cache.get(config("jdbc:opensearch://https://host:9200", 60, null)));
+        assertNull(cache.get(config("jdbc:opensearch://host:9200/context", 60, null)));
+    }
+
+    @Test
+    void testDisabledCacheNotFilled() throws ConnectionPropertyException {
+        cache.put(config("jdbc:opensearch://host:9200", 0, null), metadata);
+        assertNull(cache.get(config("jdbc:opensearch://host:9200", 60, null)));
+    }
+
+    @Test
+    void testClear() throws ConnectionPropertyException {
+        ConnectionConfig config = config("jdbc:opensearch://host:9200", 60, null);
+        cache.put(config, metadata);
+
+        cache.clear();
+        assertNull(cache.get(config));
+    }
+
+    private static ConnectionConfig config(String url, int ttlSeconds, String user)
+            throws ConnectionPropertyException {
+        Properties props = new Properties();
+        props.setProperty(ClusterMetadataCacheTtlConnectionProperty.KEY, String.valueOf(ttlSeconds));
+        if (user != null) {
+            props.setProperty(UserConnectionProperty.KEY, user);
+        }
+        return ConnectionConfig.builder().setUrl(url).setProperties(props).build();
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.internal.cache;
+
+import org.opensearch.jdbc.config.ConnectionConfig;
+import org.opensearch.jdbc.config.ConnectionPropertyException;
+import org.opensearch.jdbc.config.PasswordConnectionProperty;
+import org.opensearch.jdbc.config.UserConnectionProperty;
+import org.opensearch.jdbc.protocol.DatarowConsumer;
+import org.opensearch.jdbc.protocol.DatarowReader;
+import org.opensearch.jdbc.protocol.JdbcQueryParam;
+import org.opensearch.jdbc.protocol.JdbcQueryRequest;
+import org.opensearch.jdbc.protocol.QueryResponse;
+import org.opensearch.jdbc.protocol.http.JsonQueryResponse;
+import org.opensearch.jdbc.protocol.http.JsonStreamingQueryResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class QueryResultCacheTests {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @ParameterizedTest
+    @MethodSource("normalizedSqlProvider")
+    void testNormalizeSql(String sql, String expected) {
+        assertEquals(expected, QueryResultCache.normalizeSql(sql));
+    }
+
+    private static Stream<Arguments> normalizedSqlProvider() {
+        return Stream.of(
+                Arguments.of("select a from t", "select a from t"),
+                Arguments.of("  select a\n\tfrom   t \n", "select a from t"),
+                Arguments.of("select a from t where b = '  x  '", "select a from t where b = '  x  '"),
+                Arguments.of("select \"a  b\" from `t  1`", "select \"a  b\" from `t  1`"),
+                Arguments.of("select a from t where b = 'it\\'s   x'", "select a from t where b = 'it\\'s   x'"),
+                Arguments.of("select a -- first  column\n  from t", "select a -- first  column\nfrom t")
+        );
+    }
+
+    @Test
+    void testKeyDistinguishesQueries() {
+        QueryResultCache.Key key = key("select a from t", 0);
+
+        assertEquals(key, key("  select a   from t", 0));
+        assertNotEquals(key, key("select a from t", 10));
+        assertNotEquals(key, key("select b from t", 0));
+        assertNotEquals(key, key("select a from t -- c\n where a = 1", 0));
+
+        assertEquals(
+                key("select a from t where b = ?", 0, new JdbcQueryParam("integer", 1)),
+                key("select a from t where b = ?", 0, new JdbcQueryParam("integer", 1)));
+        assertNotEquals(
+                key("select a from t where b = ?", 0, new JdbcQueryParam("integer", 1)),
+                key("select a from t where b = ?", 0, new JdbcQueryParam("integer", 2)));
+    }
+
+    @Test
+    void testKeyCopiesParameters() {
+        JdbcQueryParam[] parameters = new JdbcQueryParam[]{new JdbcQueryParam("integer", 1)};
+        JdbcQueryRequest request = new JdbcQueryRequest("select a from t where b = ?");
+        request.setParameters(Arrays.asList(parameters));
+
+        QueryResultCache.Key key = QueryResultCache.Key.of(request);
+        QueryResultCache.Key expected = key("select a from t where b = ?", 0, new JdbcQueryParam("integer", 1));
+
+        // a prepared statement setting a parameter for the next execution
+        parameters[0] = new JdbcQueryParam("integer", 2);
+        assertEquals(expected, key);
+    }
+
+    @Test
+    void testHitsAndMisses() {
+        QueryResultCache cache = newCache(60, 1024 * 1024);
+        QueryResultCache.Key key = key("select a from t", 0);
+        List<List<Object>> rows = rows(3);
+
+        assertNull(cache.get(key));
+        assertTrue(cache.put(key, Collections.emptyList(), rows));
+
+        QueryResultCache.CachedResult result = cache.get(key);
+        assertNotNull(result);
+        assertSame(rows, result.getDatarows());
+        assertEquals(3, result.getTotal());
+        assertNull(result.getCursor());
+        assertNull(result.getError());
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.size());
+        assertTrue(cache.getMemoryUsage() > 0);
+    }
+
+    @Test
+    void testExpiry() {
+        QueryResultCache cache = newCache(60, 1024 * 1024);
+        QueryResultCache.Key key = key("select a from t", 0);
+        cache.put(key, Collections.emptyList(), rows(3));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        assertNotNull(cache.get(key));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertNull(cache.get(key));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMemoryUsage());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEviction() {
+        QueryResultCache.Key key1 = key("select 1", 0);
+        QueryResultCache.Key key2 = key("select 2", 0);
+        QueryResultCache.Key key3 = key("select 3", 0);
+
+        // measure the size of one result
+        QueryResultCache sizing = newCache(60, Long.MAX_VALUE);
+        sizing.put(key1, Collections.emptyList(), rows(10));
+        long resultSize = sizing.getMemoryUsage();
+
+        QueryResultCache cache = newCache(60, resultSize * 2);
+        cache.put(key1, Collections.emptyList(), rows(10));
+        cache.put(key2, Collections.emptyList(), rows(10));
+
+        // key1 becomes the most recently used
+        assertNotNull(cache.get(key1));
+
+        cache.put(key3, Collections.emptyList(), rows(10));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertNotNull(cache.get(key1));
+        assertNull(cache.get(key2));
+        assertNotNull(cache.get(key3));
+        assertTrue(cache.getMemoryUsage() <= resultSize * 2);
+    }
+
+    @Test
+    void testResultExceedingBudgetNotCached() {
+        QueryResultCache cache = newCache(60, 1024);
+        QueryResultCache.Key key = key("select a from t", 0);
+
+        assertFalse(cache.put(key, Collections.emptyList(), rows(1000)));
+        assertNull(cache.get(key));
+        assertEquals(0, cache.getMemoryUsage());
+    }
+
+    @Test
+    void testClear() {
+        QueryResultCache cache = newCache(60, 1024 * 1024);
+        cache.put(key("select a from t", 0), Collections.emptyList(), rows(3));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMemoryUsage());
+    }
+
+    @Test
+    void testServedAsQueryResponse() {
+        QueryResultCache cache = newCache(60, 1024 * 1024);
+        QueryResultCache.Key key = key("select a from t", 0);
+        List<JsonQueryResponse.SchemaEntry> schema = Collections.singletonList(
+                new JsonQueryResponse.SchemaEntry("a", "integer", null));
+        cache.put(key, schema, rows(2));
+
+        QueryResultCache.CachedResult result = cache.get(key);
+        assertEquals(schema, result.getColumnDescriptors());
+        assertEquals(2, result.getSize());
+        assertEquals(200, result.getStatus());
+
+        // every reader gets its own iteration over the rows
+        assertTrue(result.getDatarowIterator().hasNext());
+        result.getDatarowIterator().next();
+        assertEquals(2, countRows(result));
+    }
+
+    @Test
+    void testRecordedResultCachedOnceRead() throws IOException {
+        QueryResultCache cache = newCache(60, 1024 * 1024);
+        QueryResultCache.Key key = key("select a, b from t", 0);
+        JsonStreamingQueryResponse response = streamingResponse("");
+
+        QueryResponse recording = cache.recording(key, response);
+        DatarowReader datarows = recording.getDatarowReader();
+
+        // rows are decoded as they are read, not up front
+        assertFalse(response.isComplete());
+        assertEquals(1, datarows.read(mock(DatarowConsumer.class), 1));
+        assertNull(cache.get(key));
+
+        assertEquals(1, datarows.read(mock(DatarowConsumer.class), 10));
+        assertEquals(0, datarows.read(mock(DatarowConsumer.class), 10));
+
+        QueryResultCache.CachedResult result = cache.get(key);
+        assertNotNull(result);
+        assertEquals(Arrays.asList(Arrays.asList(1, "x"), Arrays.asList(2, "y")), result.getDatarows());
+    }
+
+    @Test
+    void testRecordedResultWithCursorNotCached() throws IOException {
+        QueryResultCache cache = newCache(60, 1024 * 1024);
+        QueryResultCache.Key key = key("select a, b from t", 2);
+
+        // the cursor follows the data rows in the response
+        DatarowReader datarows = cache.recording(key, streamingResponse(",\"cursor\":\"abcde\"")).getDatarowReader();
+        while (datarows.read(mock(DatarowConsumer.class), 10) > 0) {
+            // read all rows
+        }
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    void testRecordedResultClosedBeforeReadNotCached() throws IOException {
+        QueryResultCache cache = newCache(60, 1024 * 1024);
+        QueryResultCache.Key key = key("select a, b from t", 0);
+
+        QueryResponse recording = cache.recording(key, streamingResponse(""));
+        assertEquals(1, recording.getDatarowReader().read(mock(DatarowConsumer.class), 1));
+        recording.close();
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    void testRecordedResultExceedingBudgetNotCached() throws IOException {
+        QueryResultCache cache = newCache(60, 200);
+        QueryResultCache.Key key = key("select a, b from t", 0);
+
+        assertEquals(2, cache.recording(key, streamingResponse("")).getDatarows().size());
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    void testRegistrySeparatesCredentials() throws ConnectionPropertyException {
+        QueryResultCacheRegistry registry = new QueryResultCacheRegistry();
+        QueryResultCache cache = registry.getCache(config("user", "secret"));
+
+        assertSame(cache, registry.getCache(config("user", "secret")));
+        assertNotSame(cache, registry.getCache(config("user", "wrong")));
+        assertNotSame(cache, registry.getCache(config("user", null)));
+        assertNotSame(cache, registry.getCache(config("other", "secret")));
+    }
+
+    private static ConnectionConfig config(String user, String password) throws ConnectionPropertyException {
+        Map<String, Object> props = new HashMap<>();
+        props.put(UserConnectionProperty.KEY, user);
+        if (password != null) {
+            props.put(PasswordConnectionProperty.KEY, password);
+        }
+        return ConnectionConfig.builder().setPropertyMap(props).build();
+    }
+
+    private static JsonStreamingQueryResponse streamingResponse(String trailingFields) throws IOException {
+        String body = "{\"schema\":[{\"name\":\"a\",\"type\":\"integer\"},{\"name\":\"b\",\"type\":\"keyword\"}]," +
+                "\"datarows\":[[1,\"x\"],[2,\"y\"]],\"total\":2,\"size\":2,\"status\":200" + trailingFields + "}";
+        return new JsonStreamingQueryResponse(new ObjectMapper(),
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), () -> { });
+    }
+
+    private static int countRows(QueryResultCache.CachedResult result) {
+        int count = 0;
+        for (java.util.Iterator<List<Object>> iterator = result.getDatarowIterator(); iterator.hasNext(); ) {
+            iterator.next();
+            count++;
+        }
+        return count;
+    }
+
+    private QueryResultCache newCache(int ttlSeconds, long maxBytes) {
+        return new QueryResultCache(TimeUnit.SECONDS.toMillis(ttlSeconds), maxBytes, clock::get);
+    }
+
+    private static QueryResultCache.Key key(String sql, int fetchSize, JdbcQueryParam... parameters) {
+        return new QueryResultCache.Key(sql, Arrays.asList(parameters), fetchSize);
+    }
+
+    private static List<List<Object>> rows(int count) {
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(Arrays.asList(i, "value " + i));
+        }
+        return rows;
+    }
+}
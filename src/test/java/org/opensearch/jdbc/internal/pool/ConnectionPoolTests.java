@@ -0,0 +1,187 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.internal.pool;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+import javax.sql.ConnectionPoolDataSource;
+import javax.sql.PooledConnection;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class ConnectionPoolTests {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<PooledConnection> opened = new ArrayList<>();
+    private ConnectionPoolDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = mock(ConnectionPoolDataSource.class);
+        when(dataSource.getPooledConnection()).thenAnswer(invocation -> newPooledConnection());
+    }
+
+    @Test
+    void testConnectionReused() throws SQLException {
+        ConnectionPool pool = newPool(0, 2, 0);
+
+        pool.getConnection();
+        assertEquals(1, pool.getSize());
+        assertEquals(0, pool.getIdleCount());
+
+        returnConnection(pool, opened.get(0));
+        assertEquals(1, pool.getIdleCount());
+
+        assertNotNull(pool.getConnection());
+        assertEquals(1, opened.size());
+        assertEquals(0, pool.getIdleCount());
+        // reused connections are validated before they are handed out
+        verify(opened.get(0).getConnection(), times(1)).isValid(5);
+    }
+
+    @Test
+    void testInvalidConnectionReplaced() throws SQLException {
+        ConnectionPool pool = newPool(0, 2, 0);
+
+        pool.getConnection();
+        PooledConnection first = opened.get(0);
+        returnConnection(pool, first);
+        when(first.getConnection().isValid(anyInt())).thenReturn(false);
+
+        pool.getConnection();
+        assertEquals(2, opened.size());
+        assertEquals(1, pool.getSize());
+        verify(first).close();
+    }
+
+    @Test
+    void testMaxSizeTimeout() throws SQLException {
+        ConnectionPool pool = new ConnectionPool(dataSource, 0, 1, 0, 5, 0);
+
+        pool.getConnection();
+        assertThrows(SQLTransientConnectionException.class, pool::getConnection);
+        assertEquals(1, opened.size());
+
+        returnConnection(pool, opened.get(0));
+        assertNotNull(pool.getConnection());
+    }
+
+    @Test
+    void testExpiredConnectionClosed() throws SQLException {
+        ConnectionPool pool = newPool(0, 2, 60);
+
+        pool.getConnection();
+        PooledConnection first = opened.get(0);
+        returnConnection(pool, first);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        pool.getConnection();
+        assertEquals(2, opened.size());
+        assertEquals(1, pool.getSize());
+        verify(first).close();
+
+        // connections expiring while in use are closed when returned
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        returnConnection(pool, opened.get(1));
+        assertEquals(0, pool.getSize());
+        verify(opened.get(1)).close();
+    }
+
+    @Test
+    void testConnectionErrorEvicts() throws SQLException {
+        ConnectionPool pool = newPool(0, 2, 0);
+
+        pool.getConnection();
+        PooledConnection first = opened.get(0);
+        pool.connectionErrorOccurred(new ConnectionEvent(first, new SQLNonTransientConnectionException()));
+
+        assertEquals(0, pool.getSize());
+        verify(first).close();
+        verify(first).removeConnectionEventListener(pool);
+    }
+
+    @Test
+    void testOpenFailurePropagated() throws SQLException {
+        ConnectionPool pool = newPool(0, 1, 0);
+        when(dataSource.getPooledConnection()).thenThrow(new SQLNonTransientConnectionException("refused"));
+
+        SQLException ex = assertThrows(SQLException.class, pool::getConnection);
+        assertEquals("refused", ex.getMessage());
+
+        // the room reserved for the connection is released
+        reset(dataSource);
+        when(dataSource.getPooledConnection()).thenAnswer(invocation -> newPooledConnection());
+        assertNotNull(pool.getConnection());
+    }
+
+    @Test
+    void testMinIdleFilled() throws SQLException, InterruptedException {
+        ConnectionPool pool = newPool(2, 4, 0);
+
+        pool.getConnection();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pool.getIdleCount() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, pool.getIdleCount());
+        assertEquals(3, pool.getSize());
+    }
+
+    @Test
+    void testClose() throws SQLException {
+        ConnectionPool pool = newPool(0, 2, 0);
+
+        pool.getConnection();
+        pool.getConnection();
+        PooledConnection idle = opened.get(0);
+        PooledConnection inUse = opened.get(1);
+        returnConnection(pool, idle);
+
+        pool.close();
+        verify(idle).close();
+        verify(inUse, never()).close();
+        assertThrows(SQLNonTransientConnectionException.class, pool::getConnection);
+
+        returnConnection(pool, inUse);
+        verify(inUse).close();
+        assertEquals(0, pool.getSize());
+    }
+
+    private ConnectionPool newPool(int minIdle, int maxSize, int maxLifetimeSeconds) {
+        return new ConnectionPool(dataSource, minIdle, maxSize, TimeUnit.SECONDS.toMillis(maxLifetimeSeconds),
+                5, TimeUnit.SECONDS.toMillis(30), clock::get);
+    }
+
+    private static void returnConnection(ConnectionEventListener pool, PooledConnection pooledConnection) {
+        pool.connectionClosed(new ConnectionEvent(pooledConnection));
+    }
+
+    private synchronized PooledConnection newPooledConnection() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.isValid(anyInt())).thenReturn(true);
+
+        PooledConnection pooledConnection = mock(PooledConnection.class);
+        when(pooledConnection.getConnection()).thenReturn(connection);
+
+        opened.add(pooledConnection);
+        return pooledConnection;
+    }
+}
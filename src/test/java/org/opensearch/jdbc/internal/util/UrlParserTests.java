@@ -9,6 +9,7 @@ package org.opensearch.jdbc.internal.util;
 import static org.junit.jupiter.api.Assertions.*;
 
 import org.opensearch.jdbc.config.HostConnectionProperty;
+import org.opensearch.jdbc.config.HostsConnectionProperty;
 import org.opensearch.jdbc.config.PasswordConnectionProperty;
 import org.opensearch.jdbc.config.PathConnectionProperty;
 import org.opensearch.jdbc.config.PortConnectionProperty;
@@ -151,6 +152,26 @@ class UrlParserTests {
                         KeyValuePairs.skvp(PasswordConnectionProperty.KEY, "pass@$!w0rd"));
     }
 
+    @Test
+    public void testPropertiesFromUrlWithMultipleHosts() {
+        propertiesFromUrl("jdbc:opensearch://https://node-1.domain.com:9200,node-2.domain.com:9201/context/path?" +
+                "user=username123")
+                .match(
+                        KeyValuePairs.skvp(HostsConnectionProperty.KEY,
+                                "node-1.domain.com:9200,node-2.domain.com:9201"),
+                        KeyValuePairs.skvp(HostConnectionProperty.KEY, "node-1.domain.com"),
+                        KeyValuePairs.skvp(PortConnectionProperty.KEY, "9200"),
+                        KeyValuePairs.skvp(UseSSLConnectionProperty.KEY, "true"),
+                        KeyValuePairs.skvp(PathConnectionProperty.KEY, "/context/path"),
+                        KeyValuePairs.skvp(UserConnectionProperty.KEY, "username123"));
+
+        propertiesFromUrl("jdbc:opensearch://node-1,node-2:9201")
+                .match(
+                        KeyValuePairs.skvp(HostsConnectionProperty.KEY, "node-1,node-2:9201"),
+                        KeyValuePairs.skvp(HostConnectionProperty.KEY, "node-1"),
+                        KeyValuePairs.skvp(UseSSLConnectionProperty.KEY, "false"));
+    }
+
     @Test
     public void testPropertiesFromUrlWithInvalidQueryString() {
         final String url = "jdbc:opensearch://https://domain-name.sub-domain.com:9023/context/path?prop=value=3";
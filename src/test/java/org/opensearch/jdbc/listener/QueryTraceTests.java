@@ -0,0 +1,265 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.listener;
+
+import org.opensearch.jdbc.config.ConnectionConfig;
+import org.opensearch.jdbc.config.QueryListenerConnectionProperty;
+import org.opensearch.jdbc.logging.NoOpLogger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(TempDirectory.class)
+public class QueryTraceTests {
+
+    private static final String SQL = "SELECT * FROM library";
+
+    @Test
+    void testNoTraceWithoutListeners() {
+        assertNull(QueryTrace.start(null, NoOpLogger.INSTANCE, SQL, 0));
+        assertNull(QueryTrace.start(Collections.emptyList(), NoOpLogger.INSTANCE, SQL, 0));
+    }
+
+    @Test
+    void testPagedQuery() {
+        RecordingListener listener = new RecordingListener();
+        QueryTrace trace = QueryTrace.start(Collections.singletonList(listener), NoOpLogger.INSTANCE, SQL, 3);
+
+        trace.queryExecuted(null);
+        trace.rowDecoded(100);
+        trace.rowDecoded(200);
+        trace.pageRead(2, 1000);
+        trace.pageFetched(5000, null);
+        trace.rowDecoded(300);
+        trace.pageRead(3, 500);
+        trace.resultSetClosed(3, 0);
+        trace.resultSetClosed(3, 0);
+
+        assertEquals(Arrays.asList("queryStarted", "queryExecuted", "pageRead", "pageFetched", "pageRead",
+                "resultSetClosed"), listener.callbacks);
+
+        QueryEvent started = listener.events.get(0);
+        assertEquals(SQL, started.getSql());
+        assertEquals(3, started.getFetchSize());
+        assertEquals(0, started.getPage());
+
+        QueryEvent executed = listener.events.get(1);
+        assertEquals(started.getQueryId(), executed.getQueryId());
+        assertEquals(1, executed.getPage());
+        assertTrue(executed.getElapsedNanos() >= 0);
+        assertFalse(executed.isCached());
+        assertNull(executed.getFailure());
+
+        QueryEvent firstPage = listener.events.get(2);
+        assertEquals(1, firstPage.getPage());
+        assertEquals(2, firstPage.getRows());
+        assertEquals(1000, firstPage.getResponseBytes());
+        assertEquals(300, firstPage.getDecodeNanos());
+
+        QueryEvent fetched = listener.events.get(3);
+        assertEquals(2, fetched.getPage());
+        assertEquals(5000, fetched.getElapsedNanos());
+
+        QueryEvent secondPage = listener.events.get(4);
+        assertEquals(2, secondPage.getPage());
+        assertEquals(1, secondPage.getRows());
+        assertEquals(500, secondPage.getResponseBytes());
+        assertEquals(300, secondPage.getDecodeNanos());
+
+        QueryEvent closed = listener.events.get(5);
+        assertEquals(2, closed.getPage());
+        assertEquals(3, closed.getRows());
+        assertEquals(1500, closed.getResponseBytes());
+        assertEquals(600, closed.getDecodeNanos());
+        assertTrue(closed.getElapsedNanos() >= executed.getElapsedNanos());
+    }
+
+    @Test
+    void testPartiallyReadPage() {
+        RecordingListener listener = new RecordingListener();
+        QueryTrace trace = QueryTrace.start(Collections.singletonList(listener), NoOpLogger.INSTANCE, SQL, 0);
+
+        trace.queryExecuted(null);
+        trace.rowDecoded(100);
+        trace.resultSetClosed(1, 250);
+
+        QueryEvent closed = listener.events.get(2);
+        assertEquals(1, closed.getPage());
+        assertEquals(1, closed.getRows());
+        assertEquals(250, closed.getResponseBytes());
+        assertEquals(100, closed.getDecodeNanos());
+    }
+
+    @Test
+    void testUnknownResponseBytes() {
+        RecordingListener listener = new RecordingListener();
+        QueryTrace trace = QueryTrace.start(Collections.singletonList(listener), NoOpLogger.INSTANCE, SQL, 3);
+
+        trace.queryExecuted(null);
+        trace.pageRead(3, 1000);
+        trace.pageFetched(10, null);
+        trace.pageRead(6, -1);
+        trace.resultSetClosed(6, 0);
+
+        assertEquals(-1, listener.events.get(4).getResponseBytes());
+        assertEquals(-1, listener.events.get(5).getResponseBytes());
+    }
+
+    @Test
+    void testFailures() {
+        RecordingListener listener = new RecordingListener();
+        QueryTrace trace = QueryTrace.start(Collections.singletonList(listener), NoOpLogger.INSTANCE, SQL, 3);
+
+        SQLException pageFailure = new SQLException("page");
+        trace.queryExecuted(null);
+        trace.pageFetched(10, pageFailure);
+        trace.resultSetClosed(3, 0);
+
+        assertSame(pageFailure, listener.events.get(2).getFailure());
+        assertEquals(2, listener.events.get(2).getPage());
+        assertEquals(1, listener.events.get(3).getPage());
+
+        QueryTrace failed = QueryTrace.start(Collections.singletonList(listener), NoOpLogger.INSTANCE, SQL, 0);
+        SQLException queryFailure = new SQLException("query");
+        failed.queryExecuted(queryFailure);
+        assertSame(queryFailure, listener.events.get(5).getFailure());
+        assertEquals(0, listener.events.get(5).getPage());
+        assertNotEquals(listener.events.get(0).getQueryId(), listener.events.get(5).getQueryId());
+    }
+
+    @Test
+    void testCachedResult() {
+        RecordingListener listener = new RecordingListener();
+        QueryTrace trace = QueryTrace.start(Collections.singletonList(listener), NoOpLogger.INSTANCE, SQL, 0);
+
+        trace.servedFromCache();
+        trace.queryExecuted(null);
+
+        assertFalse(listener.events.get(0).isCached());
+        assertTrue(listener.events.get(1).isCached());
+    }
+
+    @Test
+    void testFailingListenerIgnored() {
+        RecordingListener listener = new RecordingListener();
+        QueryListener failing = new QueryListener() {
+            @Override
+            public void queryStarted(QueryEvent event) {
+                throw new IllegalStateException("failing listener");
+            }
+        };
+
+        QueryTrace trace = QueryTrace.start(Arrays.asList(failing, listener), NoOpLogger.INSTANCE, SQL, 0);
+        trace.queryExecuted(null);
+
+        assertEquals(Arrays.asList("queryStarted", "queryExecuted"), listener.callbacks);
+    }
+
+    @Test
+    void testConfiguredListener() throws Exception {
+        QueryListenerRegistry registry = new QueryListenerRegistry(getClass().getClassLoader());
+        assertTrue(registry.getListeners(ConnectionConfig.builder().build()).isEmpty());
+
+        RecordingListener listener = new RecordingListener();
+        Map<String, Object> props = new HashMap<>();
+        props.put(QueryListenerConnectionProperty.KEY, listener);
+        assertEquals(Collections.singletonList(listener),
+                registry.getListeners(ConnectionConfig.builder().setPropertyMap(props).build()));
+
+        props.put(QueryListenerConnectionProperty.KEY, RecordingListener.class.getName());
+        List<QueryListener> listeners = registry.getListeners(ConnectionConfig.builder().setPropertyMap(props).build());
+        assertEquals(1, listeners.size());
+        assertTrue(listeners.get(0) instanceof RecordingListener);
+    }
+
+    @Test
+    void testServiceListeners(@TempDirectory.TempDir Path tempDir) throws Exception {
+        Path services = tempDir.resolve("META-INF").resolve("services");
+        Files.createDirectories(services);
+        Files.write(services.resolve(QueryListener.class.getName()), Arrays.asList(
+                "# listeners",
+                RecordingListener.class.getName(),
+                "org.opensearch.jdbc.listener.MissingListener"), StandardCharsets.UTF_8);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{tempDir.toUri().toURL()},
+                getClass().getClassLoader())) {
+            QueryListenerRegistry registry = new QueryListenerRegistry(classLoader);
+
+            List<QueryListener> listeners = registry.getListeners(ConnectionConfig.builder().build());
+            assertEquals(1, listeners.size());
+            assertTrue(listeners.get(0) instanceof RecordingListener);
+
+            // looked up once, and followed by the configured listener
+            RecordingListener configured = new RecordingListener();
+            Map<String, Object> props = new HashMap<>();
+            props.put(QueryListenerConnectionProperty.KEY, configured);
+            List<QueryListener> withConfigured = registry.getListeners(
+                    ConnectionConfig.builder().setPropertyMap(props).build());
+            assertEquals(2, withConfigured.size());
+            assertSame(listeners.get(0), withConfigured.get(0));
+            assertSame(configured, withConfigured.get(1));
+        }
+    }
+
+    public static class RecordingListener implements QueryListener {
+        final List<String> callbacks = new ArrayList<>();
+        final List<QueryEvent> events = new ArrayList<>();
+
+        public List<String> getCallbacks() {
+            return callbacks;
+        }
+
+        public List<QueryEvent> getEvents() {
+            return events;
+        }
+
+        @Override
+        public void queryStarted(QueryEvent event) {
+            record("queryStarted", event);
+        }
+
+        @Override
+        public void queryExecuted(QueryEvent event) {
+            record("queryExecuted", event);
+        }
+
+        @Override
+        public void pageFetched(QueryEvent event) {
+            record("pageFetched", event);
+        }
+
+        @Override
+        public void pageRead(QueryEvent event) {
+            record("pageRead", event);
+        }
+
+        @Override
+        public void resultSetClosed(QueryEvent event) {
+            record("resultSetClosed", event);
+        }
+
+        private synchronized void record(String callback, QueryEvent event) {
+            callbacks.add(callback);
+            events.add(event);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncPrintWriterLoggerTests {
+
+    @Test
+    void testEntriesWrittenOnClose() {
+        StringWriter out = new StringWriter();
+        AsyncPrintWriterLogger logger = new AsyncPrintWriterLogger(new PrintWriter(out), LogLevel.DEBUG,
+                StandardLayout.INSTANCE, 16, LogOverflowPolicy.BLOCK);
+
+        logger.info("first");
+        logger.debug(() -> "second");
+        logger.trace(() -> "not logged");
+        logger.error("third", new IllegalStateException("failure"));
+        logger.close();
+        logger.info("after close");
+
+        String[] lines = out.toString().split(System.lineSeparator());
+        assertTrue(lines[0].endsWith("[INFO ][Thread-" + Thread.currentThread().getName() + "]first"), lines[0]);
+        assertTrue(lines[1].endsWith("[DEBUG][Thread-" + Thread.currentThread().getName() + "]second"), lines[1]);
+        assertTrue(lines[2].endsWith("]third"), lines[2]);
+        assertEquals("java.lang.IllegalStateException: failure", lines[3]);
+        assertFalse(out.toString().contains("not logged"));
+        assertFalse(out.toString().contains("after close"));
+    }
+
+    @Test
+    void testEntriesWrittenInBackground() throws InterruptedException {
+        CountDownLatch flushed = new CountDownLatch(1);
+        StringWriter out = new StringWriter();
+        PrintWriter printWriter = new PrintWriter(out) {
+            @Override
+            public void flush() {
+                super.flush();
+                flushed.countDown();
+            }
+        };
+        AsyncPrintWriterLogger logger = new AsyncPrintWriterLogger(printWriter, LogLevel.INFO,
+                StandardLayout.INSTANCE, 16, LogOverflowPolicy.DROP);
+
+        try {
+            logger.info("message");
+            assertTrue(flushed.await(5, TimeUnit.SECONDS));
+            assertTrue(out.toString().contains("]message"));
+        } finally {
+            logger.close();
+        }
+    }
+
+    @Test
+    void testBlockKeepsEveryEntry() throws InterruptedException {
+        StringWriter out = new StringWriter();
+        AsyncPrintWriterLogger logger = new AsyncPrintWriterLogger(new PrintWriter(out), LogLevel.INFO,
+                StandardLayout.INSTANCE, 4, LogOverflowPolicy.BLOCK);
+
+        int threads = 4;
+        int entries = 2000;
+        logConcurrently(logger, threads, entries);
+        logger.close();
+
+        List<String> lines = Arrays.asList(out.toString().split(System.lineSeparator()));
+        assertEquals(threads * entries, lines.size());
+
+        // every entry is written once, and the entries of a thread in order
+        for (int t = 0; t < threads; t++) {
+            String suffix = "]thread " + t + " entry ";
+            List<String> threadLines = lines.stream().filter(line -> line.contains(suffix)).collect(Collectors.toList());
+            assertEquals(entries, threadLines.size());
+            for (int i = 0; i < entries; i++) {
+                assertTrue(threadLines.get(i).endsWith(suffix + i), threadLines.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testDropReportsDroppedEntries() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        StringWriter out = new StringWriter();
+        Writer blockingWriter = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                out.write(cbuf, off, len);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        AsyncPrintWriterLogger logger = new AsyncPrintWriterLogger(new PrintWriter(blockingWriter), LogLevel.INFO,
+                StandardLayout.INSTANCE, 4, LogOverflowPolicy.DROP);
+
+        // the writer thread is stuck writing an entry, so at most the
+        // capacity of the buffer plus the entry being written are kept
+        for (int i = 0; i < 100; i++) {
+            logger.info("entry " + i);
+        }
+        assertTrue(logger.getDroppedCount() >= 100 - 4 - 1);
+
+        release.countDown();
+        logger.close();
+
+        String logged = out.toString();
+        Set<String> entries = new HashSet<>();
+        for (String line : logged.split(System.lineSeparator())) {
+            if (line.contains("]entry ")) {
+                entries.add(line.substring(line.indexOf("]entry ") + 1));
+            }
+        }
+        assertTrue(entries.contains("entry 0"));
+        assertTrue(entries.size() <= 5);
+        assertTrue(logged.contains("[WARN ][Thread-opensearch-jdbc-log-writer]" + (100 - entries.size())
+                + " log entries were dropped as the log buffer was full"), logged);
+        assertEquals(0, logger.getDroppedCount());
+    }
+
+    @Test
+    void testRingBuffer() throws InterruptedException {
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+        assertEquals(1, new RingBuffer<>(1).capacity());
+        assertEquals(8, new RingBuffer<>(8).capacity());
+
+        assertTrue(buffer.isEmpty());
+        assertNull(buffer.poll());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(0, (int) buffer.poll());
+        assertTrue(buffer.offer(4));
+
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(i, (int) buffer.poll());
+        }
+        assertTrue(buffer.isEmpty());
+
+        // many producers, one consumer
+        RingBuffer<Integer> shared = new RingBuffer<>(8);
+        int producers = 4;
+        int perProducer = 10000;
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!shared.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        int[] next = new int[producers];
+        int received = 0;
+        while (received < producers * perProducer) {
+            Integer value = shared.poll();
+            if (value == null) {
+                Thread.yield();
+                continue;
+            }
+            int producer = value / perProducer;
+            assertEquals(next[producer]++, value % perProducer);
+            received++;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(shared.isEmpty());
+    }
+
+    private static void logConcurrently(Logger logger, int threads, int entries) throws InterruptedException {
+        List<Thread> loggingThreads = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            loggingThreads.add(new Thread(() -> {
+                for (int i = 0; i < entries; i++) {
+                    logger.info("thread " + thread + " entry " + i);
+                }
+            }));
+        }
+        loggingThreads.forEach(Thread::start);
+        for (Thread thread : loggingThreads) {
+            thread.join();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.logging;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(TempDirectory.class)
+public class FilePrintWriterLoggerTests {
+
+    @Test
+    void testAppendsWithoutRolling(@TempDirectory.TempDir Path tempDir) throws IOException {
+        Path logFile = tempDir.resolve("driver.log");
+        Files.write(logFile, "existing\n".getBytes(StandardCharsets.UTF_8));
+
+        Logger logger = new FilePrintWriterLogger(logFile.toString(), LogLevel.INFO, StandardLayout.INSTANCE);
+        for (int i = 0; i < 100; i++) {
+            logger.info("entry " + i);
+        }
+        logger.close();
+
+        List<String> lines = Files.readAllLines(logFile);
+        assertEquals(101, lines.size());
+        assertEquals("existing", lines.get(0));
+        assertFalse(Files.exists(tempDir.resolve("driver.log.1")));
+    }
+
+    @Test
+    void testRollsOver(@TempDirectory.TempDir Path tempDir) throws IOException {
+        Path logFile = tempDir.resolve("driver.log");
+
+        Logger logger = new FilePrintWriterLogger(logFile.toString(), LogLevel.INFO, StandardLayout.INSTANCE,
+                1000, 2);
+        for (int i = 0; i < 100; i++) {
+            logger.info("entry " + i);
+        }
+        logger.close();
+
+        List<String> kept = assertRolledOver(tempDir, 2);
+        assertTrue(Files.exists(tempDir.resolve("driver.log.2")));
+        assertTrue(kept.get(kept.size() - 1).endsWith("]entry 99"));
+    }
+
+    @Test
+    void testAsyncRollsOver(@TempDirectory.TempDir Path tempDir) throws IOException {
+        Path logFile = tempDir.resolve("driver.log");
+
+        Logger logger = LoggerFactory.getAsyncLogger(logFile.toString(), LogLevel.INFO, 1000, 3,
+                16, LogOverflowPolicy.BLOCK);
+        for (int i = 0; i < 100; i++) {
+            logger.info("entry " + i);
+        }
+        logger.close();
+
+        // a file is rolled over when the writer flushes, after catching
+        // up or at the flush interval, so files may exceed the size
+        List<String> kept = assertRolledOver(tempDir, 3);
+        assertTrue(kept.get(kept.size() - 1).endsWith("]entry 99"));
+    }
+
+    /**
+     * @return the entries kept, oldest first
+     */
+    private static List<String> assertRolledOver(Path dir, int maxFiles) throws IOException {
+        assertTrue(Files.exists(dir.resolve("driver.log")));
+        assertFalse(Files.exists(dir.resolve("driver.log." + (maxFiles + 1))));
+
+        List<String> kept = new ArrayList<>();
+        assertTrue(Files.exists(dir.resolve("driver.log.1")));
+        for (int i = maxFiles; i >= 1; i--) {
+            Path rolled = dir.resolve("driver.log." + i);
+            if (!Files.exists(rolled)) {
+                continue;
+            }
+            List<String> lines = Files.readAllLines(rolled);
+            assertFalse(lines.isEmpty());
+            lines.forEach(line -> assertTrue(line.matches("\\[.*]entry \\d+"), line));
+            kept.addAll(lines);
+        }
+        kept.addAll(Files.readAllLines(dir.resolve("driver.log")));
+
+        // entries are kept whole and in order, the oldest ones dropped
+        int first = entryIndex(kept.get(0));
+        for (int i = 0; i < kept.size(); i++) {
+            assertEquals(first + i, entryIndex(kept.get(i)));
+        }
+        return kept;
+    }
+
+    private static int entryIndex(String entry) {
+        return Integer.parseInt(entry.substring(entry.indexOf("]entry ") + 7));
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.logging;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StandardLayoutTests {
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 7L, 42L, 999L, 1000L, 1542653839129L, 1542653839005L, 1542653840000L, -1L})
+    void testMatchesFormattedEntry(long time) {
+        for (LogLevel level : new LogLevel[]{LogLevel.INFO, LogLevel.DEBUG, LogLevel.ERROR}) {
+            assertEquals(String.format("[%tF %tT.%tL][%-5s][Thread-%s]%s", time, time, time, level, "main", "message"),
+                    StandardLayout.INSTANCE.formatLogEntry(level, "message", time, "main"));
+        }
+    }
+
+    @Test
+    void testEntriesWithinSecond() {
+        long time = 1542653839000L;
+
+        // the formatted second is reused, and replaced once the second changes
+        assertTrue(StandardLayout.INSTANCE.formatLogEntry(LogLevel.INFO, "a", time + 1, "t")
+                .endsWith(".001][INFO ][Thread-t]a"));
+        assertTrue(StandardLayout.INSTANCE.formatLogEntry(LogLevel.INFO, "b", time + 999, "t")
+                .endsWith(".999][INFO ][Thread-t]b"));
+        assertEquals(String.format("[%tF %tT.%tL][WARN ][Thread-t]c", time + 1000, time + 1000, time + 1000),
+                StandardLayout.INSTANCE.formatLogEntry(LogLevel.WARN, "c", time + 1000, "t"));
+    }
+
+    @Test
+    void testCallingThread() {
+        String entry = StandardLayout.INSTANCE.formatLogEntry(LogLevel.TRACE, "message");
+
+        assertTrue(entry.endsWith("[TRACE][Thread-" + Thread.currentThread().getName() + "]message"));
+    }
+}
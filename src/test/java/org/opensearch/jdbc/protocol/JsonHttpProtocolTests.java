@@ -10,6 +10,8 @@ import org.opensearch.jdbc.config.ConnectionConfig;
 import org.opensearch.jdbc.protocol.exceptions.MalformedResponseException;
 import org.opensearch.jdbc.protocol.exceptions.ResponseException;
 import org.opensearch.jdbc.protocol.http.HttpException;
+import org.opensearch.jdbc.protocol.http.JdbcCursorQueryRequest;
+import org.opensearch.jdbc.protocol.http.JsonCursorHttpProtocolFactory;
 import org.opensearch.jdbc.protocol.http.JsonHttpProtocol;
 import org.opensearch.jdbc.protocol.http.JsonHttpProtocolFactory;
 import org.opensearch.jdbc.protocol.http.JsonQueryRequest;
@@ -21,14 +23,20 @@ import org.opensearch.jdbc.test.mocks.QueryMock;
 import org.opensearch.jdbc.transport.TransportException;
 import org.opensearch.jdbc.transport.http.HttpTransport;
 import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.eq;
@@ -175,6 +183,126 @@ public class JsonHttpProtocolTests {
                 response);
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "select * from t",
+            "  SELECT 1",
+            "(select a from t) union (select b from u)",
+            "-- comment\nselect 1",
+            "/* comment */ show tables like %",
+            "describe tables like t",
+            "with x as (select 1) select * from x",
+            "explain select 1"})
+    void testReadOnlyQueryRetryable(String sql) throws IOException, ResponseException {
+        HttpTransport mockTransport = mock(HttpTransport.class);
+        JsonHttpProtocol protocol = JsonHttpProtocolFactory.INSTANCE.getProtocol(
+                mock(ConnectionConfig.class), mockTransport);
+        MockHttpTransport.setupQueryResponse(protocol, mockTransport, emptyQueryResponse());
+
+        protocol.execute(new JdbcQueryRequest(sql)).close();
+
+        verify(mockTransport).doRetryablePost(eq(protocol.getSqlContextPath()), any(), any(), any(HttpEntity.class),
+                anyInt(), isNull(), any());
+        verify(mockTransport, never()).doPost(any(), any(), any(), any(HttpEntity.class), anyInt(), any());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "delete from t where a = 1",
+            "-- select\ndelete from t",
+            "selected",
+            ""})
+    void testModifyingQueryNotRetryable(String sql) throws IOException, ResponseException {
+        HttpTransport mockTransport = mock(HttpTransport.class);
+        JsonHttpProtocol protocol = JsonHttpProtocolFactory.INSTANCE.getProtocol(
+                mock(ConnectionConfig.class), mockTransport);
+        MockHttpTransport.setupQueryResponse(protocol, mockTransport, emptyQueryResponse());
+
+        protocol.execute(new JdbcQueryRequest(sql)).close();
+
+        verify(mockTransport).doPost(eq(protocol.getSqlContextPath()), any(), any(), any(HttpEntity.class), anyInt(),
+                isNull());
+        verify(mockTransport, never()).doRetryablePost(any(), any(), any(), any(HttpEntity.class), anyInt(), any(),
+                any());
+    }
+
+    @Test
+    void testCursorPageFetchRetryable() throws IOException, ResponseException {
+        HttpTransport mockTransport = mock(HttpTransport.class);
+        JsonHttpProtocol protocol = JsonCursorHttpProtocolFactory.INSTANCE.getProtocol(
+                mock(ConnectionConfig.class), mockTransport);
+        MockHttpTransport.setupQueryResponse(protocol, mockTransport, emptyQueryResponse());
+
+        protocol.execute(new JdbcCursorQueryRequest("abc")).close();
+
+        verify(mockTransport).doRetryablePost(eq(protocol.getSqlContextPath()), any(), any(), any(HttpEntity.class),
+                anyInt(), isNull(), any());
+    }
+
+    @Test
+    void testCursorPageFetchPinnedToNode() throws IOException, ResponseException {
+        HttpTransport mockTransport = mock(HttpTransport.class);
+        JsonHttpProtocol protocol = JsonCursorHttpProtocolFactory.INSTANCE.getProtocol(
+                mock(ConnectionConfig.class), mockTransport);
+        MockHttpTransport.setupQueryResponse(protocol, mockTransport, emptyQueryResponse());
+
+        QueryResponse response = protocol.execute(new JdbcCursorQueryRequest("abc", "http://node-2:9200"));
+        response.close();
+
+        verify(mockTransport).doRetryablePost(eq(protocol.getSqlContextPath()), any(), any(), any(HttpEntity.class),
+                anyInt(), isNull(), argThat((affinity) -> HttpHost.create("http://node-2:9200").equals(affinity.getNode())));
+        assertEquals("http://node-2:9200", response.getNode());
+    }
+
+    private static CloseableHttpResponse emptyQueryResponse() throws IOException {
+        return new MockCloseableHttpResponseBuilder()
+                .withHttpReturnCode(200)
+                .withResponseBody("{\"schema\": [], \"datarows\": [], \"total\": 0, \"size\": 0, \"status\": 200}")
+                .build();
+    }
+
+    @Test
+    void testExecuteAsyncWithBlockingTransport() throws Exception {
+        QueryMock queryMock = new QueryMock.NycTaxisQueryMock();
+
+        HttpTransport mockTransport = mock(HttpTransport.class);
+
+        CloseableHttpResponse mockResponse = new MockCloseableHttpResponseBuilder()
+                .withHttpReturnCode(200)
+                .withResponseBody(queryMock.getResponseBody())
+                .build();
+
+        JsonHttpProtocol protocol = JsonHttpProtocolFactory.INSTANCE.getProtocol(
+                mock(ConnectionConfig.class), mockTransport);
+
+        MockHttpTransport.setupQueryResponse(protocol, mockTransport, mockResponse);
+
+        // a transport without non-blocking support completes the future on the calling thread
+        CompletableFuture<QueryResponse> future = protocol.executeAsync(buildJsonQueryRequest(queryMock));
+        assertTrue(future.isDone());
+        assertEquals(5, future.get().getDatarows().size());
+    }
+
+    @Test
+    void testExecuteAsyncWithBlockingTransportFailure() throws Exception {
+        HttpTransport mockTransport = mock(HttpTransport.class);
+
+        CloseableHttpResponse mockResponse = new MockCloseableHttpResponseBuilder()
+                .withHttpReturnCode(200)
+                .withResponseBody("")
+                .build();
+
+        JsonHttpProtocol protocol = JsonHttpProtocolFactory.INSTANCE.getProtocol(
+                mock(ConnectionConfig.class), mockTransport);
+
+        MockHttpTransport.setupQueryResponse(protocol, mockTransport, mockResponse);
+
+        CompletableFuture<QueryResponse> future = protocol.executeAsync(
+                buildJsonQueryRequest(new QueryMock.NycTaxisQueryMock()));
+        ExecutionException ex = assertThrows(ExecutionException.class, future::get);
+        assertTrue(ex.getCause() instanceof MalformedResponseException);
+    }
+
     @Test
     void testQueryResponseWithAliasesNycTaxis() throws IOException {
         QueryMock queryMock = new QueryMock.NycTaxisQueryWithAliasMock();
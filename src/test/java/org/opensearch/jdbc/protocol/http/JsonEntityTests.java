@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.jdbc.protocol.http;
+
+import org.opensearch.jdbc.protocol.JdbcQueryRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonEntityTests {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void testEntityWritesJson() throws IOException {
+        JsonCursorQueryRequest request = new JsonCursorQueryRequest(new JdbcQueryRequest("abcde12345"));
+        JsonEntity entity = new JsonEntity(mapper, request);
+
+        assertEquals("application/json; charset=UTF-8", entity.getContentType().getValue());
+        assertEquals(-1, entity.getContentLength());
+        assertTrue(entity.isRepeatable());
+        assertFalse(entity.isStreaming());
+
+        String expected = mapper.writeValueAsString(request);
+
+        // written as many times as the request is sent
+        for (int i = 0; i < 2; i++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            entity.writeTo(out);
+            assertEquals(expected, new String(out.toByteArray(), StandardCharsets.UTF_8));
+        }
+        assertEquals(expected, EntityUtils.toString(entity));
+    }
+
+    @Test
+    public void testEntityLeavesStreamOpen() throws IOException {
+        JsonEntity entity = new JsonEntity(mapper, new JsonCursorQueryRequest(new JdbcQueryRequest("abc")));
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        boolean[] closed = new boolean[1];
+        entity.writeTo(new OutputStream() {
+            @Override
+            public void write(int b) {
+                buffer.write(b);
+            }
+
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        });
+
+        assertFalse(closed[0]);
+        assertEquals("{\"cursor\":\"abc\"}", new String(buffer.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
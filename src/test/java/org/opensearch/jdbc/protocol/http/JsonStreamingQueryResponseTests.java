@@ -0,0 +1,213 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.protocol.http;
+
+import org.opensearch.jdbc.protocol.DatarowConsumer;
+import org.opensearch.jdbc.test.TestResources;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class JsonStreamingQueryResponseTests {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "mock/protocol/json/queryresponse_nyctaxis.json",
+            "mock/protocol/json/queryresponse_with_alias_nyctaxis.json",
+            "mock/protocol/json/queryresponse_nullablefields.json",
+            "mock/protocol/json/queryresponse_sonested.json",
+            "mock/protocol/json/queryresponse_internal_server_error.json",
+            "mock/protocol/json/cursor/queryresponse_accounts_00.json",
+            "mock/protocol/json/cursor/queryresponse_accounts_03.json"
+    })
+    void testDecodesSameAsDatabind(String resourcePath) throws IOException {
+        JsonQueryResponse expected = mapper.readValue(
+                TestResources.getResourceAsStream(resourcePath), JsonQueryResponse.class);
+
+        JsonStreamingQueryResponse response = new JsonStreamingQueryResponse(
+                mapper, TestResources.getResourceAsStream(resourcePath), mock(Closeable.class));
+
+        assertEquals(expected, response);
+        assertTrue(response.isComplete());
+    }
+
+    @Test
+    void testRowsDecodedAsIteratorAdvances() throws IOException {
+        Closeable source = mock(Closeable.class);
+        JsonStreamingQueryResponse response = new JsonStreamingQueryResponse(mapper,
+                TestResources.getResourceAsStream("mock/protocol/json/queryresponse_nyctaxis.json"), source);
+
+        assertEquals(6, response.getColumnDescriptors().size());
+        assertFalse(response.isComplete());
+
+        Iterator<List<Object>> rows = response.getDatarowIterator();
+        assertEquals(Arrays.asList("2015-01-01 00:34:42", "1", 1, 5, 0.5, "2"), rows.next());
+        assertFalse(response.isComplete());
+        verify(source, never()).close();
+
+        int rowCount = 1;
+        while (rows.hasNext()) {
+            rows.next();
+            rowCount++;
+        }
+
+        assertEquals(5, rowCount);
+        assertTrue(response.isComplete());
+        verify(source, times(1)).close();
+
+        assertEquals(5, response.getSize());
+        assertEquals(1000, response.getTotal());
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void testTrailingFieldReadsRemainingRows() throws IOException {
+        JsonStreamingQueryResponse response = new JsonStreamingQueryResponse(
+                mapper, toStream("{\"schema\":[{\"name\":\"a\",\"type\":\"integer\"}]," +
+                        "\"datarows\":[[1],[2],[3]],\"cursor\":\"abc\",\"status\":200}"),
+                mock(Closeable.class));
+
+        Iterator<List<Object>> rows = response.getDatarowIterator();
+        assertEquals(Arrays.asList(1), rows.next());
+
+        assertEquals("abc", response.getCursor());
+        assertTrue(response.isComplete());
+
+        // rows not yet consumed are still returned
+        assertEquals(Arrays.asList(2), rows.next());
+        assertEquals(Arrays.asList(3), rows.next());
+        assertFalse(rows.hasNext());
+    }
+
+    @Test
+    void testDatarowsPrecedingSchema() throws IOException {
+        JsonStreamingQueryResponse response = new JsonStreamingQueryResponse(
+                mapper, toStream("{\"datarows\":[[1, \"x\"]],\"schema\":[{\"name\":\"a\",\"type\":\"integer\"}," +
+                        "{\"name\":\"b\",\"type\":\"keyword\"}],\"status\":200}"),
+                mock(Closeable.class));
+
+        assertTrue(response.isComplete());
+        assertEquals(2, response.getColumnDescriptors().size());
+        assertEquals(Arrays.asList(Arrays.asList(1, "x")), response.getDatarows());
+    }
+
+    @Test
+    void testNestedColumnValues() throws IOException {
+        JsonStreamingQueryResponse response = new JsonStreamingQueryResponse(
+                mapper, toStream("{\"schema\":[{\"name\":\"a\",\"type\":\"object\"},{\"name\":\"b\",\"type\":\"nested\"}]," +
+                        "\"datarows\":[[{\"x\": {\"y\": 1}}, [1, 2.5, null]]],\"status\":200}"),
+                mock(Closeable.class));
+
+        List<Object> row = response.getDatarowIterator().next();
+        assertEquals(mapper.readValue("{\"x\": {\"y\": 1}}", Object.class), row.get(0));
+        assertEquals(Arrays.asList(1, 2.5, null), row.get(1));
+    }
+
+    @Test
+    void testCloseBeforeRowsRead() throws IOException {
+        Closeable source = mock(Closeable.class);
+        JsonStreamingQueryResponse response = new JsonStreamingQueryResponse(mapper,
+                TestResources.getResourceAsStream("mock/protocol/json/queryresponse_nyctaxis.json"), source);
+
+        Iterator<List<Object>> rows = response.getDatarowIterator();
+        rows.next();
+
+        response.close();
+        response.close();
+        verify(source, times(1)).close();
+        assertFalse(response.isComplete());
+        assertFalse(rows.hasNext());
+    }
+
+    @Test
+    void testTruncatedResponse() throws IOException {
+        Closeable source = mock(Closeable.class);
+        JsonStreamingQueryResponse response = new JsonStreamingQueryResponse(
+                mapper, toStream("{\"schema\":[{\"name\":\"a\",\"type\":\"integer\"}],\"datarows\":[[1],[2"),
+                source);
+
+        Iterator<List<Object>> rows = response.getDatarowIterator();
+        assertEquals(Arrays.asList(1), rows.next());
+
+        UncheckedIOException ex = assertThrows(UncheckedIOException.class, rows::hasNext);
+        assertTrue(ex.getCause() instanceof JsonProcessingException);
+        verify(source, times(1)).close();
+    }
+
+    @Test
+    void testEmptyResponse() throws IOException {
+        Closeable source = mock(Closeable.class);
+
+        assertThrows(JsonProcessingException.class,
+                () -> new JsonStreamingQueryResponse(mapper, toStream(""), source));
+        verify(source, times(1)).close();
+    }
+
+    @Test
+    void testDatarowsConsumedByIteratorNotBuffered() throws IOException {
+        JsonStreamingQueryResponse response = new JsonStreamingQueryResponse(
+                mapper, toStream("{\"schema\":[{\"name\":\"a\",\"type\":\"integer\"}]," +
+                        "\"datarows\":[[1],[2]],\"status\":200}"),
+                mock(Closeable.class));
+
+        List<List<Object>> rows = new ArrayList<>();
+        response.getDatarowIterator().forEachRemaining(rows::add);
+
+        assertEquals(2, rows.size());
+        assertTrue(response.getDatarows().isEmpty());
+    }
+
+    @Test
+    void testDatarowReaderPassesTypedValues() throws IOException {
+        JsonStreamingQueryResponse response = new JsonStreamingQueryResponse(
+                mapper, toStream("{\"schema\":[{\"name\":\"a\",\"type\":\"long\"}]," +
+                        "\"datarows\":[[1, 12345678901234, 2.5, true, null, \"s\", 123456789012345678901234]]," +
+                        "\"status\":200}"),
+                mock(Closeable.class));
+
+        DatarowConsumer consumer = mock(DatarowConsumer.class);
+        assertEquals(1, response.getDatarowReader().read(consumer, 10));
+
+        verify(consumer).acceptInt(0, 1);
+        verify(consumer).acceptLong(1, 12345678901234L);
+        verify(consumer).acceptDouble(2, 2.5);
+        verify(consumer).acceptBoolean(3, true);
+        verify(consumer).acceptNull(4);
+        verify(consumer).acceptString(5, "s");
+        verify(consumer).acceptObject(6, new BigInteger("123456789012345678901234"));
+        verify(consumer).endRow();
+
+        assertEquals(0, response.getDatarowReader().read(consumer, 10));
+        assertTrue(response.isComplete());
+    }
+
+    private static InputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.statistics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StatisticsRecorderTests {
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 7, 8, 9, 15, 16, 17, 1000, 999_999, 1_000_000_007L, Long.MAX_VALUE})
+    void testBucketBounds(long nanos) {
+        int index = LatencyHistogram.bucketIndex(nanos);
+
+        assertTrue(LatencyHistogram.bucketUpperBound(index) >= nanos);
+        assertTrue(index == 0 || LatencyHistogram.bucketUpperBound(index - 1) < nanos);
+
+        // the bucket holds durations at most 12.5% apart
+        assertTrue(LatencyHistogram.bucketUpperBound(index) - nanos <= nanos / 8);
+    }
+
+    @Test
+    void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long millis = 1; millis <= 100; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        LatencyStatistics statistics = histogram.snapshot();
+
+        assertEquals(100, statistics.getCount());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(5050), statistics.getTotalNanos());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(5050) / 100, statistics.getMeanNanos());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), statistics.getMaxNanos());
+        assertWithinBucket(TimeUnit.MILLISECONDS.toNanos(50), statistics.getP50Nanos());
+        assertWithinBucket(TimeUnit.MILLISECONDS.toNanos(90), statistics.getP90Nanos());
+        assertWithinBucket(TimeUnit.MILLISECONDS.toNanos(99), statistics.getP99Nanos());
+    }
+
+    @Test
+    void testEmptyHistogram() {
+        LatencyStatistics statistics = new LatencyHistogram().snapshot();
+
+        assertEquals(0, statistics.getCount());
+        assertEquals(0, statistics.getMeanNanos());
+        assertEquals(0, statistics.getP99Nanos());
+    }
+
+    @Test
+    void testNegativeDurationRecordedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+
+        LatencyStatistics statistics = histogram.snapshot();
+        assertEquals(1, statistics.getCount());
+        assertEquals(0, statistics.getTotalNanos());
+    }
+
+    @Test
+    void testRecordedToDriver() {
+        StatisticsRecorder driver = new StatisticsRecorder(null);
+        StatisticsRecorder first = new StatisticsRecorder(driver);
+        StatisticsRecorder second = new StatisticsRecorder(driver);
+
+        first.recordQuery(1000, false);
+        first.recordRowsRead(10);
+        second.recordQuery(2000, true);
+        second.recordPageFetch(500);
+        second.recordRowsRead(5);
+        second.recordRetry();
+
+        assertEquals(1, first.getQueriesExecuted());
+        assertEquals(0, first.getQueryFailures());
+        assertEquals(10, first.getRowsRead());
+        assertEquals(1, second.getQueryFailures());
+        assertEquals(1, second.getCursorPagesFetched());
+
+        Statistics statistics = driver.snapshot();
+        assertEquals(2, statistics.getQueriesExecuted());
+        assertEquals(1, statistics.getQueryFailures());
+        assertEquals(15, statistics.getRowsRead());
+        assertEquals(1, statistics.getCursorPagesFetched());
+        assertEquals(1, statistics.getRetries());
+        assertEquals(2, statistics.getQueryLatency().getCount());
+        assertEquals(2000, statistics.getQueryLatency().getMaxNanos());
+        assertEquals(1, statistics.getPageFetchLatency().getCount());
+    }
+
+    @Test
+    void testRequests() {
+        StatisticsRecorder recorder = new StatisticsRecorder(null);
+
+        recorder.recordRequestStarted();
+        recorder.recordRequestStarted();
+        recorder.recordRequestStarted();
+        assertEquals(3, recorder.getInFlightRequests());
+
+        recorder.recordResponse(200, 1000);
+        recorder.recordResponse(503, 2000);
+        recorder.recordRequestFailure();
+
+        Statistics statistics = recorder.snapshot();
+        assertEquals(3, statistics.getRequestsSent());
+        assertEquals(1, statistics.getRequestFailures());
+        assertEquals(0, statistics.getInFlightRequests());
+        assertEquals(2, statistics.getNetworkTime().getCount());
+        assertEquals(2, statistics.getStatusCodeCounts().size());
+        assertEquals(Long.valueOf(1), statistics.getStatusCodeCounts().get(200));
+        assertEquals(Long.valueOf(1), statistics.getStatusCodeCounts().get(503));
+
+        // the snapshot does not change with the recorder
+        recorder.recordRequestStarted();
+        recorder.recordResponse(200, 1000);
+        assertEquals(3, statistics.getRequestsSent());
+        assertEquals(Long.valueOf(1), statistics.getStatusCodeCounts().get(200));
+        assertEquals(Long.valueOf(2), recorder.getStatusCodeCounts().get(200));
+    }
+
+    @Test
+    void testCountedStreams() throws IOException {
+        StatisticsRecorder driver = new StatisticsRecorder(null);
+        StatisticsRecorder recorder = new StatisticsRecorder(driver);
+
+        ByteArrayOutputStream sent = new ByteArrayOutputStream();
+        try (OutputStream out = recorder.countBytesSent(sent)) {
+            out.write('{');
+            out.write(new byte[100], 10, 50);
+        }
+        assertEquals(51, sent.size());
+        assertEquals(51, recorder.getBytesSent());
+        assertEquals(51, driver.getBytesSent());
+
+        try (InputStream in = recorder.countBytesReceived(new ByteArrayInputStream(new byte[200]))) {
+            assertEquals(0, in.read());
+            assertEquals(99, in.read(new byte[99]));
+            assertEquals(50, in.skip(50));
+            assertEquals(50, in.read(new byte[100]));
+            assertEquals(-1, in.read(new byte[100]));
+            assertEquals(-1, in.read());
+        }
+        assertEquals(200, recorder.getBytesReceived());
+        assertEquals(200, driver.getBytesReceived());
+    }
+
+    @Test
+    void testConcurrentRecording() throws Exception {
+        StatisticsRecorder recorder = new StatisticsRecorder(null);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        recorder.recordRequestStarted();
+                        recorder.recordResponse(200 + j % 3, j);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Statistics statistics = recorder.snapshot();
+        assertEquals(40_000, statistics.getRequestsSent());
+        assertEquals(0, statistics.getInFlightRequests());
+        assertEquals(40_000, statistics.getNetworkTime().getCount());
+        assertEquals(9_999, statistics.getNetworkTime().getMaxNanos());
+        assertEquals(40_000, statistics.getStatusCodeCounts().values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    void testMBeans() throws Exception {
+        MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+        StatisticsMBeanRegistry registry = new StatisticsMBeanRegistry(mBeanServer);
+        StatisticsRecorder recorder = new StatisticsRecorder();
+
+        ObjectName name = registry.register(recorder);
+        assertNotNull(name);
+        assertTrue(mBeanServer.isRegistered(new ObjectName(StatisticsMBeanRegistry.DRIVER_NAME)));
+
+        recorder.recordQuery(1000, false);
+        recorder.recordRequestStarted();
+        recorder.recordResponse(200, 500);
+
+        // the MBean reads the live statistics
+        assertEquals(1L, mBeanServer.getAttribute(name, "QueriesExecuted"));
+        CompositeData queryLatency = (CompositeData) mBeanServer.getAttribute(name, "QueryLatency");
+        assertEquals(1L, queryLatency.get("count"));
+        assertEquals(1000L, queryLatency.get("maxNanos"));
+        TabularData statusCodeCounts = (TabularData) mBeanServer.getAttribute(name, "StatusCodeCounts");
+        assertEquals(1, statusCodeCounts.size());
+
+        ObjectName secondName = registry.register(new StatisticsRecorder());
+        assertNotEquals(name, secondName);
+
+        registry.unregister(name);
+        registry.unregister(name);
+        registry.unregister(null);
+        assertFalse(mBeanServer.isRegistered(name));
+        assertTrue(mBeanServer.isRegistered(secondName));
+        assertTrue(mBeanServer.isRegistered(new ObjectName(StatisticsMBeanRegistry.DRIVER_NAME)));
+    }
+
+    private static void assertWithinBucket(long expected, long actual) {
+        assertTrue(actual >= expected && actual - expected <= expected / 8,
+                () -> "Expected " + actual + " to be within a bucket of " + expected);
+    }
+}
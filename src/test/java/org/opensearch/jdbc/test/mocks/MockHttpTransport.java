@@ -11,6 +11,7 @@ import org.opensearch.jdbc.transport.TransportException;
 import org.opensearch.jdbc.transport.http.HttpParam;
 import org.opensearch.jdbc.transport.http.HttpTransport;
 import org.apache.http.Header;
+import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -28,7 +29,12 @@ public class MockHttpTransport {
                                           HttpTransport mockTransport, CloseableHttpResponse mockResponse)
             throws TransportException {
         when(mockTransport.doPost(
-                eq(protocol.getSqlContextPath()), any(Header[].class), any(HttpParam[].class), anyString(), anyInt()))
+                eq(protocol.getSqlContextPath()), any(Header[].class), any(HttpParam[].class), any(HttpEntity.class),
+                anyInt(), any()))
+                .thenReturn(mockResponse);
+        when(mockTransport.doRetryablePost(
+                eq(protocol.getSqlContextPath()), any(Header[].class), any(HttpParam[].class), any(HttpEntity.class),
+                anyInt(), any(), any()))
                 .thenReturn(mockResponse);
     }
 }
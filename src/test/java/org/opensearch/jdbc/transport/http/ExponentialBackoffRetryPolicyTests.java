@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.apache.http.NoHttpResponseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExponentialBackoffRetryPolicyTests {
+
+    // draws the largest possible delay
+    private final RetryPolicy policy = new ExponentialBackoffRetryPolicy(4, 100, 500, (bound) -> bound);
+
+    @Test
+    void testDelayGrowsExponentiallyUpToMaximum() {
+        assertEquals(100, policy.getRetryDelay(1, 503, null, -1));
+        assertEquals(200, policy.getRetryDelay(2, 503, null, -1));
+        assertEquals(400, policy.getRetryDelay(3, 503, null, -1));
+        assertEquals(500, policy.getRetryDelay(4, 503, null, -1));
+    }
+
+    @Test
+    void testMaxRetries() {
+        assertEquals(-1, policy.getRetryDelay(5, 503, null, -1));
+        assertEquals(-1, new ExponentialBackoffRetryPolicy(0, 100, 500).getRetryDelay(1, 503, null, -1));
+    }
+
+    @Test
+    void testDelayIsJittered() {
+        RetryPolicy zeroJitter = new ExponentialBackoffRetryPolicy(4, 100, 500, (bound) -> 0);
+        assertEquals(0, zeroJitter.getRetryDelay(3, 503, null, -1));
+
+        RetryPolicy randomJitter = new ExponentialBackoffRetryPolicy(100, 100, 500);
+        for (int attempt = 1; attempt <= 100; attempt++) {
+            long delay = randomJitter.getRetryDelay(attempt, 503, null, -1);
+            assertTrue(delay >= 0 && delay <= 500, "Delay out of bounds: " + delay);
+        }
+    }
+
+    @Test
+    void testRetryAfterHonored() {
+        RetryPolicy zeroJitter = new ExponentialBackoffRetryPolicy(4, 100, 5000, (bound) -> 0);
+        assertEquals(3000, zeroJitter.getRetryDelay(1, 429, null, 3000));
+
+        // the server asking for a longer delay than the maximum
+        assertEquals(-1, zeroJitter.getRetryDelay(1, 429, null, 6000));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {429, 502, 503, 504})
+    void testOverloadStatusRetried(int statusCode) {
+        assertTrue(policy.getRetryDelay(1, statusCode, null, -1) >= 0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {400, 401, 403, 404, 500})
+    void testOtherStatusNotRetried(int statusCode) {
+        assertEquals(-1, policy.getRetryDelay(1, statusCode, null, -1));
+    }
+
+    @Test
+    void testConnectionFailuresRetried() {
+        assertTrue(policy.getRetryDelay(1, 0, new ConnectException("refused"), -1) >= 0);
+        assertTrue(policy.getRetryDelay(1, 0, new SocketException("Connection reset"), -1) >= 0);
+        assertTrue(policy.getRetryDelay(1, 0, new NoHttpResponseException("no response"), -1) >= 0);
+    }
+
+    @Test
+    void testReadTimeoutNotRetried() {
+        assertEquals(-1, policy.getRetryDelay(1, 0, new SocketTimeoutException("Read timed out"), -1));
+        assertEquals(-1, policy.getRetryDelay(1, 0, new IOException("other"), -1));
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.opensearch.jdbc.auth.AuthenticationType;
+import org.opensearch.jdbc.config.AuthConnectionProperty;
+import org.opensearch.jdbc.config.ConnectionConfig;
+import org.opensearch.jdbc.config.ConnectionPropertyException;
+import org.opensearch.jdbc.config.HostnameVerificationConnectionProperty;
+import org.opensearch.jdbc.config.PasswordConnectionProperty;
+import org.opensearch.jdbc.config.RequestCompressionConnectionProperty;
+import org.opensearch.jdbc.config.TransportConnectionProperty;
+import org.opensearch.jdbc.config.UseSSLConnectionProperty;
+import org.opensearch.jdbc.config.UserConnectionProperty;
+import org.opensearch.jdbc.logging.NoOpLogger;
+import org.opensearch.jdbc.test.PerTestWireMockServerExtension;
+import org.opensearch.jdbc.test.WireMockServerHelpers;
+import org.opensearch.jdbc.transport.TransportException;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(PerTestWireMockServerExtension.class)
+class Http2TransportTests implements WireMockServerHelpers {
+
+    private static final String PATH = "/_plugins/_sql";
+
+    @Test
+    void testPost(WireMockServer mockServer) throws Exception {
+        mockServer.stubFor(post(urlEqualTo(PATH + "?format=jdbc"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"status\":200}")));
+
+        AsyncHttpTransport transport = newTransport(mockServer, new Properties());
+
+        try (CloseableHttpResponse response = transport.doPost(PATH, null,
+                new HttpParam[]{new HttpParam("format", "jdbc")}, "{\"query\":\"SELECT 1\"}", 0)) {
+            assertEquals(200, response.getStatusLine().getStatusCode());
+            assertEquals("OK", response.getStatusLine().getReasonPhrase());
+            assertEquals("application/json", response.getEntity().getContentType().getValue());
+            assertEquals("{\"status\":200}", EntityUtils.toString(response.getEntity()));
+        }
+
+        try (CloseableHttpResponse response = transport.doPostAsync(PATH, null,
+                new HttpParam[]{new HttpParam("format", "jdbc")}, "{}", 0).get(10, TimeUnit.SECONDS)) {
+            assertEquals(200, response.getStatusLine().getStatusCode());
+        }
+
+        mockServer.verify(1, postRequestedFor(urlEqualTo(PATH + "?format=jdbc"))
+                .withHeader("User-Agent", equalTo("test"))
+                .withHeader("Content-Type", containing("application/json"))
+                .withRequestBody(equalToJson("{\"query\":\"SELECT 1\"}")));
+        transport.close();
+    }
+
+    @Test
+    void testBasicAuthSentWithEveryRequest(WireMockServer mockServer) throws Exception {
+        mockServer.stubFor(get(urlEqualTo("/"))
+                .withBasicAuth("user", "pass")
+                .willReturn(aResponse().withStatus(200).withBody("{}")));
+        mockServer.stubFor(get(urlEqualTo("/"))
+                .atPriority(10)
+                .willReturn(aResponse()
+                        .withStatus(401)
+                        .withHeader("WWW-Authenticate", "Basic realm=\"test\"")));
+
+        Properties props = new Properties();
+        props.setProperty(AuthConnectionProperty.KEY, AuthenticationType.BASIC.name());
+        props.setProperty(UserConnectionProperty.KEY, "user");
+        props.setProperty(PasswordConnectionProperty.KEY, "pass");
+        AsyncHttpTransport transport = newTransport(mockServer, props);
+
+        try (CloseableHttpResponse response = transport.doGet("/", null, null, 0)) {
+            assertEquals(200, response.getStatusLine().getStatusCode());
+        }
+        mockServer.verify(1, getRequestedFor(urlEqualTo("/")));
+        transport.close();
+
+        // invalid credentials yield the response of the server
+        props.setProperty(PasswordConnectionProperty.KEY, "wrong");
+        transport = newTransport(mockServer, props);
+
+        try (CloseableHttpResponse response = transport.doGet("/", null, null, 0)) {
+            assertEquals(401, response.getStatusLine().getStatusCode());
+        }
+        transport.close();
+    }
+
+    @Test
+    void testCompressedResponseDecoded(WireMockServer mockServer) throws Exception {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write("{\"status\":200}".getBytes(StandardCharsets.UTF_8));
+        }
+
+        mockServer.stubFor(post(urlEqualTo(PATH))
+                .withHeader("Accept-Encoding", containing("gzip"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("Content-Encoding", "gzip")
+                        .withBody(compressed.toByteArray())));
+
+        Properties props = new Properties();
+        props.setProperty(RequestCompressionConnectionProperty.KEY, "true");
+        AsyncHttpTransport transport = newTransport(mockServer, props);
+
+        try (CloseableHttpResponse response = transport.doPost(PATH, null, null, "{}", 0)) {
+            assertEquals(200, response.getStatusLine().getStatusCode());
+            assertEquals("{\"status\":200}", EntityUtils.toString(response.getEntity()));
+        }
+        transport.close();
+    }
+
+    @Test
+    void testDisabledHostnameVerificationRejected(WireMockServer mockServer) {
+        Properties props = new Properties();
+        props.setProperty(UseSSLConnectionProperty.KEY, "true");
+        props.setProperty(HostnameVerificationConnectionProperty.KEY, "false");
+
+        assertThrows(TransportException.class, () -> newTransport(mockServer, props));
+    }
+
+    private AsyncHttpTransport newTransport(WireMockServer mockServer, Properties props)
+            throws ConnectionPropertyException, TransportException {
+        props.setProperty(TransportConnectionProperty.KEY, "http2");
+
+        ConnectionConfig config = ConnectionConfig.builder()
+                .setUrl(getBaseURLForMockServer(mockServer))
+                .setProperties(props)
+                .build();
+
+        return Http2TransportFactory.INSTANCE.getTransport(config, NoOpLogger.INSTANCE, "test");
+    }
+}
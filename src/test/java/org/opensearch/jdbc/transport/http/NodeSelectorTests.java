@@ -0,0 +1,161 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.opensearch.jdbc.transport.LoadBalancingType;
+import org.apache.http.HttpHost;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NodeSelectorTests {
+
+    private static final HttpHost NODE_1 = new HttpHost("node-1", 9200, "http");
+    private static final HttpHost NODE_2 = new HttpHost("node-2", 9200, "http");
+    private static final HttpHost NODE_3 = new HttpHost("node-3", 9200, "http");
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void testRoundRobin() {
+        NodeSelector selector = newSelector(LoadBalancingType.ROUND_ROBIN, 0);
+
+        assertEquals(NODE_1, selectAndRelease(selector));
+        assertEquals(NODE_2, selectAndRelease(selector));
+        assertEquals(NODE_3, selectAndRelease(selector));
+        assertEquals(NODE_1, selectAndRelease(selector));
+    }
+
+    @Test
+    void testLeastOutstanding() {
+        NodeSelector selector = newSelector(LoadBalancingType.LEAST_OUTSTANDING, 0);
+
+        NodeSelector.Node first = selector.select(null);
+        NodeSelector.Node second = selector.select(null);
+        assertNotEquals(first.getHost(), second.getHost());
+
+        // the node without requests in flight is picked
+        NodeSelector.Node third = selector.select(null);
+        assertEquals(NODE_3, third.getHost());
+
+        selector.release(second);
+        assertEquals(second.getHost(), selector.select(null).getHost());
+        assertEquals(1, second.getOutstanding());
+    }
+
+    @Test
+    void testFailedNodeEjected() {
+        NodeSelector selector = newSelector(LoadBalancingType.ROUND_ROBIN, 0);
+
+        NodeSelector.Node node = selector.select(null);
+        selector.release(node);
+        selector.onFailure(node);
+
+        for (int i = 0; i < 6; i++) {
+            assertNotEquals(NODE_1, selectAndRelease(selector));
+        }
+
+        // picked again once the ejection time has passed
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        assertTrue(Arrays.asList(selectAndRelease(selector), selectAndRelease(selector),
+                selectAndRelease(selector)).contains(NODE_1));
+    }
+
+    @Test
+    void testSuccessEndsEjection() {
+        NodeSelector selector = newSelector(LoadBalancingType.ROUND_ROBIN, 0);
+
+        NodeSelector.Node node = selector.select(NODE_1);
+        selector.release(node);
+        selector.onFailure(node);
+        selector.onSuccess(node);
+
+        assertTrue(Arrays.asList(selectAndRelease(selector), selectAndRelease(selector),
+                selectAndRelease(selector)).contains(NODE_1));
+    }
+
+    @Test
+    void testAllNodesEjected() {
+        NodeSelector selector = newSelector(LoadBalancingType.ROUND_ROBIN, 0);
+
+        for (HttpHost host : Arrays.asList(NODE_2, NODE_1, NODE_3)) {
+            NodeSelector.Node node = selector.select(host);
+            selector.release(node);
+            selector.onFailure(node);
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        }
+
+        // the node returning first is picked rather than failing the request
+        assertEquals(NODE_2, selectAndRelease(selector));
+        assertEquals(NODE_2, selectAndRelease(selector));
+    }
+
+    @Test
+    void testPinnedNode() {
+        NodeSelector selector = newSelector(LoadBalancingType.ROUND_ROBIN, 0);
+
+        NodeSelector.Node node = selector.select(NODE_3);
+        selector.release(node);
+        selector.onFailure(node);
+
+        // pinned requests go to their node even while it is ejected
+        assertEquals(NODE_3, selector.select(NODE_3).getHost());
+
+        HttpHost unknown = new HttpHost("node-4", 9200, "http");
+        assertEquals(unknown, selector.select(unknown).getHost());
+    }
+
+    @Test
+    void testSniffedNodesReplaceNodes() {
+        NodeSelector selector = newSelector(LoadBalancingType.ROUND_ROBIN, 60);
+
+        NodeSelector.Node node = selector.select(NODE_2);
+
+        assertTrue(selector.startSniff());
+        // a single sniff at a time
+        assertFalse(selector.startSniff());
+
+        HttpHost sniffed = new HttpHost("node-4", 9200, "http");
+        selector.endSniff(Arrays.asList(NODE_2, sniffed));
+
+        List<NodeSelector.Node> nodes = selector.getNodes();
+        assertEquals(2, nodes.size());
+        // the state of known nodes is retained
+        assertSame(node, nodes.get(0));
+        assertEquals(sniffed, nodes.get(1).getHost());
+
+        assertFalse(selector.startSniff());
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        assertTrue(selector.startSniff());
+
+        // nodes are kept if sniffing fails
+        selector.endSniff(null);
+        assertEquals(nodes, selector.getNodes());
+    }
+
+    @Test
+    void testSniffingDisabled() {
+        NodeSelector selector = newSelector(LoadBalancingType.ROUND_ROBIN, 0);
+        assertFalse(selector.startSniff());
+    }
+
+    private NodeSelector newSelector(LoadBalancingType loadBalancing, int sniffIntervalSeconds) {
+        return new NodeSelector(Arrays.asList(NODE_1, NODE_2, NODE_3), loadBalancing,
+                TimeUnit.SECONDS.toMillis(30), TimeUnit.SECONDS.toMillis(sniffIntervalSeconds), clock::get);
+    }
+
+    private static HttpHost selectAndRelease(NodeSelector selector) {
+        NodeSelector.Node node = selector.select(null);
+        selector.release(node);
+        return node.getHost();
+    }
+}
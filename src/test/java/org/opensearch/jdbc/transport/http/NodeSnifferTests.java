@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.apache.http.HttpHost;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NodeSnifferTests {
+
+    @Test
+    void testParseNodes() throws IOException {
+        String response = "{\"nodes\":{" +
+                "\"a\":{\"roles\":[\"data\",\"ingest\"],\"http\":{\"publish_address\":\"10.0.0.1:9200\"}}," +
+                "\"b\":{\"roles\":[\"cluster_manager\"],\"http\":{\"publish_address\":\"10.0.0.2:9200\"}}," +
+                "\"c\":{\"roles\":[\"cluster_manager\",\"data\"]," +
+                "\"http\":{\"publish_address\":\"node-3.domain.com/10.0.0.3:9201\"}}," +
+                "\"d\":{\"roles\":[\"data\"]}}}";
+
+        List<HttpHost> hosts = NodeSniffer.parseNodes(
+                new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8)), "https");
+
+        assertEquals(Arrays.asList(
+                new HttpHost("10.0.0.1", 9200, "https"),
+                new HttpHost("node-3.domain.com", 9201, "https")), hosts);
+    }
+
+    @Test
+    void testParseNoNodes() throws IOException {
+        assertEquals(Collections.emptyList(), NodeSniffer.parseNodes(
+                new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)), "http"));
+    }
+
+    @Test
+    void testParsePublishAddress() {
+        assertEquals(new HttpHost("10.0.0.1", 9200, "http"), NodeSniffer.parsePublishAddress("10.0.0.1:9200", "http"));
+        assertEquals(new HttpHost("node-1", 9200, "http"), NodeSniffer.parsePublishAddress("node-1/10.0.0.1:9200", "http"));
+        assertEquals(new HttpHost("[::1]", 9200, "http"), NodeSniffer.parsePublishAddress("/[::1]:9200", "http"));
+        assertNull(NodeSniffer.parsePublishAddress("10.0.0.1", "http"));
+        assertNull(NodeSniffer.parsePublishAddress("not an address:", "http"));
+    }
+}
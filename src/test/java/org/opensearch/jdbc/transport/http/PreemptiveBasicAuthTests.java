@@ -0,0 +1,140 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.opensearch.jdbc.auth.AuthenticationType;
+import org.opensearch.jdbc.config.AuthConnectionProperty;
+import org.opensearch.jdbc.config.ConnectionConfig;
+import org.opensearch.jdbc.config.ConnectionPropertyException;
+import org.opensearch.jdbc.config.HostsConnectionProperty;
+import org.opensearch.jdbc.config.PasswordConnectionProperty;
+import org.opensearch.jdbc.config.TransportConnectionProperty;
+import org.opensearch.jdbc.config.UserConnectionProperty;
+import org.opensearch.jdbc.logging.NoOpLogger;
+import org.opensearch.jdbc.test.PerTestWireMockServerExtension;
+import org.opensearch.jdbc.test.WireMockServerHelpers;
+import org.opensearch.jdbc.transport.TransportException;
+import org.opensearch.jdbc.transport.http.auth.basic.PreemptiveBasicAuthInterceptor;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.Properties;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(PerTestWireMockServerExtension.class)
+class PreemptiveBasicAuthTests implements WireMockServerHelpers {
+
+    private static final String PATH = "/_plugins/_sql";
+
+    @AfterEach
+    void clearRegistries() {
+        NodeSelectorRegistry.INSTANCE.clear();
+        CircuitBreakerRegistry.INSTANCE.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"http", "http_async", "http2"})
+    void testCredentialsSentWithFirstRequest(String transportType, WireMockServer mockServer)
+            throws IOException, ConnectionPropertyException {
+        stubChallenge(mockServer);
+
+        // every node of the cluster gets the credentials
+        Properties props = new Properties();
+        props.setProperty(HostsConnectionProperty.KEY,
+                "localhost:" + mockServer.port() + ",127.0.0.1:" + mockServer.port());
+        HttpTransport transport = newTransport(mockServer, transportType, "pass", props);
+
+        for (int i = 0; i < 2; i++) {
+            try (CloseableHttpResponse response = transport.doPost(PATH, null, null, "{}", 0)) {
+                assertEquals(200, response.getStatusLine().getStatusCode());
+            }
+        }
+
+        mockServer.verify(2, postRequestedFor(urlEqualTo(PATH)));
+        transport.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"http", "http_async", "http2"})
+    void testInvalidCredentialsRejectedOnce(String transportType, WireMockServer mockServer)
+            throws IOException, ConnectionPropertyException {
+        stubChallenge(mockServer);
+
+        HttpTransport transport = newTransport(mockServer, transportType, "wrong", new Properties());
+
+        try (CloseableHttpResponse response = transport.doPost(PATH, null, null, "{}", 0)) {
+            assertEquals(401, response.getStatusLine().getStatusCode());
+        }
+
+        // the same credentials are not sent again in answer to the challenge
+        mockServer.verify(1, postRequestedFor(urlEqualTo(PATH)));
+        transport.close();
+    }
+
+    @Test
+    void testAuthorizationHeader() {
+        PreemptiveBasicAuthInterceptor interceptor = new PreemptiveBasicAuthInterceptor("user", "pass");
+        assertEquals("Basic dXNlcjpwYXNz", interceptor.getAuthorization().getValue());
+
+        HttpGet request = new HttpGet("/");
+        interceptor.process(request, null);
+        assertSame(interceptor.getAuthorization(), request.getFirstHeader(HttpHeaders.AUTHORIZATION));
+
+        // an explicit header is kept
+        request = new HttpGet("/");
+        request.setHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+        interceptor.process(request, null);
+        assertEquals(1, request.getHeaders(HttpHeaders.AUTHORIZATION).length);
+        assertEquals("Bearer token", request.getFirstHeader(HttpHeaders.AUTHORIZATION).getValue());
+
+        assertEquals("Basic dXNlcjo=",
+                new PreemptiveBasicAuthInterceptor("user", null).getAuthorization().getValue());
+    }
+
+    private static void stubChallenge(WireMockServer mockServer) {
+        mockServer.stubFor(post(urlEqualTo(PATH))
+                .withBasicAuth("user", "pass")
+                .willReturn(aResponse().withStatus(200).withBody("{}")));
+        mockServer.stubFor(post(urlEqualTo(PATH))
+                .atPriority(10)
+                .willReturn(aResponse()
+                        .withStatus(401)
+                        .withHeader("WWW-Authenticate", "Basic realm=\"test\"")));
+    }
+
+    private HttpTransport newTransport(WireMockServer mockServer, String transportType, String password,
+                                       Properties props) throws ConnectionPropertyException, TransportException {
+        props.setProperty(TransportConnectionProperty.KEY, transportType);
+        props.setProperty(AuthConnectionProperty.KEY, AuthenticationType.BASIC.name());
+        props.setProperty(UserConnectionProperty.KEY, "user");
+        props.setProperty(PasswordConnectionProperty.KEY, password);
+
+        ConnectionConfig config = ConnectionConfig.builder()
+                .setUrl(getBaseURLForMockServer(mockServer))
+                .setProperties(props)
+                .build();
+
+        switch (config.getTransportType()) {
+            case HTTP_ASYNC:
+                return new ApacheAsyncHttpTransport(config, NoOpLogger.INSTANCE, "test");
+            case HTTP2:
+                return Http2TransportFactory.INSTANCE.getTransport(config, NoOpLogger.INSTANCE, "test");
+            default:
+                return new ApacheHttpTransport(config, NoOpLogger.INSTANCE, "test");
+        }
+    }
+}
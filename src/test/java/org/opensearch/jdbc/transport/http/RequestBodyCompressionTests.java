@@ -0,0 +1,141 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.opensearch.jdbc.config.ConnectionConfig;
+import org.opensearch.jdbc.config.ConnectionPropertyException;
+import org.opensearch.jdbc.config.RequestBodyCompressionConnectionProperty;
+import org.opensearch.jdbc.config.TransportConnectionProperty;
+import org.opensearch.jdbc.logging.NoOpLogger;
+import org.opensearch.jdbc.test.PerTestWireMockServerExtension;
+import org.opensearch.jdbc.test.WireMockServerHelpers;
+import org.opensearch.jdbc.transport.TransportException;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(PerTestWireMockServerExtension.class)
+class RequestBodyCompressionTests implements WireMockServerHelpers {
+
+    private static final String PATH = "/_plugins/_sql";
+
+    private static final String BODY = "{\"query\":\"SELECT * FROM library\"}";
+
+    @AfterEach
+    void clearCircuitBreakers() {
+        CircuitBreakerRegistry.INSTANCE.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"http", "http_async", "http2"})
+    void testRequestBodyCompressed(String transportType, WireMockServer mockServer)
+            throws IOException, ConnectionPropertyException {
+        // the first attempt is failed, so that the body is also sent again
+        mockServer.stubFor(post(urlPathEqualTo(PATH))
+                .inScenario("compression")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(aResponse().withStatus(503))
+                .willSetStateTo("retried"));
+        mockServer.stubFor(post(urlPathEqualTo(PATH))
+                .inScenario("compression")
+                .whenScenarioStateIs("retried")
+                .willReturn(aResponse().withStatus(200).withBody("{}")));
+
+        Properties props = new Properties();
+        props.setProperty(RequestBodyCompressionConnectionProperty.KEY, "true");
+        HttpTransport transport = newTransport(mockServer, transportType, props);
+
+        try (CloseableHttpResponse response = transport.doRetryablePost(PATH, null, null,
+                new StringEntity(BODY, ContentType.APPLICATION_JSON), 0, null, null)) {
+            assertEquals(200, response.getStatusLine().getStatusCode());
+        }
+
+        // the server decodes the body before matching it
+        mockServer.verify(2, postRequestedFor(urlPathEqualTo(PATH))
+                .withHeader("Content-Encoding", equalTo("gzip"))
+                .withHeader("Content-Type", containing("application/json"))
+                .withRequestBody(equalToJson(BODY)));
+        transport.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"http", "http_async", "http2"})
+    void testRequestBodyNotCompressedByDefault(String transportType, WireMockServer mockServer)
+            throws IOException, ConnectionPropertyException {
+        mockServer.stubFor(post(urlPathEqualTo(PATH))
+                .willReturn(aResponse().withStatus(200).withBody("{}")));
+
+        HttpTransport transport = newTransport(mockServer, transportType, new Properties());
+
+        try (CloseableHttpResponse response = transport.doPost(PATH, null, null,
+                new StringEntity(BODY, ContentType.APPLICATION_JSON), 0, null)) {
+            assertEquals(200, response.getStatusLine().getStatusCode());
+        }
+
+        mockServer.verify(1, postRequestedFor(urlPathEqualTo(PATH))
+                .withoutHeader("Content-Encoding")
+                .withRequestBody(equalTo(BODY)));
+        transport.close();
+    }
+
+    private HttpTransport newTransport(WireMockServer mockServer, String transportType, Properties props)
+            throws ConnectionPropertyException, TransportException {
+        props.setProperty(TransportConnectionProperty.KEY, transportType);
+
+        ConnectionConfig config = ConnectionConfig.builder()
+                .setUrl(getBaseURLForMockServer(mockServer))
+                .setProperties(props)
+                .build();
+
+        switch (config.getTransportType()) {
+            case HTTP_ASYNC:
+                return new ApacheAsyncHttpTransport(config, NoOpLogger.INSTANCE, "test");
+            case HTTP2:
+                return Http2TransportFactory.INSTANCE.getTransport(config, NoOpLogger.INSTANCE, "test");
+            default:
+                return new ApacheHttpTransport(config, NoOpLogger.INSTANCE, "test");
+        }
+    }
+
+    @Test
+    void testCompressedBodyLeavesClientStreamOpen() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        ByteArrayOutputStream clientStream = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        new GzipRequestEntity(new StringEntity(BODY, ContentType.APPLICATION_JSON)).writeTo(clientStream);
+
+        assertFalse(closed.get());
+        try (InputStream content = new GZIPInputStream(new ByteArrayInputStream(clientStream.toByteArray()))) {
+            assertEquals(BODY, EntityUtils.toString(new InputStreamEntity(content)));
+        }
+    }
+}
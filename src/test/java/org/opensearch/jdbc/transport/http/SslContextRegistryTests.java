@@ -0,0 +1,127 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.opensearch.jdbc.config.ConnectionConfig;
+import org.opensearch.jdbc.config.ConnectionPropertyException;
+import org.opensearch.jdbc.config.HostnameVerificationConnectionProperty;
+import org.opensearch.jdbc.config.TrustStoreLocationConnectionProperty;
+import org.opensearch.jdbc.config.TrustStorePasswordConnectionProperty;
+import org.opensearch.jdbc.config.UseSSLConnectionProperty;
+import org.opensearch.jdbc.test.TLSServer;
+import org.opensearch.jdbc.test.TestResources;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(TempDirectory.class)
+class SslContextRegistryTests {
+
+    @Test
+    void testContextShared(@TempDirectory.TempDir Path tempDir) throws Exception {
+        Path trustStoreFile = tempDir.resolve("truststore");
+        TestResources.copyResourceToPath(TLSServer.TRUST_SERVER_JKS_RESOURCE, trustStoreFile);
+
+        SslContextRegistry registry = new SslContextRegistry();
+        SSLContext sslContext = registry.getSslContext(buildConfig(trustStoreFile, true));
+
+        assertSame(sslContext, registry.getSslContext(buildConfig(trustStoreFile, true)));
+        assertSame(registry.getSocketFactory(buildConfig(trustStoreFile, true)),
+                registry.getSocketFactory(buildConfig(trustStoreFile, true)));
+        assertSame(registry.getSessionStrategy(buildConfig(trustStoreFile, true)),
+                registry.getSessionStrategy(buildConfig(trustStoreFile, true)));
+        assertEquals(1, registry.size());
+
+        // different verification settings do not share the context
+        assertNotSame(sslContext, registry.getSslContext(buildConfig(trustStoreFile, false)));
+        assertEquals(2, registry.size());
+
+        registry.clear();
+        assertEquals(0, registry.size());
+        assertNotSame(sslContext, registry.getSslContext(buildConfig(trustStoreFile, true)));
+    }
+
+    @Test
+    void testContextReloadedOnChange(@TempDirectory.TempDir Path tempDir) throws Exception {
+        Path trustStoreFile = tempDir.resolve("truststore");
+        TestResources.copyResourceToPath(TLSServer.TRUST_SERVER_JKS_RESOURCE, trustStoreFile);
+
+        SslContextRegistry registry = new SslContextRegistry();
+        ConnectionConfig config = buildConfig(trustStoreFile, true);
+        SSLContext sslContext = registry.getSslContext(config);
+
+        // rotate the trust store
+        TestResources.copyResourceToPath(TLSServer.TRUST_CLIENT_JKS_RESOURCE, trustStoreFile);
+        touch(trustStoreFile);
+
+        SSLContext reloaded = registry.getSslContext(config);
+        assertNotSame(sslContext, reloaded);
+        assertSame(reloaded, registry.getSslContext(config));
+    }
+
+    @Test
+    void testPreviousContextKeptOnFailedReload(@TempDirectory.TempDir Path tempDir) throws Exception {
+        Path trustStoreFile = tempDir.resolve("truststore");
+        TestResources.copyResourceToPath(TLSServer.TRUST_SERVER_JKS_RESOURCE, trustStoreFile);
+
+        SslContextRegistry registry = new SslContextRegistry();
+        ConnectionConfig config = buildConfig(trustStoreFile, true);
+        SSLContext sslContext = registry.getSslContext(config);
+
+        // a partially written trust store
+        Files.write(trustStoreFile, "invalid".getBytes(StandardCharsets.UTF_8));
+        touch(trustStoreFile);
+        assertSame(sslContext, registry.getSslContext(config));
+
+        // the store is not cached until it loads
+        SslContextRegistry otherRegistry = new SslContextRegistry();
+        assertThrows(IOException.class, () -> otherRegistry.getSslContext(config));
+        assertEquals(0, otherRegistry.size());
+
+        // the completed trust store is picked up
+        TestResources.copyResourceToPath(TLSServer.TRUST_SERVER_JKS_RESOURCE, trustStoreFile);
+        touch(trustStoreFile);
+        assertNotSame(sslContext, registry.getSslContext(config));
+    }
+
+    @Test
+    void testMissingStoreRejected(@TempDirectory.TempDir Path tempDir) throws ConnectionPropertyException {
+        ConnectionConfig config = buildConfig(tempDir.resolve("missing"), true);
+
+        SslContextRegistry registry = new SslContextRegistry();
+        assertThrows(IOException.class, () -> registry.getSslContext(config));
+        assertThrows(IOException.class, () -> new ReloadingSslConnectionSocketFactory(registry, config)
+                .createLayeredSocket(null, "localhost", 443, null));
+    }
+
+    private static void touch(Path file) throws IOException {
+        // file systems may keep modification times in whole seconds
+        assertTrue(file.toFile().setLastModified(file.toFile().lastModified() + 2000));
+    }
+
+    private static ConnectionConfig buildConfig(Path trustStoreFile, boolean hostnameVerification)
+            throws ConnectionPropertyException {
+        Properties props = new Properties();
+        props.setProperty(UseSSLConnectionProperty.KEY, "true");
+        props.setProperty(TrustStoreLocationConnectionProperty.KEY, trustStoreFile.toAbsolutePath().toString());
+        props.setProperty(TrustStorePasswordConnectionProperty.KEY, "changeit");
+        props.setProperty(HostnameVerificationConnectionProperty.KEY, String.valueOf(hostnameVerification));
+
+        return ConnectionConfig.builder()
+                .setProperties(props)
+                .build();
+    }
+}
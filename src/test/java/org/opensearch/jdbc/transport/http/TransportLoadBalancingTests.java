@@ -0,0 +1,179 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.opensearch.jdbc.config.ConnectionConfig;
+import org.opensearch.jdbc.config.ConnectionPropertyException;
+import org.opensearch.jdbc.config.HostsConnectionProperty;
+import org.opensearch.jdbc.config.LoadBalancingConnectionProperty;
+import org.opensearch.jdbc.config.NodeSniffingConnectionProperty;
+import org.opensearch.jdbc.config.TransportConnectionProperty;
+import org.opensearch.jdbc.logging.NoOpLogger;
+import org.opensearch.jdbc.test.PerTestWireMockServerExtension;
+import org.opensearch.jdbc.test.WireMockServerHelpers;
+import org.opensearch.jdbc.transport.TransportException;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.apache.http.HttpHost;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(PerTestWireMockServerExtension.class)
+class TransportLoadBalancingTests implements WireMockServerHelpers {
+
+    private static final String PATH = "/_plugins/_sql";
+
+    @AfterEach
+    void clearNodeSelectors() {
+        NodeSelectorRegistry.INSTANCE.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"http", "http_async", "http2"})
+    void testRequestsSpreadAcrossHosts(String transportType, WireMockServer mockServer)
+            throws IOException, ConnectionPropertyException {
+        stubQuery(mockServer);
+
+        // two names for the same server stand for two nodes
+        Properties props = new Properties();
+        props.setProperty(HostsConnectionProperty.KEY,
+                "localhost:" + mockServer.port() + ",127.0.0.1:" + mockServer.port());
+        HttpTransport transport = newTransport(mockServer, transportType, props);
+
+        for (int i = 0; i < 4; i++) {
+            transport.doPost(PATH, null, null, "{}", 0).close();
+        }
+
+        List<String> hosts = requestedHosts(mockServer);
+        assertEquals(4, hosts.size());
+        assertEquals(2, hosts.stream().filter((host) -> host.startsWith("localhost:")).count());
+        assertEquals(2, hosts.stream().filter((host) -> host.startsWith("127.0.0.1:")).count());
+        transport.close();
+    }
+
+    @Test
+    void testUnreachableHostEjected(WireMockServer mockServer) throws IOException, ConnectionPropertyException {
+        stubQuery(mockServer);
+
+        Properties props = new Properties();
+        props.setProperty(HostsConnectionProperty.KEY,
+                "localhost:" + getUnusedPort() + ",localhost:" + mockServer.port());
+        HttpTransport transport = newTransport(mockServer, "http", props);
+
+        // the request is retried on the other node
+        try (CloseableHttpResponse response = transport.doRetryablePost(PATH, null, null, "{}", 0, null, null)) {
+            assertEquals(200, response.getStatusLine().getStatusCode());
+        }
+
+        // and the unreachable node is no longer picked
+        for (int i = 0; i < 3; i++) {
+            transport.doPost(PATH, null, null, "{}", 0).close();
+        }
+        mockServer.verify(4, postRequestedFor(urlPathEqualTo(PATH)));
+        transport.close();
+    }
+
+    @Test
+    void testNodesSniffed(WireMockServer mockServer) throws IOException, ConnectionPropertyException {
+        stubQuery(mockServer);
+        mockServer.stubFor(get(urlPathEqualTo(NodeSniffer.PATH))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"nodes\":{\"a\":{\"http\":{\"publish_address\":\"127.0.0.1:"
+                                + mockServer.port() + "\"}}}}")));
+
+        Properties props = new Properties();
+        props.setProperty(NodeSniffingConnectionProperty.KEY, "true");
+        HttpTransport transport = newTransport(mockServer, "http", props);
+
+        for (int i = 0; i < 2; i++) {
+            transport.doPost(PATH, null, null, "{}", 0).close();
+        }
+
+        // nodes are sniffed once, and replace the configured host
+        mockServer.verify(1, getRequestedFor(urlPathEqualTo(NodeSniffer.PATH)));
+        assertTrue(requestedHosts(mockServer).stream().allMatch((host) -> host.startsWith("127.0.0.1:")));
+        transport.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"http", "http_async", "http2"})
+    void testRequestPinnedToNode(String transportType, WireMockServer mockServer)
+            throws IOException, ConnectionPropertyException {
+        stubQuery(mockServer);
+
+        Properties props = new Properties();
+        props.setProperty(HostsConnectionProperty.KEY,
+                "localhost:" + mockServer.port() + ",127.0.0.1:" + mockServer.port());
+        props.setProperty(LoadBalancingConnectionProperty.KEY, "least_outstanding");
+        HttpTransport transport = newTransport(mockServer, transportType, props);
+
+        NodeAffinity affinity = new NodeAffinity();
+        transport.doRetryablePost(PATH, null, null, "{}", 0, null, affinity).close();
+        HttpHost node = affinity.getNode();
+        assertNotNull(node);
+
+        for (int i = 0; i < 3; i++) {
+            transport.doRetryablePost(PATH, null, null, "{}", 0, null, new NodeAffinity(node)).close();
+        }
+
+        List<String> hosts = requestedHosts(mockServer);
+        assertEquals(4, hosts.size());
+        assertTrue(hosts.stream().allMatch((host) -> host.equals(node.toHostString())));
+        transport.close();
+    }
+
+    private static void stubQuery(WireMockServer mockServer) {
+        mockServer.stubFor(post(urlPathEqualTo(PATH))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{}")));
+    }
+
+    private static List<String> requestedHosts(WireMockServer mockServer) {
+        return mockServer.findAll(postRequestedFor(urlPathEqualTo(PATH))).stream()
+                .map((request) -> request.getHeader("Host"))
+                .collect(Collectors.toList());
+    }
+
+    private static int getUnusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private HttpTransport newTransport(WireMockServer mockServer, String transportType, Properties props)
+            throws ConnectionPropertyException, TransportException {
+        props.setProperty(TransportConnectionProperty.KEY, transportType);
+
+        ConnectionConfig config = ConnectionConfig.builder()
+                .setUrl(getBaseURLForMockServer(mockServer))
+                .setProperties(props)
+                .build();
+
+        switch (config.getTransportType()) {
+            case HTTP_ASYNC:
+                return new ApacheAsyncHttpTransport(config, NoOpLogger.INSTANCE, "test");
+            case HTTP2:
+                return Http2TransportFactory.INSTANCE.getTransport(config, NoOpLogger.INSTANCE, "test");
+            default:
+                return new ApacheHttpTransport(config, NoOpLogger.INSTANCE, "test");
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http;
+
+import org.opensearch.jdbc.config.CircuitBreakerThresholdConnectionProperty;
+import org.opensearch.jdbc.config.ConnectionConfig;
+import org.opensearch.jdbc.config.ConnectionPropertyException;
+import org.opensearch.jdbc.config.MaxRetriesConnectionProperty;
+import org.opensearch.jdbc.config.RetryBaseDelayConnectionProperty;
+import org.opensearch.jdbc.config.RetryMaxDelayConnectionProperty;
+import org.opensearch.jdbc.config.RetryPolicyConnectionProperty;
+import org.opensearch.jdbc.config.TransportConnectionProperty;
+import org.opensearch.jdbc.logging.NoOpLogger;
+import org.opensearch.jdbc.test.PerTestWireMockServerExtension;
+import org.opensearch.jdbc.test.WireMockServerHelpers;
+import org.opensearch.jdbc.transport.TransportException;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(PerTestWireMockServerExtension.class)
+class TransportRetryTests implements WireMockServerHelpers {
+
+    private static final String PATH = "/_plugins/_sql";
+
+    @AfterEach
+    void clearCircuitBreakers() {
+        CircuitBreakerRegistry.INSTANCE.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"http", "http_async", "http2"})
+    void testOverloadResponseRetried(String transportType, WireMockServer mockServer) throws IOException, ConnectionPropertyException {
+        stubFailures(mockServer, aResponse().withStatus(503), 2);
+
+        HttpTransport transport = newTransport(mockServer, transportType, new Properties());
+        try (CloseableHttpResponse response = doRetryablePost(transport)) {
+            assertEquals(200, response.getStatusLine().getStatusCode());
+        }
+        mockServer.verify(3, postRequestedFor(urlPathEqualTo(PATH)));
+        transport.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"http", "http_async", "http2"})
+    void testConnectionResetRetried(String transportType, WireMockServer mockServer) throws IOException, ConnectionPropertyException {
+        stubFailures(mockServer, aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER), 1);
+
+        HttpTransport transport = newTransport(mockServer, transportType, new Properties());
+        try (CloseableHttpResponse response = doRetryablePost(transport)) {
+            assertEquals(200, response.getStatusLine().getStatusCode());
+        }
+        transport.close();
+    }
+
+    @Test
+    void testLastResponseReturnedOnceRetriesExhausted(WireMockServer mockServer) throws IOException, ConnectionPropertyException {
+        mockServer.stubFor(post(urlPathEqualTo(PATH))
+                .willReturn(aResponse().withStatus(503)));
+
+        Properties props = new Properties();
+        props.setProperty(MaxRetriesConnectionProperty.KEY, "3");
+        HttpTransport transport = newTransport(mockServer, "http", props);
+
+        try (CloseableHttpResponse response = doRetryablePost(transport)) {
+            assertEquals(503, response.getStatusLine().getStatusCode());
+        }
+        mockServer.verify(4, postRequestedFor(urlPathEqualTo(PATH)));
+        transport.close();
+    }
+
+    @Test
+    void testUnsafeRequestNotRetried(WireMockServer mockServer) throws IOException, ConnectionPropertyException {
+        stubFailures(mockServer, aResponse().withStatus(503), 1);
+
+        HttpTransport transport = newTransport(mockServer, "http", new Properties());
+        try (CloseableHttpResponse response = transport.doPost(PATH, null, null, "{}", 0)) {
+            assertEquals(503, response.getStatusLine().getStatusCode());
+        }
+        mockServer.verify(1, postRequestedFor(urlPathEqualTo(PATH)));
+        transport.close();
+    }
+
+    @Test
+    void testOtherErrorsNotRetried(WireMockServer mockServer) throws IOException, ConnectionPropertyException {
+        stubFailures(mockServer, aResponse().withStatus(400), 1);
+
+        HttpTransport transport = newTransport(mockServer, "http", new Properties());
+        try (CloseableHttpResponse response = doRetryablePost(transport)) {
+            assertEquals(400, response.getStatusLine().getStatusCode());
+        }
+        mockServer.verify(1, postRequestedFor(urlPathEqualTo(PATH)));
+        transport.close();
+    }
+
+    @Test
+    void testRetryAfterPassedToPolicy(WireMockServer mockServer) throws IOException, ConnectionPropertyException {
+        stubFailures(mockServer, aResponse().withStatus(429).withHeader("Retry-After", "2"), 1);
+
+        List<Long> retryAfterValues = new ArrayList<>();
+        Properties props = new Properties();
+        props.put(RetryPolicyConnectionProperty.KEY, (RetryPolicy) (attempt, statusCode, exception, retryAfter) -> {
+            retryAfterValues.add(retryAfter);
+            return attempt == 1 ? 0 : -1;
+        });
+        HttpTransport transport = newTransport(mockServer, "http", props);
+
+        try (CloseableHttpResponse response = doRetryablePost(transport)) {
+            assertEquals(200, response.getStatusLine().getStatusCode());
+        }
+        assertEquals(1, retryAfterValues.size());
+        assertEquals(Long.valueOf(2000), retryAfterValues.get(0));
+        transport.close();
+    }
+
+    @Test
+    void testCircuitBreakerFailsFast(WireMockServer mockServer) throws IOException, ConnectionPropertyException {
+        mockServer.stubFor(post(urlPathEqualTo(PATH))
+                .willReturn(aResponse().withStatus(503)));
+
+        Properties props = new Properties();
+        props.setProperty(MaxRetriesConnectionProperty.KEY, "0");
+        props.setProperty(CircuitBreakerThresholdConnectionProperty.KEY, "2");
+        HttpTransport transport = newTransport(mockServer, "http", props);
+
+        for (int i = 0; i < 2; i++) {
+            doRetryablePost(transport).close();
+        }
+
+        // the breaker is shared by all transports to the endpoint
+        HttpTransport otherTransport = newTransport(mockServer, "http", props);
+        TransportException ex = assertThrows(TransportException.class,
+                () -> otherTransport.doPost(PATH, null, null, "{}", 0));
+        assertTrue(ex.getMessage().contains("Circuit breaker is open"));
+        mockServer.verify(2, postRequestedFor(urlPathEqualTo(PATH)));
+
+        transport.close();
+        otherTransport.close();
+    }
+
+    @Test
+    void testRetryAfterHeaderParsing() {
+        assertEquals(-1, RetryingRequestExecutor.getRetryAfterMillis(
+                responseWithRetryAfter(null)));
+        assertEquals(5000, RetryingRequestExecutor.getRetryAfterMillis(
+                responseWithRetryAfter("5")));
+        assertEquals(0, RetryingRequestExecutor.getRetryAfterMillis(
+                responseWithRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT")));
+        assertEquals(-1, RetryingRequestExecutor.getRetryAfterMillis(
+                responseWithRetryAfter("soon")));
+    }
+
+    private static HttpResponse responseWithRetryAfter(String value) {
+        BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 503, "Service Unavailable");
+        if (value != null) {
+            response.setHeader("Retry-After", value);
+        }
+        return response;
+    }
+
+    private static void stubFailures(WireMockServer mockServer,
+                                     ResponseDefinitionBuilder failure,
+                                     int count) {
+        String state = Scenario.STARTED;
+        for (int i = 1; i <= count; i++) {
+            String nextState = "failed " + i;
+            mockServer.stubFor(post(urlPathEqualTo(PATH))
+                    .inScenario("retry")
+                    .whenScenarioStateIs(state)
+                    .willReturn(failure)
+                    .willSetStateTo(nextState));
+            state = nextState;
+        }
+        mockServer.stubFor(post(urlPathEqualTo(PATH))
+                .inScenario("retry")
+                .whenScenarioStateIs(state)
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{}")));
+    }
+
+    private static CloseableHttpResponse doRetryablePost(HttpTransport transport) throws TransportException {
+        return transport.doRetryablePost(PATH, null, null, "{}", 0, null, null);
+    }
+
+    private HttpTransport newTransport(WireMockServer mockServer, String transportType, Properties props)
+            throws ConnectionPropertyException, TransportException {
+        props.setProperty(TransportConnectionProperty.KEY, transportType);
+        props.setProperty(RetryBaseDelayConnectionProperty.KEY, "1");
+        props.setProperty(RetryMaxDelayConnectionProperty.KEY, "50");
+
+        // a property map retains non-string values such as a retry policy
+        Map<String, Object> propertyMap = new HashMap<>();
+        props.forEach((key, value) -> propertyMap.put((String) key, value));
+
+        ConnectionConfig config = ConnectionConfig.builder()
+                .setUrl(getBaseURLForMockServer(mockServer))
+                .setPropertyMap(propertyMap)
+                .build();
+
+        switch (config.getTransportType()) {
+            case HTTP_ASYNC:
+                return new ApacheAsyncHttpTransport(config, NoOpLogger.INSTANCE, "test");
+            case HTTP2:
+                return Http2TransportFactory.INSTANCE.getTransport(config, NoOpLogger.INSTANCE, "test");
+            default:
+                return new ApacheHttpTransport(config, NoOpLogger.INSTANCE, "test");
+        }
+    }
+}
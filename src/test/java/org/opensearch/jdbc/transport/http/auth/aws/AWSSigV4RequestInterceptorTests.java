@@ -0,0 +1,247 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http.auth.aws;
+
+import com.amazonaws.auth.AWS4Signer;
+import com.amazonaws.auth.AWS4UnsignedPayloadSigner;
+import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.AnonymousAWSCredentials;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.auth.BasicSessionCredentials;
+import com.amazonaws.auth.SdkClock;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.EntityTemplate;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpEntityEnclosingRequest;
+import org.apache.http.message.BasicHttpRequest;
+import org.apache.http.protocol.HttpCoreContext;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AWSSigV4RequestInterceptorTests {
+
+    private static final long NOW = 1542653839129L;
+
+    private static final String BODY = "{\"query\":\"SELECT * FROM library\"}";
+
+    private static final AWSCredentialsProvider CREDENTIALS = new AWSStaticCredentialsProvider(
+            new BasicAWSCredentials("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY"));
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/",
+            "",
+            "/_plugins/_sql?format=jdbc",
+            "/foo-2017-02-25%2Cfoo-2017-02-26/_search?a=b",
+            "/_search?b=2&a=1&a=0&c&d=&e=x+y&f=%7E%2A%20*",
+            "/caf%C3%A9?q=caf%C3%A9#fragment",
+            "http://localhost:9200/_plugins/_sql?format=jdbc"
+    })
+    void testSignatureMatchesSdk(String uri) throws Exception {
+        HttpRequest expected = newRequest("GET", uri, null);
+        newSdkInterceptor(CREDENTIALS, "es", null, false).process(expected, newContext("http://localhost:9200"));
+
+        HttpRequest actual = newRequest("GET", uri, null);
+        newInterceptor(CREDENTIALS, "es", null, false).process(actual, newContext("http://localhost:9200"));
+
+        assertSigned(expected, actual);
+    }
+
+    @Test
+    void testInMemoryBodyHashedInPlace() throws Exception {
+        HttpEntity entity = new StringEntity(BODY, ContentType.APPLICATION_JSON);
+
+        HttpEntityEnclosingRequest expected = newRequest("POST", "/_plugins/_sql?format=jdbc", entity);
+        newSdkInterceptor(CREDENTIALS, "es", null, false).process(expected, newContext("https://search.aws"));
+
+        HttpEntityEnclosingRequest actual = newRequest("POST", "/_plugins/_sql?format=jdbc", entity);
+        newInterceptor(CREDENTIALS, "es", null, false).process(actual, newContext("https://search.aws"));
+
+        assertSigned(expected, actual);
+        assertSame(entity, actual.getEntity());
+    }
+
+    @Test
+    void testStreamedBodyBufferedOnce() throws Exception {
+        int[] writes = new int[1];
+        EntityTemplate entity = new EntityTemplate((out) -> {
+            writes[0]++;
+            out.write(BODY.getBytes(StandardCharsets.UTF_8));
+        });
+        entity.setContentType(ContentType.APPLICATION_JSON.toString());
+        entity.setChunked(true);
+
+        HttpEntityEnclosingRequest expected = newRequest("POST", "/_plugins/_sql", new StringEntity(BODY,
+                ContentType.APPLICATION_JSON));
+        newSdkInterceptor(CREDENTIALS, "es", null, false).process(expected, newContext("https://search.aws"));
+
+        HttpEntityEnclosingRequest actual = newRequest("POST", "/_plugins/_sql", entity);
+        newInterceptor(CREDENTIALS, "es", null, false).process(actual, newContext("https://search.aws"));
+
+        assertSigned(expected, actual);
+        assertEquals(1, writes[0]);
+
+        // the buffered body is sent in place of the streamed body
+        HttpEntity sent = actual.getEntity();
+        assertTrue(sent instanceof ByteArrayEntity);
+        assertEquals(BODY, EntityUtils.toString(sent));
+        assertEquals(ContentType.APPLICATION_JSON.toString(), sent.getContentType().getValue());
+        assertTrue(sent.isChunked());
+        assertEquals(1, writes[0]);
+    }
+
+    @Test
+    void testSessionCredentials() throws Exception {
+        AWSCredentialsProvider sessionCredentials = new AWSStaticCredentialsProvider(
+                new BasicSessionCredentials("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY", "token"));
+
+        HttpRequest expected = newRequest("GET", "/", null);
+        newSdkInterceptor(sessionCredentials, "es", null, false).process(expected, newContext("https://search.aws"));
+
+        HttpRequest actual = newRequest("GET", "/", null);
+        newInterceptor(sessionCredentials, "es", null, false).process(actual, newContext("https://search.aws"));
+
+        assertSigned(expected, actual);
+        assertEquals("token", actual.getFirstHeader("X-Amz-Security-Token").getValue());
+    }
+
+    @Test
+    void testTunnelHost() throws Exception {
+        HttpRequest expected = newRequest("GET", "/", null);
+        newSdkInterceptor(CREDENTIALS, "es", "vpc-endpoint.aws", false)
+                .process(expected, newContext("http://localhost:9200"));
+
+        HttpRequest actual = newRequest("GET", "/", null);
+        newInterceptor(CREDENTIALS, "es", "vpc-endpoint.aws", false)
+                .process(actual, newContext("http://localhost:9200"));
+
+        assertSigned(expected, actual);
+        assertEquals("vpc-endpoint.aws", actual.getFirstHeader("Host").getValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"https://search.aws", "http://localhost:9200"})
+    void testUnsignedPayload(String targetHost) throws Exception {
+        HttpEntityEnclosingRequest expected = newRequest("POST", "/_plugins/_sql",
+                new StringEntity(BODY, ContentType.APPLICATION_JSON));
+        newSdkInterceptor(CREDENTIALS, "aoss", null, true).process(expected, newContext(targetHost));
+
+        HttpEntityEnclosingRequest actual = newRequest("POST", "/_plugins/_sql",
+                new StringEntity(BODY, ContentType.APPLICATION_JSON));
+        newInterceptor(CREDENTIALS, "aoss", null, true).process(actual, newContext(targetHost));
+
+        assertSigned(expected, actual);
+        assertEquals(expected.getFirstHeader("x-amz-content-sha256").getValue(),
+                actual.getFirstHeader("x-amz-content-sha256").getValue());
+    }
+
+    @Test
+    void testSigningKeyFollowsDate() throws Exception {
+        AWSSigV4RequestInterceptor interceptor = new AWSSigV4RequestInterceptor("es", "us-east-1",
+                CREDENTIALS, null, false, new SdkClock.MockClock(NOW));
+        HttpRequest first = newRequest("GET", "/", null);
+        interceptor.process(first, newContext("https://search.aws"));
+
+        // a day later, the key is derived for the new date
+        long nextDay = NOW + 24 * 60 * 60 * 1000L;
+        AWS4Signer signer = new AWS4Signer();
+        signer.setOverrideDate(new Date(nextDay));
+        signer.setServiceName("es");
+        signer.setRegionName("us-east-1");
+        HttpRequest expected = newRequest("GET", "/", null);
+        new AWSRequestSigningApacheInterceptor("es", signer, CREDENTIALS, null)
+                .process(expected, newContext("https://search.aws"));
+
+        SdkClock.Instance.set(new SdkClock.MockClock(nextDay));
+        try {
+            AWSSigV4RequestInterceptor sdkClockInterceptor = new AWSSigV4RequestInterceptor("es", "us-east-1",
+                    CREDENTIALS, null, false);
+            sdkClockInterceptor.process(newRequest("GET", "/", null), newContext("https://search.aws"));
+
+            HttpRequest actual = newRequest("GET", "/", null);
+            sdkClockInterceptor.process(actual, newContext("https://search.aws"));
+            assertSigned(expected, actual);
+            assertNotEquals(first.getFirstHeader("Authorization").getValue(),
+                    actual.getFirstHeader("Authorization").getValue());
+        } finally {
+            SdkClock.Instance.reset();
+        }
+    }
+
+    @Test
+    void testAnonymousCredentialsNotSigned() throws Exception {
+        HttpRequest request = newRequest("GET", "/", null);
+        newInterceptor(new AWSStaticCredentialsProvider(new AnonymousAWSCredentials()), "es", null, false)
+                .process(request, newContext("https://search.aws"));
+
+        assertNull(request.getFirstHeader("Authorization"));
+    }
+
+    @Test
+    void testBadRequest() {
+        HttpRequest badRequest = new BasicHttpRequest("GET", "/_search?a=%zz");
+        assertThrows(IOException.class, () -> newInterceptor(CREDENTIALS, "es", null, false)
+                .process(badRequest, newContext("https://search.aws")));
+
+        assertThrows(IOException.class, () -> newInterceptor(CREDENTIALS, "es", null, false)
+                .process(new BasicHttpRequest("GET", "/"), new HttpCoreContext()));
+    }
+
+    private static void assertSigned(HttpRequest expected, HttpRequest actual) {
+        assertEquals(expected.getFirstHeader("X-Amz-Date").getValue(), actual.getFirstHeader("X-Amz-Date").getValue());
+        assertEquals(expected.getFirstHeader("Host").getValue(), actual.getFirstHeader("Host").getValue());
+        assertEquals(expected.getFirstHeader("Authorization").getValue(),
+                actual.getFirstHeader("Authorization").getValue());
+    }
+
+    private static BasicHttpEntityEnclosingRequest newRequest(String method, String uri, HttpEntity entity) {
+        BasicHttpEntityEnclosingRequest request = new BasicHttpEntityEnclosingRequest(method, uri);
+        request.addHeader("User-Agent", "test  agent ");
+        request.addHeader("Accept", "application/json");
+        if (entity != null) {
+            request.setEntity(entity);
+            request.addHeader(entity.getContentType());
+        }
+        return request;
+    }
+
+    private static HttpCoreContext newContext(String targetHost) {
+        HttpCoreContext context = new HttpCoreContext();
+        context.setTargetHost(HttpHost.create(targetHost));
+        return context;
+    }
+
+    private static AWSSigV4RequestInterceptor newInterceptor(AWSCredentialsProvider credentials, String service,
+                                                             String host, boolean unsignedPayload) {
+        return new AWSSigV4RequestInterceptor(service, "us-east-1", credentials, host, unsignedPayload,
+                new SdkClock.MockClock(NOW));
+    }
+
+    private static AWSRequestSigningApacheInterceptor newSdkInterceptor(AWSCredentialsProvider credentials,
+                                                                        String service, String host,
+                                                                        boolean unsignedPayload) {
+        AWS4Signer signer = unsignedPayload ? new AWS4UnsignedPayloadSigner() : new AWS4Signer();
+        signer.setOverrideDate(new Date(NOW));
+        signer.setServiceName(service);
+        signer.setRegionName("us-east-1");
+        return new AWSRequestSigningApacheInterceptor(service, signer, credentials, host);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.transport.http.auth.aws;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class RefreshingAWSCredentialsProviderTests {
+
+    private final AWSCredentials first = new BasicAWSCredentials("first", "secret");
+    private final AWSCredentials second = new BasicAWSCredentials("second", "secret");
+
+    @Test
+    public void testCredentialsServedFromMemory() {
+        AWSCredentialsProvider delegate = mock(AWSCredentialsProvider.class);
+        when(delegate.getCredentials()).thenReturn(first, second);
+        AtomicLong clock = new AtomicLong();
+
+        RefreshingAWSCredentialsProvider provider = new RefreshingAWSCredentialsProvider(delegate, clock::get);
+
+        assertSame(first, provider.getCredentials());
+        clock.addAndGet(RefreshingAWSCredentialsProvider.REFRESH_INTERVAL_MILLIS);
+        assertSame(first, provider.getCredentials());
+        verify(delegate, times(1)).getCredentials();
+
+        // a background refresh replaces the credentials
+        provider.refreshInBackground();
+        assertSame(second, provider.getCredentials());
+        verify(delegate, times(2)).getCredentials();
+    }
+
+    @Test
+    public void testFailedRefreshKeepsCredentials() {
+        AWSCredentialsProvider delegate = mock(AWSCredentialsProvider.class);
+        when(delegate.getCredentials())
+                .thenReturn(first)
+                .thenThrow(new SdkClientException("metadata service unavailable"))
+                .thenReturn(second);
+        AtomicLong clock = new AtomicLong();
+
+        RefreshingAWSCredentialsProvider provider = new RefreshingAWSCredentialsProvider(delegate, clock::get);
+        assertSame(first, provider.getCredentials());
+
+        provider.refreshInBackground();
+        assertSame(first, provider.getCredentials());
+
+        // credentials that are too old are fetched on the calling thread
+        clock.addAndGet(RefreshingAWSCredentialsProvider.MAX_AGE_MILLIS);
+        assertSame(second, provider.getCredentials());
+        verify(delegate, times(3)).getCredentials();
+    }
+
+    @Test
+    public void testFirstFetchFailurePropagated() {
+        AWSCredentialsProvider delegate = mock(AWSCredentialsProvider.class);
+        when(delegate.getCredentials()).thenThrow(new SdkClientException("no credentials"));
+
+        RefreshingAWSCredentialsProvider provider = new RefreshingAWSCredentialsProvider(delegate, () -> 0);
+        assertThrows(SdkClientException.class, provider::getCredentials);
+    }
+
+    @Test
+    public void testRefresh() {
+        AWSCredentialsProvider delegate = mock(AWSCredentialsProvider.class);
+        when(delegate.getCredentials()).thenReturn(first, second);
+
+        RefreshingAWSCredentialsProvider provider = new RefreshingAWSCredentialsProvider(delegate, () -> 0);
+        assertSame(first, provider.getCredentials());
+
+        provider.refresh();
+        verify(delegate).refresh();
+        assertSame(second, provider.getCredentials());
+    }
+
+    @Test
+    public void testCredentialsFetchedInBackground() {
+        AWSCredentialsProvider delegate = mock(AWSCredentialsProvider.class);
+        when(delegate.getCredentials()).thenReturn(first);
+
+        RefreshingAWSCredentialsProvider provider = new RefreshingAWSCredentialsProvider(delegate);
+
+        verify(delegate, timeout(5000)).getCredentials();
+        assertSame(first, provider.getCredentials());
+        verify(delegate, times(1)).getCredentials();
+    }
+
+    @Test
+    public void testProviderSharedPerDelegate() {
+        AWSCredentialsProvider delegate = mock(AWSCredentialsProvider.class);
+        when(delegate.getCredentials()).thenReturn(first);
+
+        RefreshingAWSCredentialsProvider provider = RefreshingAWSCredentialsProvider.of(delegate);
+        assertSame(provider, RefreshingAWSCredentialsProvider.of(delegate));
+        assertNotSame(provider, RefreshingAWSCredentialsProvider.of(mock(AWSCredentialsProvider.class)));
+
+        // every instance of the default chain fetches the same credentials
+        assertSame(RefreshingAWSCredentialsProvider.of(new DefaultAWSCredentialsProviderChain()),
+                RefreshingAWSCredentialsProvider.of(new DefaultAWSCredentialsProviderChain()));
+    }
+}
@@ -13,8 +13,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.sql.Date;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.Calendar;
 import java.util.HashMap;
@@ -24,6 +26,7 @@ import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ExtendWith(UTCTimeZoneTestExtension.class)
 public class DateTypeTests {
@@ -32,7 +35,9 @@ public class DateTypeTests {
     @CsvSource(value = {
             "2015-01-01, 1420070400000",
             "1972-12-31, 94608000000",
-            "1950-01-01, -631152000000"
+            "1950-01-01, -631152000000",
+            "2015-01-01T00:34:46.778Z, 1420070400000",
+            "1850-01-01, -3786825600000"
     })
     void testDateFromStringDefaultTZ(String stringValue, long longValue) {
         Date date = Assertions.assertDoesNotThrow(
@@ -56,6 +61,12 @@ public class DateTypeTests {
         assertEquals(longValue, date.getTime());
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"2015-02-29", "2015-1-01", "01/01/2015"})
+    void testDateFromInvalidString(String stringValue) {
+        assertThrows(SQLException.class, () -> DateType.INSTANCE.fromValue(stringValue, null));
+    }
+
     @ParameterizedTest
     @MethodSource("numberProvider")
     void testDateFromNumber(Number numericValue) {
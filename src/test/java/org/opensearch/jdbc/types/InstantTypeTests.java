@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.types;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class InstantTypeTests {
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "2009-06-16T07:28:52.333, 2009-06-16T07:28:52.333Z",
+            "2015-01-01 00:34:46, 2015-01-01T00:34:46Z",
+            "2015-01-01 00:34:46.123456789, 2015-01-01T00:34:46.123456789Z",
+            "2015-01-01T00:34:46.778Z, 2015-01-01T00:34:46.778Z",
+            "2015-01-01T00:34:46.778+01:00, 2014-12-31T23:34:46.778Z",
+            "2015-01-01 00:34:46-0230, 2015-01-01T03:04:46Z",
+            "2015-01-01, 2015-01-01T00:00:00Z",
+            "1850-06-01 12:00:00, 1850-06-01T12:00:00Z",
+            "1420072486778, 2015-01-01T00:34:46.778Z",
+    })
+    void testInstantFromString(String stringValue, String expected) {
+        Instant instant = Assertions.assertDoesNotThrow(
+                () -> InstantType.INSTANCE.fromValue(stringValue, null));
+        assertEquals(Instant.parse(expected), instant);
+    }
+
+    @Test
+    void testInstantIgnoresDefaultTimeZoneAndCalendar() throws SQLException {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("America/Los_Angeles"));
+            assertEquals(Instant.parse("2015-01-01T00:34:46Z"), InstantType.INSTANCE.fromValue(
+                    "2015-01-01 00:34:46",
+                    Collections.singletonMap("calendar", Calendar.getInstance(TimeZone.getTimeZone("PST")))));
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    @Test
+    void testInstantFromNumber() throws SQLException {
+        assertEquals(Instant.ofEpochMilli(1420072486778L), InstantType.INSTANCE.fromValue(1420072486778L, null));
+        assertEquals(Instant.ofEpochMilli(-10023456), InstantType.INSTANCE.fromValue(-10023456, null));
+        assertNull(InstantType.INSTANCE.fromValue(null, null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2015-13-01 00:00:00", "2015-01-01 00:34", "01/01/2015", ""})
+    void testInstantFromInvalidString(String stringValue) {
+        assertThrows(SQLException.class, () -> InstantType.INSTANCE.fromValue(stringValue, null));
+    }
+}
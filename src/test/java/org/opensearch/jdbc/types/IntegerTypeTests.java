@@ -14,6 +14,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 
 import java.sql.SQLDataException;
+import java.sql.SQLException;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -65,6 +66,30 @@ public class IntegerTypeTests {
         assertEquals(expectedValue, intValue);
     }
 
+    @ParameterizedTest
+    @MethodSource("outOfRangeNumberProvider")
+    void testIntegerFromOutOfRangePrimitive(Number numberValue) {
+        SQLDataException ex = assertThrows(SQLDataException.class, () -> asInt(numberValue));
+        SQLDataException expected = assertThrows(SQLDataException.class,
+                () -> IntegerType.INSTANCE.fromValue(numberValue, null));
+        assertEquals(expected.getMessage(), ex.getMessage());
+    }
+
+    @ParameterizedTest
+    @MethodSource("validRangeNumberProvider")
+    void testIntegerFromValidRangePrimitive(Number numberValue, int expectedValue) {
+        int intValue = Assertions.assertDoesNotThrow(() -> asInt(numberValue));
+        assertEquals(expectedValue, intValue);
+    }
+
+    private static int asInt(Number numberValue) throws SQLException {
+        if (numberValue instanceof Double) {
+            return IntegerType.INSTANCE.asInt(numberValue.doubleValue());
+        } else {
+            return IntegerType.INSTANCE.asInt(numberValue.longValue());
+        }
+    }
+
     private static Stream<Arguments> outOfRangeNumberProvider() {
         return Stream.of(
                 // longs
@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.types;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LocalDateTimeTypeTests {
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "2015-01-01 00:34:46, 2015-01-01T00:34:46",
+            "2015-01-01T00:34:46.123456789, 2015-01-01T00:34:46.123456789",
+            "2015-01-01T00:34:46.778+01:00, 2014-12-31T23:34:46.778",
+            "2015-01-01, 2015-01-01T00:00",
+            "0001-01-01 00:00:00, 0001-01-01T00:00",
+            "-1, 1969-12-31T23:59:59.999",
+    })
+    void testLocalDateTimeFromString(String stringValue, String expected) {
+        LocalDateTime localDateTime = Assertions.assertDoesNotThrow(
+                () -> LocalDateTimeType.INSTANCE.fromValue(stringValue, null));
+        assertEquals(LocalDateTime.parse(expected), localDateTime);
+    }
+
+    @Test
+    void testLocalDateTimeFromNumber() throws SQLException {
+        assertEquals(LocalDateTime.parse("2015-01-01T00:34:46.778"),
+                LocalDateTimeType.INSTANCE.fromValue(1420072486778L, null));
+    }
+
+    @Test
+    void testLocalDateTimeFromInvalidString() {
+        assertThrows(SQLException.class, () -> LocalDateTimeType.INSTANCE.fromValue("2015-02-29 00:00:00", null));
+    }
+}
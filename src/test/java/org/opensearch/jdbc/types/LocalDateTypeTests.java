@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.types;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LocalDateTypeTests {
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "2015-01-01, 2015-01-01",
+            "2016-02-29, 2016-02-29",
+            "2015-01-01 23:34:46, 2015-01-01",
+            "2015-01-01T23:34:46-02:00, 2015-01-02",
+            "1420072486778, 2015-01-01",
+            "-1, 1969-12-31",
+    })
+    void testLocalDateFromString(String stringValue, String expected) {
+        LocalDate localDate = Assertions.assertDoesNotThrow(
+                () -> LocalDateType.INSTANCE.fromValue(stringValue, null));
+        assertEquals(LocalDate.parse(expected), localDate);
+    }
+
+    @Test
+    void testLocalDateFromNumber() throws SQLException {
+        assertEquals(LocalDate.parse("2015-01-01"), LocalDateType.INSTANCE.fromValue(1420072486778L, null));
+        assertEquals(LocalDate.parse("1969-12-31"), LocalDateType.INSTANCE.fromValue(-1, null));
+    }
+
+    @Test
+    void testLocalDateFromInvalidString() {
+        assertThrows(SQLException.class, () -> LocalDateType.INSTANCE.fromValue("2015-02-29", null));
+    }
+}
@@ -13,6 +13,7 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.sql.SQLDataException;
+import java.sql.SQLException;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -57,6 +58,20 @@ public class LongTypeTests {
         assertEquals(expectedValue, longValue);
     }
 
+    @ParameterizedTest
+    @CsvSource(value = {
+            "2147483647.21, 2147483647",
+            "2147483646.81, 2147483647",
+            "-32768.5, -32768",
+            "-32768.51, -32769",
+            "5000000000.0, 5000000000"
+    })
+    void testLongFromDouble(double doubleValue, long expectedValue) throws SQLException {
+        long longValue = Assertions.assertDoesNotThrow(() -> LongType.INSTANCE.asLong(doubleValue));
+        assertEquals(expectedValue, longValue);
+        assertEquals((long) LongType.INSTANCE.fromValue(doubleValue, null), longValue);
+    }
+
     private static Stream<Arguments> validRangeNumberProvider() {
         return Stream.of(
 
@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.jdbc.types;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OffsetDateTimeTypeTests {
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "2015-01-01 00:34:46, 2015-01-01T00:34:46Z",
+            "2015-01-01T00:34:46.778Z, 2015-01-01T00:34:46.778Z",
+            "2015-01-01T00:34:46.778+01:00, 2015-01-01T00:34:46.778+01:00",
+            "2015-01-01 00:34:46.5-02, 2015-01-01T00:34:46.5-02:00",
+            "2015-01-01, 2015-01-01T00:00:00Z",
+            "1420072486778, 2015-01-01T00:34:46.778Z",
+    })
+    void testOffsetDateTimeFromString(String stringValue, String expected) {
+        OffsetDateTime offsetDateTime = Assertions.assertDoesNotThrow(
+                () -> OffsetDateTimeType.INSTANCE.fromValue(stringValue, null));
+        assertEquals(OffsetDateTime.parse(expected), offsetDateTime);
+    }
+
+    @Test
+    void testOffsetDateTimeFromNumber() throws SQLException {
+        assertEquals(OffsetDateTime.parse("2015-01-01T00:34:46.778Z"),
+                OffsetDateTimeType.INSTANCE.fromValue(1420072486778L, null));
+    }
+
+    @Test
+    void testOffsetDateTimeFromInvalidString() {
+        assertThrows(SQLException.class, () -> OffsetDateTimeType.INSTANCE.fromValue("2015-01-01 00:34:46+19", null));
+    }
+}
@@ -14,8 +14,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.Map;
@@ -25,6 +28,7 @@ import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ExtendWith(UTCTimeZoneTestExtension.class)
 public class TimestampTypeTests {
@@ -43,6 +47,14 @@ public class TimestampTypeTests {
             "2015-01-01 00:34:46.778Z, 1420072486778",
             "2015-01-01T00:34:46.778+01:00, 1420068886778",
             "2015-01-01 00:34:46.778-02, 1420079686778",
+            "2015-01-01, 1420070400000",
+            "2015-01-01T00:34:46Z, 1420072486000",
+            "2015-01-01 00:34:46+05:30, 1420052686000",
+            "2015-01-01 00:34:46.7-0130, 1420077886700",
+            "2015-01-01 00:34:46.778123+01:00, 1420068886778",
+            "1420072486778, 1420072486778",
+            "-10023456, -10023456",
+            "1850-01-01 00:00:00.5, -3786825599500",
     })
     void testTimestampFromStringDefaultTZ(String stringValue, long longValue) {
         Timestamp timestamp = Assertions.assertDoesNotThrow(
@@ -64,6 +76,61 @@ public class TimestampTypeTests {
         assertEquals(longValue, timestamp.getTime());
     }
 
+    @ParameterizedTest
+    @CsvSource(value = {
+            "2015-01-01 00:34:46.123456789, 123456789",
+            "2015-01-01T00:34:46.1, 100000000",
+            "2015-01-01 00:34:46.000001Z, 1000",
+            "2015-01-01 00:34:46.999999999+01:00, 999999999",
+    })
+    void testTimestampFromStringNanos(String stringValue, int nanos) {
+        Timestamp timestamp = Assertions.assertDoesNotThrow(
+                () -> TimestampType.INSTANCE.fromValue(stringValue, null));
+        assertEquals(nanos, timestamp.getNanos());
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "2015-07-01 12:00:00.123, America/Los_Angeles",
+            "2015-03-08 01:59:59, America/Los_Angeles",
+            "2015-03-08 02:30:00, America/Los_Angeles",
+            "2015-03-08 03:00:00, America/Los_Angeles",
+            "2015-11-01 00:59:59, America/Los_Angeles",
+            "2015-11-01 01:30:00, America/Los_Angeles",
+            "2015-11-01 02:00:00, America/Los_Angeles",
+            "2015-01-01 00:34:46.778+01:00, Asia/Kolkata",
+            "1905-06-01 00:00:00, Asia/Kolkata",
+            "2015-06-01 00:00:00, GMT-08:00",
+    })
+    void testTimestampFromStringMatchesCalendar(String stringValue, String timezone) {
+        // the calendar takes precedence over the offset in the value
+        String localValue = stringValue.length() > 23 ? stringValue.substring(0, 23) : stringValue;
+        LocalDateTime ldt = Timestamp.valueOf(localValue).toLocalDateTime();
+        Calendar expected = Calendar.getInstance(TimeZone.getTimeZone(timezone));
+        expected.set(ldt.getYear(), ldt.getMonthValue() - 1, ldt.getDayOfMonth(),
+                ldt.getHour(), ldt.getMinute(), ldt.getSecond());
+        expected.set(Calendar.MILLISECOND, ldt.getNano() / 1000000);
+
+        // repeated conversions are served from the cached offsets
+        for (int i = 0; i < 2; i++) {
+            Map<String, Object> conversionParams = new HashMap<>();
+            conversionParams.put("calendar", Calendar.getInstance(TimeZone.getTimeZone(timezone)));
+            Timestamp timestamp = Assertions.assertDoesNotThrow(
+                    () -> TimestampType.INSTANCE.fromValue(stringValue, conversionParams));
+            assertEquals(expected.getTimeInMillis(), timestamp.getTime());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2015-13-01 00:00:00",
+            "2015-01-01 00:34:46.1234567891",
+            "not a timestamp",
+    })
+    void testTimestampFromInvalidString(String stringValue) {
+        assertThrows(SQLException.class, () -> TimestampType.INSTANCE.fromValue(stringValue, null));
+    }
+
     @ParameterizedTest
     @MethodSource("numberProvider")
     void testTimestampFromNumber(Number numericValue) {
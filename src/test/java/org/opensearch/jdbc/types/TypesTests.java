@@ -7,10 +7,14 @@
 package org.opensearch.jdbc.types;
 
 import static java.util.Collections.emptyMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.sql.JDBCType;
+import java.sql.SQLDataException;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import org.junit.jupiter.api.Test;
 
 public class TypesTests {
@@ -19,5 +23,35 @@ public class TypesTests {
     public void testNullTypeConverter() throws SQLException {
         TypeConverter tc = TypeConverters.getInstance(JDBCType.NULL);
         assertNull(tc.convert(null, Object.class, emptyMap()));
+        assertNull(tc.getValueConverter(Object.class).convert(null, emptyMap()));
+    }
+
+    @Test
+    public void testValueConverter() throws SQLException {
+        TypeConverter tc = TypeConverters.getInstance(JDBCType.INTEGER);
+
+        assertEquals(tc.convert(42, Integer.class, null), tc.getValueConverter(Integer.class).convert(42, null));
+        assertEquals(tc.convert(42, Long.class, null), tc.getValueConverter(Long.class).convert(42, null));
+        assertEquals(tc.convert(42, String.class, null), tc.getValueConverter(String.class).convert(42, null));
+    }
+
+    @Test
+    public void testValueConverterDefaultJavaClass() throws SQLException {
+        TypeConverter tc = TypeConverters.getInstance(JDBCType.BIGINT);
+
+        Object value = tc.getValueConverter(null).convert(42, null);
+        assertEquals(Long.class, value.getClass());
+        assertEquals(42L, value);
+    }
+
+    @Test
+    public void testValueConverterUnsupportedClass() {
+        TypeConverter tc = TypeConverters.getInstance(JDBCType.INTEGER);
+        ValueConverter<Timestamp> valueConverter = tc.getValueConverter(Timestamp.class);
+
+        SQLDataException expected = assertThrows(SQLDataException.class,
+                () -> tc.convert(42, Timestamp.class, null));
+        SQLDataException ex = assertThrows(SQLDataException.class, () -> valueConverter.convert(42, null));
+        assertEquals(expected.getMessage(), ex.getMessage());
     }
 }